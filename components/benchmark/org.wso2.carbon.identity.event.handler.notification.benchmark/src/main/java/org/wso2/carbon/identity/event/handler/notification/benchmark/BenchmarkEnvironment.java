@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.benchmark;
+
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.email.mgt.cache.OrganizationResolutionCache;
+import org.wso2.carbon.event.stream.core.EventStreamService;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.event.handler.notification.cache.ServiceURLCache;
+import org.wso2.carbon.identity.event.handler.notification.internal.NotificationConfigSnapshot;
+import org.wso2.carbon.identity.event.handler.notification.internal.NotificationHandlerDataHolder;
+import org.wso2.carbon.identity.governance.service.notification.NotificationTemplateManager;
+import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
+import org.wso2.carbon.user.core.UserStoreManager;
+import org.wso2.carbon.user.core.claim.Claim;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Sets up the carbon runtime and stubs the OSGi services that the notification handlers look up from
+ * {@link NotificationHandlerDataHolder}, so that the handlers can be benchmarked outside an OSGi container.
+ * The stubs return fixed values without recording their invocations, and the caches in front of the remote lookups
+ * (server URLs and organization resolution) are warmed up, so that the benchmarks measure the handlers themselves.
+ */
+final class BenchmarkEnvironment {
+
+    private static boolean initialized;
+
+    private BenchmarkEnvironment() {
+
+    }
+
+    /**
+     * Initialize the environment once per JVM and warm up the caches. Call from a trial level setup method.
+     *
+     * @throws Exception If the environment could not be initialized.
+     */
+    static synchronized void initialize() throws Exception {
+
+        if (!initialized) {
+            initializeCarbonHome();
+            initializeServices();
+            initialized = true;
+        }
+        warmUpCaches();
+    }
+
+    /**
+     * Build a user store manager stub that returns the default profile claims of the notification recipient.
+     *
+     * @return User store manager.
+     * @throws Exception If the stub could not be created.
+     */
+    static UserStoreManager userStoreManager() throws Exception {
+
+        UserStoreManager userStoreManager = mock(UserStoreManager.class, withSettings().stubOnly());
+        Map<String, String> userClaims = NotificationFixtures.userClaims();
+        Claim[] claims = new Claim[userClaims.size()];
+        int i = 0;
+        for (Map.Entry<String, String> userClaim : userClaims.entrySet()) {
+            Claim claim = new Claim();
+            claim.setClaimUri(userClaim.getKey());
+            claim.setValue(userClaim.getValue());
+            claims[i++] = claim;
+        }
+        when(userStoreManager.getUserClaimValues(anyString(), anyString())).thenReturn(claims);
+        return userStoreManager;
+    }
+
+    private static void initializeCarbonHome() throws IOException {
+
+        Path carbonHome = Files.createTempDirectory("notification-benchmark");
+        Path configDir = carbonHome.resolve("repository").resolve("conf");
+        Path identityConfigDir = configDir.resolve("identity");
+        Files.createDirectories(identityConfigDir);
+        try (InputStream identityConfig = BenchmarkEnvironment.class.getResourceAsStream("/identity.xml")) {
+            Files.copy(identityConfig, identityConfigDir.resolve("identity.xml"));
+        }
+        System.setProperty("carbon.home", carbonHome.toString());
+        System.setProperty("carbon.config.dir.path", configDir.toString());
+    }
+
+    private static void initializeServices() throws Exception {
+
+        NotificationHandlerDataHolder dataHolder = NotificationHandlerDataHolder.getInstance();
+        dataHolder.setEventStreamService(mock(EventStreamService.class, withSettings().stubOnly()));
+
+        OrganizationManager organizationManager = mock(OrganizationManager.class, withSettings().stubOnly());
+        when(organizationManager.resolveOrganizationId(anyString())).thenReturn(NotificationFixtures.ORGANIZATION_ID);
+        when(organizationManager.resolveTenantDomain(anyString())).thenReturn(NotificationFixtures.TENANT_DOMAIN);
+        when(organizationManager.getOrganizationNameById(anyString()))
+                .thenReturn(NotificationFixtures.ORGANIZATION_NAME);
+        dataHolder.setOrganizationManager(organizationManager);
+
+        NotificationTemplateManager notificationTemplateManager =
+                mock(NotificationTemplateManager.class, withSettings().stubOnly());
+        when(notificationTemplateManager.getNotificationTemplate(anyString(), anyString(), anyString(), anyString()))
+                .thenAnswer(invocation -> NotificationFixtures.notificationTemplate(invocation.getArgument(0),
+                        NotificationFixtures.TemplateSize.MEDIUM));
+        dataHolder.setNotificationTemplateManager(notificationTemplateManager);
+
+        Map<String, String> configFilePlaceholders = new HashMap<>();
+        configFilePlaceholders.put("name", "WSO2 Identity Server");
+        Map<String, String> brandingFallbacks = new HashMap<>();
+        brandingFallbacks.put("light_logo_url", "https://wso2.com/images/logo-light.png");
+        brandingFallbacks.put("copyright_text", "&#169; 2026 WSO2 LLC.");
+        brandingFallbacks.put("support_mail", "support@wso2.com");
+        brandingFallbacks.put("primary_color", "#FF7300");
+        dataHolder.setNotificationConfigSnapshot(new NotificationConfigSnapshot.Builder()
+                .configFilePlaceholders(configFilePlaceholders)
+                .brandingFallbacks(brandingFallbacks)
+                .build());
+    }
+
+    private static void warmUpCaches() {
+
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        ServiceURLCache.getInstance().addToCache(IdentityTenantUtil.getTenantDomainFromContext(),
+                NotificationFixtures.TENANT_DOMAIN, carbonContext.getOrganizationId(),
+                carbonContext.getApplicationResidentOrganizationId(),
+                new ServiceURLCache.ServiceURLs("https://localhost:9443", "https://localhost:9443",
+                        "https://localhost:9443/accountrecoveryendpoint",
+                        "https://localhost:9443/authenticationendpoint"));
+
+        OrganizationResolutionCache organizationResolutionCache = OrganizationResolutionCache.getInstance();
+        organizationResolutionCache.addOrganizationId(NotificationFixtures.TENANT_DOMAIN,
+                NotificationFixtures.ORGANIZATION_ID);
+        organizationResolutionCache.addOrganizationName(NotificationFixtures.TENANT_DOMAIN,
+                NotificationFixtures.ORGANIZATION_NAME);
+        organizationResolutionCache.addIsOrganization(NotificationFixtures.TENANT_DOMAIN, false);
+    }
+}
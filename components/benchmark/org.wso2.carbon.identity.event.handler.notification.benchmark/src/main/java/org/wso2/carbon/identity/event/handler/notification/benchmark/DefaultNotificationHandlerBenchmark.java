@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.ModuleConfiguration;
+import org.wso2.carbon.identity.event.bean.Subscription;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.notification.DefaultNotificationHandler;
+import org.wso2.carbon.identity.event.handler.notification.NotificationConstants;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link DefaultNotificationHandler#buildNotificationData(Event)} for email and SMS notifications. The
+ * user claims and the notification template are served by stub services.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DefaultNotificationHandlerBenchmark {
+
+    private static final String EVENT_NAME = "TRIGGER_NOTIFICATION";
+
+    @Param({"EMAIL", "SMS"})
+    public String notificationChannel;
+
+    private BenchmarkNotificationHandler notificationHandler;
+    private Event event;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+
+        BenchmarkEnvironment.initialize();
+
+        String subscriptionPrefix = "default.notification.sender.subscription." + EVENT_NAME + ".";
+        Properties subscriptionProperties = new Properties();
+        subscriptionProperties.setProperty(subscriptionPrefix + "stream", "id_gov_notify_stream:1.0.0");
+        subscriptionProperties.setProperty(subscriptionPrefix + "claim.first-name",
+                "http://wso2.org/claims/givenname");
+        notificationHandler = new BenchmarkNotificationHandler();
+        notificationHandler.init(new ModuleConfiguration(new Properties(),
+                Collections.singletonList(new Subscription(EVENT_NAME, subscriptionProperties))));
+
+        Map<String, Object> eventProperties = new HashMap<>();
+        eventProperties.put(IdentityEventConstants.EventProperty.USER_NAME, NotificationFixtures.USER_NAME);
+        eventProperties.put(IdentityEventConstants.EventProperty.USER_STORE_DOMAIN,
+                NotificationFixtures.USER_STORE_DOMAIN);
+        eventProperties.put(IdentityEventConstants.EventProperty.TENANT_DOMAIN, NotificationFixtures.TENANT_DOMAIN);
+        eventProperties.put(IdentityEventConstants.EventProperty.USER_STORE_MANAGER,
+                BenchmarkEnvironment.userStoreManager());
+        eventProperties.put(IdentityEventConstants.EventProperty.NOTIFICATION_CHANNEL, notificationChannel);
+        eventProperties.put(NotificationConstants.EmailNotification.EMAIL_TEMPLATE_TYPE,
+                NotificationFixtures.TEMPLATE_TYPE);
+        eventProperties.put("confirmation-code", "f4b5a4c5-2cb7-4d3c-9a6e-0f3e4d6b2b91");
+        eventProperties.put("otp-expiry-time", "5");
+        event = new Event(EVENT_NAME, eventProperties);
+    }
+
+    @Benchmark
+    public Map<String, String> buildNotificationData() throws IdentityEventException {
+
+        return notificationHandler.buildData(event);
+    }
+
+    /**
+     * Exposes the protected notification data building method of the handler.
+     */
+    private static class BenchmarkNotificationHandler extends DefaultNotificationHandler {
+
+        Map<String, String> buildData(Event event) throws IdentityEventException {
+
+            return buildNotificationData(event);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.benchmark;
+
+import org.wso2.carbon.email.mgt.model.EmailTemplate;
+import org.wso2.carbon.identity.governance.model.NotificationTemplate;
+import org.wso2.carbon.identity.governance.service.notification.NotificationChannels;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Notification templates and event data used by the benchmarks. The email templates are built from a section that
+ * looks like the sections of the default email templates shipped with the product, repeated to reach the size of a
+ * small, a typical and a heavily branded template.
+ */
+final class NotificationFixtures {
+
+    static final String TENANT_DOMAIN = "wso2.com";
+    static final String ORGANIZATION_ID = "5bd8eb2d-0b2c-4b71-9d8b-1f2c3c0a9e10";
+    static final String ORGANIZATION_NAME = "WSO2";
+    static final String USER_NAME = "john";
+    static final String USER_STORE_DOMAIN = "PRIMARY";
+    static final String TEMPLATE_TYPE = "AccountConfirmation";
+    static final String LOCALE = "en_US";
+
+    private static final String EMAIL_SECTION =
+            "<tr><td style=\"padding: 24px 32px; font-family: {{organization.font}}; color: " +
+            "{{organization.font.color}};\"><img src=\"{{organization.logo.img}}\" alt=\"" +
+            "{{organization.logo.altText}}\" width=\"120\"/><p>Hi {{user.claim.givenname}},</p><p>Please confirm " +
+            "your account {{user-name}} in {{organization-name}} by clicking the button below. The link expires " +
+            "in 24 hours.</p><a style=\"background-color: {{organization.color.primary}}; color: " +
+            "{{organization.button.font.color}}; padding: 12px 24px;\" href=\"{{carbon.product-url}}/accountrecovery" +
+            "endpoint/confirmregistration.do?confirmation={{confirmation-code}}&userstoredomain={{userstore-domain}}" +
+            "&username={{url:user-name}}&tenantdomain={{tenant-domain}}\">Confirm</a><p>Your email address is " +
+            "{{user.claim.emailaddress}}. If you did not create this account, contact {{organization.support.mail}}." +
+            "</p><p style=\"font-size: 12px;\">{{organization.copyright.text}}</p></td></tr>";
+    private static final String SMS_BODY =
+            "Your one-time password for {{user-name}} at {{organization-name}} is {{confirmation-code}}. It expires " +
+            "in {{otp-expiry-time}} minutes.";
+
+    /**
+     * Size of the benchmarked email templates.
+     */
+    enum TemplateSize {
+
+        SMALL(1),
+        MEDIUM(6),
+        LARGE(24);
+
+        private final int sections;
+
+        TemplateSize(int sections) {
+
+            this.sections = sections;
+        }
+    }
+
+    private NotificationFixtures() {
+
+    }
+
+    /**
+     * Build an email template of the given size.
+     *
+     * @param size Template size.
+     * @return Email template.
+     */
+    static EmailTemplate emailTemplate(TemplateSize size) {
+
+        EmailTemplate emailTemplate = new EmailTemplate();
+        emailTemplate.setTemplateDisplayName(TEMPLATE_TYPE);
+        emailTemplate.setTemplateType(TEMPLATE_TYPE);
+        emailTemplate.setLocale(LOCALE);
+        emailTemplate.setEmailContentType("text/html");
+        emailTemplate.setSubject("{{organization-name}} - Confirm your account {{user-name}}");
+        emailTemplate.setBody(emailBody(size));
+        emailTemplate.setFooter("---");
+        return emailTemplate;
+    }
+
+    /**
+     * Build a notification template, as returned by the notification template manager, for the given channel.
+     *
+     * @param notificationChannel Notification channel.
+     * @param size                Template size. Only used for email templates.
+     * @return Notification template.
+     */
+    static NotificationTemplate notificationTemplate(String notificationChannel, TemplateSize size) {
+
+        NotificationTemplate notificationTemplate = new NotificationTemplate();
+        notificationTemplate.setNotificationChannel(notificationChannel);
+        notificationTemplate.setType(TEMPLATE_TYPE);
+        notificationTemplate.setDisplayName(TEMPLATE_TYPE);
+        notificationTemplate.setLocale(LOCALE);
+        if (NotificationChannels.SMS_CHANNEL.getChannelType().equals(notificationChannel)) {
+            notificationTemplate.setBody(SMS_BODY);
+        } else {
+            notificationTemplate.setContentType("text/html");
+            notificationTemplate.setSubject("{{organization-name}} - Confirm your account {{user-name}}");
+            notificationTemplate.setBody(emailBody(size));
+            notificationTemplate.setFooter("---");
+        }
+        return notificationTemplate;
+    }
+
+    /**
+     * Placeholder data of a notification event, as built from the event properties by the handlers.
+     *
+     * @return Placeholder data.
+     */
+    static Map<String, String> placeholderData() {
+
+        Map<String, String> placeholderData = new HashMap<>();
+        placeholderData.put("user-name", USER_NAME);
+        placeholderData.put("userstore-domain", USER_STORE_DOMAIN);
+        placeholderData.put("tenant-domain", TENANT_DOMAIN);
+        placeholderData.put("TEMPLATE_TYPE", TEMPLATE_TYPE);
+        placeholderData.put("confirmation-code", "f4b5a4c5-2cb7-4d3c-9a6e-0f3e4d6b2b91");
+        placeholderData.put("otp-expiry-time", "5");
+        placeholderData.put("organization-name", ORGANIZATION_NAME);
+        placeholderData.put("organization-id", ORGANIZATION_ID);
+        placeholderData.put("send-to", "john@wso2.com");
+        placeholderData.put("utm_source", "benchmark");
+        return placeholderData;
+    }
+
+    /**
+     * Default profile claims of the notification recipient.
+     *
+     * @return Claim URIs and values.
+     */
+    static Map<String, String> userClaims() {
+
+        Map<String, String> userClaims = new HashMap<>();
+        userClaims.put("http://wso2.org/claims/givenname", "John");
+        userClaims.put("http://wso2.org/claims/lastname", "Doe");
+        userClaims.put("http://wso2.org/claims/emailaddress", "john@wso2.com");
+        userClaims.put("http://wso2.org/claims/mobile", "+94770000000");
+        userClaims.put("http://wso2.org/claims/locality", LOCALE);
+        userClaims.put("http://wso2.org/claims/username", USER_NAME);
+        userClaims.put("http://wso2.org/claims/identity/accountLocked", "false");
+        userClaims.put("http://wso2.org/claims/identity/emailVerified", "false");
+        return userClaims;
+    }
+
+    private static String emailBody(TemplateSize size) {
+
+        StringBuilder body = new StringBuilder("<html><body><table>");
+        for (int i = 0; i < size.sections; i++) {
+            body.append(EMAIL_SECTION);
+        }
+        return body.append("</table></body></html>").toString();
+    }
+}
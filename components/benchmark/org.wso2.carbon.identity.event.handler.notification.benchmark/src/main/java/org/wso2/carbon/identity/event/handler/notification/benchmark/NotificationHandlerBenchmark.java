@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.email.mgt.model.EmailTemplate;
+import org.wso2.carbon.identity.event.handler.notification.NotificationHandler;
+import org.wso2.carbon.identity.event.handler.notification.email.bean.Notification;
+import org.wso2.carbon.identity.event.handler.notification.internal.NotificationConfigSnapshot;
+import org.wso2.carbon.identity.event.handler.notification.internal.NotificationHandlerDataHolder;
+import org.wso2.carbon.identity.event.handler.notification.util.NotificationUtil;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of building the databridge event that {@link NotificationHandler} publishes for a rendered email
+ * notification. The event is published to a stub event stream service. The template content can be left out of the
+ * event to compare the bytes allocated per event with and without the raw template copies.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class NotificationHandlerBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public String templateSize;
+
+    @Param({"false", "true"})
+    public boolean omitTemplateContent;
+
+    private BenchmarkNotificationHandler notificationHandler;
+    private Notification notification;
+    private Map<String, String> placeholderValues;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+
+        BenchmarkEnvironment.initialize();
+        NotificationHandlerDataHolder dataHolder = NotificationHandlerDataHolder.getInstance();
+        NotificationConfigSnapshot notificationConfigs = dataHolder.getNotificationConfigSnapshot();
+        dataHolder.setNotificationConfigSnapshot(new NotificationConfigSnapshot.Builder()
+                .configFilePlaceholders(notificationConfigs.getConfigFilePlaceholders())
+                .brandingFallbacks(notificationConfigs.getBrandingFallbacks())
+                .organizationLevelEmailBrandingEnabled(notificationConfigs.isOrganizationLevelEmailBrandingEnabled())
+                .claimProjectionEnabled(notificationConfigs.isClaimProjectionEnabled())
+                .templateContentOmitted(omitTemplateContent)
+                .lazyRenderingEnabled(notificationConfigs.isLazyRenderingEnabled())
+                .build());
+        notificationHandler = new BenchmarkNotificationHandler();
+        EmailTemplate emailTemplate =
+                NotificationFixtures.emailTemplate(NotificationFixtures.TemplateSize.valueOf(templateSize));
+        placeholderValues = NotificationUtil.getPlaceholderValues(emailTemplate,
+                NotificationFixtures.placeholderData(), NotificationFixtures.userClaims());
+        placeholderValues.put("tmp-stream-id", "id_gov_notify_stream:1.0.0");
+
+        Notification.EmailNotificationBuilder builder = new Notification.EmailNotificationBuilder("john@wso2.com");
+        builder.setSendFrom("noreply@wso2.com");
+        builder.setTemplate(emailTemplate);
+        builder.setPlaceHolderData(placeholderValues);
+        notification = builder.build();
+    }
+
+    @Benchmark
+    public void buildDatabridgeEvent() {
+
+        // The stream ID is removed from the placeholder data while building the event, so a copy is published.
+        notificationHandler.publish(notification, new HashMap<>(placeholderValues));
+    }
+
+    /**
+     * Exposes the protected publishing method of the handler.
+     */
+    private static class BenchmarkNotificationHandler extends NotificationHandler {
+
+        void publish(Notification notification, Map<String, String> placeholderDataMap) {
+
+            publishToStream(notification, placeholderDataMap);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.email.mgt.model.EmailTemplate;
+import org.wso2.carbon.identity.event.handler.notification.email.bean.Notification;
+import org.wso2.carbon.identity.event.handler.notification.util.NotificationUtil;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of rendering an email notification: resolving the placeholder values of a template and building the
+ * {@link Notification}, which replaces the placeholders of the subject, body and footer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class NotificationRenderingBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public String templateSize;
+
+    private EmailTemplate emailTemplate;
+    private Map<String, String> userClaims;
+    private Map<String, String> placeholderValues;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+
+        BenchmarkEnvironment.initialize();
+        emailTemplate = NotificationFixtures.emailTemplate(NotificationFixtures.TemplateSize.valueOf(templateSize));
+        userClaims = NotificationFixtures.userClaims();
+        placeholderValues = NotificationUtil.getPlaceholderValues(emailTemplate,
+                NotificationFixtures.placeholderData(), userClaims);
+    }
+
+    @Benchmark
+    public Notification buildNotification() {
+
+        Notification.EmailNotificationBuilder builder = new Notification.EmailNotificationBuilder("john@wso2.com");
+        builder.setSendFrom("noreply@wso2.com");
+        builder.setTemplate(emailTemplate);
+        builder.setPlaceHolderData(placeholderValues);
+        return builder.build();
+    }
+
+    @Benchmark
+    public Map<String, String> getPlaceholderValues() {
+
+        // The placeholder data map is filled in by the method, so a new one is used for every invocation.
+        return NotificationUtil.getPlaceholderValues(emailTemplate, NotificationFixtures.placeholderData(),
+                userClaims);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.email.mgt.constants.I18nMgtConstants;
+import org.wso2.carbon.email.mgt.util.NotificationTemplateContentCodec;
+import org.wso2.carbon.identity.governance.model.NotificationTemplate;
+import org.wso2.carbon.identity.governance.service.notification.NotificationChannels;
+
+import java.io.ByteArrayInputStream;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of encoding and decoding the content of an email template of the given size with
+ * {@link NotificationTemplateContentCodec}. {@code LEGACY} is the JSON content format, while {@code PLAIN} and
+ * {@code DEFLATE} are the binary content format without and with compression.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class NotificationTemplateContentCodecBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public String templateSize;
+
+    @Param({"LEGACY", "PLAIN", "DEFLATE"})
+    public String contentFormat;
+
+    private NotificationTemplate notificationTemplate;
+    private String schemaVersion;
+    private int compressionThreshold;
+    private byte[] content;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        notificationTemplate = NotificationFixtures.notificationTemplate(
+                NotificationChannels.EMAIL_CHANNEL.getChannelType(),
+                NotificationFixtures.TemplateSize.valueOf(templateSize));
+        switch (contentFormat) {
+            case "LEGACY":
+                schemaVersion = I18nMgtConstants.NotificationTableColumns.ORG_TEMPLATE_SCHEMA_VERSION;
+                compressionThreshold = Integer.MAX_VALUE;
+                break;
+            case "PLAIN":
+                schemaVersion = I18nMgtConstants.NotificationTableColumns.TEMPLATE_BINARY_CONTENT_SCHEMA_VERSION;
+                compressionThreshold = Integer.MAX_VALUE;
+                break;
+            case "DEFLATE":
+                schemaVersion = I18nMgtConstants.NotificationTableColumns.TEMPLATE_BINARY_CONTENT_SCHEMA_VERSION;
+                compressionThreshold = 0;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown content format: " + contentFormat);
+        }
+        content = NotificationTemplateContentCodec.encode(notificationTemplate, schemaVersion, compressionThreshold);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+
+        return NotificationTemplateContentCodec.encode(notificationTemplate, schemaVersion, compressionThreshold);
+    }
+
+    @Benchmark
+    public NotificationTemplate decode() throws SQLException {
+
+        NotificationTemplate decodedTemplate = new NotificationTemplate();
+        NotificationTemplateContentCodec.decode(new ByteArrayInputStream(content), schemaVersion, decodedTemplate);
+        return decodedTemplate;
+    }
+}
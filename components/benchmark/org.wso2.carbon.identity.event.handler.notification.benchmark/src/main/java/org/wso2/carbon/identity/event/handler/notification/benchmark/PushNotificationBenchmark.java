@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.notification.NotificationConstants;
+import org.wso2.carbon.identity.event.handler.notification.PushNotificationHandler;
+import org.wso2.carbon.identity.notification.push.provider.model.PushNotificationData;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of building the push notification data of a push notification event in {@link PushNotificationHandler}.
+ * The organization of the tenant is resolved from the warmed up organization resolution cache.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PushNotificationBenchmark {
+
+    @Param({NotificationConstants.PushNotification.PUSH_AUTHENTICATION_SCENARIO,
+            NotificationConstants.PushNotification.PUSH_DEVICE_REGISTRATION_SCENARIO})
+    public String scenario;
+
+    private PushNotificationHandler pushNotificationHandler;
+    private MethodHandle buildPushNotificationData;
+    private Event event;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+
+        BenchmarkEnvironment.initialize();
+        pushNotificationHandler = new PushNotificationHandler();
+        buildPushNotificationData = MethodHandles.privateLookupIn(PushNotificationHandler.class,
+                MethodHandles.lookup()).findVirtual(PushNotificationHandler.class, "buildPushNotificationData",
+                MethodType.methodType(PushNotificationData.class, Event.class));
+
+        Map<String, Object> eventProperties = new HashMap<>();
+        eventProperties.put(NotificationConstants.PushNotification.NOTIFICATION_SCENARIO, scenario);
+        eventProperties.put(IdentityEventConstants.EventProperty.USER_NAME, NotificationFixtures.USER_NAME);
+        eventProperties.put(IdentityEventConstants.EventProperty.USER_STORE_DOMAIN,
+                NotificationFixtures.USER_STORE_DOMAIN);
+        eventProperties.put(IdentityEventConstants.EventProperty.TENANT_DOMAIN, NotificationFixtures.TENANT_DOMAIN);
+        eventProperties.put(IdentityEventConstants.EventProperty.APPLICATION_NAME, "My Account");
+        eventProperties.put(NotificationConstants.PushNotification.NOTIFICATION_PROVIDER, "FCM");
+        eventProperties.put(NotificationConstants.PushNotification.DEVICE_TOKEN, "device-token");
+        eventProperties.put(NotificationConstants.PushNotification.DEVICE_ID, "device-id");
+        eventProperties.put(NotificationConstants.PushNotification.PUSH_ID, "push-id");
+        eventProperties.put(NotificationConstants.PushNotification.CHALLENGE, "challenge");
+        eventProperties.put(NotificationConstants.PushNotification.NUMBER_CHALLENGE, "42");
+        eventProperties.put(NotificationConstants.PushNotification.IP_ADDRESS, "127.0.0.1");
+        eventProperties.put(NotificationConstants.PushNotification.REQUEST_DEVICE_OS, "Android");
+        eventProperties.put(NotificationConstants.PushNotification.REQUEST_DEVICE_BROWSER, "Chrome");
+        eventProperties.put(NotificationConstants.PushNotificationPlaceholder.PUSH_DEVICE_NAME.getPlaceholder(),
+                "Pixel");
+        eventProperties.put(NotificationConstants.PushNotificationPlaceholder.PUSH_DEVICE_MODEL.getPlaceholder(),
+                "Pixel 8");
+        eventProperties.put(NotificationConstants.PushNotificationPlaceholder.REGISTRATION_TIME.getPlaceholder(),
+                "2026-01-01T00:00:00Z");
+        event = new Event(NotificationConstants.PushNotification.PUSH_NOTIFICATION_EVENT, eventProperties);
+    }
+
+    @Benchmark
+    public PushNotificationData buildPushNotificationData() throws Throwable {
+
+        return (PushNotificationData) buildPushNotificationData.invoke(pushNotificationHandler, event);
+    }
+}
@@ -18,6 +18,7 @@ package org.wso2.carbon.email.mgt;
 
 import org.wso2.carbon.email.mgt.exceptions.I18nEmailMgtException;
 import org.wso2.carbon.email.mgt.model.EmailTemplate;
+import org.wso2.carbon.email.mgt.model.ResolvedEmailTemplate;
 
 import java.util.List;
 
@@ -294,6 +295,29 @@ public interface EmailTemplateManager {
         throw new I18nEmailMgtException("getEmailTemplate method not implemented in " + this.getClass().getName());
     }
 
+    /**
+     * Resolves the email template to send for a specified type, locale, tenant domain, and application UUID in a
+     * single pass.
+     * <p>
+     * The template is looked up in the application, then in the organization and its ancestor organizations, and
+     * finally in the system default templates. If no template is found in the given locale, the lookup is repeated
+     * in the default email locale. The level the template was found at is reported with the template.
+     *
+     * @param templateType    the type of the email template.
+     * @param locale          the locale of the email template (e.g., "en_US").
+     * @param tenantDomain    the tenant domain of the organization to resolve the template for.
+     * @param applicationUuid the UUID of the application the email is sent for, or null.
+     * @return the {@link ResolvedEmailTemplate} matching the specified criteria.
+     * @throws I18nEmailMgtException if no template is found or any unexpected error occurs while resolving the
+     *                               email template.
+     */
+    default ResolvedEmailTemplate resolveEmailTemplate(String templateType, String locale, String tenantDomain,
+                                                       String applicationUuid) throws I18nEmailMgtException {
+
+        throw new I18nEmailMgtException("resolveEmailTemplate method not implemented in " +
+                this.getClass().getName());
+    }
+
     /**
      * @deprecated Use {@link #isEmailTemplateExists(String, String, String, String, boolean)} instead.
      * <p>
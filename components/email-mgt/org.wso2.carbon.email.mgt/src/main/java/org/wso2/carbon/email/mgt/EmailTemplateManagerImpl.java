@@ -32,6 +32,8 @@ import org.wso2.carbon.email.mgt.exceptions.I18nEmailMgtServerException;
 import org.wso2.carbon.email.mgt.exceptions.I18nMgtEmailConfigException;
 import org.wso2.carbon.email.mgt.internal.I18nMgtDataHolder;
 import org.wso2.carbon.email.mgt.model.EmailTemplate;
+import org.wso2.carbon.email.mgt.model.ResolvedEmailTemplate;
+import org.wso2.carbon.email.mgt.model.ResolvedNotificationTemplate;
 import org.wso2.carbon.email.mgt.util.I18nEmailUtil;
 import org.wso2.carbon.identity.base.IdentityValidationUtil;
 import org.wso2.carbon.identity.governance.IdentityGovernanceUtil;
@@ -639,31 +641,80 @@ public class EmailTemplateManagerImpl implements EmailTemplateManager, Notificat
                     tenantDomain, applicationUuid, resolve);
             return buildEmailTemplate(notificationTemplate);
         } catch (NotificationTemplateManagerException exception) {
-            String errorCode = exception.getErrorCode();
-            String errorMsg = exception.getMessage();
-            Throwable throwable = exception.getCause();
-
-            // Match NotificationTemplateManagerExceptions with the existing I18nEmailMgtException error types.
-            if (StringUtils.isNotEmpty(exception.getErrorCode())) {
-                if (IdentityMgtConstants.ErrorMessages.ERROR_CODE_INVALID_NOTIFICATION_TEMPLATE.getCode()
-                        .equals(errorCode) || IdentityMgtConstants.ErrorMessages.ERROR_CODE_NO_CONTENT_IN_TEMPLATE
-                        .getCode().equals(errorCode) ||
-                        I18nMgtConstants.ErrorMessages.ERROR_CODE_INVALID_CHARACTERS_IN_TEMPLATE_NAME.getCode()
-                                .equals(errorCode) ||
-                        I18nMgtConstants.ErrorMessages.ERROR_CODE_INVALID_CHARACTERS_IN_LOCALE
-                                .getCode().equals(errorCode)) {
-                    throw new I18nEmailMgtClientException(errorMsg, throwable);
-                } else if (IdentityMgtConstants.ErrorMessages.ERROR_CODE_INVALID_EMAIL_TEMPLATE_CONTENT.getCode()
-                        .equals(errorCode)) {
-                    throw new I18nMgtEmailConfigException(errorMsg, throwable);
-                } else if (IdentityMgtConstants.ErrorMessages.ERROR_CODE_NO_TEMPLATE_FOUND.getCode()
-                        .equals(errorCode)) {
-                    throw new I18nEmailMgtInternalException(I18nMgtConstants.ErrorCodes.EMAIL_TEMPLATE_TYPE_NODE_FOUND,
-                            errorMsg, throwable);
+            throw handleEmailTemplateRetrievalException(exception);
+        }
+    }
+
+    @Override
+    public ResolvedEmailTemplate resolveEmailTemplate(String templateType, String locale, String tenantDomain,
+                                                      String applicationUuid) throws I18nEmailMgtException {
+
+        String notificationChannel = NotificationChannels.EMAIL_CHANNEL.getChannelType();
+        try {
+            validateTemplateLocale(locale);
+            locale = normalizeLocaleFormat(locale);
+            validateDisplayNameOfTemplateType(templateType);
+
+            ResolvedNotificationTemplate resolvedTemplate = templatePersistenceManager.resolveNotificationTemplate(
+                    templateType, locale, notificationChannel, applicationUuid, tenantDomain);
+            String defaultLocale = getDefaultNotificationLocale(notificationChannel);
+            if (resolvedTemplate == null && !StringUtils.equalsIgnoreCase(defaultLocale, locale)) {
+                if (log.isDebugEnabled()) {
+                    log.debug(String.format("'%s' template in '%s' locale was not found in '%s' tenant. Trying to " +
+                            "resolve the template in default locale : '%s'", templateType, locale, tenantDomain,
+                            defaultLocale));
                 }
+                locale = defaultLocale;
+                resolvedTemplate = templatePersistenceManager.resolveNotificationTemplate(templateType, locale,
+                        notificationChannel, applicationUuid, tenantDomain);
+            }
+            if (resolvedTemplate == null) {
+                String error = String.format(
+                        IdentityMgtConstants.ErrorMessages.ERROR_CODE_NO_TEMPLATE_FOUND.getMessage(), templateType,
+                        locale, tenantDomain);
+                throw new NotificationTemplateManagerClientException(
+                        IdentityMgtConstants.ErrorMessages.ERROR_CODE_NO_TEMPLATE_FOUND.getCode(), error);
+            }
+            return new ResolvedEmailTemplate(buildEmailTemplate(resolvedTemplate.getNotificationTemplate()),
+                    resolvedTemplate.getSource(), resolvedTemplate.isInherited());
+        } catch (NotificationTemplateManagerException exception) {
+            throw handleEmailTemplateRetrievalException(exception);
+        }
+    }
+
+    /**
+     * Match a NotificationTemplateManagerException thrown while retrieving an email template with the existing
+     * I18nEmailMgtException error types.
+     *
+     * @param exception NotificationTemplateManagerException thrown while retrieving the template.
+     * @return Matching I18nEmailMgtException.
+     */
+    private I18nEmailMgtException handleEmailTemplateRetrievalException(
+            NotificationTemplateManagerException exception) {
+
+        String errorCode = exception.getErrorCode();
+        String errorMsg = exception.getMessage();
+        Throwable throwable = exception.getCause();
+
+        if (StringUtils.isNotEmpty(exception.getErrorCode())) {
+            if (IdentityMgtConstants.ErrorMessages.ERROR_CODE_INVALID_NOTIFICATION_TEMPLATE.getCode()
+                    .equals(errorCode) || IdentityMgtConstants.ErrorMessages.ERROR_CODE_NO_CONTENT_IN_TEMPLATE
+                    .getCode().equals(errorCode) ||
+                    I18nMgtConstants.ErrorMessages.ERROR_CODE_INVALID_CHARACTERS_IN_TEMPLATE_NAME.getCode()
+                            .equals(errorCode) ||
+                    I18nMgtConstants.ErrorMessages.ERROR_CODE_INVALID_CHARACTERS_IN_LOCALE
+                            .getCode().equals(errorCode)) {
+                return new I18nEmailMgtClientException(errorMsg, throwable);
+            } else if (IdentityMgtConstants.ErrorMessages.ERROR_CODE_INVALID_EMAIL_TEMPLATE_CONTENT.getCode()
+                    .equals(errorCode)) {
+                return new I18nMgtEmailConfigException(errorMsg, throwable);
+            } else if (IdentityMgtConstants.ErrorMessages.ERROR_CODE_NO_TEMPLATE_FOUND.getCode()
+                    .equals(errorCode)) {
+                return new I18nEmailMgtInternalException(I18nMgtConstants.ErrorCodes.EMAIL_TEMPLATE_TYPE_NODE_FOUND,
+                        errorMsg, throwable);
             }
-            throw new I18nEmailMgtServerException(exception.getMessage(), exception.getCause());
         }
+        return new I18nEmailMgtServerException(exception.getMessage(), exception.getCause());
     }
 
     /**
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.email.mgt.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+/**
+ * Cache of the application notification templates known not to exist. Lets repeated lookups of templates that are not
+ * overridden in the application skip the database. Each entry holds the tenant template version stamp of
+ * {@link NotificationTemplateVersionCache} it was recorded with, and is only valid while that stamp is current, so a
+ * template added while the entry was recorded cannot be hidden by it.
+ */
+public class AppNotificationTemplateNegativeCache extends BaseCache<AppNotificationTemplateCacheKey, Long> {
+
+    private static final String CACHE_NAME = "AppNotificationTemplateNegativeCache";
+    private static final AppNotificationTemplateNegativeCache instance = new AppNotificationTemplateNegativeCache();
+
+    private AppNotificationTemplateNegativeCache() {
+
+        super(CACHE_NAME);
+    }
+
+    public static AppNotificationTemplateNegativeCache getInstance() {
+
+        return instance;
+    }
+}
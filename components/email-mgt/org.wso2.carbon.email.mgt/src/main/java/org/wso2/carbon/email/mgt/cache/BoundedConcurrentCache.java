@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.email.mgt.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BinaryOperator;
+
+/**
+ * Node local cache with a fixed maximum size, safe for concurrent use without a global lock. Reads and writes go to a
+ * {@link ConcurrentHashMap}, and each read records the access time on the entry. Once the cache grows beyond its
+ * maximum size, the writer that noticed it evicts the expired entries and the least recently used entries until the
+ * cache is back under the size limit, while the other threads carry on without waiting for it.
+ * <p>
+ * Entries may optionally expire after a fixed time from being added. Use a {@code BaseCache} instead where the
+ * entries have to be invalidated across the cluster.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ */
+public final class BoundedConcurrentCache<K, V> {
+
+    private final ConcurrentHashMap<K, Node<V>> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final int maxEntries;
+    private final int evictionTarget;
+    private final long timeToLiveNanos;
+
+    /**
+     * Create a cache whose entries never expire.
+     *
+     * @param maxEntries Maximum number of entries.
+     */
+    public BoundedConcurrentCache(int maxEntries) {
+
+        this(maxEntries, 0, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Create a cache whose entries expire after the given time.
+     *
+     * @param maxEntries Maximum number of entries.
+     * @param timeToLive Time an entry is served after being added. Zero if entries never expire.
+     * @param unit       Unit of the time to live.
+     */
+    public BoundedConcurrentCache(int maxEntries, long timeToLive, TimeUnit unit) {
+
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Maximum number of cache entries must be positive: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+        // Evict slightly below the limit, so that a full cache is not swept on every write.
+        this.evictionTarget = maxEntries - maxEntries / 8;
+        this.timeToLiveNanos = unit.toNanos(timeToLive);
+    }
+
+    /**
+     * Get a cached value.
+     *
+     * @param key Key.
+     * @return Cached value, or null if the key is not cached or the entry expired.
+     */
+    public V get(K key) {
+
+        Node<V> node = entries.get(key);
+        if (node == null) {
+            return null;
+        }
+        long now = System.nanoTime();
+        if (isExpired(node, now)) {
+            entries.remove(key, node);
+            return null;
+        }
+        node.accessTime = now;
+        return node.value;
+    }
+
+    /**
+     * Add a value to the cache, replacing any value cached for the key.
+     *
+     * @param key   Key.
+     * @param value Value.
+     */
+    public void put(K key, V value) {
+
+        entries.put(key, new Node<>(value, System.nanoTime()));
+        evictIfFull();
+    }
+
+    /**
+     * Merge a value with the value cached for the key, or add it if the key is not cached. The merge is atomic with
+     * respect to other writes of the same key.
+     *
+     * @param key      Key.
+     * @param value    Value.
+     * @param function Function merging the cached value with the given value.
+     */
+    public void merge(K key, V value, BinaryOperator<V> function) {
+
+        long now = System.nanoTime();
+        entries.compute(key, (k, node) -> {
+            if (node == null || isExpired(node, now)) {
+                return new Node<>(value, now);
+            }
+            V mergedValue = function.apply(node.value, value);
+            return mergedValue == node.value ? node : new Node<>(mergedValue, now);
+        });
+        evictIfFull();
+    }
+
+    /**
+     * Remove a cached value.
+     *
+     * @param key Key.
+     */
+    public void remove(K key) {
+
+        entries.remove(key);
+    }
+
+    /**
+     * Remove a cached value, only if the key is still mapped to the given value.
+     *
+     * @param key   Key.
+     * @param value Value expected to be cached for the key.
+     */
+    public void remove(K key, V value) {
+
+        Node<V> node = entries.get(key);
+        if (node != null && node.value == value) {
+            entries.remove(key, node);
+        }
+    }
+
+    /**
+     * Get the number of cached entries, including the entries that expired but are not removed yet.
+     *
+     * @return Number of entries.
+     */
+    public int size() {
+
+        return entries.size();
+    }
+
+    /**
+     * Remove all the cached entries.
+     */
+    public void clear() {
+
+        entries.clear();
+    }
+
+    private boolean isExpired(Node<V> node, long now) {
+
+        return timeToLiveNanos > 0 && now - node.createdTime > timeToLiveNanos;
+    }
+
+    private void evictIfFull() {
+
+        if (entries.size() <= maxEntries || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            long now = System.nanoTime();
+            List<EvictionCandidate<K, V>> candidates = new ArrayList<>(entries.size());
+            for (Map.Entry<K, Node<V>> entry : entries.entrySet()) {
+                Node<V> node = entry.getValue();
+                if (isExpired(node, now)) {
+                    entries.remove(entry.getKey(), node);
+                } else {
+                    // Take the access time once, as it keeps changing while the candidates are sorted.
+                    candidates.add(new EvictionCandidate<>(entry.getKey(), node, node.accessTime));
+                }
+            }
+            int excess = entries.size() - evictionTarget;
+            if (excess <= 0) {
+                return;
+            }
+            candidates.sort(Comparator.comparingLong(candidate -> candidate.accessTime));
+            for (int i = 0; i < excess && i < candidates.size(); i++) {
+                entries.remove(candidates.get(i).key, candidates.get(i).node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static final class Node<V> {
+
+        private final V value;
+        private final long createdTime;
+        private volatile long accessTime;
+
+        Node(V value, long createdTime) {
+
+            this.value = value;
+            this.createdTime = createdTime;
+            this.accessTime = createdTime;
+        }
+    }
+
+    private static final class EvictionCandidate<K, V> {
+
+        private final K key;
+        private final Node<V> node;
+        private final long accessTime;
+
+        EvictionCandidate(K key, Node<V> node, long accessTime) {
+
+            this.key = key;
+            this.node = node;
+            this.accessTime = accessTime;
+        }
+    }
+}
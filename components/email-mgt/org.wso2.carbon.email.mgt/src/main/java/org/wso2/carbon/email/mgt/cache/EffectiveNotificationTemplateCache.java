@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.email.mgt.cache;
+
+import org.wso2.carbon.email.mgt.model.ResolvedNotificationTemplate;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local cache of the effective notification templates resolved across the organization hierarchy. Maps a tenant
+ * domain, application, template type, locale and channel to the template found in the closest organization of the
+ * hierarchy, or to the absence of such a template when the system default template applies.
+ * <p>
+ * Each entry records the template version stamp of every organization visited while resolving it. An entry is only
+ * served while all of those stamps are current, so a template change in any of those organizations invalidates it.
+ * Entries also expire after a fixed time, which bounds the effect of organization hierarchy changes.
+ */
+public class EffectiveNotificationTemplateCache {
+
+    private static final int MAX_ENTRIES = 2000;
+    private static final long TIME_TO_LIVE_MINUTES = 15;
+    private static final EffectiveNotificationTemplateCache instance = new EffectiveNotificationTemplateCache();
+
+    private final BoundedConcurrentCache<EffectiveNotificationTemplateCacheKey, Entry> entries =
+            new BoundedConcurrentCache<>(MAX_ENTRIES, TIME_TO_LIVE_MINUTES, TimeUnit.MINUTES);
+
+    private EffectiveNotificationTemplateCache() {
+
+    }
+
+    public static EffectiveNotificationTemplateCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Get the cached effective template.
+     *
+     * @param tenantDomain    Tenant domain the template is resolved for.
+     * @param applicationUuid Application UUID, or null for organization templates.
+     * @param templateType    Template type display name.
+     * @param locale          Locale.
+     * @param channelName     Notification channel.
+     * @return The effective template, an empty optional if the system default template applies, or null if the
+     * template is not cached or was changed since it was cached.
+     */
+    public Optional<ResolvedNotificationTemplate> getTemplate(String tenantDomain, String applicationUuid,
+                                                              String templateType, String locale,
+                                                              String channelName) {
+
+        if (tenantDomain == null || templateType == null) {
+            return null;
+        }
+        EffectiveNotificationTemplateCacheKey cacheKey =
+                new EffectiveNotificationTemplateCacheKey(tenantDomain, applicationUuid, templateType, locale,
+                        channelName);
+        Entry entry = entries.get(cacheKey);
+        if (entry == null) {
+            return null;
+        }
+        NotificationTemplateVersionCache versionCache = NotificationTemplateVersionCache.getInstance();
+        for (int i = 0; i < entry.tenantIds.length; i++) {
+            if (!versionCache.isCurrentVersion(entry.tenantIds[i], entry.versions[i])) {
+                entries.remove(cacheKey, entry);
+                return null;
+            }
+        }
+        return Optional.ofNullable(entry.template);
+    }
+
+    /**
+     * Add an effective template to the cache.
+     *
+     * @param tenantDomain    Tenant domain the template is resolved for.
+     * @param applicationUuid Application UUID, or null for organization templates.
+     * @param templateType    Template type display name.
+     * @param locale          Locale.
+     * @param channelName     Notification channel.
+     * @param template        The effective template, or null if the system default template applies.
+     * @param versions        Template version stamps of the tenants visited while resolving the template, by tenant
+     *                        ID. Taken before the templates of the tenant were read.
+     */
+    public void addTemplate(String tenantDomain, String applicationUuid, String templateType, String locale,
+                            String channelName, ResolvedNotificationTemplate template, Map<Integer, Long> versions) {
+
+        if (tenantDomain == null || templateType == null || versions.isEmpty()) {
+            return;
+        }
+        int[] tenantIds = new int[versions.size()];
+        long[] tenantVersions = new long[versions.size()];
+        int index = 0;
+        for (Map.Entry<Integer, Long> version : versions.entrySet()) {
+            tenantIds[index] = version.getKey();
+            tenantVersions[index] = version.getValue();
+            index++;
+        }
+        EffectiveNotificationTemplateCacheKey cacheKey =
+                new EffectiveNotificationTemplateCacheKey(tenantDomain, applicationUuid, templateType, locale,
+                        channelName);
+        entries.put(cacheKey, new Entry(template, tenantIds, tenantVersions));
+    }
+
+    /**
+     * Remove all the cached entries.
+     */
+    public void clear() {
+
+        entries.clear();
+    }
+
+    private static class Entry {
+
+        private final ResolvedNotificationTemplate template;
+        private final int[] tenantIds;
+        private final long[] versions;
+
+        Entry(ResolvedNotificationTemplate template, int[] tenantIds, long[] versions) {
+
+            this.template = template;
+            this.tenantIds = tenantIds;
+            this.versions = versions;
+        }
+    }
+
+    private static class EffectiveNotificationTemplateCacheKey {
+
+        private final String tenantDomain;
+        private final String applicationUuid;
+        private final String templateType;
+        private final String locale;
+        private final String channelName;
+
+        EffectiveNotificationTemplateCacheKey(String tenantDomain, String applicationUuid, String templateType,
+                                              String locale, String channelName) {
+
+            this.tenantDomain = tenantDomain;
+            this.applicationUuid = applicationUuid;
+            this.templateType = templateType.toLowerCase();
+            this.locale = locale;
+            this.channelName = channelName;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            EffectiveNotificationTemplateCacheKey that = (EffectiveNotificationTemplateCacheKey) o;
+            return Objects.equals(tenantDomain, that.tenantDomain) &&
+                    Objects.equals(applicationUuid, that.applicationUuid) &&
+                    Objects.equals(templateType, that.templateType) && Objects.equals(locale, that.locale) &&
+                    Objects.equals(channelName, that.channelName);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(tenantDomain, applicationUuid, templateType, locale, channelName);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.email.mgt.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit, miss and negative hit counters of a notification template cache. A negative hit is a lookup answered from the
+ * cache with the template known not to exist.
+ */
+public class NotificationTemplateCacheStatistics {
+
+    private static final NotificationTemplateCacheStatistics orgTemplateCacheStatistics =
+            new NotificationTemplateCacheStatistics("OrgNotificationTemplateCache");
+    private static final NotificationTemplateCacheStatistics appTemplateCacheStatistics =
+            new NotificationTemplateCacheStatistics("AppNotificationTemplateCache");
+
+    private final String cacheName;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder negativeHitCount = new LongAdder();
+
+    NotificationTemplateCacheStatistics(String cacheName) {
+
+        this.cacheName = cacheName;
+    }
+
+    /**
+     * Get the statistics of the organization notification template cache.
+     *
+     * @return Statistics of the organization notification template cache.
+     */
+    public static NotificationTemplateCacheStatistics getOrgTemplateCacheStatistics() {
+
+        return orgTemplateCacheStatistics;
+    }
+
+    /**
+     * Get the statistics of the application notification template cache.
+     *
+     * @return Statistics of the application notification template cache.
+     */
+    public static NotificationTemplateCacheStatistics getAppTemplateCacheStatistics() {
+
+        return appTemplateCacheStatistics;
+    }
+
+    public void recordHit() {
+
+        hitCount.increment();
+    }
+
+    public void recordMiss() {
+
+        missCount.increment();
+    }
+
+    public void recordNegativeHit() {
+
+        negativeHitCount.increment();
+    }
+
+    public String getCacheName() {
+
+        return cacheName;
+    }
+
+    public long getHitCount() {
+
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+
+        return missCount.sum();
+    }
+
+    public long getNegativeHitCount() {
+
+        return negativeHitCount.sum();
+    }
+
+    /**
+     * Reset all the counters.
+     */
+    public void reset() {
+
+        hitCount.reset();
+        missCount.reset();
+        negativeHitCount.reset();
+    }
+
+    @Override
+    public String toString() {
+
+        return cacheName + " [hits: " + getHitCount() + ", misses: " + getMissCount() + ", negative hits: " +
+                getNegativeHitCount() + "]";
+    }
+}
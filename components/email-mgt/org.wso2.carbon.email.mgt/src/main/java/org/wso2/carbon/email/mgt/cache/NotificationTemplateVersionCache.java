@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.email.mgt.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Cache of the notification template version stamp of each tenant. The stamp is dropped whenever a notification
+ * template or template type of the tenant changes, and a new stamp is issued on the next read. Effective templates
+ * resolved through the tenant record the stamp they were resolved with, so a changed stamp invalidates them. Being a
+ * distributed cache, a change on one node drops the stamp on the other nodes as well.
+ */
+public class NotificationTemplateVersionCache extends BaseCache<String, Long> {
+
+    private static final String CACHE_NAME = "NotificationTemplateVersionCache";
+    private static final String VERSION_KEY = "NotificationTemplateVersion";
+    private static final NotificationTemplateVersionCache instance = new NotificationTemplateVersionCache();
+
+    private NotificationTemplateVersionCache() {
+
+        super(CACHE_NAME);
+    }
+
+    public static NotificationTemplateVersionCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Get the template version stamp of a tenant, issuing a new stamp if the tenant has none.
+     *
+     * @param tenantId Tenant ID.
+     * @return Template version stamp.
+     */
+    public long getVersion(int tenantId) {
+
+        Long version = getValueFromCache(VERSION_KEY, tenantId);
+        if (version == null) {
+            version = ThreadLocalRandom.current().nextLong();
+            addToCache(VERSION_KEY, version, tenantId);
+        }
+        return version;
+    }
+
+    /**
+     * Check whether the template version stamp of a tenant is still the given stamp.
+     *
+     * @param tenantId Tenant ID.
+     * @param version  Template version stamp.
+     * @return True if the tenant templates did not change since the stamp was issued.
+     */
+    public boolean isCurrentVersion(int tenantId, long version) {
+
+        Long currentVersion = getValueFromCache(VERSION_KEY, tenantId);
+        return currentVersion != null && currentVersion == version;
+    }
+
+    /**
+     * Drop the template version stamp of a tenant after its notification templates changed.
+     *
+     * @param tenantId Tenant ID.
+     */
+    public void invalidate(int tenantId) {
+
+        clearCacheEntry(VERSION_KEY, tenantId);
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.email.mgt.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Distributed cache of the organization details resolved while sending notifications. Maps a tenant domain to its
+ * organization ID, human-readable organization name and whether it is an organization, and an organization ID to
+ * its tenant domain and primary tenant domain. The mappings span tenants, so all the entries are kept in the super
+ * tenant cache. Clearing an entry after a tenant or organization change on one node invalidates it on the other
+ * nodes of the cluster as well. Tenant and organization lifecycle listeners are expected to clear the cache.
+ */
+public class OrganizationResolutionCache
+        extends BaseCache<OrganizationResolutionCache.OrganizationResolutionCacheKey, String> {
+
+    private static final String CACHE_NAME = "NotificationOrganizationResolutionCache";
+    private static final OrganizationResolutionCache instance = new OrganizationResolutionCache();
+
+    private OrganizationResolutionCache() {
+
+        super(CACHE_NAME);
+    }
+
+    public static OrganizationResolutionCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Get the cached organization ID of a tenant domain.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Organization ID, or null if it is not cached.
+     */
+    public String getOrganizationId(String tenantDomain) {
+
+        return getValue(Type.ORGANIZATION_ID, tenantDomain);
+    }
+
+    /**
+     * Add the organization ID of a tenant domain to the cache. The reverse mapping is cached as well.
+     *
+     * @param tenantDomain   Tenant domain.
+     * @param organizationId Organization ID.
+     */
+    public void addOrganizationId(String tenantDomain, String organizationId) {
+
+        addValue(Type.ORGANIZATION_ID, tenantDomain, organizationId);
+        addValue(Type.TENANT_DOMAIN, organizationId, tenantDomain);
+    }
+
+    /**
+     * Get the cached tenant domain of an organization.
+     *
+     * @param organizationId Organization ID.
+     * @return Tenant domain, or null if it is not cached.
+     */
+    public String getTenantDomain(String organizationId) {
+
+        return getValue(Type.TENANT_DOMAIN, organizationId);
+    }
+
+    /**
+     * Add the tenant domain of an organization to the cache. The reverse mapping is cached as well.
+     *
+     * @param organizationId Organization ID.
+     * @param tenantDomain   Tenant domain.
+     */
+    public void addTenantDomain(String organizationId, String tenantDomain) {
+
+        addOrganizationId(tenantDomain, organizationId);
+    }
+
+    /**
+     * Get the cached human-readable organization name of a tenant domain.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Organization name, or null if it is not cached.
+     */
+    public String getOrganizationName(String tenantDomain) {
+
+        return getValue(Type.ORGANIZATION_NAME, tenantDomain);
+    }
+
+    /**
+     * Add the human-readable organization name of a tenant domain to the cache.
+     *
+     * @param tenantDomain     Tenant domain.
+     * @param organizationName Organization name.
+     */
+    public void addOrganizationName(String tenantDomain, String organizationName) {
+
+        addValue(Type.ORGANIZATION_NAME, tenantDomain, organizationName);
+    }
+
+    /**
+     * Get whether the tenant domain is known to belong to an organization.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Whether the tenant domain belongs to an organization, or null if it is not cached.
+     */
+    public Boolean isOrganization(String tenantDomain) {
+
+        String isOrganization = getValue(Type.IS_ORGANIZATION, tenantDomain);
+        return isOrganization != null ? Boolean.valueOf(isOrganization) : null;
+    }
+
+    /**
+     * Add whether the tenant domain belongs to an organization to the cache.
+     *
+     * @param tenantDomain   Tenant domain.
+     * @param isOrganization Whether the tenant domain belongs to an organization.
+     */
+    public void addIsOrganization(String tenantDomain, boolean isOrganization) {
+
+        addValue(Type.IS_ORGANIZATION, tenantDomain, Boolean.toString(isOrganization));
+    }
+
+    /**
+     * Get the cached primary tenant domain of an organization.
+     *
+     * @param organizationId Organization ID.
+     * @return Primary tenant domain, or null if it is not cached.
+     */
+    public String getPrimaryTenantDomain(String organizationId) {
+
+        return getValue(Type.PRIMARY_TENANT_DOMAIN, organizationId);
+    }
+
+    /**
+     * Add the primary tenant domain of an organization to the cache.
+     *
+     * @param organizationId      Organization ID.
+     * @param primaryTenantDomain Primary tenant domain.
+     */
+    public void addPrimaryTenantDomain(String organizationId, String primaryTenantDomain) {
+
+        addValue(Type.PRIMARY_TENANT_DOMAIN, organizationId, primaryTenantDomain);
+    }
+
+    /**
+     * Remove all the cached entries.
+     */
+    public void clear() {
+
+        clear(MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    private String getValue(Type type, String key) {
+
+        if (key == null) {
+            return null;
+        }
+        return getValueFromCache(new OrganizationResolutionCacheKey(type, key), MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    private void addValue(Type type, String key, String value) {
+
+        if (key == null || value == null) {
+            return;
+        }
+        addToCache(new OrganizationResolutionCacheKey(type, key), value, MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    private enum Type {
+
+        ORGANIZATION_ID,
+        TENANT_DOMAIN,
+        ORGANIZATION_NAME,
+        IS_ORGANIZATION,
+        PRIMARY_TENANT_DOMAIN
+    }
+
+    /**
+     * Key of a mapping in the {@link OrganizationResolutionCache}.
+     */
+    static class OrganizationResolutionCacheKey implements Serializable {
+
+        private static final long serialVersionUID = 4208591173349625315L;
+
+        private final Type type;
+        private final String key;
+
+        OrganizationResolutionCacheKey(Type type, String key) {
+
+            this.type = type;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            OrganizationResolutionCacheKey that = (OrganizationResolutionCacheKey) o;
+            return type == that.type && Objects.equals(key, that.key);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(type, key);
+        }
+    }
+}
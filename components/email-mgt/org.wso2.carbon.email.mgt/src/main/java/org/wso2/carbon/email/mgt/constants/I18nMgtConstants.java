@@ -65,6 +65,10 @@ public class I18nMgtConstants {
     public static final String NOTIFICATION_TEMPLATES_STORAGE_CONFIG = "DataStorageType.NotificationTemplates";
     public static final String NOTIFICATION_TEMPLATES_LEGACY_TENANTS = "NotificationTemplates.LegacyTenants.Tenant";
     public static final String NOTIFICATION_TEMPLATES_DEBUG_TENANTS = "NotificationTemplates.DebugTenants.Tenant";
+    // Writes new template contents in the binary format. Enable only after every node sharing the database is upgraded,
+    // as older nodes cannot read the binary format.
+    public static final String NOTIFICATION_TEMPLATES_BINARY_CONTENT_FORMAT =
+            "NotificationTemplates.BinaryContentFormat";
 
     public static final String SERVICE_PROPERTY_KEY_SERVICE_NAME = "service.name";
     public static final String SERVICE_PROPERTY_VAL_EMAIL_TEMPLATE_MANAGER = "EmailTemplateManager";
@@ -72,6 +76,32 @@ public class I18nMgtConstants {
     public static final String NOTIFICATION_DEFAULT_LOCALE = "Notification.DefaultLocale";
     public static final String DEFAULT_NOTIFICATION_LOCALE = "en_US";
 
+    public static class NotificationTemplateMigration {
+        private NotificationTemplateMigration() {
+
+        }
+
+        public static final String ENABLE_CONFIG = "NotificationTemplates.Migration.Enable";
+        public static final String DRY_RUN_CONFIG = "NotificationTemplates.Migration.DryRun";
+        public static final String POOL_SIZE_CONFIG = "NotificationTemplates.Migration.PoolSize";
+        public static final String BATCH_SIZE_CONFIG = "NotificationTemplates.Migration.BatchSize";
+        public static final int DEFAULT_POOL_SIZE = 4;
+        public static final int DEFAULT_BATCH_SIZE = 100;
+
+        // Registry resource holding the migration state of a tenant.
+        public static final String STATE_PATH = "/identity/notificationTemplateMigration";
+        public static final String STATUS_PROPERTY = "status";
+        public static final String STATUS_COMPLETED = "COMPLETED";
+        public static final String MIGRATED_TEMPLATES_PROPERTY = "migratedTemplates";
+        public static final String COMPLETED_AT_PROPERTY = "completedAt";
+
+        // Registry resource claiming the migration of a tenant for a single node.
+        public static final String CLAIM_PATH = "/identity/notificationTemplateMigrationClaim";
+        public static final String CLAIM_OWNER_PROPERTY = "owner";
+        public static final String CLAIM_EXPIRES_AT_PROPERTY = "expiresAt";
+        public static final long CLAIM_LEASE_MINUTES = 60;
+    }
+
     public static class ErrorMsg {
         private ErrorMsg() {
 
@@ -154,6 +184,8 @@ public class I18nMgtConstants {
         public static final String NOTIFICATION_TYPE_SCHEMA_VERSION = "1.0.0";
         public static final String ORG_TEMPLATE_SCHEMA_VERSION = "1.0.0";
         public static final String APP_TEMPLATE_SCHEMA_VERSION = "1.0.0";
+        // Schema version of the org and app template rows with the binary template content.
+        public static final String TEMPLATE_BINARY_CONTENT_SCHEMA_VERSION = "2.0.0";
 
         public static final String ID = "ID";
         public static final String TYPE_KEY = "TYPE_KEY";
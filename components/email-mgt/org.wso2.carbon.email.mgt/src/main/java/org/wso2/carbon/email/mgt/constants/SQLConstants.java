@@ -48,18 +48,19 @@ public class SQLConstants {
                     "VALUES (:TEMPLATE_KEY;, :LOCALE;, :CONTENT;, :CONTENT_TYPE;, (" +
                     GET_NOTIFICATION_TYPE_ID_SQL + "), :TENANT_ID;, :VERSION;, :CREATED_AT;, :UPDATED_AT;)";
     public static final String GET_ORG_NOTIFICATION_TEMPLATE_SQL =
-            "SELECT CONTENT, CONTENT_TYPE FROM IDN_NOTIFICATION_ORG_TEMPLATE " +
+            "SELECT CONTENT, CONTENT_TYPE, VERSION FROM IDN_NOTIFICATION_ORG_TEMPLATE " +
                     "WHERE TEMPLATE_KEY = :TEMPLATE_KEY; AND TYPE_ID = (" + GET_NOTIFICATION_TYPE_ID_SQL +
                     ") AND TENANT_ID = :TENANT_ID;";
     public static final String IS_ORG_NOTIFICATION_TEMPLATE_EXISTS_SQL =
             "SELECT ID FROM IDN_NOTIFICATION_ORG_TEMPLATE " +
                     "WHERE TEMPLATE_KEY = :TEMPLATE_KEY; AND TYPE_ID = :TYPE_ID; AND TENANT_ID = :TENANT_ID;";
     public static final String LIST_ORG_NOTIFICATION_TEMPLATES_BY_TYPE_SQL =
-            "SELECT CONTENT, CONTENT_TYPE, LOCALE FROM IDN_NOTIFICATION_ORG_TEMPLATE " +
+            "SELECT CONTENT, CONTENT_TYPE, LOCALE, VERSION FROM IDN_NOTIFICATION_ORG_TEMPLATE " +
                     "WHERE TYPE_ID = (" + GET_NOTIFICATION_TYPE_ID_SQL + ") AND TENANT_ID = :TENANT_ID;";
     public static final String UPDATE_ORG_NOTIFICATION_TEMPLATE_SQL =
             "UPDATE IDN_NOTIFICATION_ORG_TEMPLATE " +
-                    "SET CONTENT = :CONTENT;, CONTENT_TYPE = :CONTENT_TYPE;, UPDATED_AT = :UPDATED_AT; " +
+                    "SET CONTENT = :CONTENT;, CONTENT_TYPE = :CONTENT_TYPE;, VERSION = :VERSION;, " +
+                    "UPDATED_AT = :UPDATED_AT; " +
                     "WHERE TEMPLATE_KEY = :TEMPLATE_KEY; AND TYPE_ID = (" + GET_NOTIFICATION_TYPE_ID_SQL +
                     ") AND TENANT_ID = :TENANT_ID;";
     public static final String DELETE_ORG_NOTIFICATION_TEMPLATE_SQL =
@@ -76,7 +77,7 @@ public class SQLConstants {
                     "VALUES (:TEMPLATE_KEY;, :LOCALE;, :CONTENT;, :CONTENT_TYPE;, (" +
                     GET_NOTIFICATION_TYPE_ID_SQL + "), :APP_ID;, :TENANT_ID;, :VERSION;, :CREATED_AT;, :UPDATED_AT;)";
     public static final String GET_APP_NOTIFICATION_TEMPLATE_SQL =
-            "SELECT CONTENT, CONTENT_TYPE FROM IDN_NOTIFICATION_APP_TEMPLATE " +
+            "SELECT CONTENT, CONTENT_TYPE, VERSION FROM IDN_NOTIFICATION_APP_TEMPLATE " +
                     "WHERE TEMPLATE_KEY = :TEMPLATE_KEY; AND TYPE_ID = (" + GET_NOTIFICATION_TYPE_ID_SQL +
                     ") AND APP_ID = :APP_ID; AND TENANT_ID = :TENANT_ID;";
     public static final String IS_APP_NOTIFICATION_TEMPLATE_EXISTS_SQL =
@@ -84,12 +85,13 @@ public class SQLConstants {
                     "WHERE TEMPLATE_KEY = :TEMPLATE_KEY; AND TYPE_ID = :TYPE_ID; AND APP_ID = :APP_ID; " +
                     "AND TENANT_ID = :TENANT_ID;";
     public static final String LIST_APP_NOTIFICATION_TEMPLATES_BY_APP_SQL =
-            "SELECT CONTENT, CONTENT_TYPE, LOCALE FROM IDN_NOTIFICATION_APP_TEMPLATE " +
+            "SELECT CONTENT, CONTENT_TYPE, LOCALE, VERSION FROM IDN_NOTIFICATION_APP_TEMPLATE " +
                     "WHERE TYPE_ID = (" + GET_NOTIFICATION_TYPE_ID_SQL +
                     ") AND APP_ID = :APP_ID; AND TENANT_ID = :TENANT_ID;";
     public static final String UPDATE_APP_NOTIFICATION_TEMPLATE_SQL =
             "UPDATE IDN_NOTIFICATION_APP_TEMPLATE " +
-                    "SET CONTENT = :CONTENT;, CONTENT_TYPE = :CONTENT_TYPE;, UPDATED_AT = :UPDATED_AT; " +
+                    "SET CONTENT = :CONTENT;, CONTENT_TYPE = :CONTENT_TYPE;, VERSION = :VERSION;, " +
+                    "UPDATED_AT = :UPDATED_AT; " +
                     "WHERE TEMPLATE_KEY = :TEMPLATE_KEY; AND TYPE_ID = (" + GET_NOTIFICATION_TYPE_ID_SQL +
                     ") AND APP_ID = :APP_ID; AND TENANT_ID = :TENANT_ID;";
     public static final String DELETE_APP_NOTIFICATION_TEMPLATE_SQL =
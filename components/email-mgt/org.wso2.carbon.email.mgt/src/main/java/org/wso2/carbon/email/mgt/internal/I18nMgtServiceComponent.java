@@ -32,8 +32,10 @@ import org.wso2.carbon.email.mgt.SMSProviderPayloadTemplateManager;
 import org.wso2.carbon.email.mgt.SMSProviderPayloadTemplateManagerImpl;
 import org.wso2.carbon.email.mgt.constants.I18nMgtConstants;
 import org.wso2.carbon.email.mgt.model.SMSProviderTemplate;
+import org.wso2.carbon.email.mgt.store.migration.NotificationTemplateMigrationJob;
 import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
 import org.wso2.carbon.identity.core.persistence.registry.RegistryResourceMgtService;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.governance.model.NotificationTemplate;
 import org.wso2.carbon.identity.governance.service.notification.NotificationChannels;
 import org.wso2.carbon.identity.governance.service.notification.NotificationTemplateManager;
@@ -71,6 +73,7 @@ import javax.xml.stream.XMLStreamReader;
 
 import static org.wso2.carbon.email.mgt.constants.I18nMgtConstants.NOTIFICATION_TEMPLATES_DEBUG_TENANTS;
 import static org.wso2.carbon.email.mgt.constants.I18nMgtConstants.NOTIFICATION_TEMPLATES_LEGACY_TENANTS;
+import static org.wso2.carbon.email.mgt.constants.I18nMgtConstants.NOTIFICATION_TEMPLATES_STORAGE_CONFIG;
 import static org.wso2.carbon.email.mgt.constants.I18nMgtConstants.SERVICE_PROPERTY_KEY_SERVICE_NAME;
 import static org.wso2.carbon.email.mgt.constants.I18nMgtConstants.SERVICE_PROPERTY_VAL_EMAIL_TEMPLATE_MANAGER;
 import static org.wso2.carbon.email.mgt.constants.I18nMgtConstants.SERVICE_PROPERTY_VAL_NOTIFICATION_TEMPLATE_MANAGER;
@@ -86,6 +89,7 @@ public class I18nMgtServiceComponent {
     private static final Log log = LogFactory.getLog(I18nMgtServiceComponent.class);
 
     private I18nMgtDataHolder dataHolder = I18nMgtDataHolder.getInstance();
+    private NotificationTemplateMigrationJob templateMigrationJob;
 
     @Activate
     protected void activate(ComponentContext context) {
@@ -153,6 +157,9 @@ public class I18nMgtServiceComponent {
 
             // Load SMS service providers' sms send API payloads.
             loadDefaultSMSProviderPostBodyTemplates();
+
+            // Migrate the registry notification templates to the database in the background.
+            startNotificationTemplateMigration();
             log.debug("I18n Management is activated");
         } catch (Throwable e) {
             log.error("Error while activating I18n Management bundle", e);
@@ -319,8 +326,53 @@ public class I18nMgtServiceComponent {
                 I18nMgtConstants.EMAIL_CONF_DIRECTORY + File.separator + I18nMgtConstants.EMAIL_ADMIN_CONF_FILE;
     }
 
+    /**
+     * Start the registry to database notification template migration if enabled for the hybrid template storage.
+     */
+    private void startNotificationTemplateMigration() {
+
+        if (!"hybrid".equals(IdentityUtil.getProperty(NOTIFICATION_TEMPLATES_STORAGE_CONFIG)) ||
+                !Boolean.parseBoolean(IdentityUtil.getProperty(
+                        I18nMgtConstants.NotificationTemplateMigration.ENABLE_CONFIG))) {
+            return;
+        }
+
+        int poolSize = readPositiveNumber(I18nMgtConstants.NotificationTemplateMigration.POOL_SIZE_CONFIG,
+                I18nMgtConstants.NotificationTemplateMigration.DEFAULT_POOL_SIZE);
+        int batchSize = readPositiveNumber(I18nMgtConstants.NotificationTemplateMigration.BATCH_SIZE_CONFIG,
+                I18nMgtConstants.NotificationTemplateMigration.DEFAULT_BATCH_SIZE);
+        boolean dryRun = Boolean.parseBoolean(
+                IdentityUtil.getProperty(I18nMgtConstants.NotificationTemplateMigration.DRY_RUN_CONFIG));
+        templateMigrationJob = new NotificationTemplateMigrationJob(poolSize, batchSize, dryRun);
+        templateMigrationJob.start();
+    }
+
+    private static int readPositiveNumber(String property, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            int number = Integer.parseInt(value.trim());
+            if (number > 0) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // Fall back to the default value below.
+        }
+        log.warn(String.format("Invalid value: %s configured for %s. Using the default value: %d.", value, property,
+                defaultValue));
+        return defaultValue;
+    }
+
     @Deactivate
     protected void deactivate(ComponentContext context) {
+
+        if (templateMigrationJob != null) {
+            templateMigrationJob.shutdown();
+            templateMigrationJob = null;
+        }
         if (log.isDebugEnabled()) {
             log.debug("I18n Management bundle is de-activated");
         }
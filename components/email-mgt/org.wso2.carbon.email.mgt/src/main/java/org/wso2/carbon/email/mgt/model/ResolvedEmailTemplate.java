@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.email.mgt.model;
+
+/**
+ * Email template resolved through the application, organization hierarchy and system default templates, together
+ * with the level it was found at.
+ */
+public class ResolvedEmailTemplate {
+
+    private final EmailTemplate emailTemplate;
+    private final NotificationTemplateSource source;
+    private final boolean inherited;
+
+    /**
+     * Create a resolved email template.
+     *
+     * @param emailTemplate Resolved email template.
+     * @param source        Level the template was found at.
+     * @param inherited     Whether the template was found in an ancestor organization.
+     */
+    public ResolvedEmailTemplate(EmailTemplate emailTemplate, NotificationTemplateSource source, boolean inherited) {
+
+        this.emailTemplate = emailTemplate;
+        this.source = source;
+        this.inherited = inherited;
+    }
+
+    public EmailTemplate getEmailTemplate() {
+
+        return emailTemplate;
+    }
+
+    public NotificationTemplateSource getSource() {
+
+        return source;
+    }
+
+    public boolean isInherited() {
+
+        return inherited;
+    }
+}
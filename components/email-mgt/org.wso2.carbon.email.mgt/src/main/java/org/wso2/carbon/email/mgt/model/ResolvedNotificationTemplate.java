@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.email.mgt.model;
+
+import org.wso2.carbon.identity.governance.model.NotificationTemplate;
+
+/**
+ * Notification template resolved through the application, organization hierarchy and system default templates,
+ * together with the level it was found at.
+ */
+public class ResolvedNotificationTemplate {
+
+    private final NotificationTemplate notificationTemplate;
+    private final NotificationTemplateSource source;
+    private final boolean inherited;
+
+    public ResolvedNotificationTemplate(NotificationTemplate notificationTemplate, NotificationTemplateSource source) {
+
+        this(notificationTemplate, source, false);
+    }
+
+    /**
+     * Create a resolved notification template.
+     *
+     * @param notificationTemplate Resolved notification template.
+     * @param source               Level the template was found at.
+     * @param inherited            Whether the template was found in an ancestor organization.
+     */
+    public ResolvedNotificationTemplate(NotificationTemplate notificationTemplate, NotificationTemplateSource source,
+                                        boolean inherited) {
+
+        this.notificationTemplate = notificationTemplate;
+        this.source = source;
+        this.inherited = inherited;
+    }
+
+    public NotificationTemplate getNotificationTemplate() {
+
+        return notificationTemplate;
+    }
+
+    public NotificationTemplateSource getSource() {
+
+        return source;
+    }
+
+    public boolean isInherited() {
+
+        return inherited;
+    }
+}
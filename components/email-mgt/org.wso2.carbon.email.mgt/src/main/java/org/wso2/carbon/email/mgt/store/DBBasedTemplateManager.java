@@ -164,6 +164,31 @@ public class DBBasedTemplateManager implements TemplatePersistenceManager {
         }
     }
 
+    /**
+     * Add a set of new notification templates in a single batch. The notification template types of the given
+     * templates should already exist, and none of the templates should exist in the database.
+     *
+     * @param notificationTemplates Notification templates to be added.
+     * @param applicationUuid       Application UUID. Org templates are added when this is blank.
+     * @param tenantDomain          Tenant domain.
+     * @throws NotificationTemplateManagerServerException If an error occurred while adding the templates.
+     */
+    public void addNotificationTemplates(List<NotificationTemplate> notificationTemplates, String applicationUuid,
+                                         String tenantDomain) throws NotificationTemplateManagerServerException {
+
+        int tenantId = getTenantId(tenantDomain);
+        if (StringUtils.isBlank(applicationUuid)) {
+            orgNotificationTemplateDAO.addNotificationTemplates(notificationTemplates, tenantId);
+        } else {
+            appNotificationTemplateDAO.addNotificationTemplates(notificationTemplates, applicationUuid, tenantId);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("%d notification templates for application: %s for tenant: %s successfully " +
+                    "added.", notificationTemplates.size(), applicationUuid, tenantDomain));
+        }
+    }
+
     @Override
     public boolean isNotificationTemplateExists(String displayName, String locale, String notificationChannel,
                                                 String applicationUuid, String tenantDomain)
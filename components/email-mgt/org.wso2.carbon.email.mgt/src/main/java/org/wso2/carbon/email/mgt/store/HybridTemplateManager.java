@@ -20,6 +20,7 @@ package org.wso2.carbon.email.mgt.store;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.email.mgt.store.migration.NotificationTemplateMigrationStateManager;
 import org.wso2.carbon.identity.governance.exceptions.notiification.NotificationTemplateManagerServerException;
 import org.wso2.carbon.identity.governance.model.NotificationTemplate;
 
@@ -33,6 +34,10 @@ import java.util.Set;
  *
  * Any new notification templates will be stored in database by using {@link DBBasedTemplateManager} while reading any
  * existing templates by using both {@link DBBasedTemplateManager} & {@link RegistryBasedTemplateManager}.
+ *
+ * Tenants whose registry templates are migrated to the database by the
+ * {@link org.wso2.carbon.email.mgt.store.migration.NotificationTemplateMigrationJob} are served only by
+ * {@link DBBasedTemplateManager}.
  */
 public class HybridTemplateManager implements TemplatePersistenceManager {
 
@@ -40,6 +45,8 @@ public class HybridTemplateManager implements TemplatePersistenceManager {
 
     private TemplatePersistenceManager dbBasedTemplateManager = new DBBasedTemplateManager();
     private TemplatePersistenceManager registryBasedTemplateManager = new RegistryBasedTemplateManager();
+    private NotificationTemplateMigrationStateManager migrationStateManager =
+            new NotificationTemplateMigrationStateManager();
 
     @Override
     public void addNotificationTemplateType(String displayName, String notificationChannel, String tenantDomain)
@@ -53,9 +60,9 @@ public class HybridTemplateManager implements TemplatePersistenceManager {
             throws NotificationTemplateManagerServerException {
 
         return dbBasedTemplateManager.isNotificationTemplateTypeExists(displayName, notificationChannel,
-                tenantDomain) ||
+                tenantDomain) || (isRegistryLookupRequired(tenantDomain) &&
                 registryBasedTemplateManager.isNotificationTemplateTypeExists(displayName, notificationChannel,
-                        tenantDomain);
+                        tenantDomain));
     }
 
     @Override
@@ -64,6 +71,9 @@ public class HybridTemplateManager implements TemplatePersistenceManager {
 
         List<String> dbBasedTemplateTypes = dbBasedTemplateManager.listNotificationTemplateTypes(notificationChannel,
                 tenantDomain);
+        if (!isRegistryLookupRequired(tenantDomain)) {
+            return dbBasedTemplateTypes;
+        }
         List<String> registryBasedTemplateTypes = registryBasedTemplateManager.listNotificationTemplateTypes(notificationChannel,
                 tenantDomain);
 
@@ -78,8 +88,9 @@ public class HybridTemplateManager implements TemplatePersistenceManager {
             dbBasedTemplateManager.deleteNotificationTemplateType(displayName, notificationChannel, tenantDomain);
         }
 
-        if (registryBasedTemplateManager.isNotificationTemplateTypeExists(displayName, notificationChannel,
-                tenantDomain)) {
+        if (isRegistryLookupRequired(tenantDomain) &&
+                registryBasedTemplateManager.isNotificationTemplateTypeExists(displayName, notificationChannel,
+                        tenantDomain)) {
             registryBasedTemplateManager.deleteNotificationTemplateType(displayName, notificationChannel, tenantDomain);
         }
     }
@@ -92,8 +103,9 @@ public class HybridTemplateManager implements TemplatePersistenceManager {
             dbBasedTemplateManager.deleteAllNotificationTemplates(displayName, notificationChannel, tenantDomain);
         }
 
-        if (registryBasedTemplateManager.isNotificationTemplateTypeExists(displayName, notificationChannel,
-                tenantDomain)) {
+        if (isRegistryLookupRequired(tenantDomain) &&
+                registryBasedTemplateManager.isNotificationTemplateTypeExists(displayName, notificationChannel,
+                        tenantDomain)) {
             registryBasedTemplateManager.deleteAllNotificationTemplates(displayName, notificationChannel, tenantDomain);
         }
     }
@@ -106,8 +118,12 @@ public class HybridTemplateManager implements TemplatePersistenceManager {
         String locale = notificationTemplate.getLocale();
         String notificationChannel = notificationTemplate.getNotificationChannel();
 
-        if (registryBasedTemplateManager.isNotificationTemplateExists(displayName, locale, notificationChannel,
-                applicationUuid, tenantDomain)) {
+        // A template already copied to the database is updated there, as reads are served from the database first.
+        if (isRegistryLookupRequired(tenantDomain) &&
+                !dbBasedTemplateManager.isNotificationTemplateExists(displayName, locale, notificationChannel,
+                        applicationUuid, tenantDomain) &&
+                registryBasedTemplateManager.isNotificationTemplateExists(displayName, locale, notificationChannel,
+                        applicationUuid, tenantDomain)) {
 
             registryBasedTemplateManager.addOrUpdateNotificationTemplate(notificationTemplate, applicationUuid,
                     tenantDomain);
@@ -131,9 +147,9 @@ public class HybridTemplateManager implements TemplatePersistenceManager {
             throws NotificationTemplateManagerServerException {
 
         return dbBasedTemplateManager.isNotificationTemplateExists(displayName, locale, notificationChannel,
-                applicationUuid, tenantDomain) ||
+                applicationUuid, tenantDomain) || (isRegistryLookupRequired(tenantDomain) &&
                 registryBasedTemplateManager.isNotificationTemplateExists(displayName, locale, notificationChannel,
-                        applicationUuid, tenantDomain);
+                        applicationUuid, tenantDomain));
     }
 
     @Override
@@ -141,14 +157,14 @@ public class HybridTemplateManager implements TemplatePersistenceManager {
                                                         String applicationUuid, String tenantDomain)
             throws NotificationTemplateManagerServerException {
 
-        if (dbBasedTemplateManager.isNotificationTemplateExists(displayName, locale, notificationChannel,
-                applicationUuid, tenantDomain)) {
-            return dbBasedTemplateManager.getNotificationTemplate(displayName, locale, notificationChannel,
-                    applicationUuid, tenantDomain);
-        } else {
-            return registryBasedTemplateManager.getNotificationTemplate(displayName, locale, notificationChannel,
-                    applicationUuid, tenantDomain);
+        // A template not found in the database is looked up in the registry, without a separate existence check.
+        NotificationTemplate notificationTemplate = dbBasedTemplateManager.getNotificationTemplate(displayName,
+                locale, notificationChannel, applicationUuid, tenantDomain);
+        if (notificationTemplate != null || !isRegistryLookupRequired(tenantDomain)) {
+            return notificationTemplate;
         }
+        return registryBasedTemplateManager.getNotificationTemplate(displayName, locale, notificationChannel,
+                applicationUuid, tenantDomain);
     }
 
     @Override
@@ -164,6 +180,10 @@ public class HybridTemplateManager implements TemplatePersistenceManager {
                             tenantDomain);
         }
 
+        if (!isRegistryLookupRequired(tenantDomain)) {
+            return dbBasedTemplates;
+        }
+
         List<NotificationTemplate> registryBasedTemplates = new ArrayList<>();
         if (registryBasedTemplateManager.isNotificationTemplateTypeExists(templateType, notificationChannel,
                 tenantDomain)) {
@@ -181,6 +201,10 @@ public class HybridTemplateManager implements TemplatePersistenceManager {
 
         List<NotificationTemplate> dbBasedTemplates =
                 dbBasedTemplateManager.listAllNotificationTemplates(notificationChannel, tenantDomain);
+        if (!isRegistryLookupRequired(tenantDomain)) {
+            return dbBasedTemplates;
+        }
+
         List<NotificationTemplate> registryBasedTemplates =
                 registryBasedTemplateManager.listAllNotificationTemplates(notificationChannel, tenantDomain);
 
@@ -192,11 +216,19 @@ public class HybridTemplateManager implements TemplatePersistenceManager {
                                            String applicationUuid, String tenantDomain)
             throws NotificationTemplateManagerServerException {
 
-        if (dbBasedTemplateManager.isNotificationTemplateExists(displayName, locale, notificationChannel,
-                applicationUuid, tenantDomain)) {
+        boolean existsInDatabase = dbBasedTemplateManager.isNotificationTemplateExists(displayName, locale,
+                notificationChannel, applicationUuid, tenantDomain);
+        if (existsInDatabase) {
             dbBasedTemplateManager.deleteNotificationTemplate(displayName, locale, notificationChannel, applicationUuid,
                     tenantDomain);
-        } else {
+        }
+        if (!isRegistryLookupRequired(tenantDomain)) {
+            return;
+        }
+        // A template copied to the database by an ongoing migration is deleted from both stores, so that the
+        // registry copy does not resurface.
+        if (!existsInDatabase || registryBasedTemplateManager.isNotificationTemplateExists(displayName, locale,
+                notificationChannel, applicationUuid, tenantDomain)) {
             registryBasedTemplateManager.deleteNotificationTemplate(displayName, locale, notificationChannel,
                     applicationUuid, tenantDomain);
         }
@@ -211,13 +243,27 @@ public class HybridTemplateManager implements TemplatePersistenceManager {
                     tenantDomain);
         }
 
-        if (registryBasedTemplateManager.isNotificationTemplateTypeExists(displayName, notificationChannel,
-                tenantDomain)) {
+        if (isRegistryLookupRequired(tenantDomain) &&
+                registryBasedTemplateManager.isNotificationTemplateTypeExists(displayName, notificationChannel,
+                        tenantDomain)) {
             registryBasedTemplateManager.deleteNotificationTemplates(displayName, notificationChannel, applicationUuid,
                     tenantDomain);
         }
     }
 
+    /**
+     * Check whether the registry has to be consulted for the tenant, which is the case until the registry templates
+     * of the tenant are migrated to the database.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return True if the registry templates of the tenant are not migrated yet.
+     * @throws NotificationTemplateManagerServerException If an error occurred while reading the migration state.
+     */
+    private boolean isRegistryLookupRequired(String tenantDomain) throws NotificationTemplateManagerServerException {
+
+        return !migrationStateManager.isTenantMigrated(tenantDomain);
+    }
+
     /**
      * Merges two lists and removes duplicates.
      *
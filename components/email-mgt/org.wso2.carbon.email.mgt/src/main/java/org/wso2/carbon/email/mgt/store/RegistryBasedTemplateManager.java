@@ -23,6 +23,7 @@ import com.google.gson.JsonSyntaxException;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.email.mgt.cache.NotificationTemplateVersionCache;
 import org.wso2.carbon.email.mgt.constants.I18nMgtConstants;
 import org.wso2.carbon.email.mgt.exceptions.I18nEmailMgtException;
 import org.wso2.carbon.email.mgt.internal.I18nMgtDataHolder;
@@ -30,6 +31,7 @@ import org.wso2.carbon.email.mgt.model.EmailTemplate;
 import org.wso2.carbon.email.mgt.util.I18nEmailUtil;
 import org.wso2.carbon.identity.base.IdentityRuntimeException;
 import org.wso2.carbon.identity.core.persistence.registry.RegistryResourceMgtService;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.governance.IdentityMgtConstants;
 import org.wso2.carbon.identity.governance.exceptions.notiification.NotificationTemplateManagerException;
 import org.wso2.carbon.identity.governance.exceptions.notiification.NotificationTemplateManagerServerException;
@@ -132,6 +134,8 @@ public class RegistryBasedTemplateManager implements TemplatePersistenceManager
         } catch (IdentityRuntimeException e) {
             throw new NotificationTemplateManagerServerException("Error while deleting notification template type.", e);
         }
+
+        invalidateTemplateVersion(tenantDomain);
     }
 
     @Override
@@ -160,6 +164,8 @@ public class RegistryBasedTemplateManager implements TemplatePersistenceManager
         } catch (IdentityRuntimeException e) {
             throw new NotificationTemplateManagerServerException("Error while adding notification template.", e);
         }
+
+        invalidateTemplateVersion(tenantDomain);
     }
 
     @Override
@@ -264,6 +270,8 @@ public class RegistryBasedTemplateManager implements TemplatePersistenceManager
                     locale, tenantDomain);
             throw new NotificationTemplateManagerServerException(msg, e);
         }
+
+        invalidateTemplateVersion(tenantDomain);
     }
 
     @Override
@@ -294,6 +302,8 @@ public class RegistryBasedTemplateManager implements TemplatePersistenceManager
         } catch (IdentityRuntimeException | RegistryException e) {
             throw new NotificationTemplateManagerServerException("Error while deleting notification templates.", e);
         }
+
+        invalidateTemplateVersion(tenantDomain);
     }
 
     @Override
@@ -311,6 +321,91 @@ public class RegistryBasedTemplateManager implements TemplatePersistenceManager
         } catch (IdentityRuntimeException | RegistryException e) {
             throw new NotificationTemplateManagerServerException("Error while deleting notification templates.", e);
         }
+
+        invalidateTemplateVersion(tenantDomain);
+    }
+
+    /**
+     * List the UUIDs of the applications having notification templates of the given template type.
+     *
+     * @param displayName         Notification template type display name.
+     * @param notificationChannel Notification channel.
+     * @param tenantDomain        Tenant domain.
+     * @return UUIDs of the applications having templates of the template type.
+     * @throws NotificationTemplateManagerServerException If an error occurred while reading the registry.
+     */
+    public List<String> listApplicationsWithNotificationTemplates(String displayName, String notificationChannel,
+                                                                  String tenantDomain)
+            throws NotificationTemplateManagerServerException {
+
+        List<String> applicationUuids = new ArrayList<>();
+        if (NotificationChannels.SMS_CHANNEL.getChannelType().equals(notificationChannel)) {
+            // Application specific templates are only supported for the email channel.
+            return applicationUuids;
+        }
+
+        String path = buildTemplateRootDirectoryPath(I18nEmailUtil.getNormalizedName(displayName),
+                notificationChannel) + APP_TEMPLATE_PATH;
+        try {
+            Collection applications = (Collection) resourceMgtService.getIdentityResource(path, tenantDomain);
+            if (applications == null) {
+                return applicationUuids;
+            }
+            for (String applicationPath : applications.getChildren()) {
+                applicationUuids.add(applicationPath.substring(applicationPath.lastIndexOf(PATH_SEPARATOR) + 1));
+            }
+        } catch (IdentityRuntimeException | RegistryException e) {
+            String error = "Error while listing the applications of '%s' template type from %s tenant registry.";
+            throw new NotificationTemplateManagerServerException(String.format(error, displayName, tenantDomain), e);
+        }
+        return applicationUuids;
+    }
+
+    /**
+     * Get the time the notification templates of a channel last changed in the tenant registry. This is the latest
+     * modification time of the template collections and the template resources under them.
+     *
+     * @param notificationChannel Notification channel.
+     * @param tenantDomain        Tenant domain.
+     * @return Last modified time in milliseconds, or 0 if the tenant has no templates of the channel.
+     * @throws NotificationTemplateManagerServerException If an error occurred while reading the registry.
+     */
+    public long getNotificationTemplatesLastModified(String notificationChannel, String tenantDomain)
+            throws NotificationTemplateManagerServerException {
+
+        try {
+            return getLastModified(buildTemplateRootDirectoryPath(notificationChannel), tenantDomain);
+        } catch (IdentityRuntimeException | RegistryException e) {
+            String error = "Error while reading the last modified time of %s templates from %s tenant registry.";
+            throw new NotificationTemplateManagerServerException(String.format(error, notificationChannel,
+                    tenantDomain), e);
+        }
+    }
+
+    private long getLastModified(String path, String tenantDomain) throws RegistryException {
+
+        Resource resource = resourceMgtService.getIdentityResource(path, tenantDomain);
+        if (resource == null) {
+            return 0;
+        }
+        long lastModified = resource.getLastModified() != null ? resource.getLastModified().getTime() : 0;
+        if (resource instanceof Collection) {
+            for (String childPath : ((Collection) resource).getChildren()) {
+                lastModified = Math.max(lastModified, getLastModified(childPath, tenantDomain));
+            }
+        }
+        return lastModified;
+    }
+
+    /**
+     * Invalidate the notification template version of the given tenant, so that the templates resolved through its
+     * organization hierarchy are resolved again.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    private void invalidateTemplateVersion(String tenantDomain) {
+
+        NotificationTemplateVersionCache.getInstance().invalidate(IdentityTenantUtil.getTenantId(tenantDomain));
     }
 
     /**
@@ -20,6 +20,8 @@ package org.wso2.carbon.email.mgt.store;
 
 import org.apache.commons.lang.StringUtils;
 import org.wso2.carbon.email.mgt.internal.I18nMgtDataHolder;
+import org.wso2.carbon.email.mgt.model.NotificationTemplateSource;
+import org.wso2.carbon.email.mgt.model.ResolvedNotificationTemplate;
 import org.wso2.carbon.identity.governance.exceptions.notiification.NotificationTemplateManagerServerException;
 import org.wso2.carbon.identity.governance.model.NotificationTemplate;
 import org.wso2.carbon.identity.governance.service.notification.NotificationChannels;
@@ -176,6 +178,32 @@ public class SystemDefaultTemplateManager implements TemplatePersistenceManager
 
     }
 
+    /**
+     * Resolves the system default notification template. System default templates apply to all applications, hence
+     * the application UUID is not considered.
+     *
+     * @param displayName         The display name of the template.
+     * @param locale              The locale of the template.
+     * @param notificationChannel The channel of the notification (e.g., Email, SMS).
+     * @param applicationUuid     The application UUID.
+     * @param tenantDomain        The tenant domain.
+     * @return The resolved system default template, or null if no such template is found.
+     * @throws NotificationTemplateManagerServerException if an error occurs during the operation.
+     */
+    @Override
+    public ResolvedNotificationTemplate resolveNotificationTemplate(String displayName, String locale,
+                                                                    String notificationChannel,
+                                                                    String applicationUuid, String tenantDomain)
+            throws NotificationTemplateManagerServerException {
+
+        NotificationTemplate notificationTemplate =
+                getNotificationTemplate(displayName, locale, notificationChannel, null, tenantDomain);
+        if (notificationTemplate == null) {
+            return null;
+        }
+        return new ResolvedNotificationTemplate(notificationTemplate, NotificationTemplateSource.SYSTEM_DEFAULT);
+    }
+
     /**
      * Lists all notification templates of a specific type for a given channel in the in-memory store.
      *
@@ -18,6 +18,9 @@
 
 package org.wso2.carbon.email.mgt.store;
 
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.email.mgt.model.NotificationTemplateSource;
+import org.wso2.carbon.email.mgt.model.ResolvedNotificationTemplate;
 import org.wso2.carbon.identity.governance.exceptions.notiification.NotificationTemplateManagerServerException;
 import org.wso2.carbon.identity.governance.model.NotificationTemplate;
 
@@ -127,6 +130,38 @@ public interface TemplatePersistenceManager {
                                                  String applicationUuid, String tenantDomain)
             throws NotificationTemplateManagerServerException;
 
+    /**
+     * Resolve the notification template to use for the given application, falling back to the organization
+     * template, in a single pass. The level the template was found at is reported with the template.
+     *
+     * @param displayName           Display Name.
+     * @param locale                Locale of the template.
+     * @param notificationChannel   Notification channel.
+     * @param applicationUuid       Application UUID, or null to resolve the organization template.
+     * @param tenantDomain          Tenant domain.
+     * @return Resolved notification template, or null if no template is found.
+     * @throws NotificationTemplateManagerServerException If an error occurred while retrieving the template.
+     */
+    default ResolvedNotificationTemplate resolveNotificationTemplate(String displayName, String locale,
+                                                                     String notificationChannel,
+                                                                     String applicationUuid, String tenantDomain)
+            throws NotificationTemplateManagerServerException {
+
+        if (StringUtils.isNotBlank(applicationUuid)) {
+            NotificationTemplate appTemplate = getNotificationTemplate(displayName, locale, notificationChannel,
+                    applicationUuid, tenantDomain);
+            if (appTemplate != null) {
+                return new ResolvedNotificationTemplate(appTemplate, NotificationTemplateSource.APPLICATION);
+            }
+        }
+        NotificationTemplate orgTemplate = getNotificationTemplate(displayName, locale, notificationChannel, null,
+                tenantDomain);
+        if (orgTemplate == null) {
+            return null;
+        }
+        return new ResolvedNotificationTemplate(orgTemplate, NotificationTemplateSource.ORGANIZATION);
+    }
+
     /**
      * Get the list of notification templates for given template type, channel, application and tenant.
      *
@@ -20,7 +20,12 @@ package org.wso2.carbon.email.mgt.store;
 
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.email.mgt.cache.EffectiveNotificationTemplateCache;
+import org.wso2.carbon.email.mgt.cache.NotificationTemplateVersionCache;
+import org.wso2.carbon.email.mgt.cache.OrganizationResolutionCache;
 import org.wso2.carbon.email.mgt.internal.I18nMgtDataHolder;
+import org.wso2.carbon.email.mgt.model.ResolvedNotificationTemplate;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.LambdaExceptionUtils;
 import org.wso2.carbon.identity.governance.exceptions.notiification.NotificationTemplateManagerServerException;
 import org.wso2.carbon.identity.governance.model.NotificationTemplate;
@@ -35,6 +40,7 @@ import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -72,8 +78,7 @@ public class UnifiedTemplateManager implements TemplatePersistenceManager {
         }
 
         try {
-            OrganizationManager organizationManager = I18nMgtDataHolder.getInstance().getOrganizationManager();
-            String organizationId = organizationManager.resolveOrganizationId(tenantDomain);
+            String organizationId = resolveOrganizationId(tenantDomain);
 
             OrgResourceResolverService orgResourceResolverService =
                     I18nMgtDataHolder.getInstance().getOrgResourceResolverService();
@@ -100,8 +105,7 @@ public class UnifiedTemplateManager implements TemplatePersistenceManager {
 
         List<String> dbBasedTemplateTypes;
         try {
-            OrganizationManager organizationManager = I18nMgtDataHolder.getInstance().getOrganizationManager();
-            String organizationId = organizationManager.resolveOrganizationId(tenantDomain);
+            String organizationId = resolveOrganizationId(tenantDomain);
 
             OrgResourceResolverService orgResourceResolverService =
                     I18nMgtDataHolder.getInstance().getOrgResourceResolverService();
@@ -181,8 +185,7 @@ public class UnifiedTemplateManager implements TemplatePersistenceManager {
         }
 
         try {
-            OrganizationManager organizationManager = I18nMgtDataHolder.getInstance().getOrganizationManager();
-            String organizationId = organizationManager.resolveOrganizationId(tenantDomain);
+            String organizationId = resolveOrganizationId(tenantDomain);
 
             OrgResourceResolverService orgResourceResolverService =
                     I18nMgtDataHolder.getInstance().getOrgResourceResolverService();
@@ -211,19 +214,42 @@ public class UnifiedTemplateManager implements TemplatePersistenceManager {
                                                         String applicationUuid, String tenantDomain)
             throws NotificationTemplateManagerServerException {
 
-        NotificationTemplate notificationTemplate;
+        ResolvedNotificationTemplate resolvedTemplate = resolveNotificationTemplate(displayName, locale,
+                notificationChannel, applicationUuid, tenantDomain);
+        return resolvedTemplate != null ? resolvedTemplate.getNotificationTemplate() : null;
+    }
+
+    @Override
+    public ResolvedNotificationTemplate resolveNotificationTemplate(String displayName, String locale,
+                                                                    String notificationChannel,
+                                                                    String applicationUuid, String tenantDomain)
+            throws NotificationTemplateManagerServerException {
+
+        EffectiveNotificationTemplateCache effectiveTemplateCache = EffectiveNotificationTemplateCache.getInstance();
+        Optional<ResolvedNotificationTemplate> effectiveTemplate = effectiveTemplateCache.getTemplate(tenantDomain,
+                applicationUuid, displayName, locale, notificationChannel);
+        if (effectiveTemplate != null) {
+            if (effectiveTemplate.isPresent()) {
+                return effectiveTemplate.get();
+            }
+            return systemDefaultTemplateManager.resolveNotificationTemplate(displayName, locale, notificationChannel,
+                    null, tenantDomain);
+        }
+
+        ResolvedNotificationTemplate resolvedTemplate;
+        // Template version stamps of the organizations visited while resolving the template.
+        Map<Integer, Long> templateVersions = new LinkedHashMap<>();
         try {
-            OrganizationManager organizationManager = I18nMgtDataHolder.getInstance().getOrganizationManager();
-            String organizationId = organizationManager.resolveOrganizationId(tenantDomain);
+            String organizationId = resolveOrganizationId(tenantDomain);
 
             OrgAppResourceResolverService orgAppResourceResolverService =
                     I18nMgtDataHolder.getInstance().getOrgAppResourceResolverService();
-            notificationTemplate = orgAppResourceResolverService.getResourcesFromOrgHierarchy(
+            resolvedTemplate = orgAppResourceResolverService.getResourcesFromOrgHierarchy(
                     organizationId,
                     applicationUuid,
                     LambdaExceptionUtils.rethrowFunction(
                             (orgId, appId) -> notificationTemplateRetriever(displayName, locale, notificationChannel,
-                                    orgId, appId)),
+                                    orgId, appId, !StringUtils.equals(organizationId, orgId), templateVersions)),
                     new FirstFoundAggregationStrategy<>());
         } catch (OrganizationManagementException | OrgResourceHierarchyTraverseException e) {
             String errorMsg = String.format(
@@ -234,11 +260,13 @@ public class UnifiedTemplateManager implements TemplatePersistenceManager {
             }
             throw new NotificationTemplateManagerServerException(errorMsg, e);
         }
+        effectiveTemplateCache.addTemplate(tenantDomain, applicationUuid, displayName, locale, notificationChannel,
+                resolvedTemplate, templateVersions);
 
-        if (notificationTemplate != null) {
-            return notificationTemplate;
+        if (resolvedTemplate != null) {
+            return resolvedTemplate;
         } else {
-            return systemDefaultTemplateManager.getNotificationTemplate(displayName, locale, notificationChannel,
+            return systemDefaultTemplateManager.resolveNotificationTemplate(displayName, locale, notificationChannel,
                     null, tenantDomain);
         }
     }
@@ -250,8 +278,7 @@ public class UnifiedTemplateManager implements TemplatePersistenceManager {
 
         List<NotificationTemplate> dbBasedTemplates;
         try {
-            OrganizationManager organizationManager = I18nMgtDataHolder.getInstance().getOrganizationManager();
-            String organizationId = organizationManager.resolveOrganizationId(tenantDomain);
+            String organizationId = resolveOrganizationId(tenantDomain);
 
             OrgAppResourceResolverService orgAppResourceResolverService =
                     I18nMgtDataHolder.getInstance().getOrgAppResourceResolverService();
@@ -289,8 +316,7 @@ public class UnifiedTemplateManager implements TemplatePersistenceManager {
 
         List<NotificationTemplate> dbBasedTemplates;
         try {
-            OrganizationManager organizationManager = I18nMgtDataHolder.getInstance().getOrganizationManager();
-            String organizationId = organizationManager.resolveOrganizationId(tenantDomain);
+            String organizationId = resolveOrganizationId(tenantDomain);
 
             OrgResourceResolverService orgResourceResolverService =
                     I18nMgtDataHolder.getInstance().getOrgResourceResolverService();
@@ -388,8 +414,7 @@ public class UnifiedTemplateManager implements TemplatePersistenceManager {
                                                                          String orgId)
             throws NotificationTemplateManagerServerException, OrganizationManagementException {
 
-        OrganizationManager organizationManager = I18nMgtDataHolder.getInstance().getOrganizationManager();
-        String tenantDomainOfOrg = organizationManager.resolveTenantDomain(orgId);
+        String tenantDomainOfOrg = resolveTenantDomain(orgId);
 
         boolean templateTypeExists =
                 templatePersistenceManager.isNotificationTemplateTypeExists(displayName, notificationChannel,
@@ -405,8 +430,7 @@ public class UnifiedTemplateManager implements TemplatePersistenceManager {
                                                                      String orgId)
             throws NotificationTemplateManagerServerException, OrganizationManagementException {
 
-        OrganizationManager organizationManager = I18nMgtDataHolder.getInstance().getOrganizationManager();
-        String tenantDomainOfOrg = organizationManager.resolveTenantDomain(orgId);
+        String tenantDomainOfOrg = resolveTenantDomain(orgId);
 
         boolean templateExists =
                 templatePersistenceManager.isNotificationTemplateExists(displayName, locale, notificationChannel, appId,
@@ -420,28 +444,33 @@ public class UnifiedTemplateManager implements TemplatePersistenceManager {
     private Optional<List<String>> notificationTemplateTypesRetriever(String notificationChannel, String orgId)
             throws NotificationTemplateManagerServerException, OrganizationManagementException {
 
-        OrganizationManager organizationManager = I18nMgtDataHolder.getInstance().getOrganizationManager();
-        String tenantDomainOfOrg = organizationManager.resolveTenantDomain(orgId);
+        String tenantDomainOfOrg = resolveTenantDomain(orgId);
         List<String> notificationTemplates =
                 templatePersistenceManager.listNotificationTemplateTypes(notificationChannel, tenantDomainOfOrg);
         return Optional.ofNullable(notificationTemplates);
     }
 
-    private Optional<NotificationTemplate> notificationTemplateRetriever(String displayName, String locale,
-                                                                         String notificationChannel, String orgId,
-                                                                         String appId)
+    private Optional<ResolvedNotificationTemplate> notificationTemplateRetriever(String displayName, String locale,
+                                                                                 String notificationChannel,
+                                                                                 String orgId, String appId,
+                                                                                 boolean inherited,
+                                                                                 Map<Integer, Long> templateVersions)
             throws OrganizationManagementException, NotificationTemplateManagerServerException {
 
-        OrganizationManager organizationManager = I18nMgtDataHolder.getInstance().getOrganizationManager();
-        String tenantDomainOfOrg = organizationManager.resolveTenantDomain(orgId);
-        NotificationTemplate template =
-                templatePersistenceManager.getNotificationTemplate(displayName, locale, notificationChannel, appId,
+        String tenantDomainOfOrg = resolveTenantDomain(orgId);
+        // The version stamp is taken before the templates are read, so a change made while reading them invalidates
+        // the resolved template.
+        int tenantIdOfOrg = IdentityTenantUtil.getTenantId(tenantDomainOfOrg);
+        templateVersions.computeIfAbsent(tenantIdOfOrg,
+                tenantId -> NotificationTemplateVersionCache.getInstance().getVersion(tenantId));
+        ResolvedNotificationTemplate resolvedTemplate =
+                templatePersistenceManager.resolveNotificationTemplate(displayName, locale, notificationChannel, appId,
                         tenantDomainOfOrg);
-        if (template == null && StringUtils.isNotBlank(appId)) {
-            template = templatePersistenceManager.getNotificationTemplate(displayName, locale, notificationChannel,
-                    null, tenantDomainOfOrg);
+        if (resolvedTemplate == null) {
+            return Optional.empty();
         }
-        return Optional.ofNullable(template);
+        return Optional.of(new ResolvedNotificationTemplate(resolvedTemplate.getNotificationTemplate(),
+                resolvedTemplate.getSource(), inherited));
     }
 
     private Optional<List<NotificationTemplate>> notificationTemplatesRetriever(String templateType,
@@ -449,8 +478,7 @@ public class UnifiedTemplateManager implements TemplatePersistenceManager {
                                                                                 String orgId, String appId)
             throws OrganizationManagementException, NotificationTemplateManagerServerException {
 
-        OrganizationManager organizationManager = I18nMgtDataHolder.getInstance().getOrganizationManager();
-        String tenantDomainOfOrg = organizationManager.resolveTenantDomain(orgId);
+        String tenantDomainOfOrg = resolveTenantDomain(orgId);
         if (templatePersistenceManager.isNotificationTemplateTypeExists(templateType,
                 notificationChannel, tenantDomainOfOrg)) {
             List<NotificationTemplate> notificationTemplates =
@@ -472,10 +500,33 @@ public class UnifiedTemplateManager implements TemplatePersistenceManager {
                                                                                    String orgId)
             throws OrganizationManagementException, NotificationTemplateManagerServerException {
 
-        OrganizationManager organizationManager = I18nMgtDataHolder.getInstance().getOrganizationManager();
-        String tenantDomainOfOrg = organizationManager.resolveTenantDomain(orgId);
+        String tenantDomainOfOrg = resolveTenantDomain(orgId);
         List<NotificationTemplate> notificationTemplates =
                 templatePersistenceManager.listAllNotificationTemplates(notificationChannel, tenantDomainOfOrg);
         return Optional.ofNullable(notificationTemplates);
     }
+
+    private String resolveOrganizationId(String tenantDomain) throws OrganizationManagementException {
+
+        OrganizationResolutionCache organizationResolutionCache = OrganizationResolutionCache.getInstance();
+        String organizationId = organizationResolutionCache.getOrganizationId(tenantDomain);
+        if (organizationId == null) {
+            OrganizationManager organizationManager = I18nMgtDataHolder.getInstance().getOrganizationManager();
+            organizationId = organizationManager.resolveOrganizationId(tenantDomain);
+            organizationResolutionCache.addOrganizationId(tenantDomain, organizationId);
+        }
+        return organizationId;
+    }
+
+    private String resolveTenantDomain(String orgId) throws OrganizationManagementException {
+
+        OrganizationResolutionCache organizationResolutionCache = OrganizationResolutionCache.getInstance();
+        String tenantDomain = organizationResolutionCache.getTenantDomain(orgId);
+        if (tenantDomain == null) {
+            OrganizationManager organizationManager = I18nMgtDataHolder.getInstance().getOrganizationManager();
+            tenantDomain = organizationManager.resolveTenantDomain(orgId);
+            organizationResolutionCache.addTenantDomain(orgId, tenantDomain);
+        }
+        return tenantDomain;
+    }
 }
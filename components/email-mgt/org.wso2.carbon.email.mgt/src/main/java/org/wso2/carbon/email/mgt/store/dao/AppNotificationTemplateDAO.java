@@ -58,6 +58,7 @@ import static org.wso2.carbon.email.mgt.util.I18nEmailUtil.CALENDER;
 import static org.wso2.carbon.email.mgt.util.I18nEmailUtil.getContentByteArray;
 import static org.wso2.carbon.email.mgt.util.I18nEmailUtil.getCurrentTime;
 import static org.wso2.carbon.email.mgt.util.I18nEmailUtil.setContent;
+import static org.wso2.carbon.email.mgt.util.NotificationTemplateContentCodec.getSchemaVersion;
 
 /**
  * This class is to perform CRUD operations for Application NotificationTemplates.
@@ -72,7 +73,8 @@ public class AppNotificationTemplateDAO {
         String channelName = notificationTemplate.getNotificationChannel();
 
         NamedJdbcTemplate namedJdbcTemplate = JdbcUtils.getNewNamedJdbcTemplate();
-        byte[] contentByteArray = getContentByteArray(notificationTemplate);
+        String schemaVersion = getSchemaVersion(APP_TEMPLATE_SCHEMA_VERSION);
+        byte[] contentByteArray = getContentByteArray(notificationTemplate, schemaVersion);
         int contentLength = contentByteArray.length;
         try (InputStream contentStream = new ByteArrayInputStream(contentByteArray)) {
             namedJdbcTemplate.executeInsert(INSERT_APP_NOTIFICATION_TEMPLATE_SQL, (preparedStatement -> {
@@ -89,7 +91,7 @@ public class AppNotificationTemplateDAO {
                 Timestamp currentTime = getCurrentTime();
                 preparedStatement.setTimeStamp(CREATED_AT, currentTime, CALENDER);
                 preparedStatement.setTimeStamp(UPDATED_AT, currentTime, CALENDER);
-                preparedStatement.setString(VERSION, APP_TEMPLATE_SCHEMA_VERSION);
+                preparedStatement.setString(VERSION, schemaVersion);
             }), notificationTemplate, false);
         } catch (DataAccessException e) {
             String error =
@@ -101,6 +103,52 @@ public class AppNotificationTemplateDAO {
         }
     }
 
+    /**
+     * Add a set of notification templates of an application in a single JDBC batch.
+     *
+     * @param notificationTemplates Notification templates to be added.
+     * @param applicationUuid       Application UUID.
+     * @param tenantId              Tenant id.
+     * @throws NotificationTemplateManagerServerException If an error occurred while adding the templates.
+     */
+    public void addNotificationTemplates(List<NotificationTemplate> notificationTemplates, String applicationUuid,
+                                         int tenantId) throws NotificationTemplateManagerServerException {
+
+        if (notificationTemplates == null || notificationTemplates.isEmpty()) {
+            return;
+        }
+
+        NamedJdbcTemplate namedJdbcTemplate = JdbcUtils.getNewNamedJdbcTemplate();
+        String schemaVersion = getSchemaVersion(APP_TEMPLATE_SCHEMA_VERSION);
+        try {
+            namedJdbcTemplate.executeBatchInsert(INSERT_APP_NOTIFICATION_TEMPLATE_SQL, (preparedStatement -> {
+                Timestamp currentTime = getCurrentTime();
+                for (NotificationTemplate notificationTemplate : notificationTemplates) {
+                    String locale = notificationTemplate.getLocale();
+                    byte[] contentByteArray = getContentByteArray(notificationTemplate, schemaVersion);
+                    preparedStatement.setString(TEMPLATE_KEY, locale.toLowerCase());
+                    preparedStatement.setString(LOCALE, locale);
+                    preparedStatement.setBinaryStream(CONTENT, new ByteArrayInputStream(contentByteArray),
+                            contentByteArray.length);
+                    preparedStatement.setString(CONTENT_TYPE, notificationTemplate.getContentType());
+                    preparedStatement.setString(TYPE_KEY, notificationTemplate.getDisplayName().toLowerCase());
+                    preparedStatement.setString(CHANNEL, notificationTemplate.getNotificationChannel());
+                    preparedStatement.setInt(TENANT_ID, tenantId);
+                    preparedStatement.setString(APP_ID, applicationUuid);
+                    preparedStatement.setInt(TENANT_ID, tenantId);
+                    preparedStatement.setTimeStamp(CREATED_AT, currentTime, CALENDER);
+                    preparedStatement.setTimeStamp(UPDATED_AT, currentTime, CALENDER);
+                    preparedStatement.setString(VERSION, schemaVersion);
+                    preparedStatement.addBatch();
+                }
+            }), null);
+        } catch (DataAccessException e) {
+            String error = String.format("Error while adding a batch of %d notification templates to application " +
+                    "%s in %s tenant.", notificationTemplates.size(), applicationUuid, tenantId);
+            throw new NotificationTemplateManagerServerException(error, e);
+        }
+    }
+
     public NotificationTemplate getNotificationTemplate(String locale, String templateType, String channelName,
                                                         String applicationUuid, int tenantId)
             throws NotificationTemplateManagerServerException {
@@ -112,7 +160,8 @@ public class AppNotificationTemplateDAO {
             notificationTemplate = namedJdbcTemplate.fetchSingleRecord(GET_APP_NOTIFICATION_TEMPLATE_SQL,
                     (resultSet, rowNumber) -> {
                         NotificationTemplate notificationTemplateResult = new NotificationTemplate();
-                        setContent(resultSet.getBinaryStream(CONTENT), notificationTemplateResult);
+                        String schemaVersion = resultSet.getString(VERSION);
+                        setContent(resultSet.getBinaryStream(CONTENT), schemaVersion, notificationTemplateResult);
                         notificationTemplateResult.setContentType(resultSet.getString(CONTENT_TYPE));
                         notificationTemplateResult.setLocale(locale);
                         notificationTemplateResult.setType(templateType);
@@ -186,7 +235,8 @@ public class AppNotificationTemplateDAO {
             notificationTemplates = namedJdbcTemplate.executeQuery(LIST_APP_NOTIFICATION_TEMPLATES_BY_APP_SQL,
                     (resultSet, rowNumber) -> {
                         NotificationTemplate notificationTemplateResult = new NotificationTemplate();
-                        setContent(resultSet.getBinaryStream(CONTENT), notificationTemplateResult);
+                        String schemaVersion = resultSet.getString(VERSION);
+                        setContent(resultSet.getBinaryStream(CONTENT), schemaVersion, notificationTemplateResult);
                         notificationTemplateResult.setContentType(resultSet.getString(CONTENT_TYPE));
                         notificationTemplateResult.setLocale(resultSet.getString(LOCALE));
                         notificationTemplateResult.setType(templateType.toLowerCase());
@@ -218,7 +268,8 @@ public class AppNotificationTemplateDAO {
         String channelName = notificationTemplate.getNotificationChannel();
 
         NamedJdbcTemplate namedJdbcTemplate = JdbcUtils.getNewNamedJdbcTemplate();
-        byte[] contentByteArray = getContentByteArray(notificationTemplate);
+        String schemaVersion = getSchemaVersion(APP_TEMPLATE_SCHEMA_VERSION);
+        byte[] contentByteArray = getContentByteArray(notificationTemplate, schemaVersion);
         int contentLength = contentByteArray.length;
         try (InputStream contentStream = new ByteArrayInputStream(contentByteArray)) {
             namedJdbcTemplate.executeUpdate(UPDATE_APP_NOTIFICATION_TEMPLATE_SQL,
@@ -232,6 +283,7 @@ public class AppNotificationTemplateDAO {
                         preparedStatement.setString(APP_ID, applicationUuid);
                         preparedStatement.setInt(TENANT_ID, tenantId);
 
+                        preparedStatement.setString(VERSION, schemaVersion);
                         preparedStatement.setTimeStamp(UPDATED_AT, getCurrentTime(), CALENDER);
                     });
         } catch (DataAccessException e) {
@@ -58,6 +58,7 @@ import static org.wso2.carbon.email.mgt.util.I18nEmailUtil.CALENDER;
 import static org.wso2.carbon.email.mgt.util.I18nEmailUtil.getContentByteArray;
 import static org.wso2.carbon.email.mgt.util.I18nEmailUtil.getCurrentTime;
 import static org.wso2.carbon.email.mgt.util.I18nEmailUtil.setContent;
+import static org.wso2.carbon.email.mgt.util.NotificationTemplateContentCodec.getSchemaVersion;
 
 /**
  * This class is to perform CRUD operations for Org NotificationTemplates.
@@ -74,7 +75,8 @@ public class OrgNotificationTemplateDAO {
         String channelName = notificationTemplate.getNotificationChannel();
 
         NamedJdbcTemplate namedJdbcTemplate = JdbcUtils.getNewNamedJdbcTemplate();
-        byte[] contentByteArray = getContentByteArray(notificationTemplate);
+        String schemaVersion = getSchemaVersion(ORG_TEMPLATE_SCHEMA_VERSION);
+        byte[] contentByteArray = getContentByteArray(notificationTemplate, schemaVersion);
         int contentLength = contentByteArray.length;
         try (InputStream contentStream = new ByteArrayInputStream(contentByteArray)) {
             namedJdbcTemplate.executeInsert(INSERT_ORG_NOTIFICATION_TEMPLATE_SQL, (preparedStatement -> {
@@ -90,7 +92,7 @@ public class OrgNotificationTemplateDAO {
                 Timestamp currentTime = getCurrentTime();
                 preparedStatement.setTimeStamp(CREATED_AT, currentTime, CALENDER);
                 preparedStatement.setTimeStamp(UPDATED_AT, currentTime, CALENDER);
-                preparedStatement.setString(VERSION, ORG_TEMPLATE_SCHEMA_VERSION);
+                preparedStatement.setString(VERSION, schemaVersion);
             }), notificationTemplate, false);
         } catch (DataAccessException e) {
             String error =
@@ -102,6 +104,50 @@ public class OrgNotificationTemplateDAO {
         }
     }
 
+    /**
+     * Add a set of org notification templates of a tenant in a single JDBC batch.
+     *
+     * @param notificationTemplates Notification templates to be added.
+     * @param tenantId              Tenant id.
+     * @throws NotificationTemplateManagerServerException If an error occurred while adding the templates.
+     */
+    public void addNotificationTemplates(List<NotificationTemplate> notificationTemplates, int tenantId)
+            throws NotificationTemplateManagerServerException {
+
+        if (notificationTemplates == null || notificationTemplates.isEmpty()) {
+            return;
+        }
+
+        NamedJdbcTemplate namedJdbcTemplate = JdbcUtils.getNewNamedJdbcTemplate();
+        String schemaVersion = getSchemaVersion(ORG_TEMPLATE_SCHEMA_VERSION);
+        try {
+            namedJdbcTemplate.executeBatchInsert(INSERT_ORG_NOTIFICATION_TEMPLATE_SQL, (preparedStatement -> {
+                Timestamp currentTime = getCurrentTime();
+                for (NotificationTemplate notificationTemplate : notificationTemplates) {
+                    String locale = notificationTemplate.getLocale();
+                    byte[] contentByteArray = getContentByteArray(notificationTemplate, schemaVersion);
+                    preparedStatement.setString(TEMPLATE_KEY, locale.toLowerCase());
+                    preparedStatement.setString(LOCALE, locale);
+                    preparedStatement.setBinaryStream(CONTENT, new ByteArrayInputStream(contentByteArray),
+                            contentByteArray.length);
+                    preparedStatement.setString(CONTENT_TYPE, notificationTemplate.getContentType());
+                    preparedStatement.setString(TYPE_KEY, notificationTemplate.getDisplayName().toLowerCase());
+                    preparedStatement.setString(CHANNEL, notificationTemplate.getNotificationChannel());
+                    preparedStatement.setInt(TENANT_ID, tenantId);
+                    preparedStatement.setInt(TENANT_ID, tenantId);
+                    preparedStatement.setTimeStamp(CREATED_AT, currentTime, CALENDER);
+                    preparedStatement.setTimeStamp(UPDATED_AT, currentTime, CALENDER);
+                    preparedStatement.setString(VERSION, schemaVersion);
+                    preparedStatement.addBatch();
+                }
+            }), null);
+        } catch (DataAccessException e) {
+            String error = String.format("Error while adding a batch of %d notification templates to %s tenant.",
+                    notificationTemplates.size(), tenantId);
+            throw new NotificationTemplateManagerServerException(error, e);
+        }
+    }
+
     public NotificationTemplate getNotificationTemplate(String locale, String templateType, String channelName,
                                                         int tenantId)
             throws NotificationTemplateManagerServerException {
@@ -113,7 +159,8 @@ public class OrgNotificationTemplateDAO {
             notificationTemplate = namedJdbcTemplate.fetchSingleRecord(GET_ORG_NOTIFICATION_TEMPLATE_SQL,
                     (resultSet, rowNumber) -> {
                         NotificationTemplate notificationTemplateResult = new NotificationTemplate();
-                        setContent(resultSet.getBinaryStream(CONTENT), notificationTemplateResult);
+                        String schemaVersion = resultSet.getString(VERSION);
+                        setContent(resultSet.getBinaryStream(CONTENT), schemaVersion, notificationTemplateResult);
                         notificationTemplateResult.setContentType(resultSet.getString(CONTENT_TYPE));
                         notificationTemplateResult.setLocale(locale);
                         notificationTemplateResult.setType(templateType);
@@ -183,7 +230,8 @@ public class OrgNotificationTemplateDAO {
             notificationTemplates = namedJdbcTemplate.executeQuery(LIST_ORG_NOTIFICATION_TEMPLATES_BY_TYPE_SQL,
                     (resultSet, rowNumber) -> {
                         NotificationTemplate notificationTemplateResult = new NotificationTemplate();
-                        setContent(resultSet.getBinaryStream(CONTENT), notificationTemplateResult);
+                        String schemaVersion = resultSet.getString(VERSION);
+                        setContent(resultSet.getBinaryStream(CONTENT), schemaVersion, notificationTemplateResult);
                         notificationTemplateResult.setContentType(resultSet.getString(CONTENT_TYPE));
                         notificationTemplateResult.setLocale(resultSet.getString(LOCALE));
                         notificationTemplateResult.setType(templateType.toLowerCase());
@@ -214,7 +262,8 @@ public class OrgNotificationTemplateDAO {
         String channelName = notificationTemplate.getNotificationChannel();
 
         NamedJdbcTemplate namedJdbcTemplate = JdbcUtils.getNewNamedJdbcTemplate();
-        byte[] contentByteArray = getContentByteArray(notificationTemplate);
+        String schemaVersion = getSchemaVersion(ORG_TEMPLATE_SCHEMA_VERSION);
+        byte[] contentByteArray = getContentByteArray(notificationTemplate, schemaVersion);
         int contentLength = contentByteArray.length;
         try (InputStream contentStream = new ByteArrayInputStream(contentByteArray)) {
             namedJdbcTemplate.executeUpdate(UPDATE_ORG_NOTIFICATION_TEMPLATE_SQL,
@@ -227,6 +276,7 @@ public class OrgNotificationTemplateDAO {
                         preparedStatement.setInt(TENANT_ID, tenantId);
                         preparedStatement.setInt(TENANT_ID, tenantId);
 
+                        preparedStatement.setString(VERSION, schemaVersion);
                         preparedStatement.setTimeStamp(UPDATED_AT, getCurrentTime(), CALENDER);
                     });
         } catch (DataAccessException e) {
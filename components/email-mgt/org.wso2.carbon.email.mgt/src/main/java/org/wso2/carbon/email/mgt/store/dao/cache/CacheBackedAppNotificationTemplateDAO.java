@@ -24,6 +24,9 @@ import org.wso2.carbon.email.mgt.cache.AppNotificationTemplateCache;
 import org.wso2.carbon.email.mgt.cache.AppNotificationTemplateCacheKey;
 import org.wso2.carbon.email.mgt.cache.AppNotificationTemplateListCache;
 import org.wso2.carbon.email.mgt.cache.AppNotificationTemplateListCacheKey;
+import org.wso2.carbon.email.mgt.cache.AppNotificationTemplateNegativeCache;
+import org.wso2.carbon.email.mgt.cache.NotificationTemplateCacheStatistics;
+import org.wso2.carbon.email.mgt.cache.NotificationTemplateVersionCache;
 import org.wso2.carbon.email.mgt.store.dao.AppNotificationTemplateDAO;
 import org.wso2.carbon.identity.governance.exceptions.notiification.NotificationTemplateManagerServerException;
 import org.wso2.carbon.identity.governance.model.NotificationTemplate;
@@ -39,7 +42,13 @@ public class CacheBackedAppNotificationTemplateDAO extends AppNotificationTempla
     private static final Log log = LogFactory.getLog(CacheBackedAppNotificationTemplateDAO.class);
     private final AppNotificationTemplateCache appNotificationTemplateCache =
             AppNotificationTemplateCache.getInstance();
+    private final AppNotificationTemplateNegativeCache negativeTemplateCache =
+            AppNotificationTemplateNegativeCache.getInstance();
     private final AppNotificationTemplateListCache templateListCache = AppNotificationTemplateListCache.getInstance();
+    private final NotificationTemplateCacheStatistics cacheStatistics =
+            NotificationTemplateCacheStatistics.getAppTemplateCacheStatistics();
+    private final NotificationTemplateVersionCache templateVersionCache =
+            NotificationTemplateVersionCache.getInstance();
 
     @Override
     public void addNotificationTemplate(NotificationTemplate notificationTemplate, String applicationUuid, int tenantId)
@@ -54,10 +63,33 @@ public class CacheBackedAppNotificationTemplateDAO extends AppNotificationTempla
         AppNotificationTemplateCacheKey cacheKey =
                 new AppNotificationTemplateCacheKey(locale, type, channel, applicationUuid);
         appNotificationTemplateCache.addToCache(cacheKey, notificationTemplate, tenantId);
+        negativeTemplateCache.clearCacheEntry(cacheKey, tenantId);
 
         AppNotificationTemplateListCacheKey listCacheKey =
                 new AppNotificationTemplateListCacheKey(type, channel, applicationUuid);
         templateListCache.clearCacheEntry(listCacheKey, tenantId);
+
+        templateVersionCache.invalidate(tenantId);
+    }
+
+    @Override
+    public void addNotificationTemplates(List<NotificationTemplate> notificationTemplates, String applicationUuid,
+                                         int tenantId) throws NotificationTemplateManagerServerException {
+
+        super.addNotificationTemplates(notificationTemplates, applicationUuid, tenantId);
+
+        // Bulk added templates are not pushed to the cache, only the stale entries are cleared.
+        for (NotificationTemplate notificationTemplate : notificationTemplates) {
+            String type = notificationTemplate.getDisplayName().toLowerCase();
+            String channel = notificationTemplate.getNotificationChannel();
+
+            negativeTemplateCache.clearCacheEntry(new AppNotificationTemplateCacheKey(
+                    notificationTemplate.getLocale(), type, channel, applicationUuid), tenantId);
+            templateListCache.clearCacheEntry(new AppNotificationTemplateListCacheKey(type, channel,
+                    applicationUuid), tenantId);
+        }
+
+        templateVersionCache.invalidate(tenantId);
     }
 
     @Override
@@ -75,18 +107,29 @@ public class CacheBackedAppNotificationTemplateDAO extends AppNotificationTempla
                         ", locale: " + locale + ", template type: " + templateType + " in channel: " + channelName +
                         " for tenant: " + tenantId);
             }
+            cacheStatistics.recordHit();
             return appNotificationTemplate;
         }
+        if (isKnownMissingTemplate(key, locale, templateType, channelName, applicationUuid, tenantId)) {
+            return null;
+        }
 
         if (log.isDebugEnabled()) {
             log.debug("Cache miss in AppNotificationTemplateCache for application: " + applicationUuid + ", locale: " +
                     locale + ", template type: " + templateType + " in channel: " + channelName + " for tenant: " +
                     tenantId);
         }
+        cacheStatistics.recordMiss();
 
+        // The version stamp is taken before the read, so a template added during the read invalidates the entry.
+        long templateVersion = templateVersionCache.getVersion(tenantId);
         appNotificationTemplate =
                 super.getNotificationTemplate(locale, templateType, channelName, applicationUuid, tenantId);
-        appNotificationTemplateCache.addToCache(key, appNotificationTemplate, tenantId);
+        if (appNotificationTemplate != null) {
+            appNotificationTemplateCache.addToCache(key, appNotificationTemplate, tenantId);
+        } else {
+            negativeTemplateCache.addToCache(key, templateVersion, tenantId);
+        }
 
         return appNotificationTemplate;
     }
@@ -106,16 +149,27 @@ public class CacheBackedAppNotificationTemplateDAO extends AppNotificationTempla
                         ", locale: " + locale + ", template type: " + templateType + " in channel: " + channelName +
                         " for tenant: " + tenantId);
             }
+            cacheStatistics.recordHit();
             return true;
         }
+        if (isKnownMissingTemplate(key, locale, templateType, channelName, applicationUuid, tenantId)) {
+            return false;
+        }
 
         if (log.isDebugEnabled()) {
             log.debug("Cache miss in AppNotificationTemplateCache for application: " + applicationUuid + ", locale: " +
                     locale + ", template type: " + templateType + " in channel: " + channelName + " for tenant: " +
                     tenantId);
         }
+        cacheStatistics.recordMiss();
 
-        return super.isNotificationTemplateExists(locale, templateType, channelName, applicationUuid, tenantId);
+        long templateVersion = templateVersionCache.getVersion(tenantId);
+        boolean templateExists =
+                super.isNotificationTemplateExists(locale, templateType, channelName, applicationUuid, tenantId);
+        if (!templateExists) {
+            negativeTemplateCache.addToCache(key, templateVersion, tenantId);
+        }
+        return templateExists;
     }
 
     @Override
@@ -159,10 +213,13 @@ public class CacheBackedAppNotificationTemplateDAO extends AppNotificationTempla
         AppNotificationTemplateCacheKey cacheKey =
                 new AppNotificationTemplateCacheKey(locale, type, channel, applicationUuid);
         appNotificationTemplateCache.addToCache(cacheKey, notificationTemplate, tenantId);
+        negativeTemplateCache.clearCacheEntry(cacheKey, tenantId);
 
         AppNotificationTemplateListCacheKey listCacheKey =
                 new AppNotificationTemplateListCacheKey(type, channel, applicationUuid);
         templateListCache.clearCacheEntry(listCacheKey, tenantId);
+
+        templateVersionCache.invalidate(tenantId);
     }
 
     @Override
@@ -179,6 +236,8 @@ public class CacheBackedAppNotificationTemplateDAO extends AppNotificationTempla
         AppNotificationTemplateListCacheKey listCacheKey =
                 new AppNotificationTemplateListCacheKey(templateType, channelName, applicationUuid);
         templateListCache.clearCacheEntry(listCacheKey, tenantId);
+
+        templateVersionCache.invalidate(tenantId);
     }
 
     @Override
@@ -192,6 +251,8 @@ public class CacheBackedAppNotificationTemplateDAO extends AppNotificationTempla
         AppNotificationTemplateListCacheKey listCacheKey =
                 new AppNotificationTemplateListCacheKey(templateType, channelName, applicationUuid);
         templateListCache.clearCacheEntry(listCacheKey, tenantId);
+
+        templateVersionCache.invalidate(tenantId);
     }
 
     @Override
@@ -204,5 +265,28 @@ public class CacheBackedAppNotificationTemplateDAO extends AppNotificationTempla
         // Clearing full template list cache for tenant since it's not possible to remove all entries for a template
         // type at once.
         templateListCache.clear(tenantId);
+
+        templateVersionCache.invalidate(tenantId);
+    }
+
+    private boolean isKnownMissingTemplate(AppNotificationTemplateCacheKey key, String locale, String templateType,
+                                           String channelName, String applicationUuid, int tenantId) {
+
+        Long templateVersion = negativeTemplateCache.getValueFromCache(key, tenantId);
+        if (templateVersion == null) {
+            return false;
+        }
+        if (!templateVersionCache.isCurrentVersion(tenantId, templateVersion)) {
+            // The tenant templates changed after the entry was recorded, so the template may exist now.
+            negativeTemplateCache.clearCacheEntry(key, tenantId);
+            return false;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Negative cache hit in AppNotificationTemplateNegativeCache for application: " +
+                    applicationUuid + ", locale: " + locale + ", template type: " + templateType + " in channel: " +
+                    channelName + " for tenant: " + tenantId);
+        }
+        cacheStatistics.recordNegativeHit();
+        return true;
     }
 }
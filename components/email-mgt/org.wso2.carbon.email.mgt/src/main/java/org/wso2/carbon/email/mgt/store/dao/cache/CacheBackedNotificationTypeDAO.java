@@ -22,6 +22,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.email.mgt.cache.AppNotificationTemplateCache;
 import org.wso2.carbon.email.mgt.cache.AppNotificationTemplateListCache;
+import org.wso2.carbon.email.mgt.cache.NotificationTemplateVersionCache;
 import org.wso2.carbon.email.mgt.cache.NotificationTypeCache;
 import org.wso2.carbon.email.mgt.cache.NotificationTypeCacheKey;
 import org.wso2.carbon.email.mgt.cache.NotificationTypeListCache;
@@ -50,6 +51,8 @@ public class CacheBackedNotificationTypeDAO extends NotificationTypeDAO {
             AppNotificationTemplateCache.getInstance();
     private final AppNotificationTemplateListCache
             appNotificationTemplateListCache = AppNotificationTemplateListCache.getInstance();
+    private final NotificationTemplateVersionCache templateVersionCache =
+            NotificationTemplateVersionCache.getInstance();
 
     @Override
     public void addNotificationTemplateType(String type, String displayName, String channelName, int tenantId)
@@ -127,5 +130,7 @@ public class CacheBackedNotificationTypeDAO extends NotificationTypeDAO {
 
         appNotificationTemplateCache.clear(tenantId);
         appNotificationTemplateListCache.clear(tenantId);
+
+        templateVersionCache.invalidate(tenantId);
     }
 }
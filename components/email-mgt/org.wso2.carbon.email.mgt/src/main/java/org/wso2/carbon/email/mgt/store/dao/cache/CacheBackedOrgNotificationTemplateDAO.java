@@ -20,10 +20,13 @@ package org.wso2.carbon.email.mgt.store.dao.cache;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.email.mgt.cache.NotificationTemplateCacheStatistics;
+import org.wso2.carbon.email.mgt.cache.NotificationTemplateVersionCache;
 import org.wso2.carbon.email.mgt.cache.OrgNotificationTemplateCache;
 import org.wso2.carbon.email.mgt.cache.OrgNotificationTemplateCacheKey;
 import org.wso2.carbon.email.mgt.cache.OrgNotificationTemplateListCache;
 import org.wso2.carbon.email.mgt.cache.OrgNotificationTemplateListCacheKey;
+import org.wso2.carbon.email.mgt.cache.OrgNotificationTemplateNegativeCache;
 import org.wso2.carbon.email.mgt.internal.I18nMgtDataHolder;
 import org.wso2.carbon.email.mgt.store.dao.OrgNotificationTemplateDAO;
 import org.wso2.carbon.identity.governance.exceptions.notiification.NotificationTemplateManagerServerException;
@@ -40,7 +43,13 @@ public class CacheBackedOrgNotificationTemplateDAO extends OrgNotificationTempla
     private static final Log log = LogFactory.getLog(CacheBackedOrgNotificationTemplateDAO.class);
     private final OrgNotificationTemplateCache orgNotificationTemplateCache =
             OrgNotificationTemplateCache.getInstance();
+    private final OrgNotificationTemplateNegativeCache negativeTemplateCache =
+            OrgNotificationTemplateNegativeCache.getInstance();
     private final OrgNotificationTemplateListCache templateListCache = OrgNotificationTemplateListCache.getInstance();
+    private final NotificationTemplateCacheStatistics cacheStatistics =
+            NotificationTemplateCacheStatistics.getOrgTemplateCacheStatistics();
+    private final NotificationTemplateVersionCache templateVersionCache =
+            NotificationTemplateVersionCache.getInstance();
 
     @Override
     public void addNotificationTemplate(NotificationTemplate notificationTemplate, int tenantId)
@@ -54,9 +63,31 @@ public class CacheBackedOrgNotificationTemplateDAO extends OrgNotificationTempla
 
         OrgNotificationTemplateCacheKey cacheKey = new OrgNotificationTemplateCacheKey(locale, type, channel);
         orgNotificationTemplateCache.addToCache(cacheKey, notificationTemplate, tenantId);
+        negativeTemplateCache.clearCacheEntry(cacheKey, tenantId);
 
         OrgNotificationTemplateListCacheKey listCacheKey = new OrgNotificationTemplateListCacheKey(type, channel);
         templateListCache.clearCacheEntry(listCacheKey, tenantId);
+
+        templateVersionCache.invalidate(tenantId);
+    }
+
+    @Override
+    public void addNotificationTemplates(List<NotificationTemplate> notificationTemplates, int tenantId)
+            throws NotificationTemplateManagerServerException {
+
+        super.addNotificationTemplates(notificationTemplates, tenantId);
+
+        // Bulk added templates are not pushed to the cache, only the stale entries are cleared.
+        for (NotificationTemplate notificationTemplate : notificationTemplates) {
+            String type = notificationTemplate.getDisplayName().toLowerCase();
+            String channel = notificationTemplate.getNotificationChannel();
+
+            negativeTemplateCache.clearCacheEntry(
+                    new OrgNotificationTemplateCacheKey(notificationTemplate.getLocale(), type, channel), tenantId);
+            templateListCache.clearCacheEntry(new OrgNotificationTemplateListCacheKey(type, channel), tenantId);
+        }
+
+        templateVersionCache.invalidate(tenantId);
     }
 
     @Override
@@ -72,16 +103,27 @@ public class CacheBackedOrgNotificationTemplateDAO extends OrgNotificationTempla
                 log.debug("Cache hit in OrgNotificationTemplateCache for locale: " + locale + ", template type: " +
                         templateType + " in channel: " + channelName + " for tenant: " + tenantId);
             }
+            cacheStatistics.recordHit();
             return orgNotificationTemplate;
         }
+        if (isKnownMissingTemplate(key, locale, templateType, channelName, tenantId)) {
+            return null;
+        }
 
         if (log.isDebugEnabled()) {
             log.debug("Cache miss in OrgNotificationTemplateCache for locale: " + locale + ", template type: " +
                     templateType + " in channel: " + channelName + " for tenant: " + tenantId);
         }
+        cacheStatistics.recordMiss();
 
+        // The version stamp is taken before the read, so a template added during the read invalidates the entry.
+        long templateVersion = templateVersionCache.getVersion(tenantId);
         orgNotificationTemplate = super.getNotificationTemplate(locale, templateType, channelName, tenantId);
-        orgNotificationTemplateCache.addToCache(key, orgNotificationTemplate, tenantId);
+        if (orgNotificationTemplate != null) {
+            orgNotificationTemplateCache.addToCache(key, orgNotificationTemplate, tenantId);
+        } else {
+            negativeTemplateCache.addToCache(key, templateVersion, tenantId);
+        }
 
         return orgNotificationTemplate;
     }
@@ -98,15 +140,25 @@ public class CacheBackedOrgNotificationTemplateDAO extends OrgNotificationTempla
                 log.debug("Cache hit in OrgNotificationTemplateCache for locale: " + locale + ", template type: " +
                         templateType + " in channel: " + channelName + " for tenant: " + tenantId);
             }
+            cacheStatistics.recordHit();
             return true;
         }
+        if (isKnownMissingTemplate(key, locale, templateType, channelName, tenantId)) {
+            return false;
+        }
 
         if (log.isDebugEnabled()) {
             log.debug("Cache miss in OrgNotificationTemplateCache for locale: " + locale + ", template type: " +
                     templateType + " in channel: " + channelName + " for tenant: " + tenantId);
         }
+        cacheStatistics.recordMiss();
 
-        return super.isNotificationTemplateExists(locale, templateType, channelName, tenantId);
+        long templateVersion = templateVersionCache.getVersion(tenantId);
+        boolean templateExists = super.isNotificationTemplateExists(locale, templateType, channelName, tenantId);
+        if (!templateExists) {
+            negativeTemplateCache.addToCache(key, templateVersion, tenantId);
+        }
+        return templateExists;
     }
 
     @Override
@@ -147,9 +199,12 @@ public class CacheBackedOrgNotificationTemplateDAO extends OrgNotificationTempla
 
         OrgNotificationTemplateCacheKey cacheKey = new OrgNotificationTemplateCacheKey(locale, type, channel);
         orgNotificationTemplateCache.addToCache(cacheKey, notificationTemplate, tenantId);
+        negativeTemplateCache.clearCacheEntry(cacheKey, tenantId);
 
         OrgNotificationTemplateListCacheKey listCacheKey = new OrgNotificationTemplateListCacheKey(type, channel);
         templateListCache.clearCacheEntry(listCacheKey, tenantId);
+
+        templateVersionCache.invalidate(tenantId);
     }
 
     @Override
@@ -166,6 +221,7 @@ public class CacheBackedOrgNotificationTemplateDAO extends OrgNotificationTempla
                 new OrgNotificationTemplateListCacheKey(templateType, channelName);
         templateListCache.clearCacheEntry(listCacheKey, tenantId);
 
+        templateVersionCache.invalidate(tenantId);
     }
 
     @Override
@@ -179,5 +235,27 @@ public class CacheBackedOrgNotificationTemplateDAO extends OrgNotificationTempla
         OrgNotificationTemplateListCacheKey listCacheKey =
                 new OrgNotificationTemplateListCacheKey(templateType, channelName);
         templateListCache.clearCacheEntry(listCacheKey, tenantId);
+
+        templateVersionCache.invalidate(tenantId);
+    }
+
+    private boolean isKnownMissingTemplate(OrgNotificationTemplateCacheKey key, String locale, String templateType,
+                                           String channelName, int tenantId) {
+
+        Long templateVersion = negativeTemplateCache.getValueFromCache(key, tenantId);
+        if (templateVersion == null) {
+            return false;
+        }
+        if (!templateVersionCache.isCurrentVersion(tenantId, templateVersion)) {
+            // The tenant templates changed after the entry was recorded, so the template may exist now.
+            negativeTemplateCache.clearCacheEntry(key, tenantId);
+            return false;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Negative cache hit in OrgNotificationTemplateNegativeCache for locale: " + locale +
+                    ", template type: " + templateType + " in channel: " + channelName + " for tenant: " + tenantId);
+        }
+        cacheStatistics.recordNegativeHit();
+        return true;
     }
 }
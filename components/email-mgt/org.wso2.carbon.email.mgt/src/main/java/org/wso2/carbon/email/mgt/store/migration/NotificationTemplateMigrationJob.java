@@ -0,0 +1,420 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.email.mgt.store.migration;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.email.mgt.constants.I18nMgtConstants.NotificationTemplateMigration;
+import org.wso2.carbon.email.mgt.internal.I18nMgtDataHolder;
+import org.wso2.carbon.email.mgt.store.DBBasedTemplateManager;
+import org.wso2.carbon.email.mgt.store.RegistryBasedTemplateManager;
+import org.wso2.carbon.identity.governance.exceptions.notiification.NotificationTemplateManagerServerException;
+import org.wso2.carbon.identity.governance.model.NotificationTemplate;
+import org.wso2.carbon.identity.governance.service.notification.NotificationChannels;
+import org.wso2.carbon.user.api.Tenant;
+import org.wso2.carbon.user.api.UserStoreException;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Background job migrating the notification templates of all tenants from the registry to the database.
+ *
+ * Tenants are migrated in parallel, and the templates of a template type are written to the database in JDBC
+ * batches. Templates already in the database are left as they are, so an interrupted run can simply be started again.
+ * Once all templates of a tenant are copied, the tenant is marked as migrated and the {@link
+ * org.wso2.carbon.email.mgt.store.HybridTemplateManager} stops consulting the registry for it. The registry templates
+ * are not deleted. In a dry run the templates to be migrated are only counted.
+ *
+ * The job may be enabled on more than one node of a cluster. A node migrates a tenant only while it holds the
+ * migration claim of the tenant, and a tenant whose registry templates changed during its migration is not marked as
+ * migrated. Templates added concurrently, e.g. by another node whose claim expired, are skipped instead of failing the
+ * run.
+ */
+public class NotificationTemplateMigrationJob {
+
+    private static final Log log = LogFactory.getLog(NotificationTemplateMigrationJob.class);
+
+    private static final String WORKER_NAME_PREFIX = "NotificationTemplateMigrationWorker-";
+    private static final String COORDINATOR_NAME = "NotificationTemplateMigrationCoordinator";
+    private static final int PROGRESS_LOG_INTERVAL = 100;
+    private static final long CLAIM_LEASE_MILLIS =
+            TimeUnit.MINUTES.toMillis(NotificationTemplateMigration.CLAIM_LEASE_MINUTES);
+    private static final String[] NOTIFICATION_CHANNELS = {NotificationChannels.EMAIL_CHANNEL.getChannelType(),
+            NotificationChannels.SMS_CHANNEL.getChannelType()};
+
+    private final RegistryBasedTemplateManager registryBasedTemplateManager;
+    private final DBBasedTemplateManager dbBasedTemplateManager;
+    private final NotificationTemplateMigrationStateManager migrationStateManager;
+    private final NotificationTemplateMigrationProgress progress = new NotificationTemplateMigrationProgress();
+    private final int poolSize;
+    private final int batchSize;
+    private final boolean dryRun;
+    private final String claimOwner = UUID.randomUUID().toString();
+
+    private ExecutorService coordinator;
+    private ExecutorService workers;
+
+    public NotificationTemplateMigrationJob(int poolSize, int batchSize, boolean dryRun) {
+
+        this(new RegistryBasedTemplateManager(), new DBBasedTemplateManager(),
+                new NotificationTemplateMigrationStateManager(), poolSize, batchSize, dryRun);
+    }
+
+    NotificationTemplateMigrationJob(RegistryBasedTemplateManager registryBasedTemplateManager,
+                                     DBBasedTemplateManager dbBasedTemplateManager,
+                                     NotificationTemplateMigrationStateManager migrationStateManager, int poolSize,
+                                     int batchSize, boolean dryRun) {
+
+        this.registryBasedTemplateManager = registryBasedTemplateManager;
+        this.dbBasedTemplateManager = dbBasedTemplateManager;
+        this.migrationStateManager = migrationStateManager;
+        this.poolSize = poolSize;
+        this.batchSize = batchSize;
+        this.dryRun = dryRun;
+    }
+
+    /**
+     * Start migrating the tenants in the background. Does nothing if the job is already started.
+     */
+    public synchronized void start() {
+
+        if (coordinator != null) {
+            return;
+        }
+        ExecutorService workerPool = Executors.newFixedThreadPool(poolSize, createThreadFactory());
+        workers = workerPool;
+        coordinator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, COORDINATOR_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        coordinator.execute(() -> migrateTenants(workerPool));
+        log.info(String.format("Started %snotification template migration from registry to database with %d " +
+                "workers and a batch size of %d.", dryRun ? "a dry run of the " : "", poolSize, batchSize));
+    }
+
+    /**
+     * Stop the job. Tenants not completely migrated are migrated again in the next run.
+     */
+    public synchronized void shutdown() {
+
+        if (coordinator == null) {
+            return;
+        }
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+        coordinator = null;
+        workers = null;
+    }
+
+    public NotificationTemplateMigrationProgress getProgress() {
+
+        return progress;
+    }
+
+    private void migrateTenants(ExecutorService workerPool) {
+
+        List<String> tenantDomains;
+        try {
+            tenantDomains = listTenantDomains();
+        } catch (UserStoreException e) {
+            log.error("Error while listing the tenants to migrate notification templates.", e);
+            return;
+        }
+
+        progress.start(tenantDomains.size());
+        List<Future<?>> tenantMigrations = new ArrayList<>();
+        for (String tenantDomain : tenantDomains) {
+            tenantMigrations.add(workerPool.submit(() -> migrateTenantInTenantFlow(tenantDomain)));
+        }
+        try {
+            for (Future<?> tenantMigration : tenantMigrations) {
+                tenantMigration.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.info("Notification template migration stopped. Progress: " + progress);
+            return;
+        } catch (ExecutionException e) {
+            log.error("Unexpected error in notification template migration.", e.getCause());
+        } finally {
+            workerPool.shutdown();
+        }
+        progress.finish();
+        log.info(String.format("Completed %snotification template migration. %s", dryRun ? "the dry run of " : "",
+                progress));
+    }
+
+    private void migrateTenantInTenantFlow(String tenantDomain) {
+
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomain, true);
+            migrateTenant(tenantDomain);
+        } catch (NotificationTemplateManagerServerException | RuntimeException e) {
+            progress.recordTenantFailed();
+            if (Thread.currentThread().isInterrupted()) {
+                log.info("Notification template migration of tenant: " + tenantDomain + " stopped.");
+            } else {
+                log.error("Error while migrating notification templates of tenant: " + tenantDomain, e);
+            }
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+
+        if (progress.getProcessedTenants() % PROGRESS_LOG_INTERVAL == 0) {
+            log.info("Notification template migration progress: " + progress);
+        }
+    }
+
+    /**
+     * Migrate the notification templates of a tenant, skipping tenants migrated in an earlier run.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Number of templates migrated, or to be migrated in a dry run.
+     * @throws NotificationTemplateManagerServerException If an error occurred while migrating the templates.
+     */
+    long migrateTenant(String tenantDomain) throws NotificationTemplateManagerServerException {
+
+        if (migrationStateManager.isTenantMigrated(tenantDomain)) {
+            progress.recordTenantSkipped();
+            return 0;
+        }
+        if (dryRun) {
+            return migrateTenantTemplates(tenantDomain);
+        }
+
+        if (!migrationStateManager.claimTenant(tenantDomain, claimOwner, CLAIM_LEASE_MILLIS)) {
+            progress.recordTenantSkipped();
+            if (log.isDebugEnabled()) {
+                log.debug("Notification templates of tenant: " + tenantDomain + " are being migrated by another node.");
+            }
+            return 0;
+        }
+        try {
+            // Another node may have completed the tenant before this node claimed it.
+            if (migrationStateManager.isTenantMigrated(tenantDomain)) {
+                progress.recordTenantSkipped();
+                return 0;
+            }
+            return migrateTenantTemplates(tenantDomain);
+        } finally {
+            releaseTenant(tenantDomain);
+        }
+    }
+
+    private long migrateTenantTemplates(String tenantDomain) throws NotificationTemplateManagerServerException {
+
+        long registryLastModified = dryRun ? 0 : getRegistryLastModified(tenantDomain);
+        long migratedTemplates = 0;
+        for (String notificationChannel : NOTIFICATION_CHANNELS) {
+            for (String displayName : registryBasedTemplateManager.listNotificationTemplateTypes(notificationChannel,
+                    tenantDomain)) {
+                if (StringUtils.isBlank(displayName)) {
+                    continue;
+                }
+                migratedTemplates += migrateTemplates(displayName, notificationChannel, null, tenantDomain);
+                for (String applicationUuid : registryBasedTemplateManager.listApplicationsWithNotificationTemplates(
+                        displayName, notificationChannel, tenantDomain)) {
+                    migratedTemplates += migrateTemplates(displayName, notificationChannel, applicationUuid,
+                            tenantDomain);
+                }
+            }
+        }
+
+        if (!dryRun) {
+            // A registry template updated while the tenant was copied may not be reflected in the database, so the
+            // registry has to stay consulted for the tenant until a run completes without changes.
+            if (getRegistryLastModified(tenantDomain) != registryLastModified) {
+                throw new NotificationTemplateManagerServerException("Registry notification templates of tenant: " +
+                        tenantDomain + " changed during the migration. The tenant is migrated again in the next run.");
+            }
+            migrationStateManager.markTenantMigrated(tenantDomain, migratedTemplates);
+        }
+        progress.recordTenantMigrated();
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("%d notification templates of tenant: %s %s.", migratedTemplates, tenantDomain,
+                    dryRun ? "to be migrated" : "migrated"));
+        }
+        return migratedTemplates;
+    }
+
+    private int migrateTemplates(String displayName, String notificationChannel, String applicationUuid,
+                                 String tenantDomain) throws NotificationTemplateManagerServerException {
+
+        List<NotificationTemplate> registryTemplates = registryBasedTemplateManager.listNotificationTemplates(
+                displayName, notificationChannel, applicationUuid, tenantDomain);
+        if (registryTemplates.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> existingLocales = new HashSet<>();
+        if (dbBasedTemplateManager.isNotificationTemplateTypeExists(displayName, notificationChannel,
+                tenantDomain)) {
+            for (NotificationTemplate template : dbBasedTemplateManager.listNotificationTemplates(displayName,
+                    notificationChannel, applicationUuid, tenantDomain)) {
+                existingLocales.add(template.getLocale().toLowerCase());
+            }
+        } else if (!dryRun) {
+            addTemplateType(displayName, notificationChannel, tenantDomain);
+        }
+
+        List<NotificationTemplate> pendingTemplates = new ArrayList<>();
+        for (NotificationTemplate template : registryTemplates) {
+            if (existingLocales.add(template.getLocale().toLowerCase())) {
+                // Registry templates are read as email templates regardless of the channel.
+                template.setNotificationChannel(notificationChannel);
+                template.setDisplayName(displayName);
+                pendingTemplates.add(template);
+            }
+        }
+        progress.recordExistingTemplates(registryTemplates.size() - pendingTemplates.size());
+
+        int migratedTemplates = 0;
+        for (int from = 0; from < pendingTemplates.size(); from += batchSize) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new NotificationTemplateManagerServerException(
+                        "Notification template migration of tenant: " + tenantDomain + " interrupted.");
+            }
+            List<NotificationTemplate> batch =
+                    pendingTemplates.subList(from, Math.min(from + batchSize, pendingTemplates.size()));
+            int addedTemplates = dryRun ? batch.size() : addTemplates(batch, applicationUuid, tenantDomain);
+            progress.recordBatch(addedTemplates);
+            progress.recordExistingTemplates(batch.size() - addedTemplates);
+            migratedTemplates += addedTemplates;
+        }
+        return migratedTemplates;
+    }
+
+    private void addTemplateType(String displayName, String notificationChannel, String tenantDomain)
+            throws NotificationTemplateManagerServerException {
+
+        try {
+            dbBasedTemplateManager.addNotificationTemplateType(displayName, notificationChannel, tenantDomain);
+        } catch (NotificationTemplateManagerServerException e) {
+            // The template type may have been added concurrently.
+            if (!dbBasedTemplateManager.isNotificationTemplateTypeExists(displayName, notificationChannel,
+                    tenantDomain)) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Add a batch of templates to the database. If the batch fails, e.g. as some of its templates were added
+     * concurrently, the templates are added one by one, skipping the ones already in the database.
+     *
+     * @return Number of templates added.
+     */
+    private int addTemplates(List<NotificationTemplate> batch, String applicationUuid, String tenantDomain)
+            throws NotificationTemplateManagerServerException {
+
+        try {
+            dbBasedTemplateManager.addNotificationTemplates(batch, applicationUuid, tenantDomain);
+            return batch.size();
+        } catch (NotificationTemplateManagerServerException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Error while adding a batch of notification templates of tenant: " + tenantDomain +
+                        ". Adding the templates one by one.", e);
+            }
+        }
+
+        int addedTemplates = 0;
+        for (NotificationTemplate template : batch) {
+            if (isTemplateInDatabase(template, applicationUuid, tenantDomain)) {
+                continue;
+            }
+            try {
+                dbBasedTemplateManager.addNotificationTemplates(Collections.singletonList(template), applicationUuid,
+                        tenantDomain);
+                addedTemplates++;
+            } catch (NotificationTemplateManagerServerException e) {
+                if (!isTemplateInDatabase(template, applicationUuid, tenantDomain)) {
+                    throw e;
+                }
+            }
+        }
+        return addedTemplates;
+    }
+
+    private boolean isTemplateInDatabase(NotificationTemplate template, String applicationUuid, String tenantDomain)
+            throws NotificationTemplateManagerServerException {
+
+        return dbBasedTemplateManager.isNotificationTemplateExists(template.getDisplayName(), template.getLocale(),
+                template.getNotificationChannel(), applicationUuid, tenantDomain);
+    }
+
+    private long getRegistryLastModified(String tenantDomain) throws NotificationTemplateManagerServerException {
+
+        long lastModified = 0;
+        for (String notificationChannel : NOTIFICATION_CHANNELS) {
+            lastModified = Math.max(lastModified, registryBasedTemplateManager.getNotificationTemplatesLastModified(
+                    notificationChannel, tenantDomain));
+        }
+        return lastModified;
+    }
+
+    private void releaseTenant(String tenantDomain) {
+
+        try {
+            migrationStateManager.releaseTenant(tenantDomain, claimOwner);
+        } catch (NotificationTemplateManagerServerException e) {
+            log.warn("Error while releasing the notification template migration claim of tenant: " + tenantDomain +
+                    ". The claim expires in " + NotificationTemplateMigration.CLAIM_LEASE_MINUTES + " minutes.", e);
+        }
+    }
+
+    private List<String> listTenantDomains() throws UserStoreException {
+
+        List<String> tenantDomains = new ArrayList<>();
+        tenantDomains.add(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        Tenant[] tenants = I18nMgtDataHolder.getInstance().getRealmService().getTenantManager().getAllTenants();
+        if (tenants != null) {
+            for (Tenant tenant : tenants) {
+                tenantDomains.add(tenant.getDomain());
+            }
+        }
+        return tenantDomains;
+    }
+
+    private static ThreadFactory createThreadFactory() {
+
+        AtomicInteger workerCount = new AtomicInteger();
+        return runnable -> {
+            Thread worker = new Thread(runnable, WORKER_NAME_PREFIX + workerCount.incrementAndGet());
+            worker.setDaemon(true);
+            return worker;
+        };
+    }
+}
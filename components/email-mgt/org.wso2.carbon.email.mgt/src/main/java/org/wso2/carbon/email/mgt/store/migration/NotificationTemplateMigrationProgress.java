@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.email.mgt.store.migration;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Progress and throughput counters of a notification template migration run.
+ */
+public class NotificationTemplateMigrationProgress {
+
+    private volatile long startTime;
+    private volatile long endTime;
+    private volatile int totalTenants;
+    private final LongAdder migratedTenants = new LongAdder();
+    private final LongAdder skippedTenants = new LongAdder();
+    private final LongAdder failedTenants = new LongAdder();
+    private final LongAdder migratedTemplates = new LongAdder();
+    private final LongAdder existingTemplates = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    void start(int totalTenants) {
+
+        this.totalTenants = totalTenants;
+        this.startTime = System.nanoTime();
+        this.endTime = 0;
+    }
+
+    void finish() {
+
+        this.endTime = System.nanoTime();
+    }
+
+    void recordTenantMigrated() {
+
+        migratedTenants.increment();
+    }
+
+    void recordTenantSkipped() {
+
+        skippedTenants.increment();
+    }
+
+    void recordTenantFailed() {
+
+        failedTenants.increment();
+    }
+
+    void recordBatch(int templateCount) {
+
+        batches.increment();
+        migratedTemplates.add(templateCount);
+    }
+
+    void recordExistingTemplates(int templateCount) {
+
+        existingTemplates.add(templateCount);
+    }
+
+    public int getTotalTenants() {
+
+        return totalTenants;
+    }
+
+    /**
+     * Get the number of tenants processed so far, whether migrated, skipped or failed.
+     *
+     * @return Number of processed tenants.
+     */
+    public long getProcessedTenants() {
+
+        return migratedTenants.sum() + skippedTenants.sum() + failedTenants.sum();
+    }
+
+    public long getMigratedTenants() {
+
+        return migratedTenants.sum();
+    }
+
+    /**
+     * Get the number of tenants skipped as they were migrated in an earlier run.
+     *
+     * @return Number of skipped tenants.
+     */
+    public long getSkippedTenants() {
+
+        return skippedTenants.sum();
+    }
+
+    public long getFailedTenants() {
+
+        return failedTenants.sum();
+    }
+
+    /**
+     * Get the number of templates copied to the database, or that would be copied in a dry run.
+     *
+     * @return Number of migrated templates.
+     */
+    public long getMigratedTemplates() {
+
+        return migratedTemplates.sum();
+    }
+
+    /**
+     * Get the number of registry templates left as they already exist in the database.
+     *
+     * @return Number of templates already in the database.
+     */
+    public long getExistingTemplates() {
+
+        return existingTemplates.sum();
+    }
+
+    public long getBatches() {
+
+        return batches.sum();
+    }
+
+    public long getElapsedMillis() {
+
+        if (startTime == 0) {
+            return 0;
+        }
+        long until = endTime == 0 ? System.nanoTime() : endTime;
+        return TimeUnit.NANOSECONDS.toMillis(until - startTime);
+    }
+
+    /**
+     * Get the migration throughput in templates per second.
+     *
+     * @return Migrated templates per second.
+     */
+    public double getThroughput() {
+
+        long elapsedMillis = getElapsedMillis();
+        if (elapsedMillis == 0) {
+            return 0;
+        }
+        return getMigratedTemplates() * 1000.0 / elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+
+        return String.format("tenants: %d/%d processed (%d migrated, %d skipped, %d failed), templates: %d migrated " +
+                        "in %d batches, %d already in database, elapsed: %d ms, throughput: %.2f templates/s",
+                getProcessedTenants(), getTotalTenants(), getMigratedTenants(), getSkippedTenants(),
+                getFailedTenants(), getMigratedTemplates(), getBatches(), getExistingTemplates(), getElapsedMillis(),
+                getThroughput());
+    }
+}
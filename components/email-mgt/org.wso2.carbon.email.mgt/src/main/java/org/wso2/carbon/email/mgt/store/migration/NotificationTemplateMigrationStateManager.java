@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.email.mgt.store.migration;
+
+import org.wso2.carbon.email.mgt.cache.NotificationTemplateMigrationStateCache;
+import org.wso2.carbon.email.mgt.internal.I18nMgtDataHolder;
+import org.wso2.carbon.identity.base.IdentityRuntimeException;
+import org.wso2.carbon.identity.core.persistence.registry.RegistryResourceMgtService;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.governance.exceptions.notiification.NotificationTemplateManagerServerException;
+import org.wso2.carbon.registry.core.Resource;
+import org.wso2.carbon.registry.core.ResourceImpl;
+
+import java.time.Instant;
+
+import static org.wso2.carbon.email.mgt.constants.I18nMgtConstants.NotificationTemplateMigration.CLAIM_EXPIRES_AT_PROPERTY;
+import static org.wso2.carbon.email.mgt.constants.I18nMgtConstants.NotificationTemplateMigration.CLAIM_OWNER_PROPERTY;
+import static org.wso2.carbon.email.mgt.constants.I18nMgtConstants.NotificationTemplateMigration.CLAIM_PATH;
+import static org.wso2.carbon.email.mgt.constants.I18nMgtConstants.NotificationTemplateMigration.COMPLETED_AT_PROPERTY;
+import static org.wso2.carbon.email.mgt.constants.I18nMgtConstants.NotificationTemplateMigration.MIGRATED_TEMPLATES_PROPERTY;
+import static org.wso2.carbon.email.mgt.constants.I18nMgtConstants.NotificationTemplateMigration.STATE_PATH;
+import static org.wso2.carbon.email.mgt.constants.I18nMgtConstants.NotificationTemplateMigration.STATUS_COMPLETED;
+import static org.wso2.carbon.email.mgt.constants.I18nMgtConstants.NotificationTemplateMigration.STATUS_PROPERTY;
+
+/**
+ * Keeps track of the tenants whose registry notification templates are fully migrated to the database. The state is
+ * persisted as a registry resource of the tenant and cached, so the state of a tenant is read from the registry only
+ * once.
+ */
+public class NotificationTemplateMigrationStateManager {
+
+    private final NotificationTemplateMigrationStateCache stateCache =
+            NotificationTemplateMigrationStateCache.getInstance();
+
+    /**
+     * Check whether the registry notification templates of the tenant are fully migrated to the database.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return True if the tenant templates are migrated.
+     * @throws NotificationTemplateManagerServerException If an error occurred while reading the migration state.
+     */
+    public boolean isTenantMigrated(String tenantDomain) throws NotificationTemplateManagerServerException {
+
+        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+        Boolean migrated = stateCache.getValueFromCache(tenantDomain, tenantId);
+        if (migrated != null) {
+            return migrated;
+        }
+
+        try {
+            Resource state = getResourceMgtService().getIdentityResource(STATE_PATH, tenantDomain);
+            migrated = state != null && STATUS_COMPLETED.equals(state.getProperty(STATUS_PROPERTY));
+        } catch (IdentityRuntimeException e) {
+            throw new NotificationTemplateManagerServerException(String.format(
+                    "Error while reading the notification template migration state of %s tenant.", tenantDomain), e);
+        }
+        stateCache.addToCache(tenantDomain, migrated, tenantId);
+        return migrated;
+    }
+
+    /**
+     * Mark the registry notification templates of the tenant as fully migrated to the database.
+     *
+     * @param tenantDomain      Tenant domain.
+     * @param migratedTemplates Number of templates migrated in the last run.
+     * @throws NotificationTemplateManagerServerException If an error occurred while persisting the migration state.
+     */
+    public void markTenantMigrated(String tenantDomain, long migratedTemplates)
+            throws NotificationTemplateManagerServerException {
+
+        Resource state = new ResourceImpl();
+        state.setProperty(STATUS_PROPERTY, STATUS_COMPLETED);
+        state.setProperty(MIGRATED_TEMPLATES_PROPERTY, String.valueOf(migratedTemplates));
+        state.setProperty(COMPLETED_AT_PROPERTY, Instant.now().toString());
+        try {
+            getResourceMgtService().putIdentityResource(state, STATE_PATH, tenantDomain);
+        } catch (IdentityRuntimeException e) {
+            throw new NotificationTemplateManagerServerException(String.format(
+                    "Error while persisting the notification template migration state of %s tenant.", tenantDomain),
+                    e);
+        }
+
+        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+        // Clearing first drops the stale state cached on the other nodes.
+        stateCache.clearCacheEntry(tenantDomain, tenantId);
+        stateCache.addToCache(tenantDomain, Boolean.TRUE, tenantId);
+    }
+
+    /**
+     * Claim the migration of the tenant for the given owner, so that only one node migrates the tenant at a time. The
+     * claim is a registry resource of the tenant holding the owner and the time the claim expires, so a claim left
+     * behind by a stopped node is taken over once it expires. The claim is read back after it is written, so of two
+     * nodes claiming the tenant at the same time only the last writer proceeds.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param owner        Owner of the claim, unique to the migration run.
+     * @param leaseMillis  Time the claim is valid for, in milliseconds.
+     * @return True if the owner holds the claim.
+     * @throws NotificationTemplateManagerServerException If an error occurred while reading or writing the claim.
+     */
+    public boolean claimTenant(String tenantDomain, String owner, long leaseMillis)
+            throws NotificationTemplateManagerServerException {
+
+        try {
+            Resource claim = getResourceMgtService().getIdentityResource(CLAIM_PATH, tenantDomain);
+            if (claim != null && !owner.equals(claim.getProperty(CLAIM_OWNER_PROPERTY)) && !isExpired(claim)) {
+                return false;
+            }
+            Resource newClaim = new ResourceImpl();
+            newClaim.setProperty(CLAIM_OWNER_PROPERTY, owner);
+            newClaim.setProperty(CLAIM_EXPIRES_AT_PROPERTY, String.valueOf(System.currentTimeMillis() + leaseMillis));
+            getResourceMgtService().putIdentityResource(newClaim, CLAIM_PATH, tenantDomain);
+
+            Resource writtenClaim = getResourceMgtService().getIdentityResource(CLAIM_PATH, tenantDomain);
+            return writtenClaim != null && owner.equals(writtenClaim.getProperty(CLAIM_OWNER_PROPERTY));
+        } catch (IdentityRuntimeException e) {
+            throw new NotificationTemplateManagerServerException(String.format(
+                    "Error while claiming the notification template migration of %s tenant.", tenantDomain), e);
+        }
+    }
+
+    /**
+     * Release the migration claim of the tenant, if it is still held by the given owner.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param owner        Owner of the claim.
+     * @throws NotificationTemplateManagerServerException If an error occurred while reading or deleting the claim.
+     */
+    public void releaseTenant(String tenantDomain, String owner) throws NotificationTemplateManagerServerException {
+
+        try {
+            Resource claim = getResourceMgtService().getIdentityResource(CLAIM_PATH, tenantDomain);
+            if (claim != null && owner.equals(claim.getProperty(CLAIM_OWNER_PROPERTY))) {
+                getResourceMgtService().deleteIdentityResource(CLAIM_PATH, tenantDomain);
+            }
+        } catch (IdentityRuntimeException e) {
+            throw new NotificationTemplateManagerServerException(String.format(
+                    "Error while releasing the notification template migration of %s tenant.", tenantDomain), e);
+        }
+    }
+
+    private static boolean isExpired(Resource claim) {
+
+        try {
+            return Long.parseLong(claim.getProperty(CLAIM_EXPIRES_AT_PROPERTY)) < System.currentTimeMillis();
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    private RegistryResourceMgtService getResourceMgtService() {
+
+        return I18nMgtDataHolder.getInstance().getRegistryResourceMgtService();
+    }
+}
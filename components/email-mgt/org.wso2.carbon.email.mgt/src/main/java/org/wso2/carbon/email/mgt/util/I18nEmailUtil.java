@@ -39,7 +39,6 @@ import org.wso2.carbon.registry.core.Resource;
 import org.wso2.carbon.registry.core.ResourceImpl;
 import org.wso2.carbon.registry.core.exceptions.RegistryException;
 
-import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.Charset;
@@ -293,21 +292,32 @@ public class I18nEmailUtil {
     }
 
     /**
-     * Get the notification template subject, body & footer contents as a byte array.
+     * Get the notification template subject, body & footer contents as a byte array in the legacy JSON format.
      *
      * @param notificationTemplate  the notification template to get the content
      * @return                      the byte array of the content
      */
     public static byte[] getContentByteArray(NotificationTemplate notificationTemplate) {
 
-        String[] templateContent = new String[]{notificationTemplate.getSubject(), notificationTemplate.getBody(),
-                notificationTemplate.getFooter()};
-        String content = new Gson().toJson(templateContent);
-        return content.getBytes(StandardCharsets.UTF_8);
+        return getContentByteArray(notificationTemplate, null);
     }
 
     /**
-     * Read the content stream and set the subject, body & footer of the notification template.
+     * Get the notification template subject, body & footer contents as a byte array in the content format of the
+     * given schema version.
+     *
+     * @param notificationTemplate  the notification template to get the content
+     * @param schemaVersion         the schema version of the template row
+     * @return                      the byte array of the content
+     */
+    public static byte[] getContentByteArray(NotificationTemplate notificationTemplate, String schemaVersion) {
+
+        return NotificationTemplateContentCodec.encode(notificationTemplate, schemaVersion);
+    }
+
+    /**
+     * Read the content stream in the legacy JSON format and set the subject, body & footer of the notification
+     * template.
      *
      * @param contentStream                 the inputStream of the content
      * @param notificationTemplateResult    the notification template to set the content
@@ -316,24 +326,22 @@ public class I18nEmailUtil {
     public static void setContent(InputStream contentStream, NotificationTemplate notificationTemplateResult) throws
             SQLException {
 
-        if (contentStream == null) {
-            return;
-        }
+        setContent(contentStream, null, notificationTemplateResult);
+    }
 
-        try {
-            byte[] contentByteArray = contentStream.readAllBytes();
-            String content = new String(contentByteArray, StandardCharsets.UTF_8);
-            String[] templateContent = new Gson().fromJson(content, String[].class);
-            if (templateContent != null && templateContent.length == 3) {
-                notificationTemplateResult.setSubject(templateContent[0]);
-                notificationTemplateResult.setBody(templateContent[1]);
-                notificationTemplateResult.setFooter(templateContent[2]);
-            } else {
-                throw new SQLException("Invalid content data.");
-            }
-        } catch (IOException e) {
-            throw new SQLException("Error while reading content data.", e);
-        }
+    /**
+     * Read the content stream in the content format of the given schema version and set the subject, body & footer
+     * of the notification template.
+     *
+     * @param contentStream                 the inputStream of the content
+     * @param schemaVersion                 the schema version of the template row
+     * @param notificationTemplateResult    the notification template to set the content
+     * @throws SQLException
+     */
+    public static void setContent(InputStream contentStream, String schemaVersion,
+                                  NotificationTemplate notificationTemplateResult) throws SQLException {
+
+        NotificationTemplateContentCodec.decode(contentStream, schemaVersion, notificationTemplateResult);
     }
 
     /**
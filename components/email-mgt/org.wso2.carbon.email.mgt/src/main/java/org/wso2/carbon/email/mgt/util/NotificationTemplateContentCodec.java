@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.email.mgt.util;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.governance.model.NotificationTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import static org.wso2.carbon.email.mgt.constants.I18nMgtConstants.NOTIFICATION_TEMPLATES_BINARY_CONTENT_FORMAT;
+import static org.wso2.carbon.email.mgt.constants.I18nMgtConstants.NotificationTableColumns.TEMPLATE_BINARY_CONTENT_SCHEMA_VERSION;
+
+/**
+ * Encodes and decodes the subject, body and footer of a notification template stored in the CONTENT column of the
+ * notification template tables. The format of a row is selected by its VERSION column.
+ *
+ * Rows of the binary content schema version hold a format flag byte followed by the subject, body and footer, each as
+ * a 4 byte length (-1 for null) and the UTF-8 bytes. Contents larger than {@link #COMPRESSION_THRESHOLD} bytes are
+ * deflated after the flag byte. Rows of any other version hold the legacy JSON array of the three strings.
+ *
+ * Both formats are always read, but new contents are written in the legacy format unless the binary format is enabled
+ * with {@code NotificationTemplates.BinaryContentFormat}. Enable it only after every node sharing the database is
+ * upgraded, as older nodes cannot read the binary format.
+ */
+public class NotificationTemplateContentCodec {
+
+    static final int COMPRESSION_THRESHOLD = 1024;
+
+    private static final int PLAIN_FORMAT = 0;
+    private static final int DEFLATE_FORMAT = 1;
+    private static final int NULL_SEGMENT_LENGTH = -1;
+    private static final int MAX_SEGMENT_LENGTH = 64 * 1024 * 1024;
+    private static final int STREAM_BUFFER_SIZE = 8192;
+    private static final Gson GSON = new Gson();
+
+    private NotificationTemplateContentCodec() {
+
+    }
+
+    /**
+     * Get the schema version new template contents are written with. The legacy version is kept unless the binary
+     * content format is enabled, so nodes not able to read the binary format can share the database during an upgrade.
+     *
+     * @param legacySchemaVersion Schema version of the legacy content format of the table.
+     * @return Schema version to be written to the VERSION column.
+     */
+    public static String getSchemaVersion(String legacySchemaVersion) {
+
+        if (Boolean.parseBoolean(IdentityUtil.getProperty(NOTIFICATION_TEMPLATES_BINARY_CONTENT_FORMAT))) {
+            return TEMPLATE_BINARY_CONTENT_SCHEMA_VERSION;
+        }
+        return legacySchemaVersion;
+    }
+
+    /**
+     * Encode the subject, body and footer of the notification template in the format of the given schema version.
+     *
+     * @param notificationTemplate Notification template.
+     * @param schemaVersion        Schema version of the row.
+     * @return Encoded content.
+     */
+    public static byte[] encode(NotificationTemplate notificationTemplate, String schemaVersion) {
+
+        return encode(notificationTemplate, schemaVersion, COMPRESSION_THRESHOLD);
+    }
+
+    /**
+     * Encode the subject, body and footer of the notification template in the format of the given schema version,
+     * compressing binary contents from the given length onwards.
+     *
+     * @param notificationTemplate Notification template.
+     * @param schemaVersion        Schema version of the row.
+     * @param compressionThreshold Content length in bytes from which binary contents are compressed.
+     * @return Encoded content.
+     */
+    public static byte[] encode(NotificationTemplate notificationTemplate, String schemaVersion,
+                                int compressionThreshold) {
+
+        String[] templateContent = new String[]{notificationTemplate.getSubject(), notificationTemplate.getBody(),
+                notificationTemplate.getFooter()};
+        if (!TEMPLATE_BINARY_CONTENT_SCHEMA_VERSION.equals(schemaVersion)) {
+            return GSON.toJson(templateContent).getBytes(StandardCharsets.UTF_8);
+        }
+
+        byte[][] segments = new byte[templateContent.length][];
+        int contentLength = 0;
+        for (int i = 0; i < templateContent.length; i++) {
+            if (templateContent[i] != null) {
+                segments[i] = templateContent[i].getBytes(StandardCharsets.UTF_8);
+                contentLength += segments[i].length;
+            }
+            contentLength += Integer.BYTES;
+        }
+
+        ByteArrayOutputStream plainContent = new ByteArrayOutputStream(contentLength + 1);
+        ByteArrayOutputStream deflatedContent = new ByteArrayOutputStream(contentLength / 2);
+        try {
+            plainContent.write(PLAIN_FORMAT);
+            writeSegments(plainContent, segments);
+            if (contentLength < compressionThreshold) {
+                return plainContent.toByteArray();
+            }
+
+            deflatedContent.write(DEFLATE_FORMAT);
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try (DeflaterOutputStream deflaterStream = new DeflaterOutputStream(deflatedContent, deflater)) {
+                writeSegments(deflaterStream, segments);
+            } finally {
+                deflater.end();
+            }
+        } catch (IOException e) {
+            // Not expected as the content is written to memory.
+            throw new IllegalStateException("Error while writing content data.", e);
+        }
+        // Already compressed content such as embedded images may not shrink.
+        return deflatedContent.size() < plainContent.size() ? deflatedContent.toByteArray() :
+                plainContent.toByteArray();
+    }
+
+    /**
+     * Decode the content stream in the format of the given schema version, and set the subject, body and footer of
+     * the notification template. The stream is decoded as it is read, without buffering the whole content.
+     *
+     * @param contentStream        Content stream of the row.
+     * @param schemaVersion        Schema version of the row.
+     * @param notificationTemplate Notification template to set the content.
+     * @throws SQLException If the content could not be read or is invalid.
+     */
+    public static void decode(InputStream contentStream, String schemaVersion,
+                              NotificationTemplate notificationTemplate) throws SQLException {
+
+        if (contentStream == null) {
+            return;
+        }
+
+        String[] templateContent;
+        try {
+            if (TEMPLATE_BINARY_CONTENT_SCHEMA_VERSION.equals(schemaVersion)) {
+                templateContent = decodeBinaryContent(contentStream);
+            } else {
+                templateContent = GSON.fromJson(new InputStreamReader(contentStream, StandardCharsets.UTF_8),
+                        String[].class);
+            }
+        } catch (IOException | JsonParseException e) {
+            throw new SQLException("Error while reading content data.", e);
+        }
+
+        if (templateContent == null || templateContent.length != 3) {
+            throw new SQLException("Invalid content data.");
+        }
+        notificationTemplate.setSubject(templateContent[0]);
+        notificationTemplate.setBody(templateContent[1]);
+        notificationTemplate.setFooter(templateContent[2]);
+    }
+
+    private static String[] decodeBinaryContent(InputStream contentStream) throws IOException, SQLException {
+
+        int format = contentStream.read();
+        if (format == PLAIN_FORMAT) {
+            return readSegments(new DataInputStream(contentStream));
+        }
+        if (format != DEFLATE_FORMAT) {
+            throw new SQLException("Invalid content data.");
+        }
+
+        Inflater inflater = new Inflater();
+        try {
+            return readSegments(new DataInputStream(
+                    new InflaterInputStream(contentStream, inflater, STREAM_BUFFER_SIZE)));
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static void writeSegments(OutputStream outputStream, byte[][] segments) throws IOException {
+
+        DataOutputStream dataStream = new DataOutputStream(outputStream);
+        for (byte[] segment : segments) {
+            if (segment == null) {
+                dataStream.writeInt(NULL_SEGMENT_LENGTH);
+            } else {
+                dataStream.writeInt(segment.length);
+                dataStream.write(segment);
+            }
+        }
+        dataStream.flush();
+    }
+
+    private static String[] readSegments(DataInputStream dataStream) throws IOException, SQLException {
+
+        String[] templateContent = new String[3];
+        for (int i = 0; i < templateContent.length; i++) {
+            int length = dataStream.readInt();
+            if (length == NULL_SEGMENT_LENGTH) {
+                continue;
+            }
+            if (length < 0 || length > MAX_SEGMENT_LENGTH) {
+                throw new SQLException("Invalid content data.");
+            }
+            byte[] segment = new byte[length];
+            dataStream.readFully(segment);
+            templateContent[i] = new String(segment, StandardCharsets.UTF_8);
+        }
+        return templateContent;
+    }
+}
@@ -25,6 +25,7 @@ import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.wso2.carbon.email.mgt.cache.OrganizationResolutionCache;
 import org.wso2.carbon.email.mgt.constants.I18nMgtConstants;
 import org.wso2.carbon.email.mgt.internal.I18nMgtDataHolder;
 import org.wso2.carbon.email.mgt.util.I18nEmailUtil;
@@ -88,6 +89,7 @@ public class ApplicationEmailTemplateTest {
     public void setUp() {
 
         initMocks(this);
+        OrganizationResolutionCache.getInstance().clear();
         
         i18nMgtDataHolderStatic = mockStatic(I18nMgtDataHolder.class);
         i18nMgtDataHolder = mock(I18nMgtDataHolder.class);
@@ -26,6 +26,7 @@ import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.wso2.carbon.email.mgt.cache.OrganizationResolutionCache;
 import org.wso2.carbon.email.mgt.constants.I18nMgtConstants;
 import org.wso2.carbon.email.mgt.internal.I18nMgtDataHolder;
 import org.wso2.carbon.email.mgt.internal.I18nMgtServiceComponent;
@@ -101,6 +102,7 @@ public class OrganizationEmailTemplateTest {
     public void setUp() throws Exception {
 
         initMocks(this);
+        OrganizationResolutionCache.getInstance().clear();
         
         i18nMgtDataHolderStatic = mockStatic(I18nMgtDataHolder.class);
         i18nMgtDataHolder = mock(I18nMgtDataHolder.class);
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.email.mgt.cache;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Class that contains the test cases for {@link BoundedConcurrentCache}.
+ */
+public class BoundedConcurrentCacheTest {
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvicted() {
+
+        BoundedConcurrentCache<String, String> cache = new BoundedConcurrentCache<>(2);
+        cache.put("a", "A");
+        cache.put("b", "B");
+        assertEquals(cache.get("a"), "A");
+        cache.put("c", "C");
+
+        assertEquals(cache.get("a"), "A");
+        assertNull(cache.get("b"));
+        assertEquals(cache.get("c"), "C");
+    }
+
+    @Test
+    public void testExpiredEntryIsNotServed() throws InterruptedException {
+
+        BoundedConcurrentCache<String, String> cache = new BoundedConcurrentCache<>(10, 1, TimeUnit.MILLISECONDS);
+        cache.put("a", "A");
+        Thread.sleep(5);
+
+        assertNull(cache.get("a"));
+        assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    public void testMergeAndConditionalRemove() {
+
+        BoundedConcurrentCache<String, String> cache = new BoundedConcurrentCache<>(10);
+        cache.merge("a", "A", String::concat);
+        cache.merge("a", "B", String::concat);
+        assertEquals(cache.get("a"), "AB");
+
+        cache.remove("a", "A");
+        assertEquals(cache.get("a"), "AB");
+        cache.remove("a", cache.get("a"));
+        assertNull(cache.get("a"));
+    }
+
+    @Test
+    public void testSizeIsBoundedUnderConcurrentWrites() throws Exception {
+
+        int maxEntries = 100;
+        BoundedConcurrentCache<Integer, Integer> cache = new BoundedConcurrentCache<>(maxEntries);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                int offset = thread * 10000;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10000; i++) {
+                        cache.put(offset + i, i);
+                        cache.get(offset + i / 2);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        cache.put(-1, -1);
+        assertTrue(cache.size() <= maxEntries, "Cache grew beyond its limit: " + cache.size());
+    }
+}
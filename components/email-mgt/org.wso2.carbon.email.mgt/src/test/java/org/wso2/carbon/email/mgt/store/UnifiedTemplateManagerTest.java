@@ -24,8 +24,14 @@ import org.mockito.MockedStatic;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
+import org.wso2.carbon.email.mgt.cache.EffectiveNotificationTemplateCache;
+import org.wso2.carbon.email.mgt.cache.NotificationTemplateVersionCache;
+import org.wso2.carbon.email.mgt.cache.OrganizationResolutionCache;
 import org.wso2.carbon.email.mgt.internal.I18nMgtDataHolder;
+import org.wso2.carbon.email.mgt.model.NotificationTemplateSource;
+import org.wso2.carbon.email.mgt.model.ResolvedNotificationTemplate;
 import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.governance.model.NotificationTemplate;
 import org.wso2.carbon.identity.governance.service.notification.NotificationChannels;
@@ -35,15 +41,19 @@ import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 import static org.wso2.carbon.email.mgt.constants.I18nMgtConstants.NOTIFICATION_TEMPLATES_STORAGE_CONFIG;
@@ -81,6 +91,8 @@ public class UnifiedTemplateManagerTest {
     @BeforeMethod
     public void setUp() throws Exception {
 
+        OrganizationResolutionCache.getInstance().clear();
+        EffectiveNotificationTemplateCache.getInstance().clear();
         initTestNotificationTemplates();
 
         initMocks(this);
@@ -286,6 +298,72 @@ public class UnifiedTemplateManagerTest {
         verify(templatePersistenceManager).addOrUpdateNotificationTemplate(null, null, tenantDomain);
     }
 
+    @Test
+    public void testGetNotificationTemplateServedFromEffectiveTemplateCache() throws Exception {
+
+        NotificationTemplate notificationTemplate = positiveNotificationTemplate;
+        int tenantId = -1234;
+        when(organizationManager.resolveTenantDomain(ROOT_ORG_ID)).thenReturn(tenantDomain);
+        when(templatePersistenceManager.resolveNotificationTemplate(notificationTemplate.getDisplayName(),
+                notificationTemplate.getLocale(), notificationTemplate.getNotificationChannel(), null,
+                tenantDomain)).thenReturn(
+                new ResolvedNotificationTemplate(notificationTemplate, NotificationTemplateSource.ORGANIZATION));
+        when(orgAppResourceResolverService.getResourcesFromOrgHierarchy(eq(ROOT_ORG_ID), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    BiFunction<String, String, Optional<ResolvedNotificationTemplate>> retriever =
+                            invocation.getArgument(2);
+                    return retriever.apply(ROOT_ORG_ID, invocation.getArgument(1)).orElse(null);
+                });
+
+        NotificationTemplateVersionCache templateVersionCache = mock(NotificationTemplateVersionCache.class);
+        when(templateVersionCache.getVersion(tenantId)).thenReturn(1L);
+        try (MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+             MockedStatic<NotificationTemplateVersionCache> templateVersionCacheStatic =
+                     mockStatic(NotificationTemplateVersionCache.class)) {
+            identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(tenantDomain)).thenReturn(tenantId);
+            templateVersionCacheStatic.when(NotificationTemplateVersionCache::getInstance)
+                    .thenReturn(templateVersionCache);
+
+            // The first lookup resolves the template through the organization hierarchy.
+            when(templateVersionCache.isCurrentVersion(tenantId, 1L)).thenReturn(true);
+            assertEquals(unifiedTemplateManager.getNotificationTemplate(notificationTemplate.getDisplayName(),
+                    notificationTemplate.getLocale(), notificationTemplate.getNotificationChannel(), null,
+                    tenantDomain), notificationTemplate);
+            // The second lookup is served from the cache while the template version is unchanged.
+            assertEquals(unifiedTemplateManager.getNotificationTemplate(notificationTemplate.getDisplayName(),
+                    notificationTemplate.getLocale(), notificationTemplate.getNotificationChannel(), null,
+                    tenantDomain), notificationTemplate);
+            verify(templatePersistenceManager, times(1)).resolveNotificationTemplate(
+                    notificationTemplate.getDisplayName(), notificationTemplate.getLocale(),
+                    notificationTemplate.getNotificationChannel(), null, tenantDomain);
+
+            // A template change in the organization invalidates the cached template.
+            when(templateVersionCache.isCurrentVersion(tenantId, 1L)).thenReturn(false);
+            assertEquals(unifiedTemplateManager.getNotificationTemplate(notificationTemplate.getDisplayName(),
+                    notificationTemplate.getLocale(), notificationTemplate.getNotificationChannel(), null,
+                    tenantDomain), notificationTemplate);
+            verify(templatePersistenceManager, times(2)).resolveNotificationTemplate(
+                    notificationTemplate.getDisplayName(), notificationTemplate.getLocale(),
+                    notificationTemplate.getNotificationChannel(), null, tenantDomain);
+        }
+    }
+
+    @Test
+    public void testResolveNotificationTemplateReportsSystemDefaultSource() throws Exception {
+
+        NotificationTemplate notificationTemplate = defaultSystemTemplates.get(0);
+        ResolvedNotificationTemplate resolvedTemplate = unifiedTemplateManager.resolveNotificationTemplate(
+                notificationTemplate.getDisplayName(),
+                notificationTemplate.getLocale(),
+                notificationTemplate.getNotificationChannel(),
+                null,
+                tenantDomain);
+
+        assertEquals(resolvedTemplate.getNotificationTemplate(), notificationTemplate);
+        assertEquals(resolvedTemplate.getSource(), NotificationTemplateSource.SYSTEM_DEFAULT);
+        assertFalse(resolvedTemplate.isInherited());
+    }
+
     private void initTestNotificationTemplates() {
 
         defaultSystemTemplates = new ArrayList<>();
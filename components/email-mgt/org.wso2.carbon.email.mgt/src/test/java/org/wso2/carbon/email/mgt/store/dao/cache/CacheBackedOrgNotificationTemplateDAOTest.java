@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.email.mgt.store.dao.cache;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.database.utils.jdbc.NamedJdbcTemplate;
+import org.wso2.carbon.email.mgt.cache.NotificationTemplateCacheStatistics;
+import org.wso2.carbon.email.mgt.cache.NotificationTemplateVersionCache;
+import org.wso2.carbon.email.mgt.cache.OrgNotificationTemplateCache;
+import org.wso2.carbon.email.mgt.cache.OrgNotificationTemplateCacheKey;
+import org.wso2.carbon.email.mgt.cache.OrgNotificationTemplateListCache;
+import org.wso2.carbon.email.mgt.cache.OrgNotificationTemplateNegativeCache;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.core.util.JdbcUtils;
+import org.wso2.carbon.identity.governance.model.NotificationTemplate;
+import org.wso2.carbon.identity.governance.service.notification.NotificationChannels;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.wso2.carbon.email.mgt.constants.SQLConstants.GET_NOTIFICATION_TYPE_ID_SQL;
+import static org.wso2.carbon.email.mgt.constants.SQLConstants.GET_ORG_NOTIFICATION_TEMPLATE_SQL;
+
+/**
+ * Class that contains the test cases for the negative cache and the cache statistics of
+ * {@link CacheBackedOrgNotificationTemplateDAO}.
+ */
+public class CacheBackedOrgNotificationTemplateDAOTest {
+
+    private static final int TENANT_ID = 1;
+    private static final String TEMPLATE_TYPE = "accountconfirmation";
+    private static final String LOCALE = "en_US";
+    private static final String OTHER_LOCALE = "fr_FR";
+    private static final String CHANNEL = NotificationChannels.EMAIL_CHANNEL.getChannelType();
+
+    private final Map<OrgNotificationTemplateCacheKey, Long> negativeCacheEntries = new HashMap<>();
+    private final AtomicLong templateVersion = new AtomicLong();
+
+    private NamedJdbcTemplate namedJdbcTemplate;
+    private OrgNotificationTemplateCache orgNotificationTemplateCache;
+    private CacheBackedOrgNotificationTemplateDAO templateDAO;
+    private NotificationTemplateCacheStatistics cacheStatistics;
+
+    private MockedStatic<JdbcUtils> jdbcUtilsStatic;
+    private MockedStatic<IdentityUtil> identityUtilStatic;
+
+    @BeforeMethod
+    public void setUp() {
+
+        negativeCacheEntries.clear();
+        templateVersion.set(0);
+        cacheStatistics = NotificationTemplateCacheStatistics.getOrgTemplateCacheStatistics();
+        cacheStatistics.reset();
+
+        namedJdbcTemplate = mock(NamedJdbcTemplate.class);
+        jdbcUtilsStatic = mockStatic(JdbcUtils.class);
+        jdbcUtilsStatic.when(JdbcUtils::getNewNamedJdbcTemplate).thenReturn(namedJdbcTemplate);
+        identityUtilStatic = mockStatic(IdentityUtil.class);
+
+        orgNotificationTemplateCache = mock(OrgNotificationTemplateCache.class);
+        OrgNotificationTemplateNegativeCache negativeTemplateCache = mock(OrgNotificationTemplateNegativeCache.class);
+        when(negativeTemplateCache.getValueFromCache(any(), anyInt()))
+                .thenAnswer(invocation -> negativeCacheEntries.get(invocation.getArgument(0)));
+        doAnswer(invocation -> negativeCacheEntries.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(negativeTemplateCache).addToCache(any(), any(), anyInt());
+        doAnswer(invocation -> negativeCacheEntries.remove(invocation.getArgument(0)))
+                .when(negativeTemplateCache).clearCacheEntry(any(), anyInt());
+
+        // Dropping the version stamp issues a new stamp on the next read, which is modelled as an increment.
+        NotificationTemplateVersionCache templateVersionCache = mock(NotificationTemplateVersionCache.class);
+        when(templateVersionCache.getVersion(anyInt())).thenAnswer(invocation -> templateVersion.get());
+        when(templateVersionCache.isCurrentVersion(anyInt(), anyLong()))
+                .thenAnswer(invocation -> templateVersion.get() == invocation.<Long>getArgument(1));
+        doAnswer(invocation -> templateVersion.incrementAndGet()).when(templateVersionCache).invalidate(anyInt());
+
+        try (MockedStatic<OrgNotificationTemplateCache> templateCacheStatic =
+                     mockStatic(OrgNotificationTemplateCache.class);
+             MockedStatic<OrgNotificationTemplateNegativeCache> negativeTemplateCacheStatic =
+                     mockStatic(OrgNotificationTemplateNegativeCache.class);
+             MockedStatic<OrgNotificationTemplateListCache> templateListCacheStatic =
+                     mockStatic(OrgNotificationTemplateListCache.class);
+             MockedStatic<NotificationTemplateVersionCache> templateVersionCacheStatic =
+                     mockStatic(NotificationTemplateVersionCache.class)) {
+            templateCacheStatic.when(OrgNotificationTemplateCache::getInstance)
+                    .thenReturn(orgNotificationTemplateCache);
+            negativeTemplateCacheStatic.when(OrgNotificationTemplateNegativeCache::getInstance)
+                    .thenReturn(negativeTemplateCache);
+            templateListCacheStatic.when(OrgNotificationTemplateListCache::getInstance)
+                    .thenReturn(mock(OrgNotificationTemplateListCache.class));
+            templateVersionCacheStatic.when(NotificationTemplateVersionCache::getInstance)
+                    .thenReturn(templateVersionCache);
+            templateDAO = new CacheBackedOrgNotificationTemplateDAO();
+        }
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        jdbcUtilsStatic.close();
+        identityUtilStatic.close();
+    }
+
+    @Test
+    public void testNegativeEntryServedUntilTemplateVersionChanges() throws Exception {
+
+        assertNull(templateDAO.getNotificationTemplate(LOCALE, TEMPLATE_TYPE, CHANNEL, TENANT_ID));
+        // The missing template is served from the negative cache while the template version is unchanged.
+        assertNull(templateDAO.getNotificationTemplate(LOCALE, TEMPLATE_TYPE, CHANNEL, TENANT_ID));
+        assertFalse(templateDAO.isNotificationTemplateExists(LOCALE, TEMPLATE_TYPE, CHANNEL, TENANT_ID));
+        verify(namedJdbcTemplate, times(1)).fetchSingleRecord(eq(GET_ORG_NOTIFICATION_TEMPLATE_SQL), any(), any());
+        verify(namedJdbcTemplate, never()).fetchSingleRecord(eq(GET_NOTIFICATION_TYPE_ID_SQL), any(), any());
+
+        // A template change in the tenant, e.g. on another node, makes the negative entry stale.
+        templateVersion.incrementAndGet();
+        assertNull(templateDAO.getNotificationTemplate(LOCALE, TEMPLATE_TYPE, CHANNEL, TENANT_ID));
+        verify(namedJdbcTemplate, times(2)).fetchSingleRecord(eq(GET_ORG_NOTIFICATION_TEMPLATE_SQL), any(), any());
+    }
+
+    @DataProvider(name = "templateChangeProvider")
+    public Object[][] templateChangeProvider() {
+
+        return new Object[][]{
+                {false},
+                {true}
+        };
+    }
+
+    @Test(dataProvider = "templateChangeProvider")
+    public void testNegativeEntryDroppedAfterTemplateChange(boolean update) throws Exception {
+
+        assertNull(templateDAO.getNotificationTemplate(LOCALE, TEMPLATE_TYPE, CHANNEL, TENANT_ID));
+        OrgNotificationTemplateCacheKey key = new OrgNotificationTemplateCacheKey(LOCALE, TEMPLATE_TYPE, CHANNEL);
+        assertTrue(negativeCacheEntries.containsKey(key));
+
+        // Changing a template of another locale only clears its own entries, but bumps the template version.
+        NotificationTemplate otherTemplate = buildNotificationTemplate(OTHER_LOCALE);
+        if (update) {
+            templateDAO.updateNotificationTemplate(otherTemplate, TENANT_ID);
+        } else {
+            templateDAO.addNotificationTemplate(otherTemplate, TENANT_ID);
+        }
+
+        assertFalse(templateDAO.isNotificationTemplateExists(LOCALE, TEMPLATE_TYPE, CHANNEL, TENANT_ID));
+        verify(namedJdbcTemplate, times(1)).fetchSingleRecord(eq(GET_NOTIFICATION_TYPE_ID_SQL), any(), any());
+        assertEquals(negativeCacheEntries.get(key), Long.valueOf(templateVersion.get()));
+        assertEquals(cacheStatistics.getNegativeHitCount(), 0);
+    }
+
+    @Test
+    public void testCacheStatistics() throws Exception {
+
+        NotificationTemplate notificationTemplate = buildNotificationTemplate(LOCALE);
+        when(orgNotificationTemplateCache.getValueFromCache(
+                new OrgNotificationTemplateCacheKey(LOCALE, TEMPLATE_TYPE, CHANNEL), TENANT_ID))
+                .thenReturn(notificationTemplate);
+
+        assertEquals(templateDAO.getNotificationTemplate(LOCALE, TEMPLATE_TYPE, CHANNEL, TENANT_ID),
+                notificationTemplate);
+        assertNull(templateDAO.getNotificationTemplate(OTHER_LOCALE, TEMPLATE_TYPE, CHANNEL, TENANT_ID));
+        assertFalse(templateDAO.isNotificationTemplateExists(OTHER_LOCALE, TEMPLATE_TYPE, CHANNEL, TENANT_ID));
+        assertNull(templateDAO.getNotificationTemplate(OTHER_LOCALE, TEMPLATE_TYPE, CHANNEL, TENANT_ID));
+
+        assertEquals(cacheStatistics.getHitCount(), 1);
+        assertEquals(cacheStatistics.getMissCount(), 1);
+        assertEquals(cacheStatistics.getNegativeHitCount(), 2);
+    }
+
+    private NotificationTemplate buildNotificationTemplate(String locale) {
+
+        NotificationTemplate notificationTemplate = new NotificationTemplate();
+        notificationTemplate.setNotificationChannel(CHANNEL);
+        notificationTemplate.setType(TEMPLATE_TYPE);
+        notificationTemplate.setDisplayName(TEMPLATE_TYPE);
+        notificationTemplate.setLocale(locale);
+        notificationTemplate.setContentType("text/html");
+        notificationTemplate.setSubject("Subject");
+        notificationTemplate.setBody("Body");
+        return notificationTemplate;
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.email.mgt.store.migration;
+
+import org.mockito.Mock;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.email.mgt.store.DBBasedTemplateManager;
+import org.wso2.carbon.email.mgt.store.RegistryBasedTemplateManager;
+import org.wso2.carbon.identity.governance.exceptions.notiification.NotificationTemplateManagerServerException;
+import org.wso2.carbon.identity.governance.model.NotificationTemplate;
+import org.wso2.carbon.identity.governance.service.notification.NotificationChannels;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+/**
+ * Class that contains the test cases for {@link NotificationTemplateMigrationJob}.
+ */
+public class NotificationTemplateMigrationJobTest {
+
+    private static final String TENANT_DOMAIN = "wso2.com";
+    private static final String TEMPLATE_TYPE = "Password Reset";
+    private static final String EMAIL_CHANNEL = NotificationChannels.EMAIL_CHANNEL.getChannelType();
+    private static final String SMS_CHANNEL = NotificationChannels.SMS_CHANNEL.getChannelType();
+
+    @Mock
+    RegistryBasedTemplateManager registryBasedTemplateManager;
+    @Mock
+    DBBasedTemplateManager dbBasedTemplateManager;
+    @Mock
+    NotificationTemplateMigrationStateManager migrationStateManager;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        initMocks(this);
+
+        when(migrationStateManager.claimTenant(eq(TENANT_DOMAIN), anyString(), anyLong())).thenReturn(true);
+
+        when(registryBasedTemplateManager.listNotificationTemplateTypes(EMAIL_CHANNEL, TENANT_DOMAIN))
+                .thenReturn(Collections.singletonList(TEMPLATE_TYPE));
+        when(registryBasedTemplateManager.listNotificationTemplateTypes(SMS_CHANNEL, TENANT_DOMAIN))
+                .thenReturn(new ArrayList<>());
+        when(registryBasedTemplateManager.listApplicationsWithNotificationTemplates(TEMPLATE_TYPE, EMAIL_CHANNEL,
+                TENANT_DOMAIN)).thenReturn(new ArrayList<>());
+        when(registryBasedTemplateManager.listNotificationTemplates(TEMPLATE_TYPE, EMAIL_CHANNEL, null,
+                TENANT_DOMAIN)).thenReturn(Arrays.asList(buildTemplate("en_US"), buildTemplate("fr_FR"),
+                buildTemplate("de_DE")));
+    }
+
+    @Test
+    public void testMigrateTenantCopiesMissingTemplatesInBatches() throws Exception {
+
+        when(dbBasedTemplateManager.isNotificationTemplateTypeExists(TEMPLATE_TYPE, EMAIL_CHANNEL, TENANT_DOMAIN))
+                .thenReturn(true);
+        when(dbBasedTemplateManager.listNotificationTemplates(TEMPLATE_TYPE, EMAIL_CHANNEL, null, TENANT_DOMAIN))
+                .thenReturn(Collections.singletonList(buildTemplate("en_us")));
+        NotificationTemplateMigrationJob migrationJob = new NotificationTemplateMigrationJob(
+                registryBasedTemplateManager, dbBasedTemplateManager, migrationStateManager, 1, 1, false);
+
+        assertEquals(migrationJob.migrateTenant(TENANT_DOMAIN), 2);
+
+        verify(dbBasedTemplateManager, never()).addNotificationTemplateType(anyString(), anyString(), anyString());
+        verify(dbBasedTemplateManager, times(2)).addNotificationTemplates(anyList(), isNull(), eq(TENANT_DOMAIN));
+        verify(migrationStateManager).markTenantMigrated(TENANT_DOMAIN, 2);
+        NotificationTemplateMigrationProgress progress = migrationJob.getProgress();
+        assertEquals(progress.getMigratedTenants(), 1);
+        assertEquals(progress.getMigratedTemplates(), 2);
+        assertEquals(progress.getExistingTemplates(), 1);
+        assertEquals(progress.getBatches(), 2);
+    }
+
+    @Test
+    public void testMigrateTenantInDryRunDoesNotWrite() throws Exception {
+
+        NotificationTemplateMigrationJob migrationJob = new NotificationTemplateMigrationJob(
+                registryBasedTemplateManager, dbBasedTemplateManager, migrationStateManager, 1, 100, true);
+
+        assertEquals(migrationJob.migrateTenant(TENANT_DOMAIN), 3);
+
+        verify(dbBasedTemplateManager, never()).addNotificationTemplateType(anyString(), anyString(), anyString());
+        verify(dbBasedTemplateManager, never()).addNotificationTemplates(anyList(), any(), anyString());
+        verify(migrationStateManager, never()).markTenantMigrated(anyString(), anyLong());
+        assertEquals(migrationJob.getProgress().getMigratedTemplates(), 3);
+    }
+
+    @Test
+    public void testMigrateTenantSkipsMigratedTenant() throws Exception {
+
+        when(migrationStateManager.isTenantMigrated(TENANT_DOMAIN)).thenReturn(true);
+        NotificationTemplateMigrationJob migrationJob = new NotificationTemplateMigrationJob(
+                registryBasedTemplateManager, dbBasedTemplateManager, migrationStateManager, 1, 100, false);
+
+        assertEquals(migrationJob.migrateTenant(TENANT_DOMAIN), 0);
+
+        verify(registryBasedTemplateManager, never()).listNotificationTemplateTypes(anyString(), anyString());
+        assertEquals(migrationJob.getProgress().getSkippedTenants(), 1);
+    }
+
+    @Test
+    public void testMigrateTenantSkipsTenantClaimedByAnotherNode() throws Exception {
+
+        when(migrationStateManager.claimTenant(eq(TENANT_DOMAIN), anyString(), anyLong())).thenReturn(false);
+        NotificationTemplateMigrationJob migrationJob = new NotificationTemplateMigrationJob(
+                registryBasedTemplateManager, dbBasedTemplateManager, migrationStateManager, 1, 100, false);
+
+        assertEquals(migrationJob.migrateTenant(TENANT_DOMAIN), 0);
+
+        verify(registryBasedTemplateManager, never()).listNotificationTemplateTypes(anyString(), anyString());
+        verify(migrationStateManager, never()).releaseTenant(anyString(), anyString());
+        assertEquals(migrationJob.getProgress().getSkippedTenants(), 1);
+    }
+
+    @Test
+    public void testMigrateTenantSkipsTemplatesAddedConcurrently() throws Exception {
+
+        when(dbBasedTemplateManager.isNotificationTemplateTypeExists(TEMPLATE_TYPE, EMAIL_CHANNEL, TENANT_DOMAIN))
+                .thenReturn(true);
+        when(dbBasedTemplateManager.listNotificationTemplates(TEMPLATE_TYPE, EMAIL_CHANNEL, null, TENANT_DOMAIN))
+                .thenReturn(new ArrayList<>());
+        doThrow(new NotificationTemplateManagerServerException("Duplicate template.")).when(dbBasedTemplateManager)
+                .addNotificationTemplates(argThat(templates -> templates.size() > 1), isNull(), eq(TENANT_DOMAIN));
+        when(dbBasedTemplateManager.isNotificationTemplateExists(TEMPLATE_TYPE, "fr_FR", EMAIL_CHANNEL, null,
+                TENANT_DOMAIN)).thenReturn(true);
+        NotificationTemplateMigrationJob migrationJob = new NotificationTemplateMigrationJob(
+                registryBasedTemplateManager, dbBasedTemplateManager, migrationStateManager, 1, 100, false);
+
+        assertEquals(migrationJob.migrateTenant(TENANT_DOMAIN), 2);
+
+        verify(dbBasedTemplateManager, times(2)).addNotificationTemplates(
+                argThat(templates -> templates.size() == 1), isNull(), eq(TENANT_DOMAIN));
+        verify(migrationStateManager).markTenantMigrated(TENANT_DOMAIN, 2);
+        verify(migrationStateManager).releaseTenant(eq(TENANT_DOMAIN), anyString());
+        assertEquals(migrationJob.getProgress().getMigratedTemplates(), 2);
+        assertEquals(migrationJob.getProgress().getExistingTemplates(), 1);
+    }
+
+    @Test
+    public void testMigrateTenantIsNotMarkedWhenRegistryChanges() throws Exception {
+
+        when(dbBasedTemplateManager.isNotificationTemplateTypeExists(TEMPLATE_TYPE, EMAIL_CHANNEL, TENANT_DOMAIN))
+                .thenReturn(true);
+        when(registryBasedTemplateManager.getNotificationTemplatesLastModified(EMAIL_CHANNEL, TENANT_DOMAIN))
+                .thenReturn(1000L, 2000L);
+        NotificationTemplateMigrationJob migrationJob = new NotificationTemplateMigrationJob(
+                registryBasedTemplateManager, dbBasedTemplateManager, migrationStateManager, 1, 100, false);
+
+        try {
+            migrationJob.migrateTenant(TENANT_DOMAIN);
+            fail("A tenant whose registry templates changed during the migration is marked as migrated.");
+        } catch (NotificationTemplateManagerServerException e) {
+            verify(migrationStateManager, never()).markTenantMigrated(anyString(), anyLong());
+            verify(migrationStateManager).releaseTenant(eq(TENANT_DOMAIN), anyString());
+        }
+    }
+
+    private static NotificationTemplate buildTemplate(String locale) {
+
+        NotificationTemplate notificationTemplate = new NotificationTemplate();
+        notificationTemplate.setDisplayName(TEMPLATE_TYPE);
+        notificationTemplate.setType("passwordreset");
+        notificationTemplate.setLocale(locale);
+        notificationTemplate.setNotificationChannel(EMAIL_CHANNEL);
+        notificationTemplate.setSubject("Subject");
+        notificationTemplate.setBody("Body");
+        notificationTemplate.setContentType("text/html");
+        return notificationTemplate;
+    }
+}
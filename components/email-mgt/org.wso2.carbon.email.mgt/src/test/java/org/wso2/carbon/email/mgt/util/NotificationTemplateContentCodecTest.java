@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.email.mgt.util;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.governance.model.NotificationTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+
+import static org.mockito.Mockito.mockStatic;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.wso2.carbon.email.mgt.constants.I18nMgtConstants.NOTIFICATION_TEMPLATES_BINARY_CONTENT_FORMAT;
+import static org.wso2.carbon.email.mgt.constants.I18nMgtConstants.NotificationTableColumns.ORG_TEMPLATE_SCHEMA_VERSION;
+import static org.wso2.carbon.email.mgt.constants.I18nMgtConstants.NotificationTableColumns.TEMPLATE_BINARY_CONTENT_SCHEMA_VERSION;
+
+/**
+ * Class that contains the test cases for {@link NotificationTemplateContentCodec}.
+ */
+public class NotificationTemplateContentCodecTest {
+
+    private static final String LEGACY_CONTENT = "[\"Subject\",\"Body\",\"Footer\"]";
+
+    private MockedStatic<IdentityUtil> identityUtilStatic;
+
+    @BeforeMethod
+    public void setUp() {
+
+        identityUtilStatic = mockStatic(IdentityUtil.class);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        identityUtilStatic.close();
+    }
+
+    @DataProvider(name = "provideTemplateContent")
+    public Object[][] provideTemplateContent() {
+
+        StringBuilder largeBody = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            largeBody.append("<tr><td style=\"padding: 10px\">Line ").append(i).append(" éè ✓</td></tr>");
+        }
+        return new Object[][]{
+                {ORG_TEMPLATE_SCHEMA_VERSION, "Subject", "Body", "Footer"},
+                {ORG_TEMPLATE_SCHEMA_VERSION, "Subject", largeBody.toString(), null},
+                {TEMPLATE_BINARY_CONTENT_SCHEMA_VERSION, "Subject é", "Body \"quoted\"", "Footer"},
+                {TEMPLATE_BINARY_CONTENT_SCHEMA_VERSION, "Subject", largeBody.toString(), null},
+                {TEMPLATE_BINARY_CONTENT_SCHEMA_VERSION, "", "", ""}
+        };
+    }
+
+    @Test(dataProvider = "provideTemplateContent")
+    public void testEncodeAndDecode(String schemaVersion, String subject, String body, String footer)
+            throws Exception {
+
+        NotificationTemplate notificationTemplate = new NotificationTemplate();
+        notificationTemplate.setSubject(subject);
+        notificationTemplate.setBody(body);
+        notificationTemplate.setFooter(footer);
+
+        byte[] content = NotificationTemplateContentCodec.encode(notificationTemplate, schemaVersion);
+        NotificationTemplate decodedTemplate = new NotificationTemplate();
+        NotificationTemplateContentCodec.decode(new ByteArrayInputStream(content), schemaVersion, decodedTemplate);
+
+        assertEquals(decodedTemplate.getSubject(), subject);
+        assertEquals(decodedTemplate.getBody(), body);
+        assertEquals(decodedTemplate.getFooter(), footer);
+    }
+
+    @Test
+    public void testCompressLargeContent() {
+
+        NotificationTemplate notificationTemplate = new NotificationTemplate();
+        StringBuilder body = new StringBuilder();
+        while (body.length() < NotificationTemplateContentCodec.COMPRESSION_THRESHOLD * 4) {
+            body.append("<p style=\"font-family: Arial\">Click the link below to reset your password.</p>");
+        }
+        notificationTemplate.setBody(body.toString());
+
+        byte[] content = NotificationTemplateContentCodec.encode(notificationTemplate,
+                TEMPLATE_BINARY_CONTENT_SCHEMA_VERSION);
+
+        assertTrue(content.length < body.length() / 4);
+    }
+
+    @Test
+    public void testEncodeWithCompressionThreshold() throws Exception {
+
+        NotificationTemplate notificationTemplate = new NotificationTemplate();
+        StringBuilder body = new StringBuilder();
+        while (body.length() < NotificationTemplateContentCodec.COMPRESSION_THRESHOLD * 4) {
+            body.append("<p style=\"font-family: Arial\">Click the link below to reset your password.</p>");
+        }
+        notificationTemplate.setBody(body.toString());
+
+        byte[] plainContent = NotificationTemplateContentCodec.encode(notificationTemplate,
+                TEMPLATE_BINARY_CONTENT_SCHEMA_VERSION, Integer.MAX_VALUE);
+        byte[] deflatedContent = NotificationTemplateContentCodec.encode(notificationTemplate,
+                TEMPLATE_BINARY_CONTENT_SCHEMA_VERSION, 0);
+        assertTrue(plainContent.length > body.length());
+        assertTrue(deflatedContent.length < body.length() / 4);
+
+        for (byte[] content : new byte[][]{plainContent, deflatedContent}) {
+            NotificationTemplate decodedTemplate = new NotificationTemplate();
+            NotificationTemplateContentCodec.decode(new ByteArrayInputStream(content),
+                    TEMPLATE_BINARY_CONTENT_SCHEMA_VERSION, decodedTemplate);
+            assertEquals(decodedTemplate.getBody(), body.toString());
+        }
+    }
+
+    @Test
+    public void testDecodeLegacyContent() throws Exception {
+
+        NotificationTemplate notificationTemplate = new NotificationTemplate();
+        NotificationTemplateContentCodec.decode(
+                new ByteArrayInputStream(LEGACY_CONTENT.getBytes(StandardCharsets.UTF_8)), null, notificationTemplate);
+
+        assertEquals(notificationTemplate.getSubject(), "Subject");
+        assertEquals(notificationTemplate.getBody(), "Body");
+        assertEquals(notificationTemplate.getFooter(), "Footer");
+    }
+
+    @Test
+    public void testDecodeNullContent() throws Exception {
+
+        NotificationTemplate notificationTemplate = new NotificationTemplate();
+        NotificationTemplateContentCodec.decode(null, TEMPLATE_BINARY_CONTENT_SCHEMA_VERSION, notificationTemplate);
+
+        assertNull(notificationTemplate.getBody());
+    }
+
+    @Test(expectedExceptions = SQLException.class)
+    public void testDecodeTruncatedBinaryContent() throws Exception {
+
+        NotificationTemplate notificationTemplate = new NotificationTemplate();
+        notificationTemplate.setSubject("Subject");
+        notificationTemplate.setBody("Body");
+        byte[] content = NotificationTemplateContentCodec.encode(notificationTemplate,
+                TEMPLATE_BINARY_CONTENT_SCHEMA_VERSION);
+        InputStream truncatedContent = new ByteArrayInputStream(content, 0, content.length - 2);
+
+        NotificationTemplateContentCodec.decode(truncatedContent, TEMPLATE_BINARY_CONTENT_SCHEMA_VERSION,
+                new NotificationTemplate());
+    }
+
+    @Test(expectedExceptions = SQLException.class)
+    public void testDecodeLegacyContentAsBinaryContent() throws Exception {
+
+        NotificationTemplateContentCodec.decode(
+                new ByteArrayInputStream(LEGACY_CONTENT.getBytes(StandardCharsets.UTF_8)),
+                TEMPLATE_BINARY_CONTENT_SCHEMA_VERSION, new NotificationTemplate());
+    }
+
+    @Test
+    public void testGetSchemaVersion() {
+
+        assertEquals(NotificationTemplateContentCodec.getSchemaVersion(ORG_TEMPLATE_SCHEMA_VERSION),
+                ORG_TEMPLATE_SCHEMA_VERSION);
+
+        identityUtilStatic.when(() -> IdentityUtil.getProperty(NOTIFICATION_TEMPLATES_BINARY_CONTENT_FORMAT))
+                .thenReturn("true");
+        assertEquals(NotificationTemplateContentCodec.getSchemaVersion(ORG_TEMPLATE_SCHEMA_VERSION),
+                TEMPLATE_BINARY_CONTENT_SCHEMA_VERSION);
+    }
+}
@@ -28,11 +28,17 @@ import org.wso2.carbon.identity.base.IdentityRuntimeException;
 import org.wso2.carbon.identity.core.handler.InitConfig;
 import org.wso2.carbon.identity.event.IdentityEventConstants;
 import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.ModuleConfiguration;
+import org.wso2.carbon.identity.event.bean.Subscription;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.event.handler.notification.batch.NotificationBatchResult;
 import org.wso2.carbon.identity.event.handler.notification.email.bean.Notification;
 import org.wso2.carbon.identity.event.handler.notification.exception.NotificationRuntimeException;
 import org.wso2.carbon.identity.event.handler.notification.internal.NotificationHandlerDataHolder;
+import org.wso2.carbon.identity.event.handler.notification.metrics.NotificationMetrics;
+import org.wso2.carbon.identity.event.handler.notification.metrics.NotificationStage;
+import org.wso2.carbon.identity.event.handler.notification.subscription.NotificationSubscription;
 import org.wso2.carbon.identity.event.handler.notification.util.NotificationUtil;
 import org.wso2.carbon.identity.governance.IdentityGovernanceUtil;
 import org.wso2.carbon.identity.governance.exceptions.notiification.NotificationTemplateManagerException;
@@ -40,9 +46,9 @@ import org.wso2.carbon.identity.governance.model.NotificationTemplate;
 import org.wso2.carbon.identity.governance.service.notification.NotificationChannels;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Properties;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * DefaultNotificationHandler is based on simple key/value parameters which was send by an event to any given stream.
@@ -55,13 +61,21 @@ public class DefaultNotificationHandler extends AbstractEventHandler {
 
     private static final Log log = LogFactory.getLog(DefaultNotificationHandler.class);
 
-    private static final String STREAM_DEFINITION_ID = "stream" ;
-    private static final String NOTIFICATION_TEMPLATE_TYPE = "notification_template" ;
     private static final String DEFAULT_STREAM_ID = "id_gov_notify_stream:1.0.0";
     private static final String NOTIFICATION_TYPE_VERIFY_MOBILE_ON_UPDATE = "verifyMobileOnUpdate";
     private static final String SEND_TO = "send-to";
     private static final String MOBILE = "mobile";
 
+    private volatile Map<String, NotificationSubscription> notificationSubscriptions = new ConcurrentHashMap<>();
+    private volatile ModuleConfiguration notificationSubscriptionsSource;
+
+    @Override
+    public void init(InitConfig configuration) throws IdentityRuntimeException {
+
+        super.init(configuration);
+        buildNotificationSubscriptions();
+    }
+
     @Override
     public void handleEvent(Event event) throws IdentityEventException {
 
@@ -69,6 +83,30 @@ public class DefaultNotificationHandler extends AbstractEventHandler {
         publishToStream(arbitraryDataMap, event);
     }
 
+    /**
+     * Handle a batch of notification events. Each event is handled as in {@link #handleEvent(Event)}, and a failed
+     * event is reported in the result instead of failing the rest of the batch.
+     *
+     * @param events Notification events.
+     * @return Result of the batch with the failed events.
+     */
+    public NotificationBatchResult handleEvents(List<Event> events) {
+
+        NotificationBatchResult batchResult = new NotificationBatchResult(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            try {
+                handleEvent(events.get(i));
+            } catch (IdentityEventException | RuntimeException e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Error while handling the event: " + events.get(i).getEventName() + " at index: " + i
+                            + " of the notification batch.", e);
+                }
+                batchResult.addFailure(i, events.get(i), e);
+            }
+        }
+        return batchResult;
+    }
+
     /**
      * Resolve notification channel to server supported notification channel (SMS or EMAIL).
      *
@@ -134,12 +172,14 @@ public class DefaultNotificationHandler extends AbstractEventHandler {
             String notificationChannel = resolveNotificationChannel(
                     (String) event.getEventProperties().get(IdentityEventConstants.EventProperty.NOTIFICATION_CHANNEL));
 
+            long claimFetchStartTime = NotificationMetrics.startTimer();
             if (StringUtils.isNotBlank(username) && userStoreManager != null) {
                 userClaims = NotificationUtil.getUserClaimValues(username, userStoreManager);
             } else if (StringUtils.isNotBlank(username) && StringUtils.isNotBlank(userStoreDomainName) &&
                     StringUtils.isNotBlank(tenantDomain)) {
                 userClaims = NotificationUtil.getUserClaimValues(username, userStoreDomainName, tenantDomain);
             }
+            NotificationMetrics.recordStage(NotificationStage.CLAIM_FETCH, claimFetchStartTime);
 
             // Resolve notification template locale according to the notification channel.
             String locale = NotificationUtil.getNotificationLocale();
@@ -167,6 +207,7 @@ public class DefaultNotificationHandler extends AbstractEventHandler {
             }
 
             NotificationTemplate notificationTemplate;
+            long templateLookupStartTime = NotificationMetrics.startTimer();
             try {
                 notificationTemplate = NotificationHandlerDataHolder.getInstance().getNotificationTemplateManager()
                         .getNotificationTemplate(notificationChannel, notificationTemplateName, locale, tenantDomain);
@@ -174,20 +215,17 @@ public class DefaultNotificationHandler extends AbstractEventHandler {
                 String message = "Error when retrieving template from tenant registry.";
                 throw NotificationRuntimeException.error(message, exception);
             }
+            NotificationMetrics.recordStage(NotificationStage.TEMPLATE_LOOKUP, templateLookupStartTime);
 
             // Add template properties for arbitraryDataMap.
             addNotificationTemplateDataToArbitraryDataMap(notificationTemplate, notificationTemplateName, sendTo,
                     sendFrom, arbitraryDataMap, userClaims);
         }
-        Map<String, String> arbitraryDataClaims = getArbitraryDataClaimsFromProperties(event);
-        Set<String> keys = arbitraryDataClaims.keySet();
-        for (String key : keys) {
-            String claim = arbitraryDataClaims.get(key);
-            String value = userClaims.get(claim);
-            arbitraryDataMap.put(key, value);
+        NotificationSubscription notificationSubscription = getNotificationSubscription(event.getEventName());
+        for (Map.Entry<String, String> claimMapping : notificationSubscription.getClaimMappings().entrySet()) {
+            arbitraryDataMap.put(claimMapping.getKey(), userClaims.get(claimMapping.getValue()));
         }
-        Map<String, String> arbitraryDataFromProperties = getArbitraryDataFromProperties(event);
-        arbitraryDataMap.putAll(arbitraryDataFromProperties);
+        arbitraryDataMap.putAll(notificationSubscription.getStaticData());
 
         /* During the verify mobile number on update scenario, the otp needs to send to the 'send-to' number.
         (new mobile number). So use the 'send-to' attribute value as 'mobile' number. */
@@ -313,54 +351,69 @@ public class DefaultNotificationHandler extends AbstractEventHandler {
         }
 
         databridgeEvent.setArbitraryDataMap(dataMap);
+        long publishStartTime = NotificationMetrics.startTimer();
         service.publish(databridgeEvent);
+        NotificationMetrics.recordStage(NotificationStage.PUBLISH, publishStartTime);
+        if (NotificationMetrics.isEnabled()) {
+            NotificationMetrics.recordNotification(dataMap.get(NotificationConstants.TENANT_DOMAIN),
+                    resolveNotificationChannel((String) event.getEventProperties()
+                            .get(IdentityEventConstants.EventProperty.NOTIFICATION_CHANNEL)),
+                    dataMap.get(NotificationConstants.TEMPLATE_TYPE));
+        }
     }
 
-    private Map<String, String> getArbitraryDataClaimsFromProperties(Event event) throws IdentityEventException {
-        Map<String, String> claimMap = new HashMap<>();
-        String tmpKeyStartWith = this.getName() + ".subscription." + event.getEventName() + "." + "claim" ;
-        Properties subscriptionProperties = getSubscriptionProperties(event.getEventName());
-        Set<Object> subscriptionPropertyKeys = subscriptionProperties.keySet();
-        for (Object subscriptionPropertyKey : subscriptionPropertyKeys) {
-            String key = (String)subscriptionPropertyKey;
-            if(key.startsWith(tmpKeyStartWith)){
-                String attribute = key.substring(tmpKeyStartWith.length() + 1);
-                String value = (String)subscriptionProperties.get(key);
-                claimMap.put(attribute, value);
-            }
+    /**
+     * Get the notification subscription of this handler for the event. The subscriptions are built from the
+     * identity-event configuration when the handler is initialized, and built again when the configuration is
+     * reloaded.
+     *
+     * @param eventName Name of the event.
+     * @return Notification subscription of the event.
+     * @throws IdentityEventException Error while reading the subscription properties.
+     */
+    protected NotificationSubscription getNotificationSubscription(String eventName) throws IdentityEventException {
+
+        if (configs != notificationSubscriptionsSource) {
+            buildNotificationSubscriptions();
         }
-        return claimMap;
+        NotificationSubscription notificationSubscription = notificationSubscriptions.get(eventName);
+        if (notificationSubscription == null) {
+            notificationSubscription = NotificationSubscription.build(getName(), eventName,
+                    getSubscriptionProperties(eventName));
+            notificationSubscriptions.put(eventName, notificationSubscription);
+        }
+        return notificationSubscription;
     }
 
-    private Map<String, String> getArbitraryDataFromProperties(Event event) throws IdentityEventException {
-        Map<String, String> dataMap = new HashMap<>();
-        String streamIdKey =  this.getName() + ".subscription." + event.getEventName() + "." + STREAM_DEFINITION_ID;
-        String templateType =  this.getName() + ".subscription." + event.getEventName() + "." + NOTIFICATION_TEMPLATE_TYPE;
-        String claimKeyStartWith = this.getName() + ".subscription." + event.getEventName() + "." + "claim" ;
-
-        Properties subscriptionProperties = getSubscriptionProperties(event.getEventName());
-        Set<Object> subscriptionPropertyKeys = subscriptionProperties.keySet();
-        for (Object subscriptionPropertyKey : subscriptionPropertyKeys) {
-            String key = (String)subscriptionPropertyKey;
-            if(!key.startsWith(claimKeyStartWith) && !key.equalsIgnoreCase(streamIdKey) &&
-                    !key.equalsIgnoreCase(templateType)){
-                String keyPrefix = this.getName() + ".subscription." + event.getEventName();
-                String attribute = key.substring(keyPrefix.length() + 1);
-                String value = (String)subscriptionProperties.get(key);
-                dataMap.put(attribute, value);
+    /**
+     * Build the notification subscriptions of this handler from the current identity-event module configuration.
+     */
+    private synchronized void buildNotificationSubscriptions() {
+
+        ModuleConfiguration moduleConfiguration = configs;
+        if (moduleConfiguration == notificationSubscriptionsSource) {
+            return;
+        }
+        Map<String, NotificationSubscription> subscriptions = new ConcurrentHashMap<>();
+        if (moduleConfiguration != null && moduleConfiguration.getSubscriptions() != null) {
+            for (Subscription subscription : moduleConfiguration.getSubscriptions()) {
+                // The first subscription of an event is the one used for the event.
+                subscriptions.computeIfAbsent(subscription.getSubscriptionName(), eventName ->
+                        NotificationSubscription.build(getName(), eventName,
+                                subscription.getSubscriptionProperties()));
             }
         }
-        return dataMap;
+        notificationSubscriptions = subscriptions;
+        notificationSubscriptionsSource = moduleConfiguration;
     }
 
-
     @Override
     public String getName() {
         return "default.notification.sender";
     }
 
     protected String getStreamDefinitionID(Event event) throws IdentityEventException {
-        String streamDefinitionID = getSubscriptionProperty(STREAM_DEFINITION_ID, event.getEventName());
+        String streamDefinitionID = getNotificationSubscription(event.getEventName()).getStreamDefinitionId();
         if(StringUtils.isEmpty(streamDefinitionID)){
             streamDefinitionID = DEFAULT_STREAM_ID ;
         }
@@ -368,6 +421,6 @@ public class DefaultNotificationHandler extends AbstractEventHandler {
     }
 
     protected String getNotificationTemplate(Event event) throws IdentityEventException {
-        return getSubscriptionProperty(NOTIFICATION_TEMPLATE_TYPE, event.getEventName());
+        return getNotificationSubscription(event.getEventName()).getNotificationTemplateType();
     }
 }
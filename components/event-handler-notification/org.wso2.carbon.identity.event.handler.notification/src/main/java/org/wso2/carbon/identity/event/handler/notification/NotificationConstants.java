@@ -97,6 +97,9 @@ public class NotificationConstants {
         public static final String ORGANIZATION_ID_PLACEHOLDER = "organization-id";
 
         public static final String ENABLE_ORGANIZATION_LEVEL_EMAIL_BRANDING = "EnableOrganizationLevelEmailBranding";
+        public static final String ENABLE_CLAIM_PROJECTION = "Notification.ClaimProjection.Enable";
+        public static final String OMIT_TEMPLATE_CONTENT_IN_EVENT = "Notification.OmitTemplateContentInEvent";
+        public static final String ENABLE_LAZY_RENDERING = "Notification.LazyRendering.Enable";
         public static final String ORGANIZATION_LEVEL_EMAIL_BRANDING_FALLBACKS_ELEM
                 =  "OrganizationLevelEmailBrandingFallbacks";
         public static final String ORGANIZATION_LEVEL_EMAIL_BRANDING_FALLBACK_ELEM
@@ -218,6 +221,143 @@ public class NotificationConstants {
         }
     }
 
+    /**
+     * Define asynchronous notification dispatch configurations.
+     */
+    public static class AsyncNotificationDispatch {
+
+        private AsyncNotificationDispatch() {
+
+        }
+
+        public static final String ENABLE = "Notification.AsyncDispatch.Enable";
+        public static final String POOL_SIZE = "Notification.AsyncDispatch.PoolSize";
+        public static final String TENANT_QUEUE_CAPACITY = "Notification.AsyncDispatch.TenantQueueCapacity";
+        public static final String BACKPRESSURE_POLICY = "Notification.AsyncDispatch.BackpressurePolicy";
+        public static final String BLOCK_TIMEOUT = "Notification.AsyncDispatch.BlockTimeout";
+        public static final String USE_VIRTUAL_THREADS = "Notification.AsyncDispatch.UseVirtualThreads";
+
+        public static final int DEFAULT_POOL_SIZE = 10;
+        public static final int DEFAULT_TENANT_QUEUE_CAPACITY = 1000;
+        public static final long DEFAULT_BLOCK_TIMEOUT = 5000L;
+    }
+
+    /**
+     * Define the configurations of the asynchronous diagnostic log pipeline.
+     */
+    public static class AsyncDiagnosticLog {
+
+        private AsyncDiagnosticLog() {
+
+        }
+
+        public static final String ENABLE = "Notification.AsyncDiagnosticLog.Enable";
+        public static final String BUFFER_SIZE = "Notification.AsyncDiagnosticLog.BufferSize";
+        public static final String SAMPLING_RATE_PREFIX = "Notification.AsyncDiagnosticLog.SamplingRate.";
+
+        public static final int DEFAULT_BUFFER_SIZE = 8192;
+    }
+
+    /**
+     * Define the concurrency limit configurations of sync email notifications.
+     */
+    public static class SyncNotificationConcurrencyLimit {
+
+        private SyncNotificationConcurrencyLimit() {
+
+        }
+
+        public static final String ENABLE = "Notification.SyncConcurrencyLimit.Enable";
+        public static final String INITIAL_LIMIT = "Notification.SyncConcurrencyLimit.InitialLimit";
+        public static final String MIN_LIMIT = "Notification.SyncConcurrencyLimit.MinLimit";
+        public static final String MAX_LIMIT = "Notification.SyncConcurrencyLimit.MaxLimit";
+        public static final String LATENCY_THRESHOLD = "Notification.SyncConcurrencyLimit.LatencyThreshold";
+        public static final String QUEUE_SIZE = "Notification.SyncConcurrencyLimit.QueueSize";
+        public static final String QUEUE_TIMEOUT = "Notification.SyncConcurrencyLimit.QueueTimeout";
+
+        public static final int DEFAULT_INITIAL_LIMIT = 10;
+        public static final int DEFAULT_MIN_LIMIT = 1;
+        public static final int DEFAULT_MAX_LIMIT = 100;
+        public static final long DEFAULT_LATENCY_THRESHOLD = 2000L;
+        public static final int DEFAULT_QUEUE_SIZE = 50;
+        public static final long DEFAULT_QUEUE_TIMEOUT = 500L;
+    }
+
+    /**
+     * Define the configurations of the parallel lookups of email notification builds.
+     */
+    public static class ParallelLookup {
+
+        private ParallelLookup() {
+
+        }
+
+        public static final String ENABLE = "Notification.ParallelLookup.Enable";
+        public static final String POOL_SIZE = "Notification.ParallelLookup.PoolSize";
+        public static final String QUEUE_CAPACITY = "Notification.ParallelLookup.QueueCapacity";
+
+        public static final int DEFAULT_POOL_SIZE = 8;
+        public static final int DEFAULT_QUEUE_CAPACITY = 100;
+    }
+
+    /**
+     * Define the configurations of the pool building the notifications of a batch in parallel.
+     */
+    public static class BatchBuild {
+
+        private BatchBuild() {
+
+        }
+
+        public static final String POOL_SIZE = "Notification.BatchBuild.PoolSize";
+        public static final String QUEUE_CAPACITY = "Notification.BatchBuild.QueueCapacity";
+
+        public static final int DEFAULT_POOL_SIZE = 8;
+        public static final int DEFAULT_QUEUE_CAPACITY = 64;
+    }
+
+    /**
+     * Define the configurations of the cache of the branding and custom text preferences resolved for notifications,
+     * and the events invalidating it.
+     */
+    public static class BrandingPreferenceCacheConfig {
+
+        private BrandingPreferenceCacheConfig() {
+
+        }
+
+        // Time to live of a cached preference in seconds.
+        public static final String TIME_TO_LIVE = "Notification.BrandingPreferenceCache.TimeToLive";
+        public static final long DEFAULT_TIME_TO_LIVE = 300L;
+
+        public static final String POST_ADD_BRANDING_PREFERENCE = "POST_ADD_BRANDING_PREFERENCE";
+        public static final String POST_UPDATE_BRANDING_PREFERENCE = "POST_UPDATE_BRANDING_PREFERENCE";
+        public static final String POST_DELETE_BRANDING_PREFERENCE = "POST_DELETE_BRANDING_PREFERENCE";
+        public static final String POST_ADD_CUSTOM_TEXT_PREFERENCE = "POST_ADD_CUSTOM_TEXT_PREFERENCE";
+        public static final String POST_UPDATE_CUSTOM_TEXT_PREFERENCE = "POST_UPDATE_CUSTOM_TEXT_PREFERENCE";
+        public static final String POST_DELETE_CUSTOM_TEXT_PREFERENCE = "POST_DELETE_CUSTOM_TEXT_PREFERENCE";
+    }
+
+    /**
+     * Define the configurations of the notification handler metrics.
+     */
+    public static class Metrics {
+
+        private Metrics() {
+
+        }
+
+        public static final String ENABLE = "Notification.Metrics.Enable";
+        public static final String MBEAN_NAME =
+                "org.wso2.carbon.identity.event.handler.notification:type=NotificationMetrics";
+        public static final String CONCURRENCY_LIMITER_MBEAN_NAME =
+                "org.wso2.carbon.identity.event.handler.notification:type=NotificationConcurrencyLimiter";
+        public static final String DISPATCHER_MBEAN_NAME =
+                "org.wso2.carbon.identity.event.handler.notification:type=NotificationDispatcher";
+        public static final String EMAIL_CHANNEL = "EMAIL";
+        public static final String PUSH_CHANNEL = "PUSH";
+    }
+
     public static class SMSNotification {
         public static final String CLAIM_URI_MOBILE = "http://wso2.org/claims/mobile";
 
@@ -350,6 +490,7 @@ public class NotificationConstants {
             }
             public static final String EVENT_NAME = "event name";
             public static final String TENANT_DOMAIN = "tenant domain";
+            public static final String EVENT_TIMESTAMP = "event timestamp";
         }
     }
 }
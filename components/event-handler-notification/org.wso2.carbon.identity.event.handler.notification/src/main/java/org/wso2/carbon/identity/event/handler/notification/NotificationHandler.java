@@ -21,6 +21,8 @@ package org.wso2.carbon.identity.event.handler.notification;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.email.mgt.cache.OrganizationResolutionCache;
 import org.wso2.carbon.email.mgt.util.I18nEmailUtil;
 import org.wso2.carbon.event.output.adapter.core.exception.OutputEventAdapterException;
 import org.wso2.carbon.event.stream.core.EventStreamService;
@@ -35,15 +37,34 @@ import org.wso2.carbon.identity.event.IdentityEventConstants;
 import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.notification.NotificationConstants.EmailNotification;
+import org.wso2.carbon.identity.event.handler.notification.batch.NotificationBatchBuildExecutor;
+import org.wso2.carbon.identity.event.handler.notification.batch.NotificationBatchResult;
+import org.wso2.carbon.identity.event.handler.notification.diagnostic.DiagnosticLogPipeline;
+import org.wso2.carbon.identity.event.handler.notification.diagnostic.DiagnosticRecord;
+import org.wso2.carbon.identity.event.handler.notification.dispatch.NotificationDispatcher;
+import org.wso2.carbon.identity.event.handler.notification.dispatch.NotificationThreadContext;
 import org.wso2.carbon.identity.event.handler.notification.email.bean.Notification;
 import org.wso2.carbon.identity.event.handler.notification.internal.NotificationHandlerDataHolder;
+import org.wso2.carbon.identity.event.handler.notification.limiter.AdaptiveConcurrencyLimiter;
+import org.wso2.carbon.identity.event.handler.notification.metrics.NotificationMetrics;
+import org.wso2.carbon.identity.event.handler.notification.metrics.NotificationStage;
 import org.wso2.carbon.identity.event.handler.notification.util.NotificationUtil;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.utils.DiagnosticLog;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
 
 /**
  * This is the Email and SMS Notification Handler which connected to the direct CEP stream.
@@ -54,10 +75,161 @@ public class NotificationHandler extends DefaultNotificationHandler {
 
     private static final Log log = LogFactory.getLog(NotificationHandler.class);
     private static final String STREAM_ID = "id_gov_notify_stream:1.0.0";
+    private static final int PARALLEL_BATCH_BUILD_THRESHOLD = 16;
+    // Number of notification entries added to the databridge event in addition to the placeholder data.
+    private static final int DATABRIDGE_EVENT_NOTIFICATION_ENTRIES = 14;
 
     @Override
     public void handleEvent(Event event) throws IdentityEventException {
 
+        NotificationDispatcher notificationDispatcher =
+                NotificationHandlerDataHolder.getInstance().getNotificationDispatcher();
+        if (notificationDispatcher == null || isSyncEmailNotificationRequested(event)) {
+            handleNotificationEvent(event);
+            return;
+        }
+
+        // Queue a copy of the event, since the caller may reuse the event once this method returns. The thread context
+        // of the caller is restored in the worker, as the notification building depends on it.
+        Event eventSnapshot = new Event(event.getEventName(), new HashMap<>(event.getEventProperties()));
+        NotificationThreadContext threadContext = NotificationThreadContext.capture();
+        Object tenantDomain = event.getEventProperties().get(NotificationConstants.TENANT_DOMAIN);
+        String queueTenantDomain = tenantDomain instanceof String && StringUtils.isNotBlank((String) tenantDomain)
+                ? (String) tenantDomain
+                : StringUtils.defaultIfBlank(threadContext.getTenantDomain(), SUPER_TENANT_DOMAIN_NAME);
+        try {
+            notificationDispatcher.dispatch(queueTenantDomain,
+                    () -> threadContext.execute(() -> handleNotificationEvent(eventSnapshot)));
+        } catch (IllegalStateException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Notification dispatcher is not available. Handling the event: " + event.getEventName()
+                        + " in the calling thread.");
+            }
+            handleNotificationEvent(event);
+        }
+    }
+
+    private boolean isSyncEmailNotificationRequested(Event event) {
+
+        Object syncValue = event.getEventProperties().get(EmailNotification.SYNC_EMAIL_NOTIFICATION);
+        return syncValue instanceof String && Boolean.parseBoolean((String) syncValue);
+    }
+
+    /**
+     * Handle a batch of notification events, e.g. raised by a bulk user import or a password expiry sweep.
+     * <p>
+     * Events are grouped by tenant, template type and application. The organization ID of a tenant is resolved once
+     * for the batch, and the notifications of a group are built one after the other on the same thread so that the
+     * first event of the group warms the template and branding caches for the rest. With claim projection enabled,
+     * the claims of the remaining users of a group are then read with one bulk read per user store. Large batches
+     * build the groups in parallel. The built notifications are then published together in the order of the events,
+     * see {@link #publishBatchToStream}. Events
+     * requesting sync delivery are handled individually, since their delivery errors are reported per event.
+     *
+     * @param events Notification events.
+     * @return Result of the batch with the failed events.
+     */
+    @Override
+    public NotificationBatchResult handleEvents(List<Event> events) {
+
+        NotificationBatchResult batchResult = new NotificationBatchResult(events.size());
+        Map<String, String> organizationIds = new HashMap<>();
+        List<Map<String, String>> dataMaps = new ArrayList<>(Collections.nCopies(events.size(), null));
+        Map<List<String>, List<Integer>> eventGroups = new LinkedHashMap<>();
+        for (int i = 0; i < events.size(); i++) {
+            Event event = events.get(i);
+            try {
+                if (isSyncEmailNotificationRequested(event)) {
+                    handleNotificationEvent(event);
+                    continue;
+                }
+                Map<String, String> arbitraryDataMap = buildArbitraryDataMap(event, organizationIds);
+                dataMaps.set(i, arbitraryDataMap);
+                eventGroups.computeIfAbsent(getBatchGroupKey(arbitraryDataMap), key -> new ArrayList<>()).add(i);
+            } catch (IdentityEventException | RuntimeException e) {
+                addBatchFailure(batchResult, i, event, e);
+            }
+        }
+
+        Notification[] notifications = new Notification[events.size()];
+        NotificationBatchBuildExecutor batchBuildExecutor =
+                NotificationHandlerDataHolder.getInstance().getBatchBuildExecutor();
+        if (batchBuildExecutor != null && eventGroups.size() > 1
+                && events.size() >= PARALLEL_BATCH_BUILD_THRESHOLD) {
+            buildBatchNotificationsInParallel(batchBuildExecutor, events, dataMaps, eventGroups.values(),
+                    notifications, batchResult);
+        } else {
+            for (List<Integer> eventGroup : eventGroups.values()) {
+                buildBatchNotifications(events, dataMaps, eventGroup, notifications, batchResult);
+            }
+        }
+
+        publishBatchToStream(events, notifications, dataMaps, batchResult);
+        return batchResult;
+    }
+
+    /**
+     * Publish the notifications of a batch to the event stream in the order of the events.
+     * <p>
+     * The batch cannot be handed over in a single call, as {@link EventStreamService} only accepts one databridge
+     * event per publish and hands it to the junction of its own stream ID. The event stream service and the template
+     * content setting are instead resolved once for the batch, and a failure to publish an event is reported for that
+     * event only.
+     *
+     * @param events        Notification events.
+     * @param notifications Built notifications by event index. Events without a notification are skipped.
+     * @param dataMaps      Placeholder data by event index, including the stream ID.
+     * @param batchResult   Result of the batch to add the failed events to.
+     */
+    protected void publishBatchToStream(List<Event> events, Notification[] notifications,
+                                        List<Map<String, String>> dataMaps, NotificationBatchResult batchResult) {
+
+        EventStreamService service = NotificationHandlerDataHolder.getInstance().getEventStreamService();
+        boolean templateContentOmitted = NotificationUtil.isTemplateContentOmittedInEvent();
+        for (int i = 0; i < events.size(); i++) {
+            if (notifications[i] == null) {
+                continue;
+            }
+            Map<String, String> placeHolderDataMap = dataMaps.get(i);
+            try {
+                long publishStartTime = NotificationMetrics.startTimer();
+                service.publish(buildDatabridgeEvent(notifications[i], placeHolderDataMap, templateContentOmitted));
+                NotificationMetrics.recordStage(NotificationStage.PUBLISH, publishStartTime);
+                NotificationMetrics.recordNotification(placeHolderDataMap.get(NotificationConstants.TENANT_DOMAIN),
+                        NotificationConstants.Metrics.EMAIL_CHANNEL,
+                        placeHolderDataMap.get(NotificationConstants.TEMPLATE_TYPE));
+            } catch (RuntimeException e) {
+                addBatchFailure(batchResult, i, events.get(i), e);
+            }
+        }
+    }
+
+    private void handleNotificationEvent(Event event) throws IdentityEventException {
+
+        Map<String, String> arbitraryDataMap = buildArbitraryDataMap(event, null);
+        Notification notification = buildNotificationToPublish(event, arbitraryDataMap, null);
+        if (notification == null) {
+            return;
+        }
+        if (isSyncEmailDelivery(arbitraryDataMap)) {
+            publishToStreamAndNotifyErrors(notification, arbitraryDataMap);
+        } else {
+            publishToStream(notification, arbitraryDataMap);
+        }
+    }
+
+    /**
+     * Build the placeholder data of the event, including the organization ID of the tenant.
+     *
+     * @param event           Notification event.
+     * @param organizationIds Organization IDs resolved by tenant domain, shared across a batch. Null if the event is
+     *                        not handled as part of a batch.
+     * @return Placeholder data map.
+     * @throws IdentityEventException If the organization ID could not be resolved.
+     */
+    private Map<String, String> buildArbitraryDataMap(Event event, Map<String, String> organizationIds)
+            throws IdentityEventException {
+
         //We can set the notification template from the identity-even.properties file as a property of the subscription
         //property. Then it will get the first priority.
         String notificationTemplate = getNotificationTemplate(event);
@@ -71,43 +243,61 @@ public class NotificationHandler extends DefaultNotificationHandler {
                 arbitraryDataMap.put(entry.getKey(), (String) entry.getValue());
             }
         }
-        if (LoggerUtils.isDiagnosticLogsEnabled()) {
-            DiagnosticLog.DiagnosticLogBuilder diagnosticLogBuilder = new DiagnosticLog.DiagnosticLogBuilder(
-                    NotificationConstants.LogConstants.NOTIFICATION_HANDLER_SERVICE,
-                    NotificationConstants.LogConstants.ActionIDs.HANDLE_EVENT);
-            diagnosticLogBuilder
-                    .inputParam(NotificationConstants.LogConstants.InputKeys.EVENT_NAME,
-                            arbitraryDataMap.get(NotificationConstants.TEMPLATE_TYPE))
-                    .inputParam(NotificationConstants.LogConstants.InputKeys.TENANT_DOMAIN,
-                            arbitraryDataMap.get(NotificationConstants.TENANT_DOMAIN))
-                    .resultMessage("Notification will be handled.")
-                    .resultStatus(DiagnosticLog.ResultStatus.SUCCESS)
-                    .logDetailLevel(DiagnosticLog.LogDetailLevel.INTERNAL_SYSTEM);
-            LoggerUtils.triggerDiagnosticLogEvent(diagnosticLogBuilder);
-        }
+        triggerDiagnosticLog(NotificationConstants.LogConstants.ActionIDs.HANDLE_EVENT,
+                arbitraryDataMap.get(NotificationConstants.TEMPLATE_TYPE),
+                arbitraryDataMap.get(NotificationConstants.TENANT_DOMAIN), "Notification will be handled.", null,
+                DiagnosticLog.ResultStatus.SUCCESS);
 
         String tenantDomain = arbitraryDataMap.get(NotificationConstants.TENANT_DOMAIN);
+        long organizationStartTime = NotificationMetrics.startTimer();
         try {
             if (StringUtils.isNotBlank(tenantDomain)) {
                 // Resolve the organization id and add to attribute data map.
-                OrganizationManager organizationManager =
-                        NotificationHandlerDataHolder.getInstance().getOrganizationManager();
-                String organizationId = organizationManager.resolveOrganizationId(tenantDomain);
+                String organizationId = organizationIds != null ? organizationIds.get(tenantDomain) : null;
+                if (organizationId == null) {
+                    organizationId = OrganizationResolutionCache.getInstance().getOrganizationId(tenantDomain);
+                }
+                if (organizationId == null) {
+                    OrganizationManager organizationManager =
+                            NotificationHandlerDataHolder.getInstance().getOrganizationManager();
+                    organizationId = organizationManager.resolveOrganizationId(tenantDomain);
+                    OrganizationResolutionCache.getInstance().addOrganizationId(tenantDomain, organizationId);
+                }
+                if (organizationIds != null && organizationId != null) {
+                    organizationIds.put(tenantDomain, organizationId);
+                }
                 arbitraryDataMap.put(EmailNotification.ORGANIZATION_ID_PLACEHOLDER,
                         organizationId);
+                NotificationMetrics.recordStage(NotificationStage.ORGANIZATION_RESOLUTION, organizationStartTime);
             }
         } catch (OrganizationManagementException e) {
             throw new IdentityEventException(e.getMessage(), e);
         }
+        return arbitraryDataMap;
+    }
 
-        Notification notification = NotificationUtil.buildNotification(event, arbitraryDataMap);
+    /**
+     * Build the notification of the event and add the stream definition to the placeholder data.
+     *
+     * @param event                Notification event.
+     * @param arbitraryDataMap     Placeholder data map.
+     * @param prefetchedUserClaims Claims of the user fetched for the batch, or null to fetch them.
+     * @return Notification, or null if the event does not need a notification to be sent.
+     * @throws IdentityEventException If the notification could not be built.
+     */
+    private Notification buildNotificationToPublish(Event event, Map<String, String> arbitraryDataMap,
+                                                    Map<String, String> prefetchedUserClaims)
+            throws IdentityEventException {
+
+        Notification notification = NotificationUtil.buildNotification(event, arbitraryDataMap,
+                prefetchedUserClaims);
 
         if (notification == null) {
             if (log.isDebugEnabled()) {
                 log.debug("Notification is null. Hence returning without sending the notification." +
                         " Event : " + event.getEventName());
             }
-            return;
+            return null;
         }
 
         //Stream definition will be read from the identity-even.properties file as a property of the subscription
@@ -115,13 +305,96 @@ public class NotificationHandler extends DefaultNotificationHandler {
         String streamDefinitionID = getStreamDefinitionID(event);
         //This stream-id was set to the map to pass to the publishToStream method only to avoid API change.
         arbitraryDataMap.put("tmp-stream-id", streamDefinitionID);
-        if (isSyncEmailDelivery(arbitraryDataMap)) {
-            publishToStreamAndNotifyErrors(notification, arbitraryDataMap);
-        } else {
-            publishToStream(notification, arbitraryDataMap);
+        return notification;
+    }
+
+    private List<String> getBatchGroupKey(Map<String, String> arbitraryDataMap) {
+
+        return Arrays.asList(arbitraryDataMap.get(NotificationConstants.TENANT_DOMAIN),
+                arbitraryDataMap.get(EmailNotification.EMAIL_TEMPLATE_TYPE),
+                arbitraryDataMap.get(IdentityEventConstants.EventProperty.APPLICATION_DOMAIN),
+                arbitraryDataMap.get(NotificationUtil.SERVICE_PROVIDER_UUID),
+                arbitraryDataMap.get(NotificationUtil.SERVICE_PROVIDER_NAME));
+    }
+
+    private void buildBatchNotifications(List<Event> events, List<Map<String, String>> dataMaps,
+                                         List<Integer> eventGroup, Notification[] notifications,
+                                         NotificationBatchResult batchResult) {
+
+        Map<Event, Map<String, String>> prefetchedUserClaims = Collections.emptyMap();
+        for (int position = 0; position < eventGroup.size(); position++) {
+            int index = eventGroup.get(position);
+            if (position == 1) {
+                // The first notification of the group records the claims referred by the template, so the claims of
+                // the remaining users are read in bulk.
+                prefetchedUserClaims = prefetchUserClaimValues(events, eventGroup.subList(1, eventGroup.size()));
+            }
+            try {
+                notifications[index] = buildNotificationToPublish(events.get(index), dataMaps.get(index),
+                        prefetchedUserClaims.get(events.get(index)));
+            } catch (IdentityEventException | RuntimeException e) {
+                addBatchFailure(batchResult, index, events.get(index), e);
+            }
+        }
+    }
+
+    private Map<Event, Map<String, String>> prefetchUserClaimValues(List<Event> events, List<Integer> eventIndexes) {
+
+        List<Event> groupEvents = new ArrayList<>(eventIndexes.size());
+        for (int index : eventIndexes) {
+            groupEvents.add(events.get(index));
+        }
+        try {
+            return NotificationUtil.prefetchUserClaimValues(groupEvents);
+        } catch (RuntimeException e) {
+            // The claims are then read for each event while building its notification.
+            if (log.isDebugEnabled()) {
+                log.debug("Error while reading the user claims of " + groupEvents.size()
+                        + " events of the notification batch.", e);
+            }
+            return Collections.emptyMap();
         }
     }
 
+    private void buildBatchNotificationsInParallel(NotificationBatchBuildExecutor batchBuildExecutor,
+                                                   List<Event> events, List<Map<String, String>> dataMaps,
+                                                   Collection<List<Integer>> eventGroups,
+                                                   Notification[] notifications,
+                                                   NotificationBatchResult batchResult) {
+
+        NotificationThreadContext threadContext = NotificationThreadContext.capture();
+        Map<List<Integer>, Future<?>> groupFutures = new LinkedHashMap<>();
+        for (List<Integer> eventGroup : eventGroups) {
+            groupFutures.put(eventGroup, batchBuildExecutor.submit(threadContext,
+                    () -> buildBatchNotifications(events, dataMaps, eventGroup, notifications, batchResult)));
+        }
+        for (Map.Entry<List<Integer>, Future<?>> groupFuture : groupFutures.entrySet()) {
+            try {
+                groupFuture.getValue().get();
+            } catch (ExecutionException e) {
+                for (int index : groupFuture.getKey()) {
+                    notifications[index] = null;
+                    addBatchFailure(batchResult, index, events.get(index), e);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                for (int index : groupFuture.getKey()) {
+                    notifications[index] = null;
+                    addBatchFailure(batchResult, index, events.get(index), e);
+                }
+            }
+        }
+    }
+
+    private void addBatchFailure(NotificationBatchResult batchResult, int index, Event event, Exception error) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Error while handling the event: " + event.getEventName() + " at index: " + index
+                    + " of the notification batch.", error);
+        }
+        batchResult.addFailure(index, event, error);
+    }
+
     private boolean isSyncEmailDelivery(Map<String, String> arbitraryDataMap) {
 
         String syncValue = arbitraryDataMap.remove(EmailNotification.SYNC_EMAIL_NOTIFICATION);
@@ -133,14 +406,27 @@ public class NotificationHandler extends DefaultNotificationHandler {
         return false;
     }
 
+    /**
+     * Build the databridge event of the notification. The notification data is added to a single map sized for the
+     * placeholder data, with the entries added in the order of precedence so that no intermediate copy is made. The
+     * raw template subject, body and footer are left out if configured, as the rendered values are always published.
+     *
+     * @param notification           Notification to be published.
+     * @param placeHolderDataMap     Placeholder data of the notification, including the stream ID.
+     * @param templateContentOmitted Whether the raw template content is left out of the event.
+     * @return Databridge event.
+     */
     private org.wso2.carbon.databridge.commons.Event buildDatabridgeEvent(Notification notification,
-            Map<String, String> placeHolderDataMap) {
+            Map<String, String> placeHolderDataMap, boolean templateContentOmitted) {
 
         org.wso2.carbon.databridge.commons.Event databridgeEvent = new org.wso2.carbon.databridge.commons.Event();
         databridgeEvent.setTimeStamp(System.currentTimeMillis());
         databridgeEvent.setStreamId(placeHolderDataMap.remove("tmp-stream-id"));
 
-        Map<String, String> arbitraryDataMap = new HashMap<>();
+        int expectedSize = placeHolderDataMap.size() + DATABRIDGE_EVENT_NOTIFICATION_ENTRIES;
+        Map<String, String> arbitraryDataMap = new HashMap<>((int) (expectedSize / 0.75f) + 1);
+        // Placeholder data overrides the following entries, while the notification data added afterwards overrides
+        // the placeholder data.
         arbitraryDataMap.put(EmailNotification.ARBITRARY_EVENT_TYPE, I18nEmailUtil.
                 getNormalizedName(notification.getTemplate().getTemplateDisplayName()));
         arbitraryDataMap.put(IdentityEventConstants.EventProperty.USER_NAME,
@@ -150,15 +436,15 @@ public class NotificationHandler extends DefaultNotificationHandler {
         arbitraryDataMap.put(IdentityEventConstants.EventProperty.TENANT_DOMAIN,
                 placeHolderDataMap.get(IdentityEventConstants.EventProperty.TENANT_DOMAIN));
         arbitraryDataMap.put(EmailNotification.ARBITRARY_SEND_FROM, notification.getSendFrom());
-        for (Map.Entry<String, String> placeHolderDataEntry : placeHolderDataMap.entrySet()) {
-            arbitraryDataMap.put(placeHolderDataEntry.getKey(), placeHolderDataEntry.getValue());
+        arbitraryDataMap.putAll(placeHolderDataMap);
+        if (!templateContentOmitted) {
+            arbitraryDataMap.put(EmailNotification.ARBITRARY_SUBJECT_TEMPLATE, notification.
+                    getTemplate().getSubject());
+            arbitraryDataMap.put(EmailNotification.ARBITRARY_BODY_TEMPLATE, notification.
+                    getTemplate().getBody());
+            arbitraryDataMap.put(EmailNotification.ARBITRARY_FOOTER_TEMPLATE, notification.
+                    getTemplate().getFooter());
         }
-        arbitraryDataMap.put(EmailNotification.ARBITRARY_SUBJECT_TEMPLATE, notification.
-                getTemplate().getSubject());
-        arbitraryDataMap.put(EmailNotification.ARBITRARY_BODY_TEMPLATE, notification.
-                getTemplate().getBody());
-        arbitraryDataMap.put(EmailNotification.ARBITRARY_FOOTER_TEMPLATE, notification.
-                getTemplate().getFooter());
         arbitraryDataMap.put(EmailNotification.ARBITRARY_LOCALE, notification.getTemplate().
                 getLocale());
         arbitraryDataMap.put(EmailNotification.ARBITRARY_CONTENT_TYPE, notification.
@@ -175,51 +461,76 @@ public class NotificationHandler extends DefaultNotificationHandler {
     protected void publishToStream(Notification notification, Map<String, String> placeHolderDataMap) {
 
         EventStreamService service = NotificationHandlerDataHolder.getInstance().getEventStreamService();
-        service.publish(buildDatabridgeEvent(notification, placeHolderDataMap));
+        long publishStartTime = NotificationMetrics.startTimer();
+        service.publish(buildDatabridgeEvent(notification, placeHolderDataMap,
+                NotificationUtil.isTemplateContentOmittedInEvent()));
+        NotificationMetrics.recordStage(NotificationStage.PUBLISH, publishStartTime);
+        NotificationMetrics.recordNotification(placeHolderDataMap.get(NotificationConstants.TENANT_DOMAIN),
+                NotificationConstants.Metrics.EMAIL_CHANNEL,
+                placeHolderDataMap.get(NotificationConstants.TEMPLATE_TYPE));
     }
 
     /**
      * Publishes a notification event to the event stream, propagating consumer errors back to the caller.
      * Unlike {@link #publishToStream}, this method uses the circuit breaker to throttle requests per tenant
-     * and throws an {@link IdentityEventException} if the publish fails or is throttled.
+     * and throws an {@link IdentityEventException} if the publish fails or is throttled. If enabled, the number of
+     * concurrent publishes of a tenant is also bounded by an adaptive concurrency limit, so that callers are
+     * rejected after a bounded wait instead of piling up behind a slow output adapter.
      *
      * @param notification       the notification to be published.
      * @param placeHolderDataMap placeholder data map containing template variables, including the tenant domain.
-     * @throws IdentityEventException if the circuit breaker throttles the request, or if the event stream
-     *                                consumer reports a known or unknown failure.
+     * @throws IdentityEventException if the circuit breaker or the concurrency limit throttles the request, or if
+     *                                the event stream consumer reports a known or unknown failure.
      */
     protected void publishToStreamAndNotifyErrors(Notification notification,
             Map<String, String> placeHolderDataMap) throws IdentityEventException {
 
         EventStreamService service = NotificationHandlerDataHolder.getInstance().getEventStreamService();
         String tenantDomain = placeHolderDataMap.get(NotificationConstants.TENANT_DOMAIN);
-        Decision acquireDecision = CircuitBreakerManager.getInstance().tryAcquire(tenantDomain, TenantService.EMAIL_NOTIFICATION);
+        AdaptiveConcurrencyLimiter limiter = NotificationHandlerDataHolder.getInstance().getSyncNotificationLimiter();
+        AdaptiveConcurrencyLimiter.Permit permit = null;
+        if (limiter != null) {
+            permit = limiter.tryAcquire(tenantDomain);
+            if (permit == null) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Sync email notification throttled by concurrency limit for tenant: " + tenantDomain
+                            + ". Concurrency limit: " + limiter.getLimit(tenantDomain));
+                }
+                throw buildThrottledException(tenantDomain, "concurrency limit.");
+            }
+        }
+        Decision acquireDecision;
+        try {
+            acquireDecision = CircuitBreakerManager.getInstance().tryAcquire(tenantDomain,
+                    TenantService.EMAIL_NOTIFICATION);
+        } catch (RuntimeException e) {
+            if (permit != null) {
+                permit.release();
+            }
+            throw e;
+        }
         if (acquireDecision.isAllowed()) {
             if (log.isDebugEnabled()) {
                 log.debug("Circuit breaker allowed sync email notification for tenant: " + tenantDomain
                         + ". Attempting to publish.");
             }
             boolean publishSucceeded = false;
+            long publishStartTime = NotificationMetrics.startTimer();
             try {
-                service.publishAndNotifyErrors(buildDatabridgeEvent(notification, placeHolderDataMap));
+                service.publishAndNotifyErrors(buildDatabridgeEvent(notification, placeHolderDataMap,
+                        NotificationUtil.isTemplateContentOmittedInEvent()));
                 publishSucceeded = true;
+                NotificationMetrics.recordNotification(tenantDomain, NotificationConstants.Metrics.EMAIL_CHANNEL,
+                        placeHolderDataMap.get(NotificationConstants.TEMPLATE_TYPE));
                 if (log.isDebugEnabled()) {
                     log.debug("Sync email notification published successfully for tenant: " + tenantDomain);
                 }
-                if (LoggerUtils.isDiagnosticLogsEnabled()) {
-                    DiagnosticLog.DiagnosticLogBuilder diagnosticLogBuilder =
-                            new DiagnosticLog.DiagnosticLogBuilder(
-                                    NotificationConstants.LogConstants.NOTIFICATION_HANDLER_SERVICE,
-                                    NotificationConstants.LogConstants.ActionIDs.PUBLISH_SYNC_EMAIL_NOTIFICATION);
-                    diagnosticLogBuilder
-                            .inputParam(NotificationConstants.LogConstants.InputKeys.TENANT_DOMAIN, tenantDomain)
-                            .resultMessage("Sync email notification published successfully.")
-                            .resultStatus(DiagnosticLog.ResultStatus.SUCCESS)
-                            .logDetailLevel(DiagnosticLog.LogDetailLevel.INTERNAL_SYSTEM);
-                    LoggerUtils.triggerDiagnosticLogEvent(diagnosticLogBuilder);
-                }
+                triggerDiagnosticLog(NotificationConstants.LogConstants.ActionIDs.PUBLISH_SYNC_EMAIL_NOTIFICATION,
+                        null, tenantDomain, "Sync email notification published successfully.", null,
+                        DiagnosticLog.ResultStatus.SUCCESS);
             } catch (EventStreamException e) {
                 IdentityEventException resolved = null;
+                ConsumerFailureException resolvedFailure = null;
                 if (e instanceof AggregatedConsumerFailureException) {
                     int failureCount = ((AggregatedConsumerFailureException) e).getFailures().size();
                     if (log.isDebugEnabled()) {
@@ -228,81 +539,117 @@ public class NotificationHandler extends DefaultNotificationHandler {
                     }
                     for (ConsumerFailureException failure : ((AggregatedConsumerFailureException) e).getFailures()) {
                         resolved = resolveConsumerFailure(failure);
-                        if (resolved != null) break;
+                        if (resolved != null) {
+                            resolvedFailure = failure;
+                            break;
+                        }
                     }
                 } else if (e instanceof ConsumerFailureException) {
                     if (log.isDebugEnabled()) {
                         log.debug("Sync email notification encountered a consumer failure for tenant: "
                                 + tenantDomain);
                     }
-                    resolved = resolveConsumerFailure((ConsumerFailureException) e);
+                    resolvedFailure = (ConsumerFailureException) e;
+                    resolved = resolveConsumerFailure(resolvedFailure);
                 }
                 if (resolved != null) {
                     if (log.isDebugEnabled()) {
                         log.debug("Resolved sync email consumer failure for tenant: " + tenantDomain
                                 + ". Error: " + resolved.getMessage());
                     }
-                    if (LoggerUtils.isDiagnosticLogsEnabled()) {
-                        DiagnosticLog.DiagnosticLogBuilder diagnosticLogBuilder =
-                                new DiagnosticLog.DiagnosticLogBuilder(
-                                        NotificationConstants.LogConstants.NOTIFICATION_HANDLER_SERVICE,
-                                        NotificationConstants.LogConstants.ActionIDs.PUBLISH_SYNC_EMAIL_NOTIFICATION);
-                        diagnosticLogBuilder
-                                .inputParam(NotificationConstants.LogConstants.InputKeys.TENANT_DOMAIN, tenantDomain)
-                                .resultMessage("Sync email notification failed: " + resolved.getMessage())
-                                .resultStatus(DiagnosticLog.ResultStatus.FAILED)
-                                .logDetailLevel(DiagnosticLog.LogDetailLevel.INTERNAL_SYSTEM);
-                        LoggerUtils.triggerDiagnosticLogEvent(diagnosticLogBuilder);
-                    }
+                    triggerDiagnosticLog(
+                            NotificationConstants.LogConstants.ActionIDs.PUBLISH_SYNC_EMAIL_NOTIFICATION, null,
+                            tenantDomain, "Sync email notification failed: ", resolved.getMessage(),
+                            DiagnosticLog.ResultStatus.FAILED);
+                    NotificationMetrics.recordFailure(tenantDomain, NotificationConstants.Metrics.EMAIL_CHANNEL,
+                            getAdapterException(resolvedFailure).getErrorCode());
                     throw resolved;
                 }
                 if (log.isDebugEnabled()) {
                     log.debug("Unresolvable consumer failure during sync email notification for tenant: "
                             + tenantDomain, e);
                 }
-                if (LoggerUtils.isDiagnosticLogsEnabled()) {
-                    DiagnosticLog.DiagnosticLogBuilder diagnosticLogBuilder =
-                            new DiagnosticLog.DiagnosticLogBuilder(
-                                    NotificationConstants.LogConstants.NOTIFICATION_HANDLER_SERVICE,
-                                    NotificationConstants.LogConstants.ActionIDs.PUBLISH_SYNC_EMAIL_NOTIFICATION);
-                    diagnosticLogBuilder
-                            .inputParam(NotificationConstants.LogConstants.InputKeys.TENANT_DOMAIN, tenantDomain)
-                            .resultMessage("Sync email notification failed due to an unexpected consumer error.")
-                            .resultStatus(DiagnosticLog.ResultStatus.FAILED)
-                            .logDetailLevel(DiagnosticLog.LogDetailLevel.INTERNAL_SYSTEM);
-                    LoggerUtils.triggerDiagnosticLogEvent(diagnosticLogBuilder);
-                }
+                triggerDiagnosticLog(NotificationConstants.LogConstants.ActionIDs.PUBLISH_SYNC_EMAIL_NOTIFICATION,
+                        null, tenantDomain, "Sync email notification failed due to an unexpected consumer error.",
+                        null, DiagnosticLog.ResultStatus.FAILED);
+                NotificationMetrics.recordFailure(tenantDomain, NotificationConstants.Metrics.EMAIL_CHANNEL,
+                        EmailNotification.ErrorMessages.UNKNOWN_ERROR.getCode());
                 throw new IdentityEventException(
                     EmailNotification.ErrorMessages.UNKNOWN_ERROR.getCode(),
                     EmailNotification.ErrorMessages.UNKNOWN_ERROR.getMessage(), e);
             } finally {
+                NotificationMetrics.recordStage(NotificationStage.PUBLISH, publishStartTime);
                 CircuitBreakerManager.getInstance().onComplete(
                     tenantDomain, TenantService.EMAIL_NOTIFICATION, acquireDecision, publishSucceeded);
+                if (permit != null) {
+                    permit.complete(publishSucceeded);
+                }
             }
         } else {
+            if (permit != null) {
+                permit.release();
+            }
             if (log.isDebugEnabled()) {
                 log.debug("Sync email notification throttled by circuit breaker for tenant: " + tenantDomain);
             }
-            if (LoggerUtils.isDiagnosticLogsEnabled()) {
-                DiagnosticLog.DiagnosticLogBuilder diagnosticLogBuilder =
-                        new DiagnosticLog.DiagnosticLogBuilder(
-                                NotificationConstants.LogConstants.NOTIFICATION_HANDLER_SERVICE,
-                                NotificationConstants.LogConstants.ActionIDs.PUBLISH_SYNC_EMAIL_NOTIFICATION);
-                diagnosticLogBuilder
-                        .inputParam(NotificationConstants.LogConstants.InputKeys.TENANT_DOMAIN, tenantDomain)
-                        .resultMessage("Sync email notification throttled by circuit breaker.")
-                        .resultStatus(DiagnosticLog.ResultStatus.FAILED)
-                        .logDetailLevel(DiagnosticLog.LogDetailLevel.INTERNAL_SYSTEM);
-                LoggerUtils.triggerDiagnosticLogEvent(diagnosticLogBuilder);
-            }
-            throw new IdentityEventException(
-                    EmailNotification.ErrorMessages.EMAIL_NOTIFICATION_THROTTLED.getCode(),
-                    EmailNotification.ErrorMessages.EMAIL_NOTIFICATION_THROTTLED.getMessage());
+            throw buildThrottledException(tenantDomain, "circuit breaker.");
+        }
+    }
+
+    private IdentityEventException buildThrottledException(String tenantDomain, String throttledBy) {
+
+        triggerDiagnosticLog(NotificationConstants.LogConstants.ActionIDs.PUBLISH_SYNC_EMAIL_NOTIFICATION, null,
+                tenantDomain, "Sync email notification throttled by ", throttledBy,
+                DiagnosticLog.ResultStatus.FAILED);
+        NotificationMetrics.recordThrottle(tenantDomain, NotificationConstants.Metrics.EMAIL_CHANNEL);
+        return new IdentityEventException(
+                EmailNotification.ErrorMessages.EMAIL_NOTIFICATION_THROTTLED.getCode(),
+                EmailNotification.ErrorMessages.EMAIL_NOTIFICATION_THROTTLED.getMessage());
+    }
+
+    /**
+     * Trigger a diagnostic log of the handler if diagnostic logs are enabled. The log is handed to the diagnostic log
+     * pipeline if it is enabled, so that it is built and emitted off the request thread. Otherwise it is emitted
+     * right away.
+     *
+     * @param actionId      Action ID of the diagnostic log.
+     * @param eventName     Event name input of the diagnostic log. Not added if null.
+     * @param tenantDomain  Tenant domain input of the diagnostic log.
+     * @param resultMessage Result message of the diagnostic log.
+     * @param resultDetail  Detail appended to the result message. Not added if null.
+     * @param resultStatus  Result status of the diagnostic log.
+     */
+    private static void triggerDiagnosticLog(String actionId, String eventName, String tenantDomain,
+                                             String resultMessage, String resultDetail,
+                                             DiagnosticLog.ResultStatus resultStatus) {
+
+        if (!LoggerUtils.isDiagnosticLogsEnabled()) {
+            return;
         }
+        DiagnosticLogPipeline diagnosticLogPipeline =
+                NotificationHandlerDataHolder.getInstance().getDiagnosticLogPipeline();
+        if (diagnosticLogPipeline != null) {
+            diagnosticLogPipeline.record(actionId, eventName, tenantDomain, resultMessage, resultDetail,
+                    resultStatus);
+            return;
+        }
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        LoggerUtils.triggerDiagnosticLogEvent(new DiagnosticRecord(actionId, eventName, tenantDomain, resultMessage,
+                resultDetail, resultStatus, carbonContext.getTenantId(), carbonContext.getTenantDomain(), null,
+                System.currentTimeMillis()).toDiagnosticLogBuilder(false));
     }
 
     private IdentityEventException resolveConsumerFailure(ConsumerFailureException failure) {
 
+        OutputEventAdapterException adapterEx = getAdapterException(failure);
+        if (adapterEx == null) {
+            return null;
+        }
+        return buildAdapterErrorException(adapterEx.getErrorCode(), failure);
+    }
+
+    private OutputEventAdapterException getAdapterException(ConsumerFailureException failure) {
+
         Throwable cause = failure.getCause();
         if (!(cause instanceof EventStreamException)) {
             return null;
@@ -311,8 +658,7 @@ public class NotificationHandler extends DefaultNotificationHandler {
         if (!(adapterCause instanceof OutputEventAdapterException)) {
             return null;
         }
-        OutputEventAdapterException adapterEx = (OutputEventAdapterException) adapterCause;
-        return buildAdapterErrorException(adapterEx.getErrorCode(), failure);
+        return (OutputEventAdapterException) adapterCause;
     }
 
     private IdentityEventException buildAdapterErrorException(String errorCode,
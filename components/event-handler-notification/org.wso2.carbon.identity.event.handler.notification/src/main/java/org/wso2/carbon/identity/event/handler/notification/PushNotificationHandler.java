@@ -20,29 +20,31 @@ package org.wso2.carbon.identity.event.handler.notification;
 
 import org.apache.commons.lang.StringUtils;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.email.mgt.cache.OrganizationResolutionCache;
 import org.wso2.carbon.identity.base.IdentityRuntimeException;
 import org.wso2.carbon.identity.core.bean.context.MessageContext;
 import org.wso2.carbon.identity.event.IdentityEventConstants;
 import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
 import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.notification.NotificationConstants.PushNotificationPlaceholder;
 import org.wso2.carbon.identity.event.handler.notification.internal.NotificationHandlerDataHolder;
+import org.wso2.carbon.identity.event.handler.notification.metrics.NotificationMetrics;
+import org.wso2.carbon.identity.event.handler.notification.metrics.NotificationStage;
+import org.wso2.carbon.identity.event.handler.notification.template.CompiledPushNotificationTemplate;
 import org.wso2.carbon.identity.event.handler.notification.util.NotificationUtil;
 import org.wso2.carbon.identity.notification.push.provider.PushProvider;
 import org.wso2.carbon.identity.notification.push.provider.exception.PushProviderException;
 import org.wso2.carbon.identity.notification.push.provider.model.PushNotificationData;
 import org.wso2.carbon.identity.notification.push.provider.model.PushSenderData;
+import org.wso2.carbon.identity.notification.sender.tenant.config.NotificationSenderManagementService;
 import org.wso2.carbon.identity.notification.sender.tenant.config.dto.PushSenderDTO;
 import org.wso2.carbon.identity.event.handler.notification.util.NotificationEventHandlerAuditLogger;
 import org.wso2.carbon.identity.notification.sender.tenant.config.exception.NotificationSenderManagementException;
 
-import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
@@ -66,7 +68,6 @@ import static org.wso2.carbon.identity.event.handler.notification.NotificationCo
 import static org.wso2.carbon.identity.event.handler.notification.NotificationConstants.PushNotificationPlaceholder.PUSH_DEVICE_MODEL;
 import static org.wso2.carbon.identity.event.handler.notification.NotificationConstants.PushNotificationPlaceholder.PUSH_DEVICE_NAME;
 import static org.wso2.carbon.identity.event.handler.notification.NotificationConstants.PushNotificationPlaceholder.REGISTRATION_TIME;
-import static org.wso2.carbon.identity.event.handler.notification.util.NotificationUtil.extractPlaceHolders;
 
 /**
  * This class represents the push notification event handler.
@@ -76,6 +77,12 @@ public class PushNotificationHandler extends DefaultNotificationHandler {
     private static final Log LOG = LogFactory.getLog(PushNotificationHandler.class);
     private static final NotificationEventHandlerAuditLogger AUDIT_LOGGER =
             new NotificationEventHandlerAuditLogger();
+    private static final String[] REQUIRED_PROPERTIES = {NOTIFICATION_SCENARIO, NOTIFICATION_PROVIDER, DEVICE_TOKEN};
+    private static final String[] DEVICE_REGISTRATION_REQUIRED_PROPERTIES = {
+            PUSH_DEVICE_NAME.getPlaceholder(),
+            PUSH_DEVICE_MODEL.getPlaceholder(),
+            REGISTRATION_TIME.getPlaceholder()
+    };
 
     @Override
     public boolean canHandle(MessageContext messageContext) throws IdentityRuntimeException {
@@ -101,10 +108,10 @@ public class PushNotificationHandler extends DefaultNotificationHandler {
             LOG.debug("Handling push notification event for tenant: " + tenantDomain);
         }
 
+        long organizationStartTime = NotificationMetrics.startTimer();
         try {
-            OrganizationManager organizationManager =
-                    NotificationHandlerDataHolder.getInstance().getOrganizationManager();
-            String organizationId = organizationManager.resolveOrganizationId(tenantDomain);
+            String organizationId = resolveOrganizationId(tenantDomain);
+            NotificationMetrics.recordStage(NotificationStage.ORGANIZATION_RESOLUTION, organizationStartTime);
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Resolved organization ID: " + organizationId + " for tenant domain: " + tenantDomain);
             }
@@ -128,59 +135,55 @@ public class PushNotificationHandler extends DefaultNotificationHandler {
                 .get(NotificationConstants.PushNotification.NOTIFICATION_PROVIDER);
         try {
             /*
-             * Get the registered Push notification senders from the database.
+             * Get the Push notification sender of the provider. The senders of the tenant are indexed by the provider
+             * and only the secrets of the resolved sender are retrieved.
              */
-            List<PushSenderDTO> pushSenders = NotificationHandlerDataHolder.getInstance()
-                    .getNotificationSenderManagementService().getPushSenders(true);
-            if (pushSenders != null) {
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("Retrieved " + pushSenders.size() + " push sender(s)");
+            NotificationSenderManagementService notificationSenderManagementService =
+                    NotificationHandlerDataHolder.getInstance().getNotificationSenderManagementService();
+            PushSenderDTO resolvedPushSender =
+                    notificationSenderManagementService.getPushSenderByProvider(registeredProvider, true);
+
+            if (resolvedPushSender == null) {
+                // A sender management service without push sender support does not return any push sender.
+                if (!notificationSenderManagementService.isPushSenderSupported()) {
+                    LOG.debug("No push senders found.");
+                    return;
                 }
-
-                PushSenderDTO resolvedPushSender = null;
-
-                for (PushSenderDTO pushSender : pushSenders) {
-                    if (registeredProvider.equalsIgnoreCase(pushSender.getProvider())) {
-                        resolvedPushSender = pushSender;
-                        if (LOG.isDebugEnabled()) {
-                            LOG.debug("Found matching Push sender: " + resolvedPushSender.getName() +
-                                    " for provider: " + registeredProvider);
-                        }
-                        break;
-                    }
-                }
-
-                if (resolvedPushSender == null) {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("No push sender found for provider: " + registeredProvider);
-                    }
-                    throw new IdentityEventException("No push sender found for provider: " + registeredProvider
-                            + " and tenant: " + tenantDomain);
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("No push sender found for provider: " + registeredProvider);
                 }
+                throw new IdentityEventException("No push sender found for provider: " + registeredProvider
+                        + " and tenant: " + tenantDomain);
+            }
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Found matching Push sender: " + resolvedPushSender.getName() +
+                        " for provider: " + registeredProvider);
+            }
 
-                PushProvider provider = NotificationHandlerDataHolder.getInstance()
-                        .getPushProvider(resolvedPushSender.getProvider());
+            PushProvider provider = NotificationHandlerDataHolder.getInstance()
+                    .getPushProvider(resolvedPushSender.getProvider());
 
-                if (provider == null) {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("No Push notification provider found for the name: " +
-                                resolvedPushSender.getName());
-                    }
-                    throw new IdentityEventException("No Push notification provider found for the name: "
-                            + resolvedPushSender.getName());
+            if (provider == null) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("No Push notification provider found for the name: " +
+                            resolvedPushSender.getName());
                 }
+                throw new IdentityEventException("No Push notification provider found for the name: "
+                        + resolvedPushSender.getName());
+            }
 
-                PushNotificationData pushNotificationData = buildPushNotificationData(event);
-                provider.sendNotification(pushNotificationData,
-                        buildPushSenderData(resolvedPushSender), tenantDomain);
+            PushNotificationData pushNotificationData = buildPushNotificationData(event);
+            long publishStartTime = NotificationMetrics.startTimer();
+            provider.sendNotification(pushNotificationData,
+                    buildPushSenderData(resolvedPushSender), tenantDomain);
+            NotificationMetrics.recordStage(NotificationStage.PUBLISH, publishStartTime);
+            NotificationMetrics.recordNotification(tenantDomain, NotificationConstants.Metrics.PUSH_CHANNEL,
+                    (String) event.getEventProperties().get(NOTIFICATION_SCENARIO));
 
-                isNotificationSuccessful = true;
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("Push notification sent successfully through provider: "
-                            + resolvedPushSender.getProvider());
-                }
-            } else {
-                LOG.debug("No push senders found.");
+            isNotificationSuccessful = true;
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Push notification sent successfully through provider: "
+                        + resolvedPushSender.getProvider());
             }
         } catch (NotificationSenderManagementException e) {
             if (LOG.isDebugEnabled()) {
@@ -193,6 +196,8 @@ public class PushNotificationHandler extends DefaultNotificationHandler {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Error while sending push notification.", e);
             }
+            NotificationMetrics.recordFailure(tenantDomain, NotificationConstants.Metrics.PUSH_CHANNEL,
+                    e.getErrorCode());
             throw new IdentityEventException(e.getErrorCode(), e.getMessage(), e);
         } finally {
             String userId = (String) event.getEventProperties().get(IdentityEventConstants.EventProperty.USER_ID);
@@ -221,8 +226,7 @@ public class PushNotificationHandler extends DefaultNotificationHandler {
         if (eventProperties == null) {
             return false;
         }
-        String[] requiredProperties = {NOTIFICATION_SCENARIO, NOTIFICATION_PROVIDER, DEVICE_TOKEN};
-        for (String property : requiredProperties) {
+        for (String property : REQUIRED_PROPERTIES) {
             if (eventProperties.get(property) == null) {
                 return false;
             }
@@ -234,12 +238,7 @@ public class PushNotificationHandler extends DefaultNotificationHandler {
          */
         String scenario = (String) eventProperties.get(NOTIFICATION_SCENARIO);
         if (PUSH_DEVICE_REGISTRATION_SCENARIO.equals(scenario)) {
-            String[] deviceRegistrationRequiredProperties = {
-                PUSH_DEVICE_NAME.getPlaceholder(),
-                PUSH_DEVICE_MODEL.getPlaceholder(),
-                REGISTRATION_TIME.getPlaceholder()
-            };
-            for (String property : deviceRegistrationRequiredProperties) {
+            for (String property : DEVICE_REGISTRATION_REQUIRED_PROPERTIES) {
                 if (eventProperties.get(property) == null) {
                     return false;
                 }
@@ -261,29 +260,21 @@ public class PushNotificationHandler extends DefaultNotificationHandler {
 
         String scenario = (String) eventProperties.get(NOTIFICATION_SCENARIO);
 
-        NotificationConstants.PushNotificationTemplate template =
-                Arrays.stream(NotificationConstants.PushNotificationTemplate.values())
-                        .filter(pushNotificationTemplate -> pushNotificationTemplate.getScenario().equals(scenario))
-                        .findFirst()
-                        .orElseThrow(() -> new IdentityEventException(
-                                "Push notification template not found for the scenario: " + scenario));
-
-        Set<String> placeHolderSet = new HashSet<>();
-        placeHolderSet.addAll(extractPlaceHolders(template.getTitle()));
-        placeHolderSet.addAll(extractPlaceHolders(template.getBody()));
+        CompiledPushNotificationTemplate template = CompiledPushNotificationTemplate.forScenario(scenario);
+        if (template == null) {
+            throw new IdentityEventException("Push notification template not found for the scenario: " + scenario);
+        }
 
         // Validate if there are invalid placeholders.
-        validatePlaceHolders(placeHolderSet);
+        if (template.getInvalidPlaceholder() != null) {
+            throw new IdentityEventException("Invalid placeholder found: " + template.getInvalidPlaceholder());
+        }
 
         // Retrieve the placeholder values from the event properties.
-        Map<String, String> placeholderValues = getPlaceHolderValues(eventProperties, placeHolderSet);
+        Map<String, String> placeholderValues = getPlaceHolderValues(eventProperties, template.getPlaceholders());
 
         // Resolve the organization name placeholder.
-        String tenantDomain = placeholderValues.get(
-                NotificationConstants.PushNotificationPlaceholder.TENANT_DOMAIN.name());
-        if (StringUtils.isEmpty(tenantDomain)) {
-            tenantDomain = (String) eventProperties.get(IdentityEventConstants.EventProperty.TENANT_DOMAIN);
-        }
+        String tenantDomain = (String) eventProperties.get(IdentityEventConstants.EventProperty.TENANT_DOMAIN);
         String organizationName = NotificationUtil.resolveHumanReadableOrganizationName(tenantDomain);
         if (placeholderValues.containsKey(ORGANIZATION_NAME_PLACEHOLDER)) {
             placeholderValues.put(ORGANIZATION_NAME_PLACEHOLDER, organizationName);
@@ -295,8 +286,7 @@ public class PushNotificationHandler extends DefaultNotificationHandler {
         if (NotificationUtil.isOrganization(tenantDomain)) {
             LOG.debug("Tenant domain is an organization.");
             try {
-                organizationId = NotificationHandlerDataHolder.getInstance()
-                        .getOrganizationManager().resolveOrganizationId(tenantDomain);
+                organizationId = resolveOrganizationId(tenantDomain);
             } catch (OrganizationManagementException e) {
                 if (LOG.isDebugEnabled()) {
                     LOG.debug("Error while resolving organization ID for tenant domain: " + tenantDomain, e);
@@ -319,8 +309,8 @@ public class PushNotificationHandler extends DefaultNotificationHandler {
         }
 
         // Replace the placeholders in the push notification template with the actual values.
-        String title = replacePlaceHolders(template.getTitle(), placeholderValues);
-        String body = replacePlaceHolders(template.getBody(), placeholderValues);
+        String title = template.renderTitle(placeholderValues);
+        String body = template.renderBody(placeholderValues);
 
         return new PushNotificationData.Builder()
                 .setNotificationTitle(title)
@@ -349,70 +339,24 @@ public class PushNotificationHandler extends DefaultNotificationHandler {
                 .build();
     }
 
-    /**
-     * Validate the placeholders in the push notification template.
-     *
-     * @param placeHolderSet Set of placeholders.
-     * @throws IdentityEventException If an invalid placeholder is found.
-     */
-    private void validatePlaceHolders(Set<String> placeHolderSet) throws IdentityEventException {
-
-        Set<String> validPlaceHolders = Arrays.stream(NotificationConstants.PushNotificationPlaceholder.values())
-                .map(NotificationConstants.PushNotificationPlaceholder::getPlaceholder).collect(Collectors.toSet());
-
-        for (String placeHolder : placeHolderSet) {
-            if (!validPlaceHolders.contains(placeHolder)) {
-                throw new IdentityEventException("Invalid placeholder found: " + placeHolder);
-            }
-        }
-    }
-
     /**
      * Get the placeholder values from the event properties.
      *
      * @param eventProperties Event properties.
-     * @param placeholderSet  Set of placeholders.
+     * @param placeholders    Placeholders of the push notification template.
      * @return Map of placeholder values.
      */
-    private Map<String, String> getPlaceHolderValues(Map<String, Object> eventProperties, Set<String> placeholderSet) {
+    private Map<String, String> getPlaceHolderValues(Map<String, Object> eventProperties,
+                                                     List<PushNotificationPlaceholder> placeholders) {
 
-        NotificationConstants.PushNotificationPlaceholder[] placeHolderKeys =
-                NotificationConstants.PushNotificationPlaceholder.values();
         Map<String, String> placeholderValues = new HashMap<>();
-
-        for (String placeHolder : placeholderSet) {
-            NotificationConstants.PushNotificationPlaceholder matchedKey = Arrays.stream(placeHolderKeys)
-                    .filter(key -> key.getPlaceholder().equalsIgnoreCase(placeHolder))
-                    .findFirst()
-                    .orElse(null);
-
-            // If a matching key is found, retrieve the corresponding value from event properties
-            if (matchedKey != null) {
-                String value = (String) eventProperties.get(matchedKey.getPlaceholder());
-                placeholderValues.put(placeHolder, value);
-            }
+        for (PushNotificationPlaceholder placeholder : placeholders) {
+            placeholderValues.put(placeholder.getPlaceholder(),
+                    (String) eventProperties.get(placeholder.getPlaceholder()));
         }
-
         return placeholderValues;
     }
 
-    /**
-     * Replace the placeholders in the push notification template with the actual values.
-     *
-     * @param content           Push notification template content.
-     * @param placeholderValues Map of placeholder values.
-     * @return Push notification content with placeholders replaced.
-     */
-    private String replacePlaceHolders(String content, Map<String, String> placeholderValues) {
-
-        for (Map.Entry<String, String> entry : placeholderValues.entrySet()) {
-            String placeholder = entry.getKey();
-            String value = entry.getValue();
-            content = content.replace("{{" + placeholder + "}}", value);
-        }
-        return content;
-    }
-
     /**
      * Build PushSenderData from PushSenderDTO.
      *
@@ -428,4 +372,24 @@ public class PushNotificationHandler extends DefaultNotificationHandler {
         pushSenderData.setProviderId(pushSenderDTO.getProviderId());
         return pushSenderData;
     }
+
+    /**
+     * Resolve the organization ID of the tenant domain, using the shared organization resolution cache.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Organization ID.
+     * @throws OrganizationManagementException If the organization ID could not be resolved.
+     */
+    private static String resolveOrganizationId(String tenantDomain) throws OrganizationManagementException {
+
+        OrganizationResolutionCache organizationResolutionCache = OrganizationResolutionCache.getInstance();
+        String organizationId = organizationResolutionCache.getOrganizationId(tenantDomain);
+        if (organizationId == null) {
+            OrganizationManager organizationManager =
+                    NotificationHandlerDataHolder.getInstance().getOrganizationManager();
+            organizationId = organizationManager.resolveOrganizationId(tenantDomain);
+            organizationResolutionCache.addOrganizationId(tenantDomain, organizationId);
+        }
+        return organizationId;
+    }
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.batch;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.event.handler.notification.NotificationConstants.BatchBuild;
+import org.wso2.carbon.identity.event.handler.notification.dispatch.DispatchTask;
+import org.wso2.carbon.identity.event.handler.notification.dispatch.NotificationThreadContext;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared bounded pool building the notification groups of large batches in parallel. The pool is owned by the
+ * notification handler service component, so concurrent batches share the same workers instead of starting a pool of
+ * their own.
+ * <p>
+ * Each group is built with the thread context of the thread that submitted the batch. When the pool and its queue are
+ * full the group is built in the submitting thread, so a burst of batches degrades to the sequential behaviour
+ * instead of failing.
+ */
+public class NotificationBatchBuildExecutor {
+
+    private static final Log log = LogFactory.getLog(NotificationBatchBuildExecutor.class);
+    private static final String WORKER_NAME_PREFIX = "notification-batch-build-";
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
+    private final ThreadPoolExecutor workers;
+
+    /**
+     * Create a batch build executor.
+     *
+     * @param poolSize      Maximum number of groups built concurrently.
+     * @param queueCapacity Maximum number of groups waiting for a worker.
+     */
+    public NotificationBatchBuildExecutor(int poolSize, int queueCapacity) {
+
+        if (poolSize <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("Invalid batch build pool size: " + poolSize + " or queue capacity: "
+                    + queueCapacity);
+        }
+        this.workers = new ThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), createThreadFactory());
+        this.workers.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Create a batch build executor from the configuration in identity.xml. Missing or invalid values fall back to
+     * the defaults.
+     *
+     * @return Batch build executor.
+     */
+    public static NotificationBatchBuildExecutor fromIdentityConfig() {
+
+        int poolSize = readPositiveNumber(BatchBuild.POOL_SIZE, BatchBuild.DEFAULT_POOL_SIZE);
+        int queueCapacity = readPositiveNumber(BatchBuild.QUEUE_CAPACITY, BatchBuild.DEFAULT_QUEUE_CAPACITY);
+        return new NotificationBatchBuildExecutor(poolSize, queueCapacity);
+    }
+
+    /**
+     * Build a notification group with the given thread context.
+     *
+     * @param threadContext Thread context of the thread that submitted the batch.
+     * @param task          Task building the notification group.
+     * @return Future completed once the group is built, or exceptionally with the error thrown by the task.
+     */
+    public Future<?> submit(NotificationThreadContext threadContext, DispatchTask task) {
+
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        try {
+            workers.execute(() -> complete(future, threadContext, task));
+        } catch (RejectedExecutionException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Notification batch build pool is saturated or shut down. Building the notification group "
+                        + "in the calling thread.");
+            }
+            complete(future, threadContext, task);
+        }
+        return future;
+    }
+
+    /**
+     * Stop accepting groups and let the workers finish the groups they are building. Groups still waiting for a worker
+     * are built in the calling thread, so that no batch waits for a group that never runs, and groups submitted
+     * afterwards are built in the thread submitting them.
+     */
+    public void shutdown() {
+
+        workers.shutdown();
+        for (Runnable pendingTask : workers.getQueue().toArray(new Runnable[0])) {
+            if (workers.remove(pendingTask)) {
+                pendingTask.run();
+            }
+        }
+    }
+
+    private static void complete(CompletableFuture<Void> future, NotificationThreadContext threadContext,
+                                 DispatchTask task) {
+
+        try {
+            threadContext.execute(task);
+            future.complete(null);
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    private static ThreadFactory createThreadFactory() {
+
+        AtomicInteger workerCount = new AtomicInteger();
+        return runnable -> {
+            Thread worker = new Thread(runnable, WORKER_NAME_PREFIX + workerCount.incrementAndGet());
+            worker.setDaemon(true);
+            return worker;
+        };
+    }
+
+    private static int readPositiveNumber(String property, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            int number = Integer.parseInt(value.trim());
+            if (number > 0) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // Fall back to the default value below.
+        }
+        log.warn("Invalid value: " + value + " for " + property + ". Using the default value: " + defaultValue);
+        return defaultValue;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.batch;
+
+import org.wso2.carbon.identity.event.event.Event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of handling a batch of notification events. A failure of one event does not fail the batch; it is
+ * reported here together with the position of the event in the batch.
+ */
+public class NotificationBatchResult {
+
+    private final int totalCount;
+    private final List<Failure> failures = Collections.synchronizedList(new ArrayList<>());
+
+    public NotificationBatchResult(int totalCount) {
+
+        this.totalCount = totalCount;
+    }
+
+    /**
+     * Record the failure of an event of the batch.
+     *
+     * @param index Position of the event in the batch.
+     * @param event Failed event.
+     * @param error Error the event failed with.
+     */
+    public void addFailure(int index, Event event, Exception error) {
+
+        failures.add(new Failure(index, event, error));
+    }
+
+    public int getTotalCount() {
+
+        return totalCount;
+    }
+
+    public int getSuccessCount() {
+
+        return totalCount - failures.size();
+    }
+
+    public boolean hasFailures() {
+
+        return !failures.isEmpty();
+    }
+
+    /**
+     * Get the failed events, ordered by their position in the batch.
+     *
+     * @return List of failures.
+     */
+    public List<Failure> getFailures() {
+
+        List<Failure> orderedFailures;
+        synchronized (failures) {
+            orderedFailures = new ArrayList<>(failures);
+        }
+        orderedFailures.sort((first, second) -> Integer.compare(first.getIndex(), second.getIndex()));
+        return orderedFailures;
+    }
+
+    /**
+     * Failure of a single event of the batch.
+     */
+    public static class Failure {
+
+        private final int index;
+        private final Event event;
+        private final Exception error;
+
+        private Failure(int index, Event event, Exception error) {
+
+            this.index = index;
+            this.event = event;
+            this.error = error;
+        }
+
+        public int getIndex() {
+
+            return index;
+        }
+
+        public Event getEvent() {
+
+            return event;
+        }
+
+        public Exception getError() {
+
+            return error;
+        }
+    }
+}
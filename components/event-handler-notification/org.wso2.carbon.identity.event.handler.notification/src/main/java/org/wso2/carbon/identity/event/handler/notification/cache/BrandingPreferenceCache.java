@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+/**
+ * Cache for the branding and custom text preferences resolved for notifications, including the preferences that do
+ * not exist. Entries of a tenant are cleared when its preferences are added, updated or deleted, and every entry
+ * expires after the configured time to live, which bounds how long a change in a parent organization is not seen by
+ * its child organizations.
+ */
+public class BrandingPreferenceCache extends BaseCache<BrandingPreferenceCacheKey, BrandingPreferenceCacheEntry> {
+
+    private static final String CACHE_NAME = "NotificationBrandingPreferenceCache";
+    private static final BrandingPreferenceCache instance = new BrandingPreferenceCache();
+
+    private BrandingPreferenceCache() {
+
+        super(CACHE_NAME);
+    }
+
+    public static BrandingPreferenceCache getInstance() {
+
+        return instance;
+    }
+}
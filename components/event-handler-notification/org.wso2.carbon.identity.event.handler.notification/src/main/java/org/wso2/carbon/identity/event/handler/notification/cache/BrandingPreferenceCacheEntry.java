@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+/**
+ * This class represent cache entry for {@link BrandingPreferenceCache}. An entry holds the parsed preference and the
+ * time it expires at. An entry without a preference records that the preference does not exist or is not enabled, so
+ * notifications of tenants without branding do not resolve it again until the entry expires.
+ */
+public class BrandingPreferenceCacheEntry implements Serializable {
+
+    private static final long serialVersionUID = 6190587472633285563L;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final String preference;
+    private final long expiryTime;
+    private transient volatile JsonNode parsedPreference;
+
+    /**
+     * Create a cache entry.
+     *
+     * @param preference Parsed preference, or null if the preference does not exist or is not enabled.
+     * @param timeToLive Time the entry is served for, in milliseconds.
+     */
+    public BrandingPreferenceCacheEntry(JsonNode preference, long timeToLive) {
+
+        this.preference = preference != null ? preference.toString() : null;
+        this.parsedPreference = preference;
+        this.expiryTime = System.currentTimeMillis() + timeToLive;
+    }
+
+    /**
+     * Check whether the entry expired.
+     *
+     * @return True if the entry should not be served anymore.
+     */
+    public boolean isExpired() {
+
+        return System.currentTimeMillis() >= expiryTime;
+    }
+
+    /**
+     * Get the cached preference.
+     *
+     * @return Parsed preference, or null if the preference does not exist or is not enabled.
+     * @throws IOException If the preference cannot be parsed after the entry is deserialized.
+     */
+    public JsonNode getPreference() throws IOException {
+
+        if (parsedPreference == null && preference != null) {
+            parsedPreference = OBJECT_MAPPER.readTree(preference);
+        }
+        return parsedPreference;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.cache;
+
+import org.wso2.carbon.email.mgt.cache.BoundedConcurrentCache;
+
+import java.util.Objects;
+
+/**
+ * Local cache for the server URLs used in email placeholders. The URLs are derived from the server configurations, the
+ * tenant and the organization the request is served in, hence they are computed once per tenant and organization
+ * context instead of building them for every notification. A request served in an organization path, or for an
+ * application residing in an organization, builds organization qualified URLs and is cached separately.
+ */
+public class ServiceURLCache {
+
+    private static final int MAX_ENTRIES = 1024;
+    private static final ServiceURLCache instance = new ServiceURLCache();
+
+    private final BoundedConcurrentCache<ServiceURLCacheKey, ServiceURLs> serviceURLs =
+            new BoundedConcurrentCache<>(MAX_ENTRIES);
+
+    private ServiceURLCache() {
+
+    }
+
+    public static ServiceURLCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Get the cached URLs.
+     *
+     * @param contextTenantDomain    Tenant domain of the current carbon context.
+     * @param userTenantDomain       Tenant domain of the notification recipient.
+     * @param contextOrganizationId  Organization ID of the current carbon context, or null if the request is not
+     *                               served in an organization path.
+     * @param residentOrganizationId ID of the organization the application of the request resides in, or null.
+     * @return Cached URLs, or null if the URLs are not cached.
+     */
+    public ServiceURLs getValueFromCache(String contextTenantDomain, String userTenantDomain,
+                                         String contextOrganizationId, String residentOrganizationId) {
+
+        return serviceURLs.get(new ServiceURLCacheKey(contextTenantDomain, userTenantDomain, contextOrganizationId,
+                residentOrganizationId));
+    }
+
+    /**
+     * Add URLs to the cache.
+     *
+     * @param contextTenantDomain    Tenant domain of the current carbon context.
+     * @param userTenantDomain       Tenant domain of the notification recipient.
+     * @param contextOrganizationId  Organization ID of the current carbon context, or null if the request is not
+     *                               served in an organization path.
+     * @param residentOrganizationId ID of the organization the application of the request resides in, or null.
+     * @param urls                   URLs to be cached.
+     */
+    public void addToCache(String contextTenantDomain, String userTenantDomain, String contextOrganizationId,
+                           String residentOrganizationId, ServiceURLs urls) {
+
+        serviceURLs.put(new ServiceURLCacheKey(contextTenantDomain, userTenantDomain, contextOrganizationId,
+                residentOrganizationId), urls);
+    }
+
+    /**
+     * Remove all the cached URLs.
+     */
+    public void clear() {
+
+        serviceURLs.clear();
+    }
+
+    /**
+     * URLs resolved for a tenant.
+     */
+    public static class ServiceURLs {
+
+        private final String serverURL;
+        private final String carbonUrlWithUserTenant;
+        private final String accountRecoveryEndpointURL;
+        private final String authenticationEndpointURL;
+
+        public ServiceURLs(String serverURL, String carbonUrlWithUserTenant, String accountRecoveryEndpointURL,
+                           String authenticationEndpointURL) {
+
+            this.serverURL = serverURL;
+            this.carbonUrlWithUserTenant = carbonUrlWithUserTenant;
+            this.accountRecoveryEndpointURL = accountRecoveryEndpointURL;
+            this.authenticationEndpointURL = authenticationEndpointURL;
+        }
+
+        public String getServerURL() {
+
+            return serverURL;
+        }
+
+        public String getCarbonUrlWithUserTenant() {
+
+            return carbonUrlWithUserTenant;
+        }
+
+        public String getAccountRecoveryEndpointURL() {
+
+            return accountRecoveryEndpointURL;
+        }
+
+        public String getAuthenticationEndpointURL() {
+
+            return authenticationEndpointURL;
+        }
+    }
+
+    private static class ServiceURLCacheKey {
+
+        private final String contextTenantDomain;
+        private final String userTenantDomain;
+        private final String contextOrganizationId;
+        private final String residentOrganizationId;
+
+        ServiceURLCacheKey(String contextTenantDomain, String userTenantDomain, String contextOrganizationId,
+                           String residentOrganizationId) {
+
+            this.contextTenantDomain = contextTenantDomain;
+            this.userTenantDomain = userTenantDomain;
+            this.contextOrganizationId = contextOrganizationId;
+            this.residentOrganizationId = residentOrganizationId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ServiceURLCacheKey key = (ServiceURLCacheKey) o;
+            return Objects.equals(contextTenantDomain, key.contextTenantDomain) &&
+                    Objects.equals(userTenantDomain, key.userTenantDomain) &&
+                    Objects.equals(contextOrganizationId, key.contextOrganizationId) &&
+                    Objects.equals(residentOrganizationId, key.residentOrganizationId);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(contextTenantDomain, userTenantDomain, contextOrganizationId, residentOrganizationId);
+        }
+    }
+}
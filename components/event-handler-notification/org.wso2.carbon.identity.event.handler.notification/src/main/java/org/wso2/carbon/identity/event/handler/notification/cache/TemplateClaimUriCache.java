@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.cache;
+
+import org.wso2.carbon.email.mgt.cache.BoundedConcurrentCache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Local cache of the claim URIs referred by the email templates of a template type in a tenant. It is used to fetch
+ * only the claims a notification needs, before the template of the recipient's locale is resolved.
+ * <p>
+ * The cached claim URIs are the union of the claims seen across the locales and application level variants of the
+ * template type. A template that refers a claim not cached yet is handled by fetching the missing claims, hence a
+ * stale entry costs an extra claim lookup but never a missing placeholder value.
+ */
+public class TemplateClaimUriCache {
+
+    private static final int MAX_ENTRIES = 4096;
+    private static final TemplateClaimUriCache instance = new TemplateClaimUriCache();
+
+    private final BoundedConcurrentCache<TemplateClaimUriCacheKey, Set<String>> claimUris =
+            new BoundedConcurrentCache<>(MAX_ENTRIES);
+
+    private TemplateClaimUriCache() {
+
+    }
+
+    public static TemplateClaimUriCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Get the cached claim URIs of a template type.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param templateType Email template type.
+     * @return Unmodifiable set of claim URIs, or null if the template type is not cached.
+     */
+    public Set<String> getValueFromCache(String tenantDomain, String templateType) {
+
+        return claimUris.get(new TemplateClaimUriCacheKey(tenantDomain, templateType));
+    }
+
+    /**
+     * Add claim URIs of a template type to the cache, in addition to the already cached claim URIs.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param templateType Email template type.
+     * @param uris         Claim URIs referred by a template of the template type.
+     */
+    public void addToCache(String tenantDomain, String templateType, Collection<String> uris) {
+
+        claimUris.merge(new TemplateClaimUriCacheKey(tenantDomain, templateType),
+                Collections.unmodifiableSet(new HashSet<>(uris)), (cachedUris, newUris) -> {
+                    if (cachedUris.containsAll(newUris)) {
+                        return cachedUris;
+                    }
+                    Set<String> mergedUris = new HashSet<>(cachedUris);
+                    mergedUris.addAll(newUris);
+                    return Collections.unmodifiableSet(mergedUris);
+                });
+    }
+
+    /**
+     * Remove all the cached claim URIs.
+     */
+    public void clear() {
+
+        claimUris.clear();
+    }
+
+    private static class TemplateClaimUriCacheKey {
+
+        private final String tenantDomain;
+        private final String templateType;
+
+        TemplateClaimUriCacheKey(String tenantDomain, String templateType) {
+
+            this.tenantDomain = tenantDomain;
+            this.templateType = templateType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            TemplateClaimUriCacheKey key = (TemplateClaimUriCacheKey) o;
+            return Objects.equals(tenantDomain, key.tenantDomain) &&
+                    Objects.equals(templateType, key.templateType);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(tenantDomain, templateType);
+        }
+    }
+}
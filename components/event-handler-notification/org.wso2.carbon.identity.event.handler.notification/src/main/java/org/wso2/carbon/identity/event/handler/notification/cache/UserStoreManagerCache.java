@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.cache;
+
+import org.wso2.carbon.user.api.UserStoreManager;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local cache of the user store managers resolved by tenant and user store domain. The entries of a tenant are
+ * removed when a user store of the tenant is updated, renamed or deleted, and expire after a short time so that
+ * changes made through other nodes of the cluster are picked up as well.
+ */
+public class UserStoreManagerCache {
+
+    private static final long TIME_TO_LIVE_NANOS = TimeUnit.SECONDS.toNanos(60);
+    private static final UserStoreManagerCache instance = new UserStoreManagerCache();
+
+    private final Map<UserStoreManagerCacheKey, Entry> userStoreManagers = new ConcurrentHashMap<>();
+
+    private UserStoreManagerCache() {
+
+    }
+
+    public static UserStoreManagerCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Get the cached user store manager.
+     *
+     * @param tenantId        Tenant ID.
+     * @param userStoreDomain User store domain.
+     * @return Cached user store manager, or null if it is not cached or the entry has expired.
+     */
+    public UserStoreManager getValueFromCache(int tenantId, String userStoreDomain) {
+
+        UserStoreManagerCacheKey key = new UserStoreManagerCacheKey(tenantId, userStoreDomain);
+        Entry entry = userStoreManagers.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.createdTime > TIME_TO_LIVE_NANOS) {
+            userStoreManagers.remove(key, entry);
+            return null;
+        }
+        return entry.userStoreManager;
+    }
+
+    /**
+     * Add a user store manager to the cache.
+     *
+     * @param tenantId         Tenant ID.
+     * @param userStoreDomain  User store domain.
+     * @param userStoreManager User store manager.
+     */
+    public void addToCache(int tenantId, String userStoreDomain, UserStoreManager userStoreManager) {
+
+        userStoreManagers.put(new UserStoreManagerCacheKey(tenantId, userStoreDomain),
+                new Entry(userStoreManager, System.nanoTime()));
+    }
+
+    /**
+     * Remove the cached user store managers of a tenant.
+     *
+     * @param tenantId Tenant ID.
+     */
+    public void clear(int tenantId) {
+
+        userStoreManagers.keySet().removeIf(key -> key.tenantId == tenantId);
+    }
+
+    private static class Entry {
+
+        private final UserStoreManager userStoreManager;
+        private final long createdTime;
+
+        Entry(UserStoreManager userStoreManager, long createdTime) {
+
+            this.userStoreManager = userStoreManager;
+            this.createdTime = createdTime;
+        }
+    }
+
+    private static class UserStoreManagerCacheKey {
+
+        private final int tenantId;
+        private final String userStoreDomain;
+
+        UserStoreManagerCacheKey(int tenantId, String userStoreDomain) {
+
+            this.tenantId = tenantId;
+            this.userStoreDomain = userStoreDomain != null ? userStoreDomain.toUpperCase() : null;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            UserStoreManagerCacheKey key = (UserStoreManagerCacheKey) o;
+            return tenantId == key.tenantId && Objects.equals(userStoreDomain, key.userStoreDomain);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(tenantId, userStoreDomain);
+        }
+    }
+}
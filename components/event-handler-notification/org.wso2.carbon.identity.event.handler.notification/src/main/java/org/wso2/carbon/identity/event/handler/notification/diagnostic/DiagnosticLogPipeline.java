@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.diagnostic;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
+import org.slf4j.MDC;
+import org.wso2.carbon.utils.DiagnosticLog;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Emits the diagnostic logs of the notification handlers off the request thread.
+ * <p>
+ * The request thread only records a compact {@link DiagnosticRecord} into a lock-free ring buffer, and a background
+ * drainer builds and emits the diagnostic logs. Successful records of an action can be sampled, in which case the
+ * records that are not sampled are skipped before anything is allocated. Failed records are never sampled out. When
+ * the buffer is full the record is dropped rather than making the request thread wait.
+ * <p>
+ * The logging context (MDC) of the request thread, which holds the correlation ID and the flow ID, is captured with
+ * the record and restored on the drainer while the record is emitted, and cleared afterwards.
+ */
+public class DiagnosticLogPipeline {
+
+    private static final Log log = LogFactory.getLog(DiagnosticLogPipeline.class);
+    private static final String DRAINER_NAME = "notification-diagnostic-log-drainer";
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
+    private final DiagnosticLogPipelineConfig config;
+    private final DiagnosticRingBuffer ringBuffer;
+    private final Consumer<DiagnosticRecord> emitter;
+    private final LongAdder recordedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder emittedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final Thread drainer;
+    private volatile boolean running = true;
+
+    public DiagnosticLogPipeline(DiagnosticLogPipelineConfig config) {
+
+        this(config, DiagnosticLogPipeline::emit);
+    }
+
+    DiagnosticLogPipeline(DiagnosticLogPipelineConfig config, Consumer<DiagnosticRecord> emitter) {
+
+        this.config = config;
+        this.ringBuffer = new DiagnosticRingBuffer(config.getBufferSize());
+        this.emitter = emitter;
+        this.drainer = new Thread(this::drain, DRAINER_NAME);
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+    }
+
+    /**
+     * Record a diagnostic log to be emitted by the drainer.
+     *
+     * @param actionId      Action ID of the diagnostic log.
+     * @param eventName     Event name input of the diagnostic log. Not added if null.
+     * @param tenantDomain  Tenant domain input of the diagnostic log.
+     * @param resultMessage Result message of the diagnostic log.
+     * @param resultDetail  Detail appended to the result message when the log is emitted. Not added if null.
+     * @param resultStatus  Result status of the diagnostic log.
+     */
+    public void record(String actionId, String eventName, String tenantDomain, String resultMessage,
+                       String resultDetail, DiagnosticLog.ResultStatus resultStatus) {
+
+        if (resultStatus == DiagnosticLog.ResultStatus.SUCCESS) {
+            int samplingRate = config.getSamplingRate(actionId);
+            if (samplingRate > 1 && ThreadLocalRandom.current().nextInt(samplingRate) != 0) {
+                return;
+            }
+        }
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        DiagnosticRecord record = new DiagnosticRecord(actionId, eventName, tenantDomain, resultMessage,
+                resultDetail, resultStatus, carbonContext.getTenantId(), carbonContext.getTenantDomain(),
+                MDC.getCopyOfContextMap(), System.currentTimeMillis());
+        if (running && ringBuffer.offer(record)) {
+            recordedCount.increment();
+        } else {
+            droppedCount.increment();
+        }
+    }
+
+    /**
+     * Get the number of diagnostic records added to the buffer.
+     *
+     * @return Recorded count.
+     */
+    public long getRecordedCount() {
+
+        return recordedCount.sum();
+    }
+
+    /**
+     * Get the number of diagnostic records dropped because the buffer was full or the pipeline was shut down.
+     *
+     * @return Dropped count.
+     */
+    public long getDroppedCount() {
+
+        return droppedCount.sum();
+    }
+
+    /**
+     * Get the number of diagnostic logs emitted by the drainer.
+     *
+     * @return Emitted count.
+     */
+    public long getEmittedCount() {
+
+        return emittedCount.sum();
+    }
+
+    /**
+     * Get the number of diagnostic logs the drainer failed to emit.
+     *
+     * @return Failed count.
+     */
+    public long getFailedCount() {
+
+        return failedCount.sum();
+    }
+
+    /**
+     * Stop accepting diagnostic records and wait for the buffered records to be emitted.
+     */
+    public void shutdown() {
+
+        running = false;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (drainer.isAlive()) {
+            log.warn("Buffered notification diagnostic logs were not emitted before the diagnostic log pipeline "
+                    + "was shut down.");
+        }
+    }
+
+    private void drain() {
+
+        while (running) {
+            if (!drainBuffer()) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+        // Records added before the pipeline was stopped.
+        drainBuffer();
+    }
+
+    private boolean drainBuffer() {
+
+        boolean drained = false;
+        DiagnosticRecord record;
+        while ((record = ringBuffer.poll()) != null) {
+            drained = true;
+            try {
+                if (record.getLoggingContext() != null) {
+                    MDC.setContextMap(record.getLoggingContext());
+                }
+                emitter.accept(record);
+                emittedCount.increment();
+            } catch (RuntimeException e) {
+                failedCount.increment();
+                if (log.isDebugEnabled()) {
+                    log.debug("Error while emitting the diagnostic log of action: " + record.getActionId(), e);
+                }
+            } finally {
+                MDC.clear();
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * Emit the diagnostic log of a record in the carbon context the record was created in.
+     *
+     * @param record Diagnostic record.
+     */
+    private static void emit(DiagnosticRecord record) {
+
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            carbonContext.setTenantId(record.getContextTenantId());
+            carbonContext.setTenantDomain(record.getContextTenantDomain());
+            LoggerUtils.triggerDiagnosticLogEvent(record.toDiagnosticLogBuilder(true));
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+}
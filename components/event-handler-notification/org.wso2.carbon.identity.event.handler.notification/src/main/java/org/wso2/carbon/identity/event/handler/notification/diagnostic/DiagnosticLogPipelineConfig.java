@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.diagnostic;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.event.handler.notification.NotificationConstants.AsyncDiagnosticLog;
+import org.wso2.carbon.identity.event.handler.notification.NotificationConstants.LogConstants;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configurations of the asynchronous diagnostic log pipeline of the notification handlers.
+ */
+public class DiagnosticLogPipelineConfig {
+
+    private static final Log log = LogFactory.getLog(DiagnosticLogPipelineConfig.class);
+    private static final List<String> ACTION_IDS = Arrays.asList(LogConstants.ActionIDs.HANDLE_EVENT,
+            LogConstants.ActionIDs.PUBLISH_SYNC_EMAIL_NOTIFICATION);
+
+    private final int bufferSize;
+    private final Map<String, Integer> samplingRates;
+
+    /**
+     * Create a diagnostic log pipeline configuration.
+     *
+     * @param bufferSize    Number of diagnostic records buffered until they are emitted.
+     * @param samplingRates Sampling rate by action ID. A rate of N records one in N successful diagnostic logs of the
+     *                      action. Actions without a rate are not sampled.
+     */
+    public DiagnosticLogPipelineConfig(int bufferSize, Map<String, Integer> samplingRates) {
+
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Invalid diagnostic log buffer size: " + bufferSize);
+        }
+        for (Integer samplingRate : samplingRates.values()) {
+            if (samplingRate == null || samplingRate <= 0) {
+                throw new IllegalArgumentException("Invalid diagnostic log sampling rate: " + samplingRate);
+            }
+        }
+        this.bufferSize = bufferSize;
+        this.samplingRates = Collections.unmodifiableMap(new HashMap<>(samplingRates));
+    }
+
+    /**
+     * Check whether the asynchronous diagnostic log pipeline is enabled in identity.xml.
+     *
+     * @return True if the pipeline is enabled.
+     */
+    public static boolean isPipelineEnabled() {
+
+        return Boolean.parseBoolean(IdentityUtil.getProperty(AsyncDiagnosticLog.ENABLE));
+    }
+
+    /**
+     * Read the pipeline configuration from identity.xml. Missing or invalid values fall back to the defaults.
+     *
+     * @return Pipeline configuration.
+     */
+    public static DiagnosticLogPipelineConfig fromIdentityConfig() {
+
+        int bufferSize = readPositiveNumber(AsyncDiagnosticLog.BUFFER_SIZE, AsyncDiagnosticLog.DEFAULT_BUFFER_SIZE);
+        Map<String, Integer> samplingRates = new HashMap<>();
+        for (String actionId : ACTION_IDS) {
+            String property = AsyncDiagnosticLog.SAMPLING_RATE_PREFIX + actionId;
+            if (StringUtils.isNotBlank(IdentityUtil.getProperty(property))) {
+                samplingRates.put(actionId, readPositiveNumber(property, 1));
+            }
+        }
+        return new DiagnosticLogPipelineConfig(bufferSize, samplingRates);
+    }
+
+    private static int readPositiveNumber(String property, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            int number = Integer.parseInt(value.trim());
+            if (number > 0) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // Fall back to the default value below.
+        }
+        log.warn("Invalid value: " + value + " for " + property + ". Using the default value: " + defaultValue);
+        return defaultValue;
+    }
+
+    public int getBufferSize() {
+
+        return bufferSize;
+    }
+
+    /**
+     * Get the sampling rate of an action.
+     *
+     * @param actionId Action ID.
+     * @return Sampling rate. One if the action is not sampled.
+     */
+    public int getSamplingRate(String actionId) {
+
+        Integer samplingRate = samplingRates.get(actionId);
+        return samplingRate != null ? samplingRate : 1;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.diagnostic;
+
+import org.wso2.carbon.identity.event.handler.notification.NotificationConstants.LogConstants;
+import org.wso2.carbon.utils.DiagnosticLog;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Compact diagnostic log record of the notification handlers. The record only holds the values known on the request
+ * thread, and the diagnostic log is built from it when the record is emitted. The logging context of the request
+ * thread, e.g. the correlation ID and the flow ID, and the time of the event are captured with the record, since
+ * they are no longer available when the record is emitted.
+ */
+public final class DiagnosticRecord {
+
+    private final String actionId;
+    private final String eventName;
+    private final String tenantDomain;
+    private final String resultMessage;
+    private final String resultDetail;
+    private final DiagnosticLog.ResultStatus resultStatus;
+    private final int contextTenantId;
+    private final String contextTenantDomain;
+    private final Map<String, String> loggingContext;
+    private final long eventTimestamp;
+
+    /**
+     * Create a diagnostic record.
+     *
+     * @param actionId            Action ID of the diagnostic log.
+     * @param eventName           Event name input of the diagnostic log. Not added if null.
+     * @param tenantDomain        Tenant domain input of the diagnostic log.
+     * @param resultMessage       Result message of the diagnostic log.
+     * @param resultDetail        Detail appended to the result message. Not added if null.
+     * @param resultStatus        Result status of the diagnostic log.
+     * @param contextTenantId     Tenant ID of the carbon context the record was created in.
+     * @param contextTenantDomain Tenant domain of the carbon context the record was created in.
+     * @param loggingContext      Logging context (MDC) of the thread the record was created in. May be null.
+     * @param eventTimestamp      Time the record was created at, in milliseconds since the epoch.
+     */
+    public DiagnosticRecord(String actionId, String eventName, String tenantDomain, String resultMessage,
+                            String resultDetail, DiagnosticLog.ResultStatus resultStatus, int contextTenantId,
+                            String contextTenantDomain, Map<String, String> loggingContext, long eventTimestamp) {
+
+        this.actionId = actionId;
+        this.eventName = eventName;
+        this.tenantDomain = tenantDomain;
+        this.resultMessage = resultMessage;
+        this.resultDetail = resultDetail;
+        this.resultStatus = resultStatus;
+        this.contextTenantId = contextTenantId;
+        this.contextTenantDomain = contextTenantDomain;
+        this.loggingContext = loggingContext;
+        this.eventTimestamp = eventTimestamp;
+    }
+
+    public String getActionId() {
+
+        return actionId;
+    }
+
+    public String getEventName() {
+
+        return eventName;
+    }
+
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    /**
+     * Get the result message, including the result detail.
+     *
+     * @return Result message.
+     */
+    public String getResultMessage() {
+
+        return resultDetail != null ? resultMessage + resultDetail : resultMessage;
+    }
+
+    public DiagnosticLog.ResultStatus getResultStatus() {
+
+        return resultStatus;
+    }
+
+    public int getContextTenantId() {
+
+        return contextTenantId;
+    }
+
+    public String getContextTenantDomain() {
+
+        return contextTenantDomain;
+    }
+
+    /**
+     * Get the logging context (MDC) of the thread the record was created in, e.g. with the correlation ID and the
+     * flow ID of the request.
+     *
+     * @return Logging context, or null if the thread had none.
+     */
+    public Map<String, String> getLoggingContext() {
+
+        return loggingContext;
+    }
+
+    /**
+     * Get the time the record was created at.
+     *
+     * @return Event timestamp in milliseconds since the epoch.
+     */
+    public long getEventTimestamp() {
+
+        return eventTimestamp;
+    }
+
+    /**
+     * Build the diagnostic log builder of the record. The event time is only added as an input of records emitted
+     * after the event, as the time of the log no longer matches the time of the event for them.
+     *
+     * @param deferred Whether the record is emitted after the event, off the request thread.
+     * @return Diagnostic log builder.
+     */
+    public DiagnosticLog.DiagnosticLogBuilder toDiagnosticLogBuilder(boolean deferred) {
+
+        DiagnosticLog.DiagnosticLogBuilder diagnosticLogBuilder = new DiagnosticLog.DiagnosticLogBuilder(
+                LogConstants.NOTIFICATION_HANDLER_SERVICE, actionId);
+        if (eventName != null) {
+            diagnosticLogBuilder.inputParam(LogConstants.InputKeys.EVENT_NAME, eventName);
+        }
+        diagnosticLogBuilder.inputParam(LogConstants.InputKeys.TENANT_DOMAIN, tenantDomain);
+        if (deferred) {
+            diagnosticLogBuilder.inputParam(LogConstants.InputKeys.EVENT_TIMESTAMP,
+                    Instant.ofEpochMilli(eventTimestamp).toString());
+        }
+        diagnosticLogBuilder
+                .resultMessage(getResultMessage())
+                .resultStatus(resultStatus)
+                .logDetailLevel(DiagnosticLog.LogDetailLevel.INTERNAL_SYSTEM);
+        return diagnosticLogBuilder;
+    }
+}
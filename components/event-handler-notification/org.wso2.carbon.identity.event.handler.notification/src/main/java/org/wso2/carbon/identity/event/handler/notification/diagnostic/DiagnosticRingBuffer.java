@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.diagnostic;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring buffer of diagnostic records with multiple producers and a single consumer.
+ * <p>
+ * Each slot carries a sequence number telling whether it is free for the producer of a given position or holds the
+ * record of the consumer's position. Producers claim a position with a single compare and set, so a producer never
+ * waits on another producer or on the consumer, and a record is dropped instead when the buffer is full.
+ */
+final class DiagnosticRingBuffer {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<DiagnosticRecord> records;
+    private final AtomicLongArray sequences;
+    private final AtomicLong producerPosition = new AtomicLong();
+    // Only accessed by the single consumer.
+    private long consumerPosition;
+
+    /**
+     * Create a ring buffer.
+     *
+     * @param capacity Number of slots. Rounded up to the next power of two.
+     */
+    DiagnosticRingBuffer(int capacity) {
+
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Invalid diagnostic ring buffer capacity: " + capacity);
+        }
+        this.capacity = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.mask = this.capacity - 1;
+        this.records = new AtomicReferenceArray<>(this.capacity);
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Add a record to the buffer. Safe to call from any thread.
+     *
+     * @param record Diagnostic record.
+     * @return False if the buffer is full.
+     */
+    boolean offer(DiagnosticRecord record) {
+
+        while (true) {
+            long position = producerPosition.get();
+            int slot = (int) (position & mask);
+            long sequence = sequences.get(slot);
+            if (sequence == position) {
+                if (producerPosition.compareAndSet(position, position + 1)) {
+                    records.lazySet(slot, record);
+                    // Publishes the record to the consumer.
+                    sequences.set(slot, position + 1);
+                    return true;
+                }
+            } else if (sequence < position) {
+                // The slot still holds the record of the previous lap.
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Take the next record from the buffer. Must only be called from the consumer thread.
+     *
+     * @return Next record, or null if the buffer is empty.
+     */
+    DiagnosticRecord poll() {
+
+        int slot = (int) (consumerPosition & mask);
+        if (sequences.get(slot) != consumerPosition + 1) {
+            return null;
+        }
+        DiagnosticRecord record = records.get(slot);
+        records.lazySet(slot, null);
+        // Frees the slot for the producer of the next lap.
+        sequences.set(slot, consumerPosition + capacity);
+        consumerPosition++;
+        return record;
+    }
+
+    int capacity() {
+
+        return capacity;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.dispatch;
+
+/**
+ * Policies applied when a tenant's notification dispatch queue is full.
+ */
+public enum BackpressurePolicy {
+
+    /**
+     * Wait until there is room in the queue, up to the configured block timeout, and reject the notification if the
+     * queue is still full.
+     */
+    BLOCK,
+
+    /**
+     * Discard the oldest queued notification of the tenant to make room for the new one.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Reject the notification with {@code EMAIL_NOTIFICATION_THROTTLED}.
+     */
+    REJECT
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.dispatch;
+
+/**
+ * Point in time statistics of a tenant's notification dispatch queue.
+ */
+public class DispatchQueueStatistics {
+
+    private final String tenantDomain;
+    private final int queueDepth;
+    private final long enqueuedCount;
+    private final long completedCount;
+    private final long failedCount;
+    private final long droppedCount;
+    private final long rejectedCount;
+
+    public DispatchQueueStatistics(String tenantDomain, int queueDepth, long enqueuedCount, long completedCount,
+                                   long failedCount, long droppedCount, long rejectedCount) {
+
+        this.tenantDomain = tenantDomain;
+        this.queueDepth = queueDepth;
+        this.enqueuedCount = enqueuedCount;
+        this.completedCount = completedCount;
+        this.failedCount = failedCount;
+        this.droppedCount = droppedCount;
+        this.rejectedCount = rejectedCount;
+    }
+
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    /**
+     * Get the number of notifications waiting in the queue.
+     *
+     * @return Queue depth.
+     */
+    public int getQueueDepth() {
+
+        return queueDepth;
+    }
+
+    public long getEnqueuedCount() {
+
+        return enqueuedCount;
+    }
+
+    public long getCompletedCount() {
+
+        return completedCount;
+    }
+
+    public long getFailedCount() {
+
+        return failedCount;
+    }
+
+    /**
+     * Get the number of queued notifications discarded by the {@link BackpressurePolicy#DROP_OLDEST} policy.
+     *
+     * @return Dropped notification count.
+     */
+    public long getDroppedCount() {
+
+        return droppedCount;
+    }
+
+    /**
+     * Get the number of notifications rejected because the queue was full.
+     *
+     * @return Rejected notification count.
+     */
+    public long getRejectedCount() {
+
+        return rejectedCount;
+    }
+}
@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.dispatch;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.handler.notification.NotificationConstants.EmailNotification;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Dispatches notification work asynchronously through bounded per-tenant queues.
+ * <p>
+ * Each tenant has its own queue, so a tenant producing a burst of notifications fills only its own queue. A tenant
+ * queue is drained by at most one worker at a time, in batches, and is rescheduled behind the other tenants when the
+ * batch is done. This keeps the executor work queue bounded by the number of tenants and shares the workers fairly
+ * among them. The queue of a tenant is dropped when the tenant is unloaded or deleted, and the queue statistics are
+ * exposed through the {@link NotificationDispatcherMXBean}.
+ */
+public class NotificationDispatcher implements NotificationDispatcherMXBean {
+
+    private static final Log log = LogFactory.getLog(NotificationDispatcher.class);
+    private static final String WORKER_NAME_PREFIX = "notification-dispatcher-";
+    private static final int DRAIN_BATCH_SIZE = 32;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final NotificationDispatcherConfig config;
+    private final ExecutorService workers;
+    private final Map<String, TenantQueue> tenantQueues = new ConcurrentHashMap<>();
+
+    public NotificationDispatcher(NotificationDispatcherConfig config) {
+
+        this.config = config;
+        this.workers = Executors.newFixedThreadPool(config.getPoolSize(), createThreadFactory(config));
+    }
+
+    /**
+     * Queue notification work of a tenant for asynchronous dispatch. When the tenant queue is full the configured
+     * {@link BackpressurePolicy} is applied.
+     *
+     * @param tenantDomain Tenant domain the notification belongs to.
+     * @param task         Notification work.
+     * @throws IdentityEventException With the {@code EMAIL_NOTIFICATION_THROTTLED} error code if the notification is
+     *                                rejected because the tenant queue is full.
+     */
+    public void dispatch(String tenantDomain, DispatchTask task) throws IdentityEventException {
+
+        if (workers.isShutdown()) {
+            throw new IllegalStateException("Notification dispatcher is shut down.");
+        }
+        TenantQueue tenantQueue = tenantQueues.computeIfAbsent(tenantDomain, TenantQueue::new);
+        switch (config.getBackpressurePolicy()) {
+            case DROP_OLDEST:
+                while (!tenantQueue.tasks.offerLast(task)) {
+                    if (tenantQueue.tasks.pollFirst() != null) {
+                        tenantQueue.droppedCount.incrementAndGet();
+                        if (log.isDebugEnabled()) {
+                            log.debug("Notification dispatch queue of tenant: " + tenantDomain + " is full. "
+                                    + "Dropped the oldest queued notification.");
+                        }
+                    }
+                }
+                break;
+            case BLOCK:
+                boolean queued;
+                try {
+                    queued = tenantQueue.tasks.offerLast(task, config.getBlockTimeoutMillis(), TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    queued = false;
+                }
+                if (!queued) {
+                    throw reject(tenantQueue);
+                }
+                break;
+            default:
+                if (!tenantQueue.tasks.offerLast(task)) {
+                    throw reject(tenantQueue);
+                }
+        }
+        tenantQueue.enqueuedCount.incrementAndGet();
+        schedule(tenantQueue);
+    }
+
+    /**
+     * Get the number of notifications waiting in the queue of a tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Queue depth.
+     */
+    public int getQueueDepth(String tenantDomain) {
+
+        TenantQueue tenantQueue = tenantQueues.get(tenantDomain);
+        return tenantQueue != null ? tenantQueue.tasks.size() : 0;
+    }
+
+    @Override
+    public int getTotalQueueDepth() {
+
+        int depth = 0;
+        for (TenantQueue tenantQueue : tenantQueues.values()) {
+            depth += tenantQueue.tasks.size();
+        }
+        return depth;
+    }
+
+    @Override
+    public Map<String, DispatchQueueStatistics> getTenantQueues() {
+
+        Map<String, DispatchQueueStatistics> statistics = new TreeMap<>();
+        for (TenantQueue tenantQueue : tenantQueues.values()) {
+            statistics.put(tenantQueue.tenantDomain, tenantQueue.getStatistics());
+        }
+        return statistics;
+    }
+
+    /**
+     * Get the statistics of the dispatch queue of a tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Queue statistics, or null if the tenant has not dispatched any notification.
+     */
+    public DispatchQueueStatistics getQueueStatistics(String tenantDomain) {
+
+        TenantQueue tenantQueue = tenantQueues.get(tenantDomain);
+        return tenantQueue != null ? tenantQueue.getStatistics() : null;
+    }
+
+    /**
+     * Drop the dispatch queue of a tenant, e.g. when the tenant is unloaded or deleted, so that the queues of idle
+     * tenants are not kept for the lifetime of the node. A queue that still has notifications to dispatch is kept.
+     * A notification queued while the queue is dropped is still dispatched, and the next notification of the tenant
+     * creates a new queue.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void removeTenantQueue(String tenantDomain) {
+
+        if (tenantDomain == null) {
+            return;
+        }
+        tenantQueues.computeIfPresent(tenantDomain, (domain, tenantQueue) ->
+                tenantQueue.tasks.isEmpty() && !tenantQueue.scheduled.get() ? null : tenantQueue);
+    }
+
+    /**
+     * Stop accepting notifications and wait for the queued notifications to be dispatched.
+     */
+    public void shutdown() {
+
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        int remaining = getTotalQueueDepth();
+        if (remaining > 0) {
+            log.warn(remaining + " queued notification(s) were not dispatched before the notification dispatcher "
+                    + "was shut down.");
+        }
+    }
+
+    private IdentityEventException reject(TenantQueue tenantQueue) {
+
+        tenantQueue.rejectedCount.incrementAndGet();
+        if (log.isDebugEnabled()) {
+            log.debug("Notification dispatch queue of tenant: " + tenantQueue.tenantDomain + " is full. "
+                    + "Rejected the notification.");
+        }
+        return new IdentityEventException(EmailNotification.ErrorMessages.EMAIL_NOTIFICATION_THROTTLED.getCode(),
+                EmailNotification.ErrorMessages.EMAIL_NOTIFICATION_THROTTLED.getMessage());
+    }
+
+    private void schedule(TenantQueue tenantQueue) {
+
+        if (tenantQueue.scheduled.compareAndSet(false, true)) {
+            try {
+                workers.execute(tenantQueue);
+            } catch (RejectedExecutionException e) {
+                tenantQueue.scheduled.set(false);
+                log.warn("Notification dispatcher is shut down. Queued notifications of tenant: "
+                        + tenantQueue.tenantDomain + " will not be dispatched.");
+            }
+        }
+    }
+
+    private static ThreadFactory createThreadFactory(NotificationDispatcherConfig config) {
+
+        if (config.isUseVirtualThreads()) {
+            ThreadFactory virtualThreadFactory = createVirtualThreadFactory();
+            if (virtualThreadFactory != null) {
+                return virtualThreadFactory;
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Virtual threads are not supported by the runtime. Notification dispatcher workers will "
+                        + "run on platform threads.");
+            }
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, WORKER_NAME_PREFIX + threadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Create a virtual thread factory through reflection, so that the dispatcher also runs on runtimes without
+     * virtual thread support.
+     *
+     * @return Virtual thread factory, or null if virtual threads are not supported.
+     */
+    private static ThreadFactory createVirtualThreadFactory() {
+
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, WORKER_NAME_PREFIX, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Queue of the notifications of a single tenant. Running the queue dispatches a batch of its notifications.
+     */
+    private final class TenantQueue implements Runnable {
+
+        private final String tenantDomain;
+        private final BlockingDeque<DispatchTask> tasks;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicLong enqueuedCount = new AtomicLong();
+        private final AtomicLong completedCount = new AtomicLong();
+        private final AtomicLong failedCount = new AtomicLong();
+        private final AtomicLong droppedCount = new AtomicLong();
+        private final AtomicLong rejectedCount = new AtomicLong();
+
+        private TenantQueue(String tenantDomain) {
+
+            this.tenantDomain = tenantDomain;
+            this.tasks = new LinkedBlockingDeque<>(config.getTenantQueueCapacity());
+        }
+
+        @Override
+        public void run() {
+
+            // Once shut down a queue can no longer be rescheduled, hence drain it completely.
+            int batchSize = workers.isShutdown() ? Integer.MAX_VALUE : DRAIN_BATCH_SIZE;
+            try {
+                for (int i = 0; i < batchSize; i++) {
+                    DispatchTask task = tasks.pollFirst();
+                    if (task == null) {
+                        break;
+                    }
+                    execute(task);
+                }
+            } finally {
+                scheduled.set(false);
+                // Notifications queued after the last poll, while this queue was still marked as scheduled.
+                if (!tasks.isEmpty()) {
+                    schedule(this);
+                }
+            }
+        }
+
+        private void execute(DispatchTask task) {
+
+            try {
+                task.execute();
+                completedCount.incrementAndGet();
+            } catch (IdentityEventException | RuntimeException e) {
+                failedCount.incrementAndGet();
+                log.error("Error while dispatching the notification of tenant: " + tenantDomain, e);
+            }
+        }
+
+        private DispatchQueueStatistics getStatistics() {
+
+            return new DispatchQueueStatistics(tenantDomain, tasks.size(), enqueuedCount.get(),
+                    completedCount.get(), failedCount.get(), droppedCount.get(), rejectedCount.get());
+        }
+    }
+}
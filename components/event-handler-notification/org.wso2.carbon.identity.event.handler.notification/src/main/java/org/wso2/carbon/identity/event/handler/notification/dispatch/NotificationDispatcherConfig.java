@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.dispatch;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.event.handler.notification.NotificationConstants.AsyncNotificationDispatch;
+
+/**
+ * Configurations of the asynchronous notification dispatcher.
+ */
+public class NotificationDispatcherConfig {
+
+    private static final Log log = LogFactory.getLog(NotificationDispatcherConfig.class);
+
+    private final int poolSize;
+    private final int tenantQueueCapacity;
+    private final BackpressurePolicy backpressurePolicy;
+    private final long blockTimeoutMillis;
+    private final boolean useVirtualThreads;
+
+    /**
+     * Create a dispatcher configuration.
+     *
+     * @param poolSize            Number of workers draining the tenant queues.
+     * @param tenantQueueCapacity Maximum number of notifications queued per tenant.
+     * @param backpressurePolicy  Policy applied when a tenant queue is full.
+     * @param blockTimeoutMillis  Maximum time to wait for room in a full queue with the
+     *                            {@link BackpressurePolicy#BLOCK} policy.
+     * @param useVirtualThreads   Whether the workers run on virtual threads.
+     */
+    public NotificationDispatcherConfig(int poolSize, int tenantQueueCapacity, BackpressurePolicy backpressurePolicy,
+                                        long blockTimeoutMillis, boolean useVirtualThreads) {
+
+        if (poolSize <= 0 || tenantQueueCapacity <= 0 || blockTimeoutMillis < 0 || backpressurePolicy == null) {
+            throw new IllegalArgumentException("Invalid notification dispatcher configuration.");
+        }
+        this.poolSize = poolSize;
+        this.tenantQueueCapacity = tenantQueueCapacity;
+        this.backpressurePolicy = backpressurePolicy;
+        this.blockTimeoutMillis = blockTimeoutMillis;
+        this.useVirtualThreads = useVirtualThreads;
+    }
+
+    /**
+     * Check whether asynchronous notification dispatch is enabled in identity.xml.
+     *
+     * @return True if asynchronous dispatch is enabled.
+     */
+    public static boolean isAsyncDispatchEnabled() {
+
+        return Boolean.parseBoolean(IdentityUtil.getProperty(AsyncNotificationDispatch.ENABLE));
+    }
+
+    /**
+     * Read the dispatcher configuration from identity.xml. Missing or invalid values fall back to the defaults.
+     *
+     * @return Dispatcher configuration.
+     */
+    public static NotificationDispatcherConfig fromIdentityConfig() {
+
+        int poolSize = (int) readPositiveNumber(AsyncNotificationDispatch.POOL_SIZE,
+                AsyncNotificationDispatch.DEFAULT_POOL_SIZE);
+        int tenantQueueCapacity = (int) readPositiveNumber(AsyncNotificationDispatch.TENANT_QUEUE_CAPACITY,
+                AsyncNotificationDispatch.DEFAULT_TENANT_QUEUE_CAPACITY);
+        long blockTimeoutMillis = readPositiveNumber(AsyncNotificationDispatch.BLOCK_TIMEOUT,
+                AsyncNotificationDispatch.DEFAULT_BLOCK_TIMEOUT);
+
+        BackpressurePolicy backpressurePolicy = BackpressurePolicy.BLOCK;
+        String policy = IdentityUtil.getProperty(AsyncNotificationDispatch.BACKPRESSURE_POLICY);
+        if (StringUtils.isNotBlank(policy)) {
+            try {
+                backpressurePolicy = BackpressurePolicy.valueOf(policy.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid value: " + policy + " for " + AsyncNotificationDispatch.BACKPRESSURE_POLICY
+                        + ". Using the default policy: " + backpressurePolicy);
+            }
+        }
+
+        String useVirtualThreads = IdentityUtil.getProperty(AsyncNotificationDispatch.USE_VIRTUAL_THREADS);
+        return new NotificationDispatcherConfig(poolSize, tenantQueueCapacity, backpressurePolicy,
+                blockTimeoutMillis, StringUtils.isBlank(useVirtualThreads) || Boolean.parseBoolean(useVirtualThreads));
+    }
+
+    private static long readPositiveNumber(String property, long defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            long number = Long.parseLong(value.trim());
+            if (number > 0 && number <= Integer.MAX_VALUE) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // Fall back to the default value below.
+        }
+        log.warn("Invalid value: " + value + " for " + property + ". Using the default value: " + defaultValue);
+        return defaultValue;
+    }
+
+    public int getPoolSize() {
+
+        return poolSize;
+    }
+
+    public int getTenantQueueCapacity() {
+
+        return tenantQueueCapacity;
+    }
+
+    public BackpressurePolicy getBackpressurePolicy() {
+
+        return backpressurePolicy;
+    }
+
+    public long getBlockTimeoutMillis() {
+
+        return blockTimeoutMillis;
+    }
+
+    public boolean isUseVirtualThreads() {
+
+        return useVirtualThreads;
+    }
+}
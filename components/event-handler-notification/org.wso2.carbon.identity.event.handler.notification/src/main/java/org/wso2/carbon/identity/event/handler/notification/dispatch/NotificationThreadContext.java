@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.dispatch;
+
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.event.IdentityEventException;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Thread context of the caller that raised a notification, captured so that the notification can be built on another
+ * thread. Building a notification reads the tenant, the organization, the authenticated user and the identity thread
+ * local properties, e.g. the user identity claims and the user locale set by the caller, none of which are visible to
+ * a worker thread.
+ * <p>
+ * The captured context is restored for the duration of a task only. The identity thread local properties of the worker
+ * are cleared once the task completes, so that nothing set by one task leaks into the next task of the worker.
+ */
+public final class NotificationThreadContext {
+
+    private final int tenantId;
+    private final String tenantDomain;
+    private final String organizationId;
+    private final String username;
+    private final Map<String, Object> threadLocalProperties;
+
+    private NotificationThreadContext(int tenantId, String tenantDomain, String organizationId, String username,
+                                      Map<String, Object> threadLocalProperties) {
+
+        this.tenantId = tenantId;
+        this.tenantDomain = tenantDomain;
+        this.organizationId = organizationId;
+        this.username = username;
+        this.threadLocalProperties = threadLocalProperties;
+    }
+
+    /**
+     * Capture the thread context of the calling thread.
+     *
+     * @return Captured thread context.
+     */
+    public static NotificationThreadContext capture() {
+
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        Map<String, Object> properties = IdentityUtil.threadLocalProperties.get();
+        return new NotificationThreadContext(carbonContext.getTenantId(), carbonContext.getTenantDomain(),
+                carbonContext.getOrganizationId(), carbonContext.getUsername(),
+                properties.isEmpty() ? Collections.emptyMap() : new HashMap<>(properties));
+    }
+
+    /**
+     * Execute a task with the captured thread context. The thread context of the executing thread is restored once the
+     * task completes, hence a task may also be executed on the thread that captured the context.
+     *
+     * @param task Task to execute.
+     * @throws IdentityEventException If the task fails.
+     */
+    public void execute(DispatchTask task) throws IdentityEventException {
+
+        Map<String, Object> previousProperties = IdentityUtil.threadLocalProperties.get();
+        IdentityUtil.threadLocalProperties.set(new HashMap<>(threadLocalProperties));
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext workerContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            workerContext.setTenantId(tenantId);
+            workerContext.setTenantDomain(tenantDomain);
+            workerContext.setOrganizationId(organizationId);
+            workerContext.setUsername(username);
+            task.execute();
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+            IdentityUtil.threadLocalProperties.remove();
+            if (!previousProperties.isEmpty()) {
+                IdentityUtil.threadLocalProperties.set(previousProperties);
+            }
+        }
+    }
+
+    public int getTenantId() {
+
+        return tenantId;
+    }
+
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+}
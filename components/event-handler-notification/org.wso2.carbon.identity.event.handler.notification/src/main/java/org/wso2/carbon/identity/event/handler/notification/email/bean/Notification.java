@@ -20,14 +20,14 @@ package org.wso2.carbon.identity.event.handler.notification.email.bean;
 
 
 import org.apache.commons.lang.StringUtils;
-import org.wso2.carbon.identity.event.handler.notification.exception.NotificationRuntimeException;
+import org.wso2.carbon.identity.event.handler.notification.template.LazyRenderedContent;
+import org.wso2.carbon.identity.event.handler.notification.template.TemplateCompiler;
 import org.wso2.carbon.email.mgt.model.EmailTemplate;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
-import java.io.UnsupportedEncodingException;
-import java.net.URLEncoder;
 import java.util.Map;
-import java.util.regex.Matcher;
 
 public class Notification implements Serializable {
 
@@ -38,39 +38,40 @@ public class Notification implements Serializable {
     private String body;
     private String footer;
     private Map<String, String> placeHolderData;
+    // Lazily rendered views, set instead of the rendered strings when the notification is rendered lazily.
+    private transient LazyRenderedContent lazySubject;
+    private transient LazyRenderedContent lazyBody;
+    private transient LazyRenderedContent lazyFooter;
 
     protected Notification(EmailNotificationBuilder builder) {
         this.sendTo = builder.sendTo;
         this.sendFrom = builder.sendFrom;
         this.template = builder.template;
         this.placeHolderData = builder.placeHolderData;
-        this.body = replaceTags(template.getBody(), placeHolderData);
-        if (StringUtils.isNotEmpty(template.getSubject())) {
-            this.subject = replaceTags(template.getSubject(), placeHolderData);
-        }
-        if (StringUtils.isNotEmpty(template.getFooter())) {
-            this.footer = replaceTags(template.getFooter(), placeHolderData);
+        if (builder.lazyRendering) {
+            this.lazyBody = LazyRenderedContent.of(template.getBody(), placeHolderData);
+            if (StringUtils.isNotEmpty(template.getSubject())) {
+                this.lazySubject = LazyRenderedContent.of(template.getSubject(), placeHolderData);
+            }
+            if (StringUtils.isNotEmpty(template.getFooter())) {
+                this.lazyFooter = LazyRenderedContent.of(template.getFooter(), placeHolderData);
+            }
+        } else {
+            this.body = replaceTags(template.getBody(), placeHolderData);
+            if (StringUtils.isNotEmpty(template.getSubject())) {
+                this.subject = replaceTags(template.getSubject(), placeHolderData);
+            }
+            if (StringUtils.isNotEmpty(template.getFooter())) {
+                this.footer = replaceTags(template.getFooter(), placeHolderData);
+            }
         }
     }
 
     private static String replaceTags(String content, Map<String, String> tagsData) {
 
-        for (Map.Entry<String, String> entry : tagsData.entrySet()) {
-            try {
-
-                // In email templates the placeholders in a URL, are defined in the format of {{url:key}} -
-                // eg:{{url:user-name}}, So that the values should be URL Encoded
-                content = content.replaceAll("\\{\\{url:" + entry.getKey() + "\\}\\}", URLEncoder.encode(entry.getValue(),
-                        "UTF-8"));
-            } catch (UnsupportedEncodingException e) {
-                throw NotificationRuntimeException.error(e.getMessage(), e);
-            }
-
-            // Backslashes (\) and dollar signs ($) in the replacement string is not treated as a literals.
-            content = content.replaceAll("\\{\\{" + entry.getKey() + "\\}\\}", Matcher.quoteReplacement(entry
-                    .getValue()));
-        }
-        return content;
+        // Templates are compiled once and rendered in a single pass. In email templates the placeholders in a URL,
+        // are defined in the format of {{url:key}} - eg:{{url:user-name}}, So that the values are URL Encoded.
+        return TemplateCompiler.render(content, tagsData);
     }
 
     public String getSendTo() {
@@ -86,15 +87,65 @@ public class Notification implements Serializable {
     }
 
     public String getSubject() {
-        return this.subject;
+        return lazySubject != null ? lazySubject.render() : this.subject;
     }
 
     public String getBody() {
-        return this.body;
+        return lazyBody != null ? lazyBody.render() : this.body;
     }
 
     public String getFooter() {
-        return this.footer;
+        return lazyFooter != null ? lazyFooter.render() : this.footer;
+    }
+
+    /**
+     * Stream the rendered subject into a sink. Nothing is appended if the notification has no subject.
+     *
+     * @param sink Sink the subject is appended to.
+     * @throws IOException If the sink fails to append the subject.
+     */
+    public void writeSubject(Appendable sink) throws IOException {
+        write(lazySubject, subject, sink);
+    }
+
+    /**
+     * Stream the rendered body into a sink. A lazily rendered notification renders the body straight into the sink,
+     * without materializing it as a string.
+     *
+     * @param sink Sink the body is appended to.
+     * @throws IOException If the sink fails to append the body.
+     */
+    public void writeBody(Appendable sink) throws IOException {
+        write(lazyBody, body, sink);
+    }
+
+    /**
+     * Stream the rendered footer into a sink. Nothing is appended if the notification has no footer.
+     *
+     * @param sink Sink the footer is appended to.
+     * @throws IOException If the sink fails to append the footer.
+     */
+    public void writeFooter(Appendable sink) throws IOException {
+        write(lazyFooter, footer, sink);
+    }
+
+    private static void write(LazyRenderedContent lazyContent, String content, Appendable sink) throws IOException {
+        if (lazyContent != null) {
+            lazyContent.writeTo(sink);
+        } else if (content != null) {
+            sink.append(content);
+        }
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        // Lazily rendered content is not serializable, hence it is rendered before the notification is written.
+        this.subject = getSubject();
+        this.body = getBody();
+        this.footer = getFooter();
+        this.lazySubject = null;
+        this.lazyBody = null;
+        this.lazyFooter = null;
+        out.defaultWriteObject();
     }
 
     public static class EmailNotificationBuilder {
@@ -104,6 +155,7 @@ public class Notification implements Serializable {
         private String sendFrom;
         private EmailTemplate template;
         private Map<String, String> placeHolderData;
+        private boolean lazyRendering;
 
         public EmailNotificationBuilder(String sendTo) {
             this.sendTo = sendTo;
@@ -125,6 +177,16 @@ public class Notification implements Serializable {
             this.placeHolderData.put(key, value);
         }
 
+        /**
+         * Set whether the subject, body and footer are rendered on first use instead of when the notification is
+         * built. Lazily rendered content can be streamed into a sink without materializing it.
+         *
+         * @param lazyRendering True to render the content lazily.
+         */
+        public void setLazyRendering(boolean lazyRendering) {
+            this.lazyRendering = lazyRendering;
+        }
+
         public Notification build() {
             return new Notification(this);
         }
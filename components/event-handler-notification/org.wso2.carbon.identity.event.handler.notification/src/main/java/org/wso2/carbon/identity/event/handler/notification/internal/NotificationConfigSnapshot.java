@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.internal;
+
+import org.wso2.carbon.identity.event.handler.notification.NotificationConstants.BrandingPreferenceCacheConfig;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable snapshot of the identity.xml configurations read while building email notifications.
+ */
+public class NotificationConfigSnapshot {
+
+    private final Map<String, String> configFilePlaceholders;
+    private final Map<String, String> brandingFallbacks;
+    private final boolean organizationLevelEmailBrandingEnabled;
+    private final boolean claimProjectionEnabled;
+    private final boolean templateContentOmitted;
+    private final boolean lazyRenderingEnabled;
+    private final long brandingPreferenceCacheTimeToLive;
+
+    private NotificationConfigSnapshot(Builder builder) {
+
+        this.configFilePlaceholders = Collections.unmodifiableMap(new HashMap<>(builder.configFilePlaceholders));
+        this.brandingFallbacks = Collections.unmodifiableMap(new HashMap<>(builder.brandingFallbacks));
+        this.organizationLevelEmailBrandingEnabled = builder.organizationLevelEmailBrandingEnabled;
+        this.claimProjectionEnabled = builder.claimProjectionEnabled;
+        this.templateContentOmitted = builder.templateContentOmitted;
+        this.lazyRenderingEnabled = builder.lazyRenderingEnabled;
+        this.brandingPreferenceCacheTimeToLive = builder.brandingPreferenceCacheTimeToLive;
+    }
+
+    public Map<String, String> getConfigFilePlaceholders() {
+
+        return configFilePlaceholders;
+    }
+
+    public Map<String, String> getBrandingFallbacks() {
+
+        return brandingFallbacks;
+    }
+
+    public boolean isOrganizationLevelEmailBrandingEnabled() {
+
+        return organizationLevelEmailBrandingEnabled;
+    }
+
+    public boolean isClaimProjectionEnabled() {
+
+        return claimProjectionEnabled;
+    }
+
+    public boolean isTemplateContentOmitted() {
+
+        return templateContentOmitted;
+    }
+
+    public boolean isLazyRenderingEnabled() {
+
+        return lazyRenderingEnabled;
+    }
+
+    /**
+     * Get the time a resolved branding or custom text preference is served from the cache.
+     *
+     * @return Time to live in milliseconds.
+     */
+    public long getBrandingPreferenceCacheTimeToLive() {
+
+        return brandingPreferenceCacheTimeToLive;
+    }
+
+    /**
+     * Builder for NotificationConfigSnapshot. Placeholder and fallback values default to empty maps, all the
+     * optional features default to disabled and the branding preference cache time to live defaults to
+     * {@link BrandingPreferenceCacheConfig#DEFAULT_TIME_TO_LIVE} seconds.
+     */
+    public static class Builder {
+
+        private Map<String, String> configFilePlaceholders = Collections.emptyMap();
+        private Map<String, String> brandingFallbacks = Collections.emptyMap();
+        private boolean organizationLevelEmailBrandingEnabled;
+        private boolean claimProjectionEnabled;
+        private boolean templateContentOmitted;
+        private boolean lazyRenderingEnabled;
+        private long brandingPreferenceCacheTimeToLive =
+                TimeUnit.SECONDS.toMillis(BrandingPreferenceCacheConfig.DEFAULT_TIME_TO_LIVE);
+
+        /**
+         * Set the email template placeholder values defined in identity.xml.
+         *
+         * @param configFilePlaceholders Placeholder values.
+         * @return This builder.
+         */
+        public Builder configFilePlaceholders(Map<String, String> configFilePlaceholders) {
+
+            this.configFilePlaceholders = configFilePlaceholders;
+            return this;
+        }
+
+        /**
+         * Set the organization level email branding fallback values.
+         *
+         * @param brandingFallbacks Branding fallback values.
+         * @return This builder.
+         */
+        public Builder brandingFallbacks(Map<String, String> brandingFallbacks) {
+
+            this.brandingFallbacks = brandingFallbacks;
+            return this;
+        }
+
+        /**
+         * Set whether organization level email branding is enabled.
+         *
+         * @param organizationLevelEmailBrandingEnabled Whether organization level email branding is enabled.
+         * @return This builder.
+         */
+        public Builder organizationLevelEmailBrandingEnabled(boolean organizationLevelEmailBrandingEnabled) {
+
+            this.organizationLevelEmailBrandingEnabled = organizationLevelEmailBrandingEnabled;
+            return this;
+        }
+
+        /**
+         * Set whether only the claims needed by the template are fetched.
+         *
+         * @param claimProjectionEnabled Whether claim projection is enabled.
+         * @return This builder.
+         */
+        public Builder claimProjectionEnabled(boolean claimProjectionEnabled) {
+
+            this.claimProjectionEnabled = claimProjectionEnabled;
+            return this;
+        }
+
+        /**
+         * Set whether the raw template subject, body and footer are left out of the published notification event.
+         *
+         * @param templateContentOmitted Whether the template content is omitted.
+         * @return This builder.
+         */
+        public Builder templateContentOmitted(boolean templateContentOmitted) {
+
+            this.templateContentOmitted = templateContentOmitted;
+            return this;
+        }
+
+        /**
+         * Set whether the notification content is rendered on first use.
+         *
+         * @param lazyRenderingEnabled Whether lazy rendering is enabled.
+         * @return This builder.
+         */
+        public Builder lazyRenderingEnabled(boolean lazyRenderingEnabled) {
+
+            this.lazyRenderingEnabled = lazyRenderingEnabled;
+            return this;
+        }
+
+        /**
+         * Set the time a resolved branding or custom text preference is served from the cache.
+         *
+         * @param brandingPreferenceCacheTimeToLive Time to live in milliseconds.
+         * @return This builder.
+         */
+        public Builder brandingPreferenceCacheTimeToLive(long brandingPreferenceCacheTimeToLive) {
+
+            this.brandingPreferenceCacheTimeToLive = brandingPreferenceCacheTimeToLive;
+            return this;
+        }
+
+        public NotificationConfigSnapshot build() {
+
+            return new NotificationConfigSnapshot(this);
+        }
+    }
+}
@@ -23,6 +23,12 @@ import java.util.Map;
 import org.wso2.carbon.event.publisher.core.EventPublisherService;
 import org.wso2.carbon.event.stream.core.EventStreamService;
 import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
+import org.wso2.carbon.identity.event.handler.notification.batch.NotificationBatchBuildExecutor;
+import org.wso2.carbon.identity.event.handler.notification.diagnostic.DiagnosticLogPipeline;
+import org.wso2.carbon.identity.event.handler.notification.dispatch.NotificationDispatcher;
+import org.wso2.carbon.identity.event.handler.notification.limiter.AdaptiveConcurrencyLimiter;
+import org.wso2.carbon.identity.event.handler.notification.lookup.ParallelLookupExecutor;
+import org.wso2.carbon.identity.event.handler.notification.metrics.InMemoryNotificationMetricsRecorder;
 import org.wso2.carbon.identity.governance.service.notification.NotificationTemplateManager;
 import org.wso2.carbon.identity.notification.push.provider.PushProvider;
 import org.wso2.carbon.identity.notification.sender.tenant.config.NotificationSenderManagementService;
@@ -45,6 +51,13 @@ public class NotificationHandlerDataHolder {
     private ApplicationManagementService applicationManagementService;
     private NotificationSenderManagementService notificationSenderManagementService;
     private final Map<String, PushProvider> pushNotificationProviders = new HashMap<>();
+    private volatile NotificationConfigSnapshot notificationConfigSnapshot;
+    private volatile NotificationDispatcher notificationDispatcher;
+    private volatile AdaptiveConcurrencyLimiter syncNotificationLimiter;
+    private volatile ParallelLookupExecutor parallelLookupExecutor;
+    private volatile NotificationBatchBuildExecutor batchBuildExecutor;
+    private volatile DiagnosticLogPipeline diagnosticLogPipeline;
+    private volatile InMemoryNotificationMetricsRecorder metricsRecorder;
 
     public ApplicationManagementService getApplicationManagementService() {
 
@@ -197,4 +210,144 @@ public class NotificationHandlerDataHolder {
 
         return pushNotificationProviders.get(providerName);
     }
+
+    /**
+     * Get the snapshot of the notification configurations read from identity.xml.
+     *
+     * @return {@link NotificationConfigSnapshot} instance, or null if the configurations are not loaded yet.
+     */
+    public NotificationConfigSnapshot getNotificationConfigSnapshot() {
+
+        return notificationConfigSnapshot;
+    }
+
+    /**
+     * Set the snapshot of the notification configurations read from identity.xml.
+     *
+     * @param notificationConfigSnapshot {@link NotificationConfigSnapshot} instance.
+     */
+    public void setNotificationConfigSnapshot(NotificationConfigSnapshot notificationConfigSnapshot) {
+
+        this.notificationConfigSnapshot = notificationConfigSnapshot;
+    }
+
+    /**
+     * Get the dispatcher used to send notifications asynchronously.
+     *
+     * @return {@link NotificationDispatcher} instance, or null if asynchronous dispatch is not enabled.
+     */
+    public NotificationDispatcher getNotificationDispatcher() {
+
+        return notificationDispatcher;
+    }
+
+    /**
+     * Set the dispatcher used to send notifications asynchronously.
+     *
+     * @param notificationDispatcher {@link NotificationDispatcher} instance.
+     */
+    public void setNotificationDispatcher(NotificationDispatcher notificationDispatcher) {
+
+        this.notificationDispatcher = notificationDispatcher;
+    }
+
+    /**
+     * Get the concurrency limiter of sync email notifications.
+     *
+     * @return {@link AdaptiveConcurrencyLimiter} instance, or null if the concurrency limit is not enabled.
+     */
+    public AdaptiveConcurrencyLimiter getSyncNotificationLimiter() {
+
+        return syncNotificationLimiter;
+    }
+
+    /**
+     * Set the concurrency limiter of sync email notifications.
+     *
+     * @param syncNotificationLimiter {@link AdaptiveConcurrencyLimiter} instance.
+     */
+    public void setSyncNotificationLimiter(AdaptiveConcurrencyLimiter syncNotificationLimiter) {
+
+        this.syncNotificationLimiter = syncNotificationLimiter;
+    }
+
+    /**
+     * Get the executor running the independent lookups of email notification builds concurrently.
+     *
+     * @return {@link ParallelLookupExecutor} instance, or null if the lookups run sequentially.
+     */
+    public ParallelLookupExecutor getParallelLookupExecutor() {
+
+        return parallelLookupExecutor;
+    }
+
+    /**
+     * Set the executor running the independent lookups of email notification builds concurrently.
+     *
+     * @param parallelLookupExecutor {@link ParallelLookupExecutor} instance.
+     */
+    public void setParallelLookupExecutor(ParallelLookupExecutor parallelLookupExecutor) {
+
+        this.parallelLookupExecutor = parallelLookupExecutor;
+    }
+
+    /**
+     * Get the executor building the notification groups of large batches in parallel.
+     *
+     * @return {@link NotificationBatchBuildExecutor} instance, or null if the groups are built sequentially.
+     */
+    public NotificationBatchBuildExecutor getBatchBuildExecutor() {
+
+        return batchBuildExecutor;
+    }
+
+    /**
+     * Set the executor building the notification groups of large batches in parallel.
+     *
+     * @param batchBuildExecutor {@link NotificationBatchBuildExecutor} instance.
+     */
+    public void setBatchBuildExecutor(NotificationBatchBuildExecutor batchBuildExecutor) {
+
+        this.batchBuildExecutor = batchBuildExecutor;
+    }
+
+    /**
+     * Get the pipeline emitting the diagnostic logs of the notification handlers off the request thread.
+     *
+     * @return {@link DiagnosticLogPipeline} instance, or null if the diagnostic logs are emitted synchronously.
+     */
+    public DiagnosticLogPipeline getDiagnosticLogPipeline() {
+
+        return diagnosticLogPipeline;
+    }
+
+    /**
+     * Set the pipeline emitting the diagnostic logs of the notification handlers off the request thread.
+     *
+     * @param diagnosticLogPipeline {@link DiagnosticLogPipeline} instance.
+     */
+    public void setDiagnosticLogPipeline(DiagnosticLogPipeline diagnosticLogPipeline) {
+
+        this.diagnosticLogPipeline = diagnosticLogPipeline;
+    }
+
+    /**
+     * Get the recorder keeping the notification handler metrics exposed over JMX.
+     *
+     * @return {@link InMemoryNotificationMetricsRecorder} instance, or null if the metrics are not enabled.
+     */
+    public InMemoryNotificationMetricsRecorder getMetricsRecorder() {
+
+        return metricsRecorder;
+    }
+
+    /**
+     * Set the recorder keeping the notification handler metrics exposed over JMX.
+     *
+     * @param metricsRecorder {@link InMemoryNotificationMetricsRecorder} instance.
+     */
+    public void setMetricsRecorder(InMemoryNotificationMetricsRecorder metricsRecorder) {
+
+        this.metricsRecorder = metricsRecorder;
+    }
 }
@@ -23,18 +23,38 @@ import org.osgi.service.component.ComponentContext;
 import org.wso2.carbon.event.publisher.core.EventPublisherService;
 import org.wso2.carbon.event.stream.core.EventStreamService;
 import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.event.handler.notification.DefaultNotificationHandler;
+import org.wso2.carbon.identity.event.handler.notification.NotificationConstants;
 import org.wso2.carbon.identity.event.handler.notification.NotificationHandler;
 import org.wso2.carbon.identity.event.handler.notification.PushNotificationHandler;
+import org.wso2.carbon.identity.event.handler.notification.batch.NotificationBatchBuildExecutor;
+import org.wso2.carbon.identity.event.handler.notification.diagnostic.DiagnosticLogPipeline;
+import org.wso2.carbon.identity.event.handler.notification.diagnostic.DiagnosticLogPipelineConfig;
+import org.wso2.carbon.identity.event.handler.notification.dispatch.NotificationDispatcher;
+import org.wso2.carbon.identity.event.handler.notification.dispatch.NotificationDispatcherConfig;
+import org.wso2.carbon.identity.event.handler.notification.limiter.AdaptiveConcurrencyLimiter;
+import org.wso2.carbon.identity.event.handler.notification.limiter.ConcurrencyLimiterConfig;
+import org.wso2.carbon.identity.event.handler.notification.listener.BrandingPreferenceCacheInvalidationHandler;
 import org.wso2.carbon.identity.event.handler.notification.listener.NotificationEventTenantListener;
+import org.wso2.carbon.identity.event.handler.notification.listener.NotificationTenantUnloadObserver;
+import org.wso2.carbon.identity.event.handler.notification.listener.NotificationUserStoreConfigListener;
+import org.wso2.carbon.identity.event.handler.notification.listener.OrganizationResolutionCacheInvalidationHandler;
+import org.wso2.carbon.identity.event.handler.notification.lookup.ParallelLookupExecutor;
+import org.wso2.carbon.identity.event.handler.notification.metrics.InMemoryNotificationMetricsRecorder;
+import org.wso2.carbon.identity.event.handler.notification.metrics.NotificationMetrics;
+import org.wso2.carbon.identity.event.handler.notification.metrics.NotificationMetricsRecorder;
+import org.wso2.carbon.identity.event.handler.notification.util.NotificationUtil;
 import org.wso2.carbon.identity.governance.service.notification.NotificationTemplateManager;
 import org.wso2.carbon.identity.notification.push.provider.PushProvider;
 import org.wso2.carbon.identity.notification.sender.tenant.config.NotificationSenderManagementService;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
+import org.wso2.carbon.identity.user.store.configuration.listener.UserStoreConfigListener;
 import org.wso2.carbon.registry.core.service.RegistryService;
 import org.wso2.carbon.stratos.common.listeners.TenantMgtListener;
 import org.wso2.carbon.user.core.service.RealmService;
+import org.wso2.carbon.utils.Axis2ConfigurationContextObserver;
 import org.wso2.carbon.email.mgt.EmailTemplateManager;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -43,6 +63,11 @@ import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
 @Component(
          name = "identity.event.handler.notification", 
          immediate = true)
@@ -53,10 +78,44 @@ public class NotificationHandlerServiceComponent {
     @Activate
     protected void activate(ComponentContext context) {
         try {
+            NotificationUtil.reloadNotificationConfigs();
+            if (NotificationDispatcherConfig.isAsyncDispatchEnabled()) {
+                NotificationDispatcher notificationDispatcher =
+                        new NotificationDispatcher(NotificationDispatcherConfig.fromIdentityConfig());
+                NotificationHandlerDataHolder.getInstance().setNotificationDispatcher(notificationDispatcher);
+                registerMBean(notificationDispatcher, NotificationConstants.Metrics.DISPATCHER_MBEAN_NAME);
+            }
+            if (ConcurrencyLimiterConfig.isConcurrencyLimitEnabled()) {
+                AdaptiveConcurrencyLimiter syncNotificationLimiter =
+                        new AdaptiveConcurrencyLimiter(ConcurrencyLimiterConfig.fromIdentityConfig());
+                NotificationHandlerDataHolder.getInstance().setSyncNotificationLimiter(syncNotificationLimiter);
+                registerMBean(syncNotificationLimiter, NotificationConstants.Metrics.CONCURRENCY_LIMITER_MBEAN_NAME);
+            }
+            if (ParallelLookupExecutor.isParallelLookupEnabled()) {
+                NotificationHandlerDataHolder.getInstance().setParallelLookupExecutor(
+                        ParallelLookupExecutor.fromIdentityConfig());
+            }
+            NotificationHandlerDataHolder.getInstance().setBatchBuildExecutor(
+                    NotificationBatchBuildExecutor.fromIdentityConfig());
+            if (DiagnosticLogPipelineConfig.isPipelineEnabled()) {
+                NotificationHandlerDataHolder.getInstance().setDiagnosticLogPipeline(
+                        new DiagnosticLogPipeline(DiagnosticLogPipelineConfig.fromIdentityConfig()));
+            }
+            if (Boolean.parseBoolean(IdentityUtil.getProperty(NotificationConstants.Metrics.ENABLE))) {
+                registerMetricsRecorder();
+            }
             context.getBundleContext().registerService(AbstractEventHandler.class.getName(), new NotificationHandler(), null);
             context.getBundleContext().registerService(AbstractEventHandler.class.getName(), new DefaultNotificationHandler(), null);
             context.getBundleContext().registerService(AbstractEventHandler.class.getName(), new PushNotificationHandler(), null);
+            context.getBundleContext().registerService(AbstractEventHandler.class.getName(),
+                    new OrganizationResolutionCacheInvalidationHandler(), null);
+            context.getBundleContext().registerService(AbstractEventHandler.class.getName(),
+                    new BrandingPreferenceCacheInvalidationHandler(), null);
             context.getBundleContext().registerService(TenantMgtListener.class.getName(), new NotificationEventTenantListener(), null);
+            context.getBundleContext().registerService(Axis2ConfigurationContextObserver.class.getName(),
+                    new NotificationTenantUnloadObserver(), null);
+            context.getBundleContext().registerService(UserStoreConfigListener.class.getName(),
+                    new NotificationUserStoreConfigListener(), null);
         } catch (Throwable e) {
             log.error("Error occurred while activating Notification Handler Service Component", e);
         }
@@ -67,11 +126,89 @@ public class NotificationHandlerServiceComponent {
 
     @Deactivate
     protected void deactivate(ComponentContext context) {
+
+        NotificationDispatcher notificationDispatcher =
+                NotificationHandlerDataHolder.getInstance().getNotificationDispatcher();
+        if (notificationDispatcher != null) {
+            NotificationHandlerDataHolder.getInstance().setNotificationDispatcher(null);
+            unregisterMBean(NotificationConstants.Metrics.DISPATCHER_MBEAN_NAME);
+            notificationDispatcher.shutdown();
+        }
+        if (NotificationHandlerDataHolder.getInstance().getSyncNotificationLimiter() != null) {
+            NotificationHandlerDataHolder.getInstance().setSyncNotificationLimiter(null);
+            unregisterMBean(NotificationConstants.Metrics.CONCURRENCY_LIMITER_MBEAN_NAME);
+        }
+        ParallelLookupExecutor parallelLookupExecutor =
+                NotificationHandlerDataHolder.getInstance().getParallelLookupExecutor();
+        if (parallelLookupExecutor != null) {
+            NotificationHandlerDataHolder.getInstance().setParallelLookupExecutor(null);
+            parallelLookupExecutor.shutdown();
+        }
+        NotificationBatchBuildExecutor batchBuildExecutor =
+                NotificationHandlerDataHolder.getInstance().getBatchBuildExecutor();
+        if (batchBuildExecutor != null) {
+            NotificationHandlerDataHolder.getInstance().setBatchBuildExecutor(null);
+            batchBuildExecutor.shutdown();
+        }
+        DiagnosticLogPipeline diagnosticLogPipeline =
+                NotificationHandlerDataHolder.getInstance().getDiagnosticLogPipeline();
+        if (diagnosticLogPipeline != null) {
+            NotificationHandlerDataHolder.getInstance().setDiagnosticLogPipeline(null);
+            diagnosticLogPipeline.shutdown();
+        }
+        unregisterMetricsRecorder();
         if (log.isDebugEnabled()) {
             log.debug("Notification Handler bundle is de-activated");
         }
     }
 
+    private void registerMetricsRecorder() {
+
+        InMemoryNotificationMetricsRecorder metricsRecorder = new InMemoryNotificationMetricsRecorder();
+        registerMBean(metricsRecorder, NotificationConstants.Metrics.MBEAN_NAME);
+        NotificationHandlerDataHolder.getInstance().setMetricsRecorder(metricsRecorder);
+        NotificationMetrics.addRecorder(metricsRecorder);
+    }
+
+    private void unregisterMetricsRecorder() {
+
+        InMemoryNotificationMetricsRecorder metricsRecorder =
+                NotificationHandlerDataHolder.getInstance().getMetricsRecorder();
+        if (metricsRecorder == null) {
+            return;
+        }
+        NotificationHandlerDataHolder.getInstance().setMetricsRecorder(null);
+        NotificationMetrics.removeRecorder(metricsRecorder);
+        unregisterMBean(NotificationConstants.Metrics.MBEAN_NAME);
+    }
+
+    private void registerMBean(Object mBean, String name) {
+
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(name);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+            mBeanServer.registerMBean(mBean, objectName);
+        } catch (JMException e) {
+            log.error("Error while registering the MBean: " + name + ". The values are still recorded.", e);
+        }
+    }
+
+    private void unregisterMBean(String name) {
+
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(name);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            log.error("Error while unregistering the MBean: " + name, e);
+        }
+    }
+
     @Reference(
              name = "registry.service", 
              service = org.wso2.carbon.registry.core.service.RegistryService.class, 
@@ -278,5 +415,24 @@ public class NotificationHandlerServiceComponent {
 
         NotificationHandlerDataHolder.getInstance().removePushProvider(provider.getName());
     }
-}
 
+    @Reference(
+            name = "notification.metrics.recorder",
+            service = NotificationMetricsRecorder.class,
+            cardinality = ReferenceCardinality.MULTIPLE,
+            policy = ReferencePolicy.DYNAMIC,
+            unbind = "unsetNotificationMetricsRecorder"
+    )
+    protected void setNotificationMetricsRecorder(NotificationMetricsRecorder recorder) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("NotificationMetricsRecorder: " + recorder.getClass().getName() + " is registered.");
+        }
+        NotificationMetrics.addRecorder(recorder);
+    }
+
+    protected void unsetNotificationMetricsRecorder(NotificationMetricsRecorder recorder) {
+
+        NotificationMetrics.removeRecorder(recorder);
+    }
+}
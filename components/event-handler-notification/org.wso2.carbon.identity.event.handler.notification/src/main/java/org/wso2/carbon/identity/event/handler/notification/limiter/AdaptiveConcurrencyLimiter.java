@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.limiter;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limits the number of sync email notifications of a tenant published concurrently.
+ * <p>
+ * The limit of each tenant adapts to the observed publish latency with additive increase and multiplicative
+ * decrease (AIMD). A publish completing within the latency threshold while the limit is in use grows the limit by
+ * one per limit's worth of completions, while a publish exceeding the threshold shrinks the limit by a fixed ratio.
+ * When the output adapter slows down, the limit therefore drops quickly and the requests beyond it wait for a
+ * bounded time or are rejected, instead of piling up behind the adapter.
+ * <p>
+ * The limit of a tenant is dropped when the tenant is unloaded or deleted, and the limits are exposed over JMX as a
+ * {@link ConcurrencyLimiterMXBean}.
+ */
+public class AdaptiveConcurrencyLimiter implements ConcurrencyLimiterMXBean {
+
+    private static final Log log = LogFactory.getLog(AdaptiveConcurrencyLimiter.class);
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final ConcurrencyLimiterConfig config;
+    private final Map<String, TenantLimit> tenantLimits = new ConcurrentHashMap<>();
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimiterConfig config) {
+
+        this.config = config;
+    }
+
+    /**
+     * Acquire a permit to publish a sync email notification of a tenant. If the tenant is at its limit, the caller
+     * waits up to the queue timeout for a permit, unless the wait queue of the tenant is full.
+     *
+     * @param tenantDomain Tenant domain the notification belongs to.
+     * @return Permit that must be completed or released once the notification is published, or null if no permit
+     * could be acquired.
+     */
+    public Permit tryAcquire(String tenantDomain) {
+
+        TenantLimit tenantLimit = tenantLimits.computeIfAbsent(StringUtils.defaultString(tenantDomain),
+                TenantLimit::new);
+        return tenantLimit.tryAcquire() ? new Permit(tenantLimit) : null;
+    }
+
+    /**
+     * Get the current concurrency limit of a tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Concurrency limit.
+     */
+    public int getLimit(String tenantDomain) {
+
+        TenantLimit tenantLimit = tenantLimits.get(StringUtils.defaultString(tenantDomain));
+        return tenantLimit != null ? tenantLimit.getLimit() : config.getInitialLimit();
+    }
+
+    /**
+     * Get the number of sync email notifications of a tenant being published.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return In-flight notification count.
+     */
+    public int getInFlight(String tenantDomain) {
+
+        TenantLimit tenantLimit = tenantLimits.get(StringUtils.defaultString(tenantDomain));
+        return tenantLimit != null ? tenantLimit.getInFlight() : 0;
+    }
+
+    /**
+     * Get the concurrency limit statistics of all the tenants that have published sync email notifications.
+     *
+     * @return List of concurrency limit statistics.
+     */
+    public List<ConcurrencyLimitStatistics> getStatistics() {
+
+        List<ConcurrencyLimitStatistics> statistics = new ArrayList<>(tenantLimits.size());
+        for (TenantLimit tenantLimit : tenantLimits.values()) {
+            statistics.add(tenantLimit.getStatistics());
+        }
+        return statistics;
+    }
+
+    /**
+     * Get the concurrency limit statistics of a tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Concurrency limit statistics, or null if the tenant has not published any sync email notification.
+     */
+    public ConcurrencyLimitStatistics getStatistics(String tenantDomain) {
+
+        TenantLimit tenantLimit = tenantLimits.get(StringUtils.defaultString(tenantDomain));
+        return tenantLimit != null ? tenantLimit.getStatistics() : null;
+    }
+
+    @Override
+    public Map<String, ConcurrencyLimitStatistics> getTenantLimits() {
+
+        Map<String, ConcurrencyLimitStatistics> tenantStatistics = new TreeMap<>();
+        for (TenantLimit tenantLimit : tenantLimits.values()) {
+            ConcurrencyLimitStatistics statistics = tenantLimit.getStatistics();
+            tenantStatistics.put(statistics.getTenantDomain(), statistics);
+        }
+        return tenantStatistics;
+    }
+
+    /**
+     * Drop the concurrency limit of a tenant, e.g. when the tenant is unloaded or deleted. Permits acquired before
+     * are still given back to the dropped limit, and the next notification of the tenant starts from the initial
+     * limit.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void removeTenant(String tenantDomain) {
+
+        if (tenantLimits.remove(StringUtils.defaultString(tenantDomain)) != null && log.isDebugEnabled()) {
+            log.debug("Removed the sync email notification concurrency limit of tenant: " + tenantDomain);
+        }
+    }
+
+    /**
+     * Permit to publish a sync email notification. A permit is given back once, either with the outcome of the
+     * publish, which adjusts the limit of the tenant, or without it.
+     */
+    public static final class Permit {
+
+        private final TenantLimit tenantLimit;
+        private final long acquiredTime = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(TenantLimit tenantLimit) {
+
+            this.tenantLimit = tenantLimit;
+        }
+
+        /**
+         * Give back the permit with the outcome of the publish. The time since the permit was acquired is taken as
+         * the publish latency.
+         *
+         * @param success Whether the notification was published successfully.
+         */
+        public void complete(boolean success) {
+
+            complete(success, System.nanoTime() - acquiredTime);
+        }
+
+        /**
+         * Give back the permit without adjusting the limit, e.g. when the notification was not published.
+         */
+        public void release() {
+
+            if (released.compareAndSet(false, true)) {
+                tenantLimit.release(false, false, 0L);
+            }
+        }
+
+        void complete(boolean success, long latencyNanos) {
+
+            if (released.compareAndSet(false, true)) {
+                tenantLimit.release(true, success, latencyNanos);
+            }
+        }
+    }
+
+    /**
+     * Concurrency limit of a single tenant.
+     */
+    private final class TenantLimit {
+
+        private final String tenantDomain;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition permitAvailable = lock.newCondition();
+        private double limit;
+        private int inFlight;
+        private int waiting;
+        private long acquiredCount;
+        private long rejectedCount;
+        private long timedOutCount;
+
+        private TenantLimit(String tenantDomain) {
+
+            this.tenantDomain = tenantDomain;
+            this.limit = config.getInitialLimit();
+        }
+
+        private boolean tryAcquire() {
+
+            lock.lock();
+            try {
+                if (inFlight < (int) limit) {
+                    inFlight++;
+                    acquiredCount++;
+                    return true;
+                }
+                if (waiting >= config.getQueueSize() || config.getQueueTimeoutMillis() == 0) {
+                    rejectedCount++;
+                    if (log.isDebugEnabled()) {
+                        log.debug("Sync email notification concurrency limit: " + (int) limit + " of tenant: "
+                                + tenantDomain + " is reached. Rejected the notification.");
+                    }
+                    return false;
+                }
+                waiting++;
+                try {
+                    long remainingNanos = TimeUnit.MILLISECONDS.toNanos(config.getQueueTimeoutMillis());
+                    while (inFlight >= (int) limit) {
+                        if (remainingNanos <= 0) {
+                            timedOutCount++;
+                            if (log.isDebugEnabled()) {
+                                log.debug("No sync email notification permit of tenant: " + tenantDomain
+                                        + " became available within: " + config.getQueueTimeoutMillis()
+                                        + " ms. Rejected the notification.");
+                            }
+                            return false;
+                        }
+                        remainingNanos = permitAvailable.awaitNanos(remainingNanos);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    timedOutCount++;
+                    return false;
+                } finally {
+                    waiting--;
+                }
+                inFlight++;
+                acquiredCount++;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void release(boolean sampled, boolean success, long latencyNanos) {
+
+            lock.lock();
+            try {
+                int previousLimit = (int) limit;
+                if (sampled) {
+                    if (latencyNanos > TimeUnit.MILLISECONDS.toNanos(config.getLatencyThresholdMillis())) {
+                        limit = Math.max(config.getMinLimit(), limit * BACKOFF_RATIO);
+                    } else if (success && inFlight * 2 >= limit) {
+                        // Only grow the limit while it is in use, so that an idle tenant does not build up a limit
+                        // it has never been tested against.
+                        limit = Math.min(config.getMaxLimit(), limit + 1.0 / limit);
+                    }
+                }
+                inFlight--;
+                if ((int) limit > previousLimit) {
+                    permitAvailable.signalAll();
+                } else {
+                    permitAvailable.signal();
+                }
+                if (log.isDebugEnabled() && (int) limit != previousLimit) {
+                    log.debug("Sync email notification concurrency limit of tenant: " + tenantDomain
+                            + " changed from: " + previousLimit + " to: " + (int) limit);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int getLimit() {
+
+            lock.lock();
+            try {
+                return (int) limit;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int getInFlight() {
+
+            lock.lock();
+            try {
+                return inFlight;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private ConcurrencyLimitStatistics getStatistics() {
+
+            lock.lock();
+            try {
+                return new ConcurrencyLimitStatistics(tenantDomain, (int) limit, inFlight, waiting, acquiredCount,
+                        rejectedCount, timedOutCount);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.limiter;
+
+import javax.management.ConstructorParameters;
+
+/**
+ * Point in time statistics of a tenant's sync email notification concurrency limit.
+ */
+public class ConcurrencyLimitStatistics {
+
+    private final String tenantDomain;
+    private final int limit;
+    private final int inFlight;
+    private final int waiting;
+    private final long acquiredCount;
+    private final long rejectedCount;
+    private final long timedOutCount;
+
+    @ConstructorParameters({"tenantDomain", "limit", "inFlight", "waiting", "acquiredCount", "rejectedCount",
+            "timedOutCount"})
+    public ConcurrencyLimitStatistics(String tenantDomain, int limit, int inFlight, int waiting, long acquiredCount,
+                                      long rejectedCount, long timedOutCount) {
+
+        this.tenantDomain = tenantDomain;
+        this.limit = limit;
+        this.inFlight = inFlight;
+        this.waiting = waiting;
+        this.acquiredCount = acquiredCount;
+        this.rejectedCount = rejectedCount;
+        this.timedOutCount = timedOutCount;
+    }
+
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    /**
+     * Get the current concurrency limit.
+     *
+     * @return Concurrency limit.
+     */
+    public int getLimit() {
+
+        return limit;
+    }
+
+    /**
+     * Get the number of notifications being published.
+     *
+     * @return In-flight notification count.
+     */
+    public int getInFlight() {
+
+        return inFlight;
+    }
+
+    /**
+     * Get the number of notifications waiting for a permit.
+     *
+     * @return Waiting notification count.
+     */
+    public int getWaiting() {
+
+        return waiting;
+    }
+
+    public long getAcquiredCount() {
+
+        return acquiredCount;
+    }
+
+    /**
+     * Get the number of notifications rejected without waiting because the wait queue was full.
+     *
+     * @return Rejected notification count.
+     */
+    public long getRejectedCount() {
+
+        return rejectedCount;
+    }
+
+    /**
+     * Get the number of notifications rejected because no permit became available within the queue timeout.
+     *
+     * @return Timed out notification count.
+     */
+    public long getTimedOutCount() {
+
+        return timedOutCount;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.limiter;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.event.handler.notification.NotificationConstants.SyncNotificationConcurrencyLimit;
+
+/**
+ * Configurations of the adaptive concurrency limiter of sync email notifications.
+ */
+public class ConcurrencyLimiterConfig {
+
+    private static final Log log = LogFactory.getLog(ConcurrencyLimiterConfig.class);
+
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdMillis;
+    private final int queueSize;
+    private final long queueTimeoutMillis;
+
+    /**
+     * Create a concurrency limiter configuration.
+     *
+     * @param initialLimit           Concurrency limit a tenant starts with.
+     * @param minLimit               Lower bound of the concurrency limit.
+     * @param maxLimit               Upper bound of the concurrency limit.
+     * @param latencyThresholdMillis Publish latency above which the concurrency limit is decreased.
+     * @param queueSize              Maximum number of requests of a tenant waiting for a permit. Requests beyond this
+     *                               are rejected without waiting.
+     * @param queueTimeoutMillis     Maximum time a request waits for a permit.
+     */
+    public ConcurrencyLimiterConfig(int initialLimit, int minLimit, int maxLimit, long latencyThresholdMillis,
+                                    int queueSize, long queueTimeoutMillis) {
+
+        if (minLimit <= 0 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit
+                || latencyThresholdMillis <= 0 || queueSize < 0 || queueTimeoutMillis < 0) {
+            throw new IllegalArgumentException("Invalid sync notification concurrency limit configuration.");
+        }
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdMillis = latencyThresholdMillis;
+        this.queueSize = queueSize;
+        this.queueTimeoutMillis = queueTimeoutMillis;
+    }
+
+    /**
+     * Check whether the concurrency limit of sync email notifications is enabled in identity.xml.
+     *
+     * @return True if the concurrency limit is enabled.
+     */
+    public static boolean isConcurrencyLimitEnabled() {
+
+        return Boolean.parseBoolean(IdentityUtil.getProperty(SyncNotificationConcurrencyLimit.ENABLE));
+    }
+
+    /**
+     * Read the concurrency limiter configuration from identity.xml. Missing or invalid values fall back to the
+     * defaults.
+     *
+     * @return Concurrency limiter configuration.
+     */
+    public static ConcurrencyLimiterConfig fromIdentityConfig() {
+
+        int minLimit = (int) readNumber(SyncNotificationConcurrencyLimit.MIN_LIMIT,
+                SyncNotificationConcurrencyLimit.DEFAULT_MIN_LIMIT, 1);
+        int maxLimit = (int) readNumber(SyncNotificationConcurrencyLimit.MAX_LIMIT,
+                Math.max(SyncNotificationConcurrencyLimit.DEFAULT_MAX_LIMIT, minLimit), minLimit);
+        int initialLimit = (int) readNumber(SyncNotificationConcurrencyLimit.INITIAL_LIMIT,
+                Math.min(Math.max(SyncNotificationConcurrencyLimit.DEFAULT_INITIAL_LIMIT, minLimit), maxLimit),
+                minLimit);
+        if (initialLimit > maxLimit) {
+            log.warn("Initial sync notification concurrency limit: " + initialLimit + " is above the maximum limit: "
+                    + maxLimit + ". Using the maximum limit.");
+            initialLimit = maxLimit;
+        }
+        long latencyThresholdMillis = readNumber(SyncNotificationConcurrencyLimit.LATENCY_THRESHOLD,
+                SyncNotificationConcurrencyLimit.DEFAULT_LATENCY_THRESHOLD, 1);
+        int queueSize = (int) readNumber(SyncNotificationConcurrencyLimit.QUEUE_SIZE,
+                SyncNotificationConcurrencyLimit.DEFAULT_QUEUE_SIZE, 0);
+        long queueTimeoutMillis = readNumber(SyncNotificationConcurrencyLimit.QUEUE_TIMEOUT,
+                SyncNotificationConcurrencyLimit.DEFAULT_QUEUE_TIMEOUT, 0);
+        return new ConcurrencyLimiterConfig(initialLimit, minLimit, maxLimit, latencyThresholdMillis, queueSize,
+                queueTimeoutMillis);
+    }
+
+    private static long readNumber(String property, long defaultValue, long minValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            long number = Long.parseLong(value.trim());
+            if (number >= minValue && number <= Integer.MAX_VALUE) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // Fall back to the default value below.
+        }
+        log.warn("Invalid value: " + value + " for " + property + ". Using the default value: " + defaultValue);
+        return defaultValue;
+    }
+
+    public int getInitialLimit() {
+
+        return initialLimit;
+    }
+
+    public int getMinLimit() {
+
+        return minLimit;
+    }
+
+    public int getMaxLimit() {
+
+        return maxLimit;
+    }
+
+    public long getLatencyThresholdMillis() {
+
+        return latencyThresholdMillis;
+    }
+
+    public int getQueueSize() {
+
+        return queueSize;
+    }
+
+    public long getQueueTimeoutMillis() {
+
+        return queueTimeoutMillis;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.listener;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.base.IdentityRuntimeException;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.event.handler.notification.NotificationConstants.BrandingPreferenceCacheConfig;
+import org.wso2.carbon.identity.event.handler.notification.util.NotificationUtil;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Clears the cached branding and custom text preferences of a tenant when they are added, updated or deleted, so
+ * that notifications pick up the change without waiting for the cached preferences to expire.
+ */
+public class BrandingPreferenceCacheInvalidationHandler extends AbstractEventHandler {
+
+    private static final String HANDLER_NAME = "NotificationBrandingPreferenceCacheInvalidationHandler";
+    private static final Set<String> BRANDING_PREFERENCE_CHANGE_EVENTS = Collections.unmodifiableSet(new HashSet<>(
+            Arrays.asList(BrandingPreferenceCacheConfig.POST_ADD_BRANDING_PREFERENCE,
+                    BrandingPreferenceCacheConfig.POST_UPDATE_BRANDING_PREFERENCE,
+                    BrandingPreferenceCacheConfig.POST_DELETE_BRANDING_PREFERENCE,
+                    BrandingPreferenceCacheConfig.POST_ADD_CUSTOM_TEXT_PREFERENCE,
+                    BrandingPreferenceCacheConfig.POST_UPDATE_CUSTOM_TEXT_PREFERENCE,
+                    BrandingPreferenceCacheConfig.POST_DELETE_CUSTOM_TEXT_PREFERENCE)));
+
+    @Override
+    public boolean canHandle(MessageContext messageContext) throws IdentityRuntimeException {
+
+        Event event = ((IdentityEventMessageContext) messageContext).getEvent();
+        return BRANDING_PREFERENCE_CHANGE_EVENTS.contains(event.getEventName());
+    }
+
+    @Override
+    public String getName() {
+
+        return HANDLER_NAME;
+    }
+
+    @Override
+    public void handleEvent(Event event) throws IdentityEventException {
+
+        String tenantDomain = null;
+        if (event.getEventProperties() != null) {
+            tenantDomain = (String) event.getEventProperties().get(IdentityEventConstants.EventProperty.TENANT_DOMAIN);
+        }
+        if (StringUtils.isBlank(tenantDomain)) {
+            tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        }
+        NotificationUtil.clearBrandingPreferenceCache(IdentityTenantUtil.getTenantId(tenantDomain));
+    }
+}
@@ -18,6 +18,8 @@
 
 package org.wso2.carbon.identity.event.handler.notification.listener;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.event.output.adapter.core.OutputEventAdapterConfiguration;
 import org.wso2.carbon.event.publisher.core.config.EventPublisherConfiguration;
@@ -35,6 +37,8 @@ import java.util.Map;
 
 public class NotificationEventTenantListener implements TenantMgtListener {
 
+    private static final Log log = LogFactory.getLog(NotificationEventTenantListener.class);
+
     @Override
     public void onTenantCreate(TenantInfoBean tenantInfoBean) throws StratosException {
 
@@ -43,16 +47,26 @@ public class NotificationEventTenantListener implements TenantMgtListener {
     @Override
     public void onTenantUpdate(TenantInfoBean tenantInfoBean) throws StratosException {
 
+        NotificationUtil.clearBrandingPreferenceCache(tenantInfoBean.getTenantId());
+        NotificationUtil.clearServiceURLCache();
+        NotificationUtil.clearUserStoreManagerCache(tenantInfoBean.getTenantId());
+        NotificationUtil.clearOrganizationResolutionCache();
     }
 
     @Override
     public void onTenantDelete(int i) {
 
+        NotificationUtil.clearBrandingPreferenceCache(i);
+        NotificationUtil.clearServiceURLCache();
+        NotificationUtil.clearUserStoreManagerCache(i);
+        NotificationUtil.clearOrganizationResolutionCache();
     }
 
     @Override
     public void onTenantRename(int i, String s, String s2) throws StratosException {
 
+        NotificationUtil.clearServiceURLCache();
+        NotificationUtil.clearOrganizationResolutionCache();
     }
 
     @Override
@@ -77,6 +91,9 @@ public class NotificationEventTenantListener implements TenantMgtListener {
     @Override
     public void onTenantDeactivation(int i) throws StratosException {
 
+        NotificationUtil.clearBrandingPreferenceCache(i);
+        NotificationUtil.clearOrganizationResolutionCache();
+        clearTenantNotificationState(i);
     }
 
     @Override
@@ -92,6 +109,21 @@ public class NotificationEventTenantListener implements TenantMgtListener {
     @Override
     public void onPreDelete(int i) throws StratosException {
 
+        // The tenant domain can no longer be resolved once the tenant is deleted.
+        clearTenantNotificationState(i);
+    }
+
+    private void clearTenantNotificationState(int tenantId) {
+
+        try {
+            String tenantDomain =
+                    NotificationHandlerDataHolder.getInstance().getRealmService().getTenantManager().getDomain(tenantId);
+            NotificationUtil.clearSyncNotificationLimit(tenantDomain);
+            NotificationUtil.clearNotificationDispatchQueue(tenantDomain);
+        } catch (UserStoreException e) {
+            log.error("Error while resolving the tenant domain of tenant: " + tenantId
+                    + " to remove its sync email notification concurrency limit and dispatch queue.", e);
+        }
     }
 
     private EventPublisherConfiguration getEventPublisherConfig() {
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.listener;
+
+import org.apache.axis2.context.ConfigurationContext;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.event.handler.notification.util.NotificationUtil;
+import org.wso2.carbon.utils.AbstractAxis2ConfigurationContextObserver;
+
+/**
+ * Drops the per tenant state kept by the notification handlers when a tenant is unloaded, so that idle tenants do
+ * not keep it for the lifetime of the node.
+ */
+public class NotificationTenantUnloadObserver extends AbstractAxis2ConfigurationContextObserver {
+
+    @Override
+    public void terminatingConfigurationContext(ConfigurationContext configurationContext) {
+
+        String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        NotificationUtil.clearSyncNotificationLimit(tenantDomain);
+        NotificationUtil.clearNotificationDispatchQueue(tenantDomain);
+    }
+}
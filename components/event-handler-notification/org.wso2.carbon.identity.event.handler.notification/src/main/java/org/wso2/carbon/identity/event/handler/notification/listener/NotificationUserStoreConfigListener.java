@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.listener;
+
+import org.wso2.carbon.identity.event.handler.notification.util.NotificationUtil;
+import org.wso2.carbon.identity.user.store.configuration.dto.UserStoreDTO;
+import org.wso2.carbon.identity.user.store.configuration.listener.UserStoreConfigListener;
+import org.wso2.carbon.user.api.UserStoreException;
+
+/**
+ * Removes the cached user store managers of a tenant when a user store of the tenant is updated, renamed or deleted,
+ * so that notifications are not sent using a user store manager that no longer belongs to the tenant realm.
+ */
+public class NotificationUserStoreConfigListener implements UserStoreConfigListener {
+
+    @Override
+    public void onUserStoreNamePreUpdate(int tenantId, String currentUserStoreName, String newUserStoreName)
+            throws UserStoreException {
+
+        NotificationUtil.clearUserStoreManagerCache(tenantId);
+    }
+
+    @Override
+    public void onUserStorePreUpdate(int tenantId, UserStoreDTO userStoreDTO, boolean isStateChange)
+            throws UserStoreException {
+
+        NotificationUtil.clearUserStoreManagerCache(tenantId);
+    }
+
+    @Override
+    public void onUserStorePreDelete(int tenantId, String userStoreName) throws UserStoreException {
+
+        NotificationUtil.clearUserStoreManagerCache(tenantId);
+    }
+}
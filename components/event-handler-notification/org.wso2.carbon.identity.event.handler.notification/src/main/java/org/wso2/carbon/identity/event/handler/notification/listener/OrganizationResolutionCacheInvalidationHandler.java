@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.listener;
+
+import org.wso2.carbon.identity.base.IdentityRuntimeException;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.event.handler.notification.util.NotificationUtil;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Clears the cached organization IDs, organization names and primary tenant domains when an organization is updated,
+ * patched or deleted, e.g. so that a renamed organization is not shown with its old name in notifications.
+ */
+public class OrganizationResolutionCacheInvalidationHandler extends AbstractEventHandler {
+
+    private static final String HANDLER_NAME = "NotificationOrganizationResolutionCacheInvalidationHandler";
+    private static final Set<String> ORGANIZATION_CHANGE_EVENTS = Collections.unmodifiableSet(new HashSet<>(
+            Arrays.asList(IdentityEventConstants.Event.POST_UPDATE_ORGANIZATION,
+                    IdentityEventConstants.Event.POST_PATCH_ORGANIZATION,
+                    IdentityEventConstants.Event.POST_DELETE_ORGANIZATION)));
+
+    @Override
+    public boolean canHandle(MessageContext messageContext) throws IdentityRuntimeException {
+
+        Event event = ((IdentityEventMessageContext) messageContext).getEvent();
+        return ORGANIZATION_CHANGE_EVENTS.contains(event.getEventName());
+    }
+
+    @Override
+    public String getName() {
+
+        return HANDLER_NAME;
+    }
+
+    @Override
+    public void handleEvent(Event event) throws IdentityEventException {
+
+        NotificationUtil.clearOrganizationResolutionCache();
+    }
+}
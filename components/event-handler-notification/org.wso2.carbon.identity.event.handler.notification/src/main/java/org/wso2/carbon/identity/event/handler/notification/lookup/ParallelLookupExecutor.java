@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.lookup;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.handler.notification.NotificationConstants.ParallelLookup;
+import org.wso2.carbon.identity.event.handler.notification.dispatch.NotificationThreadContext;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the independent lookups of a notification build, e.g. the application and organization resolution, on a
+ * bounded pool so they overlap with the work of the calling thread.
+ * <p>
+ * Each lookup runs with the thread context of the calling thread, i.e. its tenant, organization, user and identity
+ * thread local properties. When the pool and its queue are full
+ * the lookup runs in the calling thread, so a burst of notifications degrades to the sequential behaviour instead of
+ * failing.
+ */
+public class ParallelLookupExecutor {
+
+    private static final Log log = LogFactory.getLog(ParallelLookupExecutor.class);
+    private static final String WORKER_NAME_PREFIX = "notification-lookup-";
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+    private static final long AWAIT_TIMEOUT_SECONDS = 30L;
+
+    private final ThreadPoolExecutor workers;
+
+    /**
+     * Create a lookup executor.
+     *
+     * @param poolSize      Maximum number of lookups running concurrently.
+     * @param queueCapacity Maximum number of lookups waiting for a worker.
+     */
+    public ParallelLookupExecutor(int poolSize, int queueCapacity) {
+
+        if (poolSize <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("Invalid lookup pool size: " + poolSize + " or queue capacity: "
+                    + queueCapacity);
+        }
+        this.workers = new ThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), createThreadFactory());
+        this.workers.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Check whether parallel lookups are enabled in identity.xml.
+     *
+     * @return True if parallel lookups are enabled.
+     */
+    public static boolean isParallelLookupEnabled() {
+
+        return Boolean.parseBoolean(IdentityUtil.getProperty(ParallelLookup.ENABLE));
+    }
+
+    /**
+     * Create a lookup executor from the configuration in identity.xml. Missing or invalid values fall back to the
+     * defaults.
+     *
+     * @return Lookup executor.
+     */
+    public static ParallelLookupExecutor fromIdentityConfig() {
+
+        int poolSize = readPositiveNumber(ParallelLookup.POOL_SIZE, ParallelLookup.DEFAULT_POOL_SIZE);
+        int queueCapacity = readPositiveNumber(ParallelLookup.QUEUE_CAPACITY, ParallelLookup.DEFAULT_QUEUE_CAPACITY);
+        return new ParallelLookupExecutor(poolSize, queueCapacity);
+    }
+
+    /**
+     * Start a lookup with the thread context of the calling thread.
+     *
+     * @param lookup Lookup to run.
+     * @param <T>    Type of the lookup result.
+     * @return Future completed with the lookup result, or exceptionally with the error thrown by the lookup.
+     */
+    public <T> CompletableFuture<T> submit(Lookup<T> lookup) {
+
+        NotificationThreadContext threadContext = NotificationThreadContext.capture();
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            workers.execute(() -> {
+                try {
+                    threadContext.execute(() -> complete(future, lookup));
+                } catch (IdentityEventException e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Notification lookup pool is saturated or shut down. Running the lookup in the calling "
+                        + "thread.");
+            }
+            complete(future, lookup);
+        }
+        return future;
+    }
+
+    /**
+     * Get the result of a lookup, waiting at most {@value #AWAIT_TIMEOUT_SECONDS} seconds for it to complete. The
+     * error thrown by the lookup is rethrown as is.
+     *
+     * @param future Lookup future.
+     * @param <T>    Type of the lookup result.
+     * @return Lookup result.
+     * @throws TimeoutException If the lookup did not complete in time.
+     * @throws Exception        Error thrown by the lookup.
+     */
+    public static <T> T await(CompletableFuture<T> future) throws Exception {
+
+        return await(future, AWAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Get the result of a lookup, waiting at most the given time for it to complete. The error thrown by the lookup
+     * is rethrown as is.
+     *
+     * @param future  Lookup future.
+     * @param timeout Maximum time to wait.
+     * @param unit    Unit of the timeout.
+     * @param <T>     Type of the lookup result.
+     * @return Lookup result.
+     * @throws TimeoutException If the lookup did not complete in time.
+     * @throws Exception        Error thrown by the lookup.
+     */
+    public static <T> T await(CompletableFuture<T> future, long timeout, TimeUnit unit) throws Exception {
+
+        try {
+            return future.get(timeout, unit);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    /**
+     * Stop accepting lookups and let the workers finish the lookups they are running. Lookups still waiting for a
+     * worker run in the calling thread, so that no build waits for a lookup that never runs, and lookups submitted
+     * afterwards run in the thread submitting them.
+     */
+    public void shutdown() {
+
+        workers.shutdown();
+        for (Runnable pendingLookup : workers.getQueue().toArray(new Runnable[0])) {
+            if (workers.remove(pendingLookup)) {
+                pendingLookup.run();
+            }
+        }
+    }
+
+    private static <T> void complete(CompletableFuture<T> future, Lookup<T> lookup) {
+
+        try {
+            future.complete(lookup.lookup());
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    private static ThreadFactory createThreadFactory() {
+
+        AtomicInteger workerCount = new AtomicInteger();
+        return runnable -> {
+            Thread worker = new Thread(runnable, WORKER_NAME_PREFIX + workerCount.incrementAndGet());
+            worker.setDaemon(true);
+            return worker;
+        };
+    }
+
+    private static int readPositiveNumber(String property, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            int number = Integer.parseInt(value.trim());
+            if (number > 0) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // Fall back to the default value below.
+        }
+        log.warn("Invalid value: " + value + " for " + property + ". Using the default value: " + defaultValue);
+        return defaultValue;
+    }
+
+    /**
+     * A lookup run by the {@link ParallelLookupExecutor}.
+     *
+     * @param <T> Type of the lookup result.
+     */
+    @FunctionalInterface
+    public interface Lookup<T> {
+
+        T lookup() throws Exception;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the notification handler metrics in memory and exposes them over JMX.
+ * <p>
+ * Stage latencies are kept in a {@link LatencyHistogram} per stage, and the counters are striped {@link LongAdder}s
+ * keyed by the tenant domain, channel and template type or error code. Existing counters are looked up without
+ * locking, so recording only contends when a counter is created.
+ */
+public class InMemoryNotificationMetricsRecorder implements NotificationMetricsRecorder, NotificationMetricsMXBean {
+
+    private static final String KEY_SEPARATOR = "/";
+
+    private final Map<NotificationStage, LatencyHistogram> stageLatencies = new EnumMap<>(NotificationStage.class);
+    private final ConcurrentMap<String, LongAdder> notificationCounts = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> failureCounts = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> throttleCounts = new ConcurrentHashMap<>();
+
+    public InMemoryNotificationMetricsRecorder() {
+
+        for (NotificationStage stage : NotificationStage.values()) {
+            stageLatencies.put(stage, new LatencyHistogram());
+        }
+    }
+
+    @Override
+    public void recordStageLatency(NotificationStage stage, long elapsedNanos) {
+
+        stageLatencies.get(stage).record(elapsedNanos);
+    }
+
+    @Override
+    public void recordNotification(String tenantDomain, String channel, String templateType) {
+
+        increment(notificationCounts, tenantDomain + KEY_SEPARATOR + channel + KEY_SEPARATOR + templateType);
+    }
+
+    @Override
+    public void recordFailure(String tenantDomain, String channel, String errorCode) {
+
+        increment(failureCounts, tenantDomain + KEY_SEPARATOR + channel + KEY_SEPARATOR + errorCode);
+    }
+
+    @Override
+    public void recordThrottle(String tenantDomain, String channel) {
+
+        increment(throttleCounts, tenantDomain + KEY_SEPARATOR + channel);
+    }
+
+    /**
+     * Get the latency statistics of a stage.
+     *
+     * @param stage Notification stage.
+     * @return Latency statistics of the stage.
+     */
+    public LatencyStatistics getStageLatency(NotificationStage stage) {
+
+        return stageLatencies.get(stage).getStatistics(stage.name());
+    }
+
+    @Override
+    public Map<String, LatencyStatistics> getStageLatencies() {
+
+        Map<String, LatencyStatistics> latencies = new TreeMap<>();
+        for (NotificationStage stage : NotificationStage.values()) {
+            latencies.put(stage.name(), getStageLatency(stage));
+        }
+        return latencies;
+    }
+
+    @Override
+    public Map<String, Long> getNotificationCounts() {
+
+        return snapshot(notificationCounts);
+    }
+
+    @Override
+    public Map<String, Long> getFailureCounts() {
+
+        return snapshot(failureCounts);
+    }
+
+    @Override
+    public Map<String, Long> getThrottleCounts() {
+
+        return snapshot(throttleCounts);
+    }
+
+    @Override
+    public void reset() {
+
+        for (LatencyHistogram histogram : stageLatencies.values()) {
+            histogram.reset();
+        }
+        notificationCounts.clear();
+        failureCounts.clear();
+        throttleCounts.clear();
+    }
+
+    private static void increment(ConcurrentMap<String, LongAdder> counters, String key) {
+
+        LongAdder counter = counters.get(key);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(key, k -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    private static Map<String, Long> snapshot(ConcurrentMap<String, LongAdder> counters) {
+
+        Map<String, Long> counts = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> counter : counters.entrySet()) {
+            counts.put(counter.getKey(), counter.getValue().sum());
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with log-linear buckets, in the style of an HDR histogram.
+ * <p>
+ * Each power of two range of values is split into a fixed number of linear sub buckets, which bounds the relative
+ * error of the reported percentiles to about three percent regardless of the magnitude of the value. The buckets are
+ * striped counters, so concurrent recorders do not contend on a shared memory location.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    // Values up to about 18 minutes in nanoseconds are bucketed. Larger values are counted in the last bucket.
+    private static final int MAX_VALUE_BITS = 40;
+    private static final long MAX_TRACKABLE_VALUE = (1L << MAX_VALUE_BITS) - 1;
+    private static final int BUCKET_COUNT = (MAX_VALUE_BITS - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalValue = new LongAdder();
+    private final LongAccumulator maxValue = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Record a value. Negative values are recorded as zero.
+     *
+     * @param value Value to be recorded.
+     */
+    public void record(long value) {
+
+        long recordedValue = Math.max(value, 0);
+        buckets[bucketIndex(Math.min(recordedValue, MAX_TRACKABLE_VALUE))].increment();
+        totalCount.increment();
+        totalValue.add(recordedValue);
+        maxValue.accumulate(recordedValue);
+    }
+
+    /**
+     * Get the statistics of the values recorded so far. Values recorded while the statistics are taken may or may
+     * not be included.
+     *
+     * @param name Name of the statistics.
+     * @return Latency statistics.
+     */
+    public LatencyStatistics getStatistics(String name) {
+
+        long[] counts = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets[i].sum();
+            count += counts[i];
+        }
+        long max = maxValue.get();
+        long mean = count > 0 ? totalValue.sum() / count : 0;
+        return new LatencyStatistics(name, count, mean, valueAtPercentile(counts, count, 50, max),
+                valueAtPercentile(counts, count, 90, max), valueAtPercentile(counts, count, 99, max),
+                valueAtPercentile(counts, count, 99.9, max), max);
+    }
+
+    /**
+     * Get the number of recorded values.
+     *
+     * @return Recorded value count.
+     */
+    public long getCount() {
+
+        return totalCount.sum();
+    }
+
+    /**
+     * Clear the recorded values.
+     */
+    public void reset() {
+
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        totalCount.reset();
+        totalValue.reset();
+        maxValue.reset();
+    }
+
+    static int bucketIndex(long value) {
+
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = (63 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKET_COUNT + (int) (value >>> shift) - SUB_BUCKET_COUNT;
+    }
+
+    static long highestEquivalentValue(int bucketIndex) {
+
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+        int shift = bucketIndex / SUB_BUCKET_COUNT - 1;
+        long subBucket = bucketIndex % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    private static long valueAtPercentile(long[] counts, long count, double percentile, long max) {
+
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long cumulativeCount = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulativeCount += counts[i];
+            if (cumulativeCount >= rank) {
+                return Math.min(highestEquivalentValue(i), max);
+            }
+        }
+        return max;
+    }
+}
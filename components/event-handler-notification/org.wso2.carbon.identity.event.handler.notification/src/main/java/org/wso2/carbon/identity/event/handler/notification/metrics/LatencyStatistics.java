@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.metrics;
+
+import javax.management.ConstructorParameters;
+
+/**
+ * Point in time latency statistics of a notification stage. Latencies are in nanoseconds.
+ */
+public class LatencyStatistics {
+
+    private final String name;
+    private final long count;
+    private final long mean;
+    private final long p50;
+    private final long p90;
+    private final long p99;
+    private final long p999;
+    private final long max;
+
+    @ConstructorParameters({"name", "count", "mean", "p50", "p90", "p99", "p999", "max"})
+    public LatencyStatistics(String name, long count, long mean, long p50, long p90, long p99, long p999, long max) {
+
+        this.name = name;
+        this.count = count;
+        this.mean = mean;
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p99 = p99;
+        this.p999 = p999;
+        this.max = max;
+    }
+
+    public String getName() {
+
+        return name;
+    }
+
+    public long getCount() {
+
+        return count;
+    }
+
+    public long getMean() {
+
+        return mean;
+    }
+
+    public long getP50() {
+
+        return p50;
+    }
+
+    public long getP90() {
+
+        return p90;
+    }
+
+    public long getP99() {
+
+        return p99;
+    }
+
+    public long getP999() {
+
+        return p999;
+    }
+
+    public long getMax() {
+
+        return max;
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.metrics;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Entry point of the notification handlers to the registered {@link NotificationMetricsRecorder}s.
+ * <p>
+ * When no recorder is registered, timers are not started and nothing is recorded, so the instrumentation of the hot
+ * path costs a single volatile read. Errors of a recorder are logged and never fail the notification.
+ */
+public final class NotificationMetrics {
+
+    private static final Log log = LogFactory.getLog(NotificationMetrics.class);
+
+    /**
+     * Start time returned when no recorder is registered.
+     */
+    public static final long NOT_STARTED = Long.MIN_VALUE;
+
+    private static final List<NotificationMetricsRecorder> recorders = new CopyOnWriteArrayList<>();
+    private static volatile boolean enabled;
+
+    private NotificationMetrics() {
+
+    }
+
+    /**
+     * Register a metrics recorder.
+     *
+     * @param recorder Metrics recorder.
+     */
+    public static synchronized void addRecorder(NotificationMetricsRecorder recorder) {
+
+        if (recorder != null && !recorders.contains(recorder)) {
+            recorders.add(recorder);
+            enabled = true;
+        }
+    }
+
+    /**
+     * Unregister a metrics recorder.
+     *
+     * @param recorder Metrics recorder.
+     */
+    public static synchronized void removeRecorder(NotificationMetricsRecorder recorder) {
+
+        recorders.remove(recorder);
+        enabled = !recorders.isEmpty();
+    }
+
+    /**
+     * Check whether any metrics recorder is registered.
+     *
+     * @return True if metrics are recorded.
+     */
+    public static boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Start timing a stage.
+     *
+     * @return Start time to be passed to {@link #recordStage(NotificationStage, long)}, or {@link #NOT_STARTED} if
+     * no recorder is registered.
+     */
+    public static long startTimer() {
+
+        return enabled ? System.nanoTime() : NOT_STARTED;
+    }
+
+    /**
+     * Record the latency of a stage started with {@link #startTimer()}.
+     *
+     * @param stage     Notification stage.
+     * @param startTime Start time of the stage.
+     */
+    public static void recordStage(NotificationStage stage, long startTime) {
+
+        if (startTime == NOT_STARTED || !enabled) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - startTime;
+        for (NotificationMetricsRecorder recorder : recorders) {
+            try {
+                recorder.recordStageLatency(stage, elapsedNanos);
+            } catch (RuntimeException e) {
+                logRecorderError(recorder, e);
+            }
+        }
+    }
+
+    /**
+     * Record a published notification.
+     *
+     * @param tenantDomain Tenant domain of the notification.
+     * @param channel      Notification channel.
+     * @param templateType Template type of the notification.
+     */
+    public static void recordNotification(String tenantDomain, String channel, String templateType) {
+
+        if (!enabled) {
+            return;
+        }
+        for (NotificationMetricsRecorder recorder : recorders) {
+            try {
+                recorder.recordNotification(tenantDomain, channel, templateType);
+            } catch (RuntimeException e) {
+                logRecorderError(recorder, e);
+            }
+        }
+    }
+
+    /**
+     * Record a notification that failed to be delivered.
+     *
+     * @param tenantDomain Tenant domain of the notification.
+     * @param channel      Notification channel.
+     * @param errorCode    Error code of the failure.
+     */
+    public static void recordFailure(String tenantDomain, String channel, String errorCode) {
+
+        if (!enabled) {
+            return;
+        }
+        for (NotificationMetricsRecorder recorder : recorders) {
+            try {
+                recorder.recordFailure(tenantDomain, channel, errorCode);
+            } catch (RuntimeException e) {
+                logRecorderError(recorder, e);
+            }
+        }
+    }
+
+    /**
+     * Record a notification that was throttled.
+     *
+     * @param tenantDomain Tenant domain of the notification.
+     * @param channel      Notification channel.
+     */
+    public static void recordThrottle(String tenantDomain, String channel) {
+
+        if (!enabled) {
+            return;
+        }
+        for (NotificationMetricsRecorder recorder : recorders) {
+            try {
+                recorder.recordThrottle(tenantDomain, channel);
+            } catch (RuntimeException e) {
+                logRecorderError(recorder, e);
+            }
+        }
+    }
+
+    private static void logRecorderError(NotificationMetricsRecorder recorder, RuntimeException e) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Error while recording notification metrics with: " + recorder.getClass().getName(), e);
+        }
+    }
+}
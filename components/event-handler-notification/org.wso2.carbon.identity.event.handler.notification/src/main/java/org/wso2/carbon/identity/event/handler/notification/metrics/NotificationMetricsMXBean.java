@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of the notification handler metrics.
+ */
+public interface NotificationMetricsMXBean {
+
+    /**
+     * Get the latency statistics of the notification stages, keyed by the stage name.
+     *
+     * @return Latency statistics by stage.
+     */
+    Map<String, LatencyStatistics> getStageLatencies();
+
+    /**
+     * Get the published notification counts, keyed by tenant domain, channel and template type.
+     *
+     * @return Notification counts.
+     */
+    Map<String, Long> getNotificationCounts();
+
+    /**
+     * Get the failed notification counts, keyed by tenant domain, channel and error code.
+     *
+     * @return Failure counts.
+     */
+    Map<String, Long> getFailureCounts();
+
+    /**
+     * Get the throttled notification counts, keyed by tenant domain and channel.
+     *
+     * @return Throttle counts.
+     */
+    Map<String, Long> getThrottleCounts();
+
+    /**
+     * Clear the recorded metrics.
+     */
+    void reset();
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.metrics;
+
+/**
+ * Records the metrics of the notification handlers.
+ * <p>
+ * Implementations registered as OSGi services are picked up by the notification handler component, which allows the
+ * metrics to be bridged to an external metrics system. Recorders are called on the request thread of every
+ * notification, hence they must be thread safe and must not block.
+ */
+public interface NotificationMetricsRecorder {
+
+    /**
+     * Record the latency of a stage of a notification.
+     *
+     * @param stage        Notification stage.
+     * @param elapsedNanos Time taken by the stage in nanoseconds.
+     */
+    void recordStageLatency(NotificationStage stage, long elapsedNanos);
+
+    /**
+     * Record a published notification.
+     *
+     * @param tenantDomain Tenant domain of the notification.
+     * @param channel      Notification channel.
+     * @param templateType Template type of the notification.
+     */
+    void recordNotification(String tenantDomain, String channel, String templateType);
+
+    /**
+     * Record a notification that failed to be delivered.
+     *
+     * @param tenantDomain Tenant domain of the notification.
+     * @param channel      Notification channel.
+     * @param errorCode    Error code of the failure, e.g. one of the output adapter error codes.
+     */
+    void recordFailure(String tenantDomain, String channel, String errorCode);
+
+    /**
+     * Record a notification that was throttled.
+     *
+     * @param tenantDomain Tenant domain of the notification.
+     * @param channel      Notification channel.
+     */
+    void recordThrottle(String tenantDomain, String channel);
+}
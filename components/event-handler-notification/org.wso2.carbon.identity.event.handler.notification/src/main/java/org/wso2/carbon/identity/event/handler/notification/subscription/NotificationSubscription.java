@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.subscription;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Immutable view of the subscription properties of a notification handler for an event, as defined in the
+ * identity-event configuration. The properties are read once so that handling an event does not scan the whole
+ * property set again.
+ * <p>
+ * A subscription property is named {@code <handler name>.subscription.<event name>.<attribute>}, where the attribute
+ * is one of the following.
+ * <ul>
+ *     <li>{@code stream} - ID of the stream the notification is published to.</li>
+ *     <li>{@code notification_template} - Type of the notification template.</li>
+ *     <li>{@code claim.<key>} - Claim URI whose value is added to the notification data as {@code key}.</li>
+ *     <li>Any other attribute, which is added to the notification data with the property value.</li>
+ * </ul>
+ */
+public final class NotificationSubscription {
+
+    private static final String SUBSCRIPTION = ".subscription.";
+    private static final String STREAM_DEFINITION_ID = "stream";
+    private static final String NOTIFICATION_TEMPLATE_TYPE = "notification_template";
+    private static final String CLAIM = "claim";
+
+    private final String streamDefinitionId;
+    private final String notificationTemplateType;
+    private final Map<String, String> claimMappings;
+    private final Map<String, String> staticData;
+
+    private NotificationSubscription(String streamDefinitionId, String notificationTemplateType,
+                                     Map<String, String> claimMappings, Map<String, String> staticData) {
+
+        this.streamDefinitionId = streamDefinitionId;
+        this.notificationTemplateType = notificationTemplateType;
+        this.claimMappings = Collections.unmodifiableMap(claimMappings);
+        this.staticData = Collections.unmodifiableMap(staticData);
+    }
+
+    /**
+     * Build the notification subscription of the handler for the event from the subscription properties.
+     *
+     * @param handlerName            Name of the notification handler.
+     * @param eventName              Name of the event.
+     * @param subscriptionProperties Subscription properties of the event.
+     * @return Notification subscription.
+     */
+    public static NotificationSubscription build(String handlerName, String eventName,
+                                                 Properties subscriptionProperties) {
+
+        String keyPrefix = handlerName + SUBSCRIPTION + eventName;
+        String streamIdKey = keyPrefix + "." + STREAM_DEFINITION_ID;
+        String templateTypeKey = keyPrefix + "." + NOTIFICATION_TEMPLATE_TYPE;
+        String claimKeyPrefix = keyPrefix + "." + CLAIM;
+
+        Map<String, String> claimMappings = new HashMap<>();
+        Map<String, String> staticData = new HashMap<>();
+        if (subscriptionProperties == null) {
+            return new NotificationSubscription(null, null, claimMappings, staticData);
+        }
+        for (Map.Entry<Object, Object> property : subscriptionProperties.entrySet()) {
+            String key = (String) property.getKey();
+            String value = (String) property.getValue();
+            if (key.startsWith(claimKeyPrefix)) {
+                if (key.length() > claimKeyPrefix.length()) {
+                    claimMappings.put(key.substring(claimKeyPrefix.length() + 1), value);
+                }
+            } else if (!key.equalsIgnoreCase(streamIdKey) && !key.equalsIgnoreCase(templateTypeKey)
+                    && key.length() > keyPrefix.length()) {
+                staticData.put(key.substring(keyPrefix.length() + 1), value);
+            }
+        }
+        return new NotificationSubscription(subscriptionProperties.getProperty(streamIdKey),
+                subscriptionProperties.getProperty(templateTypeKey), claimMappings, staticData);
+    }
+
+    /**
+     * Get the ID of the stream the notification is published to.
+     *
+     * @return Stream definition ID, or null if it is not configured.
+     */
+    public String getStreamDefinitionId() {
+
+        return streamDefinitionId;
+    }
+
+    /**
+     * Get the type of the notification template.
+     *
+     * @return Notification template type, or null if it is not configured.
+     */
+    public String getNotificationTemplateType() {
+
+        return notificationTemplateType;
+    }
+
+    /**
+     * Get the claim URIs whose values are added to the notification data, by the notification data key.
+     *
+     * @return Unmodifiable map of claim mappings.
+     */
+    public Map<String, String> getClaimMappings() {
+
+        return claimMappings;
+    }
+
+    /**
+     * Get the static data added to the notification data.
+     *
+     * @return Unmodifiable map of static data.
+     */
+    public Map<String, String> getStaticData() {
+
+        return staticData;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.template;
+
+import org.wso2.carbon.identity.event.handler.notification.NotificationConstants.PushNotificationPlaceholder;
+import org.wso2.carbon.identity.event.handler.notification.NotificationConstants.PushNotificationTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compiled form of a {@link PushNotificationTemplate}. The push notification templates are constants, so all of them
+ * are compiled once when the class is loaded and looked up by the notification scenario.
+ */
+public final class CompiledPushNotificationTemplate {
+
+    private static final Map<String, PushNotificationPlaceholder> PLACEHOLDERS_BY_NAME;
+    private static final Map<String, CompiledPushNotificationTemplate> TEMPLATES_BY_SCENARIO;
+
+    static {
+        Map<String, PushNotificationPlaceholder> placeholdersByName = new HashMap<>();
+        for (PushNotificationPlaceholder placeholder : PushNotificationPlaceholder.values()) {
+            placeholdersByName.put(placeholder.getPlaceholder(), placeholder);
+        }
+        PLACEHOLDERS_BY_NAME = Collections.unmodifiableMap(placeholdersByName);
+
+        Map<String, CompiledPushNotificationTemplate> templatesByScenario = new HashMap<>();
+        for (PushNotificationTemplate template : PushNotificationTemplate.values()) {
+            // Keep the first template of a scenario, the same way a scenario was resolved before.
+            templatesByScenario.putIfAbsent(template.getScenario(), new CompiledPushNotificationTemplate(template));
+        }
+        TEMPLATES_BY_SCENARIO = Collections.unmodifiableMap(templatesByScenario);
+    }
+
+    private final CompiledTemplate title;
+    private final CompiledTemplate body;
+    private final List<PushNotificationPlaceholder> placeholders;
+    private final String invalidPlaceholder;
+
+    private CompiledPushNotificationTemplate(PushNotificationTemplate template) {
+
+        this.title = TemplateCompiler.parse(template.getTitle());
+        this.body = TemplateCompiler.parse(template.getBody());
+
+        Set<String> placeholderNames = new LinkedHashSet<>(title.getPlaceholderNames());
+        placeholderNames.addAll(body.getPlaceholderNames());
+        List<PushNotificationPlaceholder> templatePlaceholders = new ArrayList<>(placeholderNames.size());
+        String invalid = null;
+        for (String placeholderName : placeholderNames) {
+            PushNotificationPlaceholder placeholder = PLACEHOLDERS_BY_NAME.get(placeholderName);
+            if (placeholder == null) {
+                invalid = invalid == null ? placeholderName : invalid;
+            } else {
+                templatePlaceholders.add(placeholder);
+            }
+        }
+        this.placeholders = Collections.unmodifiableList(templatePlaceholders);
+        this.invalidPlaceholder = invalid;
+    }
+
+    /**
+     * Get the compiled push notification template of the scenario.
+     *
+     * @param scenario Push notification scenario.
+     * @return Compiled push notification template, or null if there is no template for the scenario.
+     */
+    public static CompiledPushNotificationTemplate forScenario(String scenario) {
+
+        return scenario == null ? null : TEMPLATES_BY_SCENARIO.get(scenario);
+    }
+
+    /**
+     * Get the placeholders used in the title and the body of the template, in the order they first appear.
+     *
+     * @return Unmodifiable list of placeholders.
+     */
+    public List<PushNotificationPlaceholder> getPlaceholders() {
+
+        return placeholders;
+    }
+
+    /**
+     * Get the first placeholder of the template that is not a {@link PushNotificationPlaceholder}.
+     *
+     * @return Invalid placeholder name, or null if all the placeholders of the template are valid.
+     */
+    public String getInvalidPlaceholder() {
+
+        return invalidPlaceholder;
+    }
+
+    /**
+     * Render the title of the template.
+     *
+     * @param placeholderValues Placeholder values.
+     * @return Rendered title.
+     */
+    public String renderTitle(Map<String, String> placeholderValues) {
+
+        return title.render(placeholderValues);
+    }
+
+    /**
+     * Render the body of the template.
+     *
+     * @param placeholderValues Placeholder values.
+     * @return Rendered body.
+     */
+    public String renderBody(Map<String, String> placeholderValues) {
+
+        return body.render(placeholderValues);
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.template;
+
+import org.wso2.carbon.identity.event.handler.notification.exception.NotificationRuntimeException;
+
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable, pre-parsed form of a notification template. The template content is split once into literal text and
+ * placeholder segments so that rendering is a single pass over the segments instead of a regex scan per placeholder.
+ */
+public final class CompiledTemplate {
+
+    private static final String ENCODING_UTF_8 = "UTF-8";
+
+    private final Segment[] segments;
+    private final Set<String> placeholderNames;
+    private final String[] valueKeys;
+    private final int literalLength;
+
+    CompiledTemplate(List<Segment> segments) {
+
+        this.segments = segments.toArray(new Segment[0]);
+        Set<String> names = new LinkedHashSet<>();
+        Set<String> keys = new LinkedHashSet<>();
+        int length = 0;
+        for (Segment segment : this.segments) {
+            if (segment.type == SegmentType.LITERAL) {
+                length += segment.text.length();
+            } else {
+                names.add(segment.name);
+                keys.add(segment.key);
+                keys.add(segment.name);
+            }
+        }
+        this.placeholderNames = Collections.unmodifiableSet(names);
+        this.valueKeys = keys.toArray(new String[0]);
+        this.literalLength = length;
+    }
+
+    /**
+     * Get the names of the placeholders in the template, in the order they first appear. URL placeholders are
+     * returned with their {@code url:} prefix, the same way they are written in the template.
+     *
+     * @return Unmodifiable set of placeholder names.
+     */
+    public Set<String> getPlaceholderNames() {
+
+        return placeholderNames;
+    }
+
+    /**
+     * Get the keys of the placeholder values read when the template is rendered. The rendered content only depends
+     * on the values of these keys.
+     *
+     * @return Placeholder value keys. The returned array must not be modified.
+     */
+    String[] getValueKeys() {
+
+        return valueKeys;
+    }
+
+    /**
+     * Get the total length of the literal text in the template.
+     *
+     * @return Literal text length.
+     */
+    public int getLiteralLength() {
+
+        return literalLength;
+    }
+
+    /**
+     * Render the template with the given placeholder values. Placeholders without a value are kept as they are in
+     * the template. {@code {{url:key}}} placeholders are replaced with the URL encoded value of {@code key}.
+     *
+     * @param placeholderValues Placeholder values.
+     * @return Rendered content.
+     */
+    public String render(Map<String, String> placeholderValues) {
+
+        String[] resolved = new String[segments.length];
+        int length = 0;
+        for (int i = 0; i < segments.length; i++) {
+            resolved[i] = segments[i].resolve(placeholderValues);
+            length += resolved[i].length();
+        }
+        StringBuilder content = new StringBuilder(length);
+        for (String value : resolved) {
+            content.append(value);
+        }
+        return content.toString();
+    }
+
+    /**
+     * Render the template with the given placeholder values directly into a sink, e.g. a {@link java.io.Writer} of
+     * the output adapter, without materializing the rendered content. Placeholders are resolved the same way as in
+     * {@link #render(Map)}.
+     *
+     * @param sink              Sink the rendered content is appended to.
+     * @param placeholderValues Placeholder values.
+     * @throws IOException If the sink fails to append the content.
+     */
+    public void renderTo(Appendable sink, Map<String, String> placeholderValues) throws IOException {
+
+        for (Segment segment : segments) {
+            sink.append(segment.resolve(placeholderValues));
+        }
+    }
+
+    /**
+     * Types of the segments a template is split into.
+     */
+    enum SegmentType {
+
+        LITERAL,
+        PLACEHOLDER,
+        URL_PLACEHOLDER
+    }
+
+    /**
+     * A single segment of a compiled template.
+     */
+    static final class Segment {
+
+        private final SegmentType type;
+        // Literal text for literal segments and the raw placeholder text, e.g. {{url:user-name}}, otherwise.
+        private final String text;
+        // Placeholder name as written in the template, e.g. url:user-name.
+        private final String name;
+        // Key used to look up the value, e.g. user-name.
+        private final String key;
+
+        private Segment(SegmentType type, String text, String name, String key) {
+
+            this.type = type;
+            this.text = text;
+            this.name = name;
+            this.key = key;
+        }
+
+        static Segment literal(String text) {
+
+            return new Segment(SegmentType.LITERAL, text, null, null);
+        }
+
+        static Segment placeholder(String text, String name) {
+
+            return new Segment(SegmentType.PLACEHOLDER, text, name, name);
+        }
+
+        static Segment urlPlaceholder(String text, String name, String key) {
+
+            return new Segment(SegmentType.URL_PLACEHOLDER, text, name, key);
+        }
+
+        SegmentType getType() {
+
+            return type;
+        }
+
+        String getText() {
+
+            return text;
+        }
+
+        String getName() {
+
+            return name;
+        }
+
+        String getKey() {
+
+            return key;
+        }
+
+        String resolve(Map<String, String> placeholderValues) {
+
+            if (type == SegmentType.LITERAL) {
+                return text;
+            }
+            if (type == SegmentType.URL_PLACEHOLDER) {
+                String value = placeholderValues.get(key);
+                if (value != null) {
+                    try {
+                        // In email templates the placeholders in a URL, are defined in the format of {{url:key}} -
+                        // eg:{{url:user-name}}, So that the values should be URL Encoded.
+                        return URLEncoder.encode(value, ENCODING_UTF_8);
+                    } catch (UnsupportedEncodingException e) {
+                        throw NotificationRuntimeException.error(e.getMessage(), e);
+                    }
+                }
+            }
+            String value = placeholderValues.get(name);
+            return value != null ? value : text;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.template;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Lazily rendered view of a notification template. Only the placeholder values read by the template are kept, and
+ * the content is rendered when it is first requested as a string, or streamed into a sink without materializing it.
+ */
+public final class LazyRenderedContent {
+
+    private final CompiledTemplate compiledTemplate;
+    private final Map<String, String> placeholderValues;
+    private volatile String rendered;
+
+    private LazyRenderedContent(CompiledTemplate compiledTemplate, Map<String, String> placeholderValues) {
+
+        this.compiledTemplate = compiledTemplate;
+        this.placeholderValues = placeholderValues;
+    }
+
+    /**
+     * Create a lazily rendered view of the given template content. The placeholder values read by the template are
+     * copied, so later changes to the given values do not change the rendered content.
+     *
+     * @param content           Template content.
+     * @param placeholderValues Placeholder values.
+     * @return Lazily rendered view, or null if the content is null.
+     */
+    public static LazyRenderedContent of(String content, Map<String, String> placeholderValues) {
+
+        CompiledTemplate compiledTemplate = TemplateCompiler.compile(content);
+        if (compiledTemplate == null) {
+            return null;
+        }
+        String[] valueKeys = compiledTemplate.getValueKeys();
+        Map<String, String> values = new HashMap<>((int) (valueKeys.length / 0.75f) + 1);
+        for (String valueKey : valueKeys) {
+            String value = placeholderValues.get(valueKey);
+            if (value != null) {
+                values.put(valueKey, value);
+            }
+        }
+        return new LazyRenderedContent(compiledTemplate, values);
+    }
+
+    /**
+     * Stream the rendered content into a sink. The content is appended as is if it was already rendered.
+     *
+     * @param sink Sink the rendered content is appended to.
+     * @throws IOException If the sink fails to append the content.
+     */
+    public void writeTo(Appendable sink) throws IOException {
+
+        String renderedContent = rendered;
+        if (renderedContent != null) {
+            sink.append(renderedContent);
+        } else {
+            compiledTemplate.renderTo(sink, placeholderValues);
+        }
+    }
+
+    /**
+     * Get the rendered content. The content is rendered on the first call and kept for the later calls.
+     *
+     * @return Rendered content.
+     */
+    public String render() {
+
+        String renderedContent = rendered;
+        if (renderedContent == null) {
+            renderedContent = compiledTemplate.render(placeholderValues);
+            rendered = renderedContent;
+        }
+        return renderedContent;
+    }
+
+    @Override
+    public String toString() {
+
+        return render();
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.template;
+
+import org.wso2.carbon.identity.event.handler.notification.NotificationConstants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Deduplicated and classified set of the placeholders used in an email template. The classification is done once
+ * per template so that resolving placeholder values for an email does not repeat the prefix checks.
+ */
+public final class PlaceholderIndex {
+
+    private static final Set<String> BRANDING_PLACEHOLDERS = new HashSet<>(Arrays.asList(
+            "organization.logo.img",
+            "organization.logo.altText",
+            NotificationConstants.EmailNotification.ORGANIZATION_COPYRIGHT_PLACEHOLDER,
+            "organization.support.mail",
+            NotificationConstants.EmailNotification.ORGANIZATION_NAME_PLACEHOLDER,
+            "organization.color.primary",
+            "organization.color.background",
+            "organization.font",
+            "organization.font.color",
+            "organization.button.font.color",
+            "organization.theme.background.color",
+            "organization.theme.border.color"));
+
+    private final List<Placeholder> placeholders;
+    private final Set<String> placeholderNames;
+    private final Set<String> claimUris;
+    private final boolean brandingPlaceholderPresent;
+
+    PlaceholderIndex(Collection<String> placeholderNames) {
+
+        List<Placeholder> classified = new ArrayList<>(placeholderNames.size());
+        Set<String> uris = new LinkedHashSet<>();
+        boolean branding = false;
+        for (String name : new LinkedHashSet<>(placeholderNames)) {
+            Placeholder placeholder = new Placeholder(name);
+            classified.add(placeholder);
+            if (placeholder.claimUri != null) {
+                uris.add(placeholder.claimUri);
+            }
+            branding |= placeholder.branding;
+        }
+        this.placeholders = Collections.unmodifiableList(classified);
+        this.placeholderNames = Collections.unmodifiableSet(new HashSet<>(placeholderNames));
+        this.claimUris = Collections.unmodifiableSet(uris);
+        this.brandingPlaceholderPresent = branding;
+    }
+
+    /**
+     * Get the classified placeholders of the template.
+     *
+     * @return Unmodifiable list of placeholders.
+     */
+    public List<Placeholder> getPlaceholders() {
+
+        return placeholders;
+    }
+
+    /**
+     * Check whether the template uses the given placeholder.
+     *
+     * @param placeholderName Placeholder name.
+     * @return True if the placeholder is present.
+     */
+    public boolean isPlaceholderPresent(String placeholderName) {
+
+        return placeholderNames.contains(placeholderName);
+    }
+
+    /**
+     * Get the URIs of the user and identity claims referred by the template placeholders.
+     *
+     * @return Unmodifiable set of claim URIs.
+     */
+    public Set<String> getClaimUris() {
+
+        return claimUris;
+    }
+
+    /**
+     * Check whether the template has any placeholder resolved from the branding preferences.
+     *
+     * @return True if a branding placeholder is present.
+     */
+    public boolean isBrandingPlaceholderPresent() {
+
+        return brandingPlaceholderPresent;
+    }
+
+    /**
+     * A template placeholder together with the sources its value is resolved from. A placeholder can belong to more
+     * than one source, in which case the sources are applied in the order config file, branding, claims, UTM.
+     */
+    public static final class Placeholder {
+
+        private final String name;
+        private final String configFileKey;
+        private final boolean branding;
+        private final boolean identityClaim;
+        private final String claimUri;
+        private final boolean utmParameters;
+
+        private Placeholder(String name) {
+
+            this.name = name;
+            this.configFileKey = name.startsWith(NotificationConstants.EmailNotification.IDENTITY_TEMPLATE_VALUE_PREFIX)
+                    ? name.substring(name.lastIndexOf(".") + 1) : null;
+            this.branding = BRANDING_PLACEHOLDERS.contains(name);
+            this.identityClaim = name.contains(NotificationConstants.EmailNotification.USER_CLAIM_PREFIX + "."
+                    + NotificationConstants.EmailNotification.IDENTITY_CLAIM_PREFIX);
+            if (identityClaim) {
+                this.claimUri = NotificationConstants.EmailNotification.WSO2_CLAIM_URI
+                        + NotificationConstants.EmailNotification.IDENTITY_CLAIM_PREFIX + "/"
+                        + name.substring(name.indexOf(".", name.indexOf("identity")) + 1);
+            } else if (name.contains(NotificationConstants.EmailNotification.USER_CLAIM_PREFIX)) {
+                this.claimUri = NotificationConstants.EmailNotification.WSO2_CLAIM_URI
+                        + name.substring(name.indexOf(".", name.indexOf("claim")) + 1);
+            } else {
+                this.claimUri = null;
+            }
+            this.utmParameters = NotificationConstants.EmailNotification.UTM_PARAMETERS_PLACEHOLDER.equals(name);
+        }
+
+        public String getName() {
+
+            return name;
+        }
+
+        /**
+         * Get the key of the identity.xml placeholder value, if the placeholder is a config file placeholder.
+         *
+         * @return Config file key or null.
+         */
+        public String getConfigFileKey() {
+
+            return configFileKey;
+        }
+
+        public boolean isBranding() {
+
+            return branding;
+        }
+
+        public boolean isIdentityClaim() {
+
+            return identityClaim;
+        }
+
+        /**
+         * Get the URI of the user or identity claim, if the placeholder is a claim placeholder.
+         *
+         * @return Claim URI or null.
+         */
+        public String getClaimUri() {
+
+            return claimUri;
+        }
+
+        public boolean isUtmParameters() {
+
+            return utmParameters;
+        }    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.template;
+
+import org.wso2.carbon.email.mgt.cache.BoundedConcurrentCache;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compiles notification template content into {@link CompiledTemplate} instances and keeps the compiled form of the
+ * most recently used templates in memory.
+ * <p>
+ * Compiled templates and placeholder indexes are keyed by the template content itself, so an updated template is
+ * compiled again on first use and the stale entry ages out of the cache.
+ */
+public final class TemplateCompiler {
+
+    private static final String PLACEHOLDER_START = "{{";
+    private static final String PLACEHOLDER_END = "}}";
+    private static final String URL_PLACEHOLDER_PREFIX = "url:";
+    private static final int MAX_COMPILED_TEMPLATES = 1024;
+
+    private static final BoundedConcurrentCache<String, CompiledTemplate> compiledTemplates =
+            new BoundedConcurrentCache<>(MAX_COMPILED_TEMPLATES);
+    private static final BoundedConcurrentCache<List<String>, PlaceholderIndex> placeholderIndexes =
+            new BoundedConcurrentCache<>(MAX_COMPILED_TEMPLATES);
+
+    private TemplateCompiler() {
+
+    }
+
+    /**
+     * Get the compiled form of the given template content, compiling it if it is not already cached.
+     *
+     * @param content Template content.
+     * @return Compiled template, or null if the content is null.
+     */
+    public static CompiledTemplate compile(String content) {
+
+        if (content == null) {
+            return null;
+        }
+        CompiledTemplate compiledTemplate = compiledTemplates.get(content);
+        if (compiledTemplate == null) {
+            compiledTemplate = parse(content);
+            compiledTemplates.put(content, compiledTemplate);
+        }
+        return compiledTemplate;
+    }
+
+    /**
+     * Render the given template content with the given placeholder values.
+     *
+     * @param content           Template content.
+     * @param placeholderValues Placeholder values.
+     * @return Rendered content, or null if the content is null.
+     */
+    public static String render(String content, Map<String, String> placeholderValues) {
+
+        CompiledTemplate compiledTemplate = compile(content);
+        return compiledTemplate != null ? compiledTemplate.render(placeholderValues) : null;
+    }
+
+    /**
+     * Render the given template content with the given placeholder values directly into a sink. Nothing is appended
+     * if the content is null.
+     *
+     * @param content           Template content.
+     * @param placeholderValues Placeholder values.
+     * @param sink              Sink the rendered content is appended to.
+     * @throws IOException If the sink fails to append the content.
+     */
+    public static void renderTo(String content, Map<String, String> placeholderValues, Appendable sink)
+            throws IOException {
+
+        CompiledTemplate compiledTemplate = compile(content);
+        if (compiledTemplate != null) {
+            compiledTemplate.renderTo(sink, placeholderValues);
+        }
+    }
+
+    /**
+     * Get the classified placeholders used across the given template contents, e.g. the body, subject and footer of
+     * an email template. Null or empty contents are ignored.
+     *
+     * @param contents Template contents.
+     * @return Placeholder index.
+     */
+    public static PlaceholderIndex indexPlaceholders(String... contents) {
+
+        List<String> key = Arrays.asList(contents);
+        PlaceholderIndex placeholderIndex = placeholderIndexes.get(key);
+        if (placeholderIndex == null) {
+            Set<String> placeholderNames = new LinkedHashSet<>();
+            for (String content : contents) {
+                if (content != null && !content.isEmpty()) {
+                    placeholderNames.addAll(compile(content).getPlaceholderNames());
+                }
+            }
+            placeholderIndex = new PlaceholderIndex(placeholderNames);
+            placeholderIndexes.put(key, placeholderIndex);
+        }
+        return placeholderIndex;
+    }
+
+    /**
+     * Remove all the compiled templates and placeholder indexes from the cache.
+     */
+    public static void clearCache() {
+
+        compiledTemplates.clear();
+        placeholderIndexes.clear();
+    }
+
+    /**
+     * Split the template content into literal and placeholder segments.
+     *
+     * @param content Template content.
+     * @return Compiled template.
+     */
+    static CompiledTemplate parse(String content) {
+
+        List<CompiledTemplate.Segment> segments = new ArrayList<>();
+        int literalStart = 0;
+        int index = 0;
+        while (index < content.length()) {
+            int start = content.indexOf(PLACEHOLDER_START, index);
+            if (start < 0) {
+                break;
+            }
+            int end = content.indexOf(PLACEHOLDER_END, start + PLACEHOLDER_START.length());
+            if (end < 0) {
+                break;
+            }
+            // Use the opening braces closest to the closing braces, so that content such as {{{key}}} or
+            // {{ {{key}} resolves the same placeholder a {{key}} pattern match would.
+            start = content.lastIndexOf(PLACEHOLDER_START, end - PLACEHOLDER_START.length());
+            String name = content.substring(start + PLACEHOLDER_START.length(), end);
+            index = end + PLACEHOLDER_END.length();
+            if (!isValidPlaceholderName(name)) {
+                continue;
+            }
+            if (start > literalStart) {
+                segments.add(CompiledTemplate.Segment.literal(content.substring(literalStart, start)));
+            }
+            String text = content.substring(start, index);
+            if (name.startsWith(URL_PLACEHOLDER_PREFIX) && name.length() > URL_PLACEHOLDER_PREFIX.length()) {
+                segments.add(CompiledTemplate.Segment.urlPlaceholder(text, name,
+                        name.substring(URL_PLACEHOLDER_PREFIX.length())));
+            } else {
+                segments.add(CompiledTemplate.Segment.placeholder(text, name));
+            }
+            literalStart = index;
+        }
+        if (literalStart < content.length()) {
+            segments.add(CompiledTemplate.Segment.literal(content.substring(literalStart)));
+        }
+        return new CompiledTemplate(segments);
+    }
+
+    private static boolean isValidPlaceholderName(String name) {
+
+        if (name.isEmpty()) {
+            return false;
+        }
+        // Placeholder names do not span lines.
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
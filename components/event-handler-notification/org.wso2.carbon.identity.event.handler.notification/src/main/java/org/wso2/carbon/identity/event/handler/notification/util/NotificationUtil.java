@@ -24,11 +24,14 @@ import org.apache.axiom.om.OMElement;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.databridge.commons.StreamDefinition;
 import org.wso2.carbon.databridge.commons.exception.MalformedStreamDefinitionException;
+import org.wso2.carbon.email.mgt.cache.OrganizationResolutionCache;
 import org.wso2.carbon.email.mgt.constants.I18nMgtConstants;
 import org.wso2.carbon.email.mgt.exceptions.I18nEmailMgtException;
 import org.wso2.carbon.email.mgt.model.EmailTemplate;
+import org.wso2.carbon.email.mgt.model.ResolvedEmailTemplate;
 import org.wso2.carbon.email.mgt.util.I18nEmailUtil;
 import org.wso2.carbon.event.publisher.core.EventPublisherService;
 import org.wso2.carbon.event.publisher.core.config.EventPublisherConfiguration;
@@ -46,6 +49,7 @@ import org.wso2.carbon.identity.branding.preference.management.core.model.Brandi
 import org.wso2.carbon.identity.branding.preference.management.core.model.CustomText;
 import org.wso2.carbon.identity.branding.preference.management.core.util.BrandingPreferenceMgtUtils;
 import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
+import org.wso2.carbon.identity.core.ServiceURL;
 import org.wso2.carbon.identity.core.ServiceURLBuilder;
 import org.wso2.carbon.identity.core.URLBuilderException;
 import org.wso2.carbon.identity.core.context.model.Flow;
@@ -56,9 +60,24 @@ import org.wso2.carbon.identity.event.IdentityEventConstants;
 import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.notification.NotificationConstants;
+import org.wso2.carbon.identity.event.handler.notification.NotificationConstants.BrandingPreferenceCacheConfig;
+import org.wso2.carbon.identity.event.handler.notification.cache.BrandingPreferenceCache;
+import org.wso2.carbon.identity.event.handler.notification.cache.BrandingPreferenceCacheEntry;
+import org.wso2.carbon.identity.event.handler.notification.cache.BrandingPreferenceCacheKey;
+import org.wso2.carbon.identity.event.handler.notification.cache.ServiceURLCache;
+import org.wso2.carbon.identity.event.handler.notification.cache.TemplateClaimUriCache;
+import org.wso2.carbon.identity.event.handler.notification.cache.UserStoreManagerCache;
+import org.wso2.carbon.identity.event.handler.notification.dispatch.NotificationDispatcher;
 import org.wso2.carbon.identity.event.handler.notification.email.bean.Notification;
 import org.wso2.carbon.identity.event.handler.notification.exception.NotificationRuntimeException;
+import org.wso2.carbon.identity.event.handler.notification.internal.NotificationConfigSnapshot;
 import org.wso2.carbon.identity.event.handler.notification.internal.NotificationHandlerDataHolder;
+import org.wso2.carbon.identity.event.handler.notification.limiter.AdaptiveConcurrencyLimiter;
+import org.wso2.carbon.identity.event.handler.notification.lookup.ParallelLookupExecutor;
+import org.wso2.carbon.identity.event.handler.notification.metrics.NotificationMetrics;
+import org.wso2.carbon.identity.event.handler.notification.metrics.NotificationStage;
+import org.wso2.carbon.identity.event.handler.notification.template.PlaceholderIndex;
+import org.wso2.carbon.identity.event.handler.notification.template.TemplateCompiler;
 import org.wso2.carbon.identity.governance.model.UserIdentityClaim;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementClientException;
@@ -71,20 +90,27 @@ import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.user.api.UserStoreManager;
 import org.wso2.carbon.user.core.UserCoreConstants;
 import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
+import org.wso2.carbon.user.core.model.UserClaimSearchEntry;
 import org.wso2.carbon.user.core.service.RealmService;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -118,8 +144,10 @@ public class NotificationUtil {
     private static final Log log = LogFactory.getLog(NotificationUtil.class);
 
     private static final String USER_IDENTITY_CLAIMS = "UserIdentityClaims";
-    private static final String SERVICE_PROVIDER_NAME = "serviceProviderName";
-    private static final String SERVICE_PROVIDER_UUID = "serviceProviderUUID";
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\{\\{(.*?)\\}\\}");
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    public static final String SERVICE_PROVIDER_NAME = "serviceProviderName";
+    public static final String SERVICE_PROVIDER_UUID = "serviceProviderUUID";
     public static final String CALLER_PATH_PLACEHOLDER = "caller.path";
     public static final String MAGIC_LINK = "magicLink";
     public static final String CALLBACK_URL = "callbackUrl";
@@ -137,41 +165,209 @@ public class NotificationUtil {
                     claimsMap.put(userClaim.getClaimUri(), userClaim.getValue());
                 }
             }
-            UserIdentityClaim userIdentityClaims =
-                    (UserIdentityClaim) IdentityUtil.threadLocalProperties.get().get(USER_IDENTITY_CLAIMS);
-            Map<String, String> userIdentityDataMap;
-            if (userIdentityClaims == null) {
-                userIdentityDataMap = new HashMap<>();
-            } else {
-                userIdentityDataMap = userIdentityClaims.getUserIdentityDataMap();
-            }
-            for (String key : userIdentityDataMap.keySet()) {
-                if (!claimsMap.containsKey(key)) {
-                    claimsMap.put(key, userIdentityDataMap.get(key));
+            addThreadLocalIdentityClaims(claimsMap);
+        } catch (UserStoreException e) {
+            logUserClaimRetrievalError(userName, userStoreManager, e);
+        }
+
+        return claimsMap;
+    }
+
+    /**
+     * Get the values of the given claims of a user, instead of the whole default profile.
+     *
+     * @param userName         Username.
+     * @param userStoreManager User store manager of the user.
+     * @param claimUris        URIs of the claims to be retrieved.
+     * @return Map of claim URIs and values. Claims without a value are not included.
+     */
+    public static Map<String, String> getUserClaimValues(String userName, UserStoreManager userStoreManager,
+                                                         Collection<String> claimUris) {
+
+        Map<String, String> claimsMap = new HashMap<>();
+        try {
+            if (!claimUris.isEmpty()) {
+                Map<String, String> userClaims = userStoreManager.getUserClaimValues(userName,
+                        claimUris.toArray(new String[0]), UserCoreConstants.DEFAULT_PROFILE);
+                if (userClaims != null) {
+                    claimsMap.putAll(userClaims);
                 }
             }
+            addThreadLocalIdentityClaims(claimsMap);
         } catch (UserStoreException e) {
-            String domainNameProperty = getUserStoreDomainName(userStoreManager);
-            String message = null;
-            if (StringUtils.isNotBlank(domainNameProperty)) {
-                message = "Error occurred while retrieving user claim values for user " + LoggerUtils.getMaskedContent(userName) + " in user store "
-                        + domainNameProperty + " in tenant " + getTenantDomain(userStoreManager);
-            } else {
-                message = "Error occurred while retrieving user claim values for user " + LoggerUtils.getMaskedContent(userName) + " in tenant "
-                        + getTenantDomain(userStoreManager);
+            logUserClaimRetrievalError(userName, userStoreManager, e);
+        }
+        return claimsMap;
+    }
+
+    /**
+     * Get the values of the given claims of a set of users with as few user store calls as the user store allows,
+     * e.g. to send the same notification to many users. Unlike the single user variants, identity claims kept in the
+     * thread local properties are not added, since they belong to a single user.
+     *
+     * @param userNames        Usernames of the users in the user store.
+     * @param userStoreManager User store manager of the users.
+     * @param claimUris        URIs of the claims to be retrieved.
+     * @return Map of usernames and their claim values.
+     */
+    public static Map<String, Map<String, String>> getUserClaimValues(List<String> userNames,
+                                                                      UserStoreManager userStoreManager,
+                                                                      Collection<String> claimUris) {
+
+        Map<String, Map<String, String>> usersClaims = new HashMap<>();
+        if (userNames.isEmpty() || claimUris.isEmpty()) {
+            for (String userName : userNames) {
+                usersClaims.put(userName, new HashMap<>());
             }
-            log.error(message, e);
+            return usersClaims;
         }
+        String[] claims = claimUris.toArray(new String[0]);
+        if (userStoreManager instanceof AbstractUserStoreManager) {
+            try {
+                UserClaimSearchEntry[] searchEntries = ((AbstractUserStoreManager) userStoreManager)
+                        .getUsersClaimValues(userNames.toArray(new String[0]), claims,
+                                UserCoreConstants.DEFAULT_PROFILE);
+                if (searchEntries != null) {
+                    for (UserClaimSearchEntry searchEntry : searchEntries) {
+                        Map<String, String> userClaims = new HashMap<>();
+                        if (searchEntry.getClaims() != null) {
+                            userClaims.putAll(searchEntry.getClaims());
+                        }
+                        usersClaims.put(searchEntry.getUserName(), userClaims);
+                    }
+                }
+            } catch (UserStoreException e) {
+                log.error("Error occurred while retrieving claim values of " + userNames.size() + " users in tenant "
+                        + getTenantDomain(userStoreManager), e);
+            }
+        }
+        for (String userName : userNames) {
+            if (!usersClaims.containsKey(userName)) {
+                Map<String, String> userClaims = new HashMap<>();
+                try {
+                    Map<String, String> claimValues = userStoreManager.getUserClaimValues(userName, claims,
+                            UserCoreConstants.DEFAULT_PROFILE);
+                    if (claimValues != null) {
+                        userClaims.putAll(claimValues);
+                    }
+                } catch (UserStoreException e) {
+                    logUserClaimRetrievalError(userName, userStoreManager, e);
+                }
+                usersClaims.put(userName, userClaims);
+            }
+        }
+        return usersClaims;
+    }
 
-        return claimsMap;
+    /**
+     * Fetch the claims of the users of a batch of notification events with one bulk read per user store, instead of
+     * one read per event. Claims are only prefetched when claim projection is enabled and the claims of the template
+     * type are known, since the bulk read needs the claim URIs, and only for the events whose claims
+     * {@link #buildNotification(Event, Map, Map)} reads from the user store.
+     *
+     * @param events Notification events.
+     * @return Claims of the users by event. Events whose claims are not prefetched are not included.
+     */
+    public static Map<Event, Map<String, String>> prefetchUserClaimValues(List<Event> events) {
+
+        Map<Event, Map<String, String>> eventClaims = new IdentityHashMap<>();
+        if (!getNotificationConfigs().isClaimProjectionEnabled()) {
+            return eventClaims;
+        }
+        // Events are grouped by the user store manager and the projected claims of their template type.
+        Map<List<Object>, List<Event>> eventGroups = new LinkedHashMap<>();
+        for (Event event : events) {
+            Map<String, Object> eventProperties = event.getEventProperties();
+            if (isFederatedUserWithClaims(eventProperties)
+                    || REGISTRATION_FLOW.equals(eventProperties.get(FLOW_TYPE))) {
+                continue;
+            }
+            UserStoreManager userStoreManager;
+            try {
+                userStoreManager = getClaimUserStoreManager(eventProperties);
+            } catch (IdentityEventException e) {
+                // The error is reported when the notification of the event is built.
+                continue;
+            }
+            if (userStoreManager == null) {
+                continue;
+            }
+            Set<String> projectedClaimUris = getProjectedClaimUris(
+                    (String) eventProperties.get(IdentityEventConstants.EventProperty.TENANT_DOMAIN),
+                    (String) eventProperties.get(NotificationConstants.EmailNotification.EMAIL_TEMPLATE_TYPE));
+            if (projectedClaimUris == null) {
+                continue;
+            }
+            eventGroups.computeIfAbsent(Arrays.asList(userStoreManager, projectedClaimUris),
+                    key -> new ArrayList<>()).add(event);
+        }
+        for (Map.Entry<List<Object>, List<Event>> eventGroup : eventGroups.entrySet()) {
+            UserStoreManager userStoreManager = (UserStoreManager) eventGroup.getKey().get(0);
+            @SuppressWarnings("unchecked")
+            Set<String> claimUris = (Set<String>) eventGroup.getKey().get(1);
+            List<String> userNames = new ArrayList<>();
+            for (Event event : eventGroup.getValue()) {
+                String userName = (String) event.getEventProperties()
+                        .get(IdentityEventConstants.EventProperty.USER_NAME);
+                if (!userNames.contains(userName)) {
+                    userNames.add(userName);
+                }
+            }
+            long claimFetchStartTime = NotificationMetrics.startTimer();
+            Map<String, Map<String, String>> usersClaims = getUserClaimValues(userNames, userStoreManager, claimUris);
+            NotificationMetrics.recordStage(NotificationStage.CLAIM_FETCH, claimFetchStartTime);
+            for (Event event : eventGroup.getValue()) {
+                Map<String, String> userClaims = usersClaims.get(
+                        (String) event.getEventProperties().get(IdentityEventConstants.EventProperty.USER_NAME));
+                if (userClaims != null) {
+                    eventClaims.put(event, userClaims);
+                }
+            }
+        }
+        return eventClaims;
     }
 
     public static Map<String, String> getUserClaimValues(String userName, String domainName, String tenantDomain)
             throws IdentityEventException {
 
-        RealmService realmService = NotificationHandlerDataHolder.getInstance().getRealmService();
+        return getUserClaimValues(userName, getUserStoreManager(domainName, tenantDomain));
+    }
+
+    /**
+     * Get the values of the given claims of a user in the given user store domain and tenant.
+     *
+     * @param userName     Username.
+     * @param domainName   User store domain of the user.
+     * @param tenantDomain Tenant domain of the user.
+     * @param claimUris    URIs of the claims to be retrieved.
+     * @return Map of claim URIs and values.
+     * @throws IdentityEventException If the user store manager could not be resolved.
+     */
+    public static Map<String, String> getUserClaimValues(String userName, String domainName, String tenantDomain,
+                                                         Collection<String> claimUris) throws IdentityEventException {
+
+        return getUserClaimValues(userName, getUserStoreManager(domainName, tenantDomain), claimUris);
+    }
+
+    /**
+     * Get the user store manager of a user store domain of a tenant. The resolved user store managers are cached
+     * for a short time, since resolving the tenant realm and the secondary user store manager on every notification
+     * is redundant.
+     *
+     * @param domainName   User store domain.
+     * @param tenantDomain Tenant domain.
+     * @return User store manager.
+     * @throws IdentityEventException If the user store manager could not be resolved.
+     */
+    private static UserStoreManager getUserStoreManager(String domainName, String tenantDomain)
+            throws IdentityEventException {
+
         int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
-        UserStoreManager userStoreManager = null;
+        UserStoreManager userStoreManager = UserStoreManagerCache.getInstance().getValueFromCache(tenantId, domainName);
+        if (userStoreManager != null) {
+            return userStoreManager;
+        }
+        RealmService realmService = NotificationHandlerDataHolder.getInstance().getRealmService();
         try {
             userStoreManager = realmService.getTenantUserRealm(tenantId).getUserStoreManager();
             if (userStoreManager == null) {
@@ -181,11 +377,90 @@ public class NotificationUtil {
                 userStoreManager = ((AbstractUserStoreManager) userStoreManager).getSecondaryUserStoreManager(domainName);
             }
         } catch (UserStoreException e) {
-            String message = "Error occurred while retrieving user claim values for user " + userName + " in user " +
-                    "store " + domainName + " in tenant " + tenantDomain;
+            String message = "Error occurred while retrieving user store manager of user store " + domainName
+                    + " in tenant " + tenantDomain;
             throw new IdentityEventException(message, e);
         }
-        return getUserClaimValues(userName, userStoreManager);
+        if (userStoreManager != null) {
+            UserStoreManagerCache.getInstance().addToCache(tenantId, domainName, userStoreManager);
+        }
+        return userStoreManager;
+    }
+
+    /**
+     * Remove the cached user store managers of a tenant.
+     *
+     * @param tenantId Tenant ID.
+     */
+    public static void clearUserStoreManagerCache(int tenantId) {
+
+        UserStoreManagerCache.getInstance().clear(tenantId);
+    }
+
+    /**
+     * Drop the sync email notification concurrency limit of a tenant, if the concurrency limit is enabled.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public static void clearSyncNotificationLimit(String tenantDomain) {
+
+        AdaptiveConcurrencyLimiter limiter = NotificationHandlerDataHolder.getInstance().getSyncNotificationLimiter();
+        if (limiter != null) {
+            limiter.removeTenant(tenantDomain);
+        }
+    }
+
+    /**
+     * Drop the asynchronous notification dispatch queue of a tenant, if asynchronous dispatch is enabled and the
+     * queue has no notifications left to dispatch.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public static void clearNotificationDispatchQueue(String tenantDomain) {
+
+        NotificationDispatcher notificationDispatcher =
+                NotificationHandlerDataHolder.getInstance().getNotificationDispatcher();
+        if (notificationDispatcher != null) {
+            notificationDispatcher.removeTenantQueue(tenantDomain);
+        }
+    }
+
+    /**
+     * Remove the cached organization IDs, organization names and primary tenant domains of all the tenants.
+     */
+    public static void clearOrganizationResolutionCache() {
+
+        OrganizationResolutionCache.getInstance().clear();
+    }
+
+    private static void addThreadLocalIdentityClaims(Map<String, String> claimsMap) {
+
+        UserIdentityClaim userIdentityClaims =
+                (UserIdentityClaim) IdentityUtil.threadLocalProperties.get().get(USER_IDENTITY_CLAIMS);
+        if (userIdentityClaims == null) {
+            return;
+        }
+        Map<String, String> userIdentityDataMap = userIdentityClaims.getUserIdentityDataMap();
+        for (String key : userIdentityDataMap.keySet()) {
+            if (!claimsMap.containsKey(key)) {
+                claimsMap.put(key, userIdentityDataMap.get(key));
+            }
+        }
+    }
+
+    private static void logUserClaimRetrievalError(String userName, UserStoreManager userStoreManager,
+                                                   UserStoreException e) {
+
+        String domainNameProperty = getUserStoreDomainName(userStoreManager);
+        String message = null;
+        if (StringUtils.isNotBlank(domainNameProperty)) {
+            message = "Error occurred while retrieving user claim values for user " + LoggerUtils.getMaskedContent(userName) + " in user store "
+                    + domainNameProperty + " in tenant " + getTenantDomain(userStoreManager);
+        } else {
+            message = "Error occurred while retrieving user claim values for user " + LoggerUtils.getMaskedContent(userName) + " in tenant "
+                    + getTenantDomain(userStoreManager);
+        }
+        log.error(message, e);
     }
 
     /**
@@ -215,101 +490,53 @@ public class NotificationUtil {
                                                            Map<String, String> placeHolderData,
                                                            Map<String, String> userClaims, String applicationUuid) {
 
-        Map<String, String> configFilePlaceholders = getConfigFilePlaceholders();
+        return getPlaceholderValues(emailTemplate, placeHolderData, userClaims, applicationUuid, null);
+    }
 
-        JsonNode brandingPreferences = null;
-        Map<String, String> brandingFallbacks = getBrandingFallbacksFromConfigFile();
+    private static Map<String, String> getPlaceholderValues(EmailTemplate emailTemplate,
+                                                            Map<String, String> placeHolderData,
+                                                            Map<String, String> userClaims, String applicationUuid,
+                                                            CompletableFuture<JsonNode> brandingPreferencesLookup) {
 
-        BrandingPreferenceManager brandingPreferenceManager = null;
-        if (Boolean.parseBoolean(
-                IdentityUtil.getProperty(NotificationConstants.EmailNotification.ENABLE_ORGANIZATION_LEVEL_EMAIL_BRANDING))) {
-            try {
-                brandingPreferenceManager = new BrandingPreferenceManagerImpl();
-                BrandingPreference responseDTO;
-                if (StringUtils.isNotBlank(applicationUuid)) {
-                    responseDTO = brandingPreferenceManager.resolveApplicationBrandingPreference(applicationUuid,
-                            BrandingPreferenceMgtConstants.DEFAULT_LOCALE);
-                } else {
-                    responseDTO = brandingPreferenceManager.resolveBrandingPreference(
-                            BrandingPreferenceMgtConstants.ORGANIZATION_TYPE,
-                            placeHolderData.get(TENANT_DOMAIN),
-                            BrandingPreferenceMgtConstants.DEFAULT_LOCALE);
-                }
-                ObjectMapper objectMapper = new ObjectMapper();
-                String json = objectMapper.writeValueAsString(responseDTO.getPreference());
-                brandingPreferences = objectMapper.readTree(json);
-
-                if (!brandingPreferences.at(NotificationConstants.EmailNotification.BRANDING_PREFERENCES_IS_ENABLED_PATH)
-                        .asBoolean()) {
-                    brandingPreferences = null;
-                }
-            } catch (BrandingPreferenceMgtException e) {
-                if (BrandingPreferenceMgtConstants.ErrorMessages.ERROR_CODE_BRANDING_PREFERENCE_NOT_EXISTS.getCode()
-                        .equals(e.getErrorCode())) {
-                    brandingPreferences = null;
-                } else {
-                    if (log.isDebugEnabled()) {
-                        String message = "Error occurred while retrieving branding preferences for organization " + placeHolderData.get(TENANT_DOMAIN);
-                        log.debug(message, e);
-                    }
-                }
-            } catch (Exception e) {
-                if (log.isDebugEnabled()) {
-                    String message = "Error occurred while retrieving branding preferences for organization " + placeHolderData.get(TENANT_DOMAIN);
-                    log.debug(message, e);
-                }
-            }
+        NotificationConfigSnapshot notificationConfigs = getNotificationConfigs();
+        Map<String, String> configFilePlaceholders = notificationConfigs.getConfigFilePlaceholders();
+        Map<String, String> brandingFallbacks = notificationConfigs.getBrandingFallbacks();
+        boolean isOrganizationLevelBrandingEnabled = notificationConfigs.isOrganizationLevelEmailBrandingEnabled();
+        JsonNode brandingPreferences = null;
+        if (isOrganizationLevelBrandingEnabled) {
+            brandingPreferences = brandingPreferencesLookup != null
+                    ? awaitBrandingPreferences(brandingPreferencesLookup, placeHolderData.get(TENANT_DOMAIN))
+                    : resolveBrandingPreferences(placeHolderData.get(TENANT_DOMAIN), applicationUuid);
         }
 
-        // Having a body is mandatory.
-        List<String> placeHolders = new ArrayList<>(extractPlaceHolders(emailTemplate.getBody()));
-        if (StringUtils.isNotEmpty(emailTemplate.getSubject())) {
-            placeHolders.addAll(extractPlaceHolders(emailTemplate.getSubject()));
-        }
-        if (StringUtils.isNotEmpty(emailTemplate.getFooter())) {
-            placeHolders.addAll(extractPlaceHolders(emailTemplate.getFooter()));
-        }
-        Set<String> placeHoldersSet = new HashSet<>(placeHolders);
+        PlaceholderIndex placeholderIndex = TemplateCompiler.indexPlaceholders(emailTemplate.getBody(),
+                emailTemplate.getSubject(), emailTemplate.getFooter());
 
-        for (String placeHolder : placeHoldersSet) {
+        for (PlaceholderIndex.Placeholder placeholder : placeholderIndex.getPlaceholders()) {
+            String placeHolder = placeholder.getName();
             // Setting config file place holders.
-            if (placeHolder.startsWith(NotificationConstants.EmailNotification.IDENTITY_TEMPLATE_VALUE_PREFIX)) {
-                String key = placeHolder.substring(placeHolder.lastIndexOf(".") + 1);
-                String value = configFilePlaceholders.getOrDefault(key, "");
+            if (placeholder.getConfigFileKey() != null) {
+                String value = configFilePlaceholders.getOrDefault(placeholder.getConfigFileKey(), "");
                 placeHolderData.put(placeHolder, value);
             }
 
             // Setting branding placeholders.
-            String brandingValue = getBrandingPreference(placeHolder, brandingPreferences, brandingFallbacks);
-            if (brandingValue != null) {
-                placeHolderData.put(placeHolder, brandingValue);
-            }
-
-            if (userClaims != null && !userClaims.isEmpty()) {
-                if (placeHolder.contains(NotificationConstants.EmailNotification.USER_CLAIM_PREFIX + "."
-                        + NotificationConstants.EmailNotification.IDENTITY_CLAIM_PREFIX)) {
-                    String identityClaim = userClaims.get(NotificationConstants.EmailNotification.WSO2_CLAIM_URI
-                            + NotificationConstants.EmailNotification.IDENTITY_CLAIM_PREFIX + "/" + placeHolder
-                            .substring(placeHolder.indexOf(".", placeHolder.indexOf("identity")) + 1));
-                    if (StringUtils.isNotEmpty(identityClaim)) {
-                        placeHolderData.put(placeHolder, identityClaim);
-                    } else {
-                        placeHolderData.put(placeHolder, "");
-                    }
-                } else if (placeHolder.contains(NotificationConstants.EmailNotification.USER_CLAIM_PREFIX)) {
-                    String userClaim = userClaims
-                            .get(NotificationConstants.EmailNotification.WSO2_CLAIM_URI + placeHolder
-                                    .substring(placeHolder.indexOf(".", placeHolder.indexOf("claim")) + 1));
-                    if (StringUtils.isNotEmpty(userClaim)) {
-                        placeHolderData.put(placeHolder, userClaim);
-                    } else {
-                        if (placeHolderData.get(placeHolder) == null) {
-                            placeHolderData.put(placeHolder, "");
-                        }
-                    }
+            if (placeholder.isBranding()) {
+                String brandingValue = getBrandingPreference(placeHolder, brandingPreferences, brandingFallbacks);
+                if (brandingValue != null) {
+                    placeHolderData.put(placeHolder, brandingValue);
+                }
+            }
+
+            if (placeholder.getClaimUri() != null && userClaims != null && !userClaims.isEmpty()) {
+                String claimValue = userClaims.get(placeholder.getClaimUri());
+                if (StringUtils.isNotEmpty(claimValue)) {
+                    placeHolderData.put(placeHolder, claimValue);
+                } else if (placeholder.isIdentityClaim() || placeHolderData.get(placeHolder) == null) {
+                    placeHolderData.put(placeHolder, "");
                 }
             }
-            if (placeHolder.equals(NotificationConstants.EmailNotification.UTM_PARAMETERS_PLACEHOLDER)) {
+            if (placeholder.isUtmParameters()) {
                 // Generate a single query param string with all UTM parameters
                 StringBuilder utmParamStringBuilder = new StringBuilder();
                 for (Map.Entry<String, String> entry : placeHolderData.entrySet()) {
@@ -341,30 +568,16 @@ public class NotificationUtil {
             }
         }
 
-        // Building the server url.
-        String serverURL;
-        String carbonUrlWithUserTenant;
-        String accountRecoveryEndpointURL = ConfigurationFacade.getInstance().getAccountRecoveryEndpointAbsolutePath();
-        String authenticationEndpointURL = ConfigurationFacade.getInstance().getAuthenticationEndpointAbsoluteURL();
-        try {
-            serverURL = ServiceURLBuilder.create().build().getAbsolutePublicURL();
-            carbonUrlWithUserTenant = ServiceURLBuilder.create().build().getAbsolutePublicUrlWithoutPath();
-
-            if (IdentityTenantUtil.isTenantQualifiedUrlsEnabled() &&
-                    (isSuperTenantRequiredInUrl()
-                            || !SUPER_TENANT_DOMAIN_NAME.equalsIgnoreCase(placeHolderData.get(TENANT_DOMAIN)))) {
-                // If tenant domain is carbon.super, and super tenant is not required in the URL,
-                // then the tenant domain should not be appended.
-                carbonUrlWithUserTenant = ServiceURLBuilder.create().build().getAbsolutePublicUrlWithoutPath() + "/t" +
-                        "/" + placeHolderData.get(TENANT_DOMAIN);
-            }
-        } catch (URLBuilderException e) {
-            throw NotificationRuntimeException.error("Error while building the server url.", e);
-        }
+        ServiceURLCache.ServiceURLs serviceURLs = getServiceURLs(placeHolderData.get(TENANT_DOMAIN));
+        String serverURL = serviceURLs.getServerURL();
+        String carbonUrlWithUserTenant = serviceURLs.getCarbonUrlWithUserTenant();
+        String accountRecoveryEndpointURL = serviceURLs.getAccountRecoveryEndpointURL();
+        String authenticationEndpointURL = serviceURLs.getAuthenticationEndpointURL();
 
         String flowType = placeHolderData.get(FLOW_TYPE);
         if (Flow.Name.INVITED_USER_REGISTRATION.toString().equalsIgnoreCase(flowType)) {
-            if (brandingPreferenceManager != null) {
+            if (isOrganizationLevelBrandingEnabled) {
+                BrandingPreferenceManager brandingPreferenceManager = new BrandingPreferenceManagerImpl();
                 try {
                     placeHolderData.put(ACCOUNT_RECOVERY_ENDPOINT_PLACEHOLDER, BrandingPreferenceMgtUtils.
                             buildConfiguredPortalURL(null, placeHolderData.get(TENANT_DOMAIN),
@@ -399,6 +612,59 @@ public class NotificationUtil {
         return placeHolderData;
     }
 
+    /**
+     * Get the server URLs used in email placeholders for the given user tenant. The URLs are built once per tenant
+     * and organization context and cached, as requests served in an organization build organization qualified URLs.
+     *
+     * @param userTenantDomain Tenant domain of the notification recipient.
+     * @return Server URLs.
+     */
+    private static ServiceURLCache.ServiceURLs getServiceURLs(String userTenantDomain) {
+
+        String contextTenantDomain = IdentityTenantUtil.getTenantDomainFromContext();
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        String contextOrganizationId = carbonContext.getOrganizationId();
+        String residentOrganizationId = carbonContext.getApplicationResidentOrganizationId();
+        ServiceURLCache.ServiceURLs serviceURLs = ServiceURLCache.getInstance().getValueFromCache(contextTenantDomain,
+                userTenantDomain, contextOrganizationId, residentOrganizationId);
+        if (serviceURLs != null) {
+            return serviceURLs;
+        }
+
+        // Building the server url.
+        String serverURL;
+        String carbonUrlWithUserTenant;
+        String accountRecoveryEndpointURL = ConfigurationFacade.getInstance().getAccountRecoveryEndpointAbsolutePath();
+        String authenticationEndpointURL = ConfigurationFacade.getInstance().getAuthenticationEndpointAbsoluteURL();
+        try {
+            ServiceURL serviceURL = ServiceURLBuilder.create().build();
+            serverURL = serviceURL.getAbsolutePublicURL();
+            carbonUrlWithUserTenant = serviceURL.getAbsolutePublicUrlWithoutPath();
+
+            if (IdentityTenantUtil.isTenantQualifiedUrlsEnabled() &&
+                    (isSuperTenantRequiredInUrl() || !SUPER_TENANT_DOMAIN_NAME.equalsIgnoreCase(userTenantDomain))) {
+                // If tenant domain is carbon.super, and super tenant is not required in the URL,
+                // then the tenant domain should not be appended.
+                carbonUrlWithUserTenant = carbonUrlWithUserTenant + "/t" + "/" + userTenantDomain;
+            }
+        } catch (URLBuilderException e) {
+            throw NotificationRuntimeException.error("Error while building the server url.", e);
+        }
+        serviceURLs = new ServiceURLCache.ServiceURLs(serverURL, carbonUrlWithUserTenant,
+                accountRecoveryEndpointURL, authenticationEndpointURL);
+        ServiceURLCache.getInstance().addToCache(contextTenantDomain, userTenantDomain, contextOrganizationId,
+                residentOrganizationId, serviceURLs);
+        return serviceURLs;
+    }
+
+    /**
+     * Clear the server URLs cached for email placeholders.
+     */
+    public static void clearServiceURLCache() {
+
+        ServiceURLCache.getInstance().clear();
+    }
+
     /**
      * Return copyright placeholder value for email templates from custom text preferences.
      *
@@ -408,36 +674,155 @@ public class NotificationUtil {
      */
     public static String getCopyrightPlaceholderValueFromCustomTexts(String tenantDomain, String locale) {
 
-        if (!Boolean.parseBoolean(IdentityUtil.getProperty(
-                NotificationConstants.EmailNotification.ENABLE_ORGANIZATION_LEVEL_EMAIL_BRANDING))) {
+        if (!getNotificationConfigs().isOrganizationLevelEmailBrandingEnabled()) {
             return null;
         }
 
-        JsonNode customTextPreference = null;
+        JsonNode customTextPreference = getCustomTextPreferences(tenantDomain, locale);
+        if (customTextPreference != null) {
+            String copyrightValue = customTextPreference.at(CUSTOM_TEXT_COPYRIGHT_PATH).asText();
+            if (StringUtils.isNotBlank(copyrightValue)) {
+                // Replace {{currentYear}} with current year to change the copyright year in the email templates.
+                String currentYear = String.valueOf(Calendar.getInstance().get(Calendar.YEAR));
+                copyrightValue = copyrightValue.replace(CUSTOM_TEXT_COPYRIGHT_YEAR_KEY, (currentYear));
+                // Replace "\n" with Html new line character "<br>".
+                return copyrightValue.replace(NEW_LINE_CHARACTER_STRING, NEW_LINE_CHARACTER_HTML);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Wait for the parallel lookup of the branding preferences. The lookup itself never fails, as its errors are
+     * handled in the lookup, so if it does not complete in time it is cancelled and the default branding is used,
+     * the same as when the preferences cannot be resolved. Resolving them again in this thread would only make the
+     * build wait for the same slow branding preference store a second time.
+     *
+     * @param brandingPreferencesLookup Branding preferences lookup.
+     * @param tenantDomain              Tenant domain.
+     * @return Branding preferences, or null if branding is not configured, not enabled or not resolved in time.
+     */
+    private static JsonNode awaitBrandingPreferences(CompletableFuture<JsonNode> brandingPreferencesLookup,
+                                                     String tenantDomain) {
+
         try {
-            BrandingPreferenceManager brandingPreferenceManager = new BrandingPreferenceManagerImpl();
-            CustomText responseDTO = brandingPreferenceManager.resolveCustomText(
-                    BrandingPreferenceMgtConstants.ORGANIZATION_TYPE, tenantDomain, CUSTOM_TEXT_COMMON_SCREEN, locale);
-
-            ObjectMapper objectMapper = new ObjectMapper();
-            String json = objectMapper.writeValueAsString(responseDTO.getPreference());
-            customTextPreference = objectMapper.readTree(json);
-        } catch (BrandingPreferenceMgtException e) {
-            if (BrandingPreferenceMgtConstants.ErrorMessages.ERROR_CODE_CUSTOM_TEXT_PREFERENCE_NOT_EXISTS.getCode()
-                    .equals(e.getErrorCode())) {
+            return ParallelLookupExecutor.await(brandingPreferencesLookup);
+        } catch (Exception e) {
+            brandingPreferencesLookup.cancel(true);
+            if (log.isDebugEnabled()) {
+                log.debug("Branding preferences lookup of tenant: " + tenantDomain + " did not complete. "
+                        + "Using the default branding.", e);
+            }
+            return null;
+        }
+    }
+
+    private static JsonNode resolveBrandingPreferences(String tenantDomain, String applicationUuid) {
+
+        long brandingStartTime = NotificationMetrics.startTimer();
+        JsonNode brandingPreferences = getBrandingPreferences(tenantDomain, applicationUuid);
+        NotificationMetrics.recordStage(NotificationStage.BRANDING_RESOLUTION, brandingStartTime);
+        return brandingPreferences;
+    }
+
+    /**
+     * Resolve the organization or application branding preferences of the tenant. The parsed preferences, or the
+     * absence of them, are cached per tenant, application and locale until they change or expire.
+     *
+     * @param tenantDomain    Tenant domain.
+     * @param applicationUuid Application UUID. Organization branding is resolved if this is blank.
+     * @return Branding preferences, or null if branding is not configured or not enabled.
+     */
+    private static JsonNode getBrandingPreferences(String tenantDomain, String applicationUuid) {
+
+        String appUuid = StringUtils.isNotBlank(applicationUuid) ? applicationUuid : null;
+        BrandingPreferenceCacheKey cacheKey = new BrandingPreferenceCacheKey(
+                BrandingPreferenceCacheKey.BRANDING_PREFERENCE, appUuid, BrandingPreferenceMgtConstants.DEFAULT_LOCALE);
+        try {
+            int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+            BrandingPreferenceCacheEntry cacheEntry = BrandingPreferenceCache.getInstance()
+                    .getValueFromCache(cacheKey, tenantId);
+            if (cacheEntry != null && !cacheEntry.isExpired()) {
+                return cacheEntry.getPreference();
+            }
+
+            JsonNode brandingPreferences = null;
+            try {
+                BrandingPreferenceManager brandingPreferenceManager = new BrandingPreferenceManagerImpl();
+                BrandingPreference responseDTO;
+                if (appUuid != null) {
+                    responseDTO = brandingPreferenceManager.resolveApplicationBrandingPreference(appUuid,
+                            BrandingPreferenceMgtConstants.DEFAULT_LOCALE);
+                } else {
+                    responseDTO = brandingPreferenceManager.resolveBrandingPreference(
+                            BrandingPreferenceMgtConstants.ORGANIZATION_TYPE, tenantDomain,
+                            BrandingPreferenceMgtConstants.DEFAULT_LOCALE);
+                }
+                brandingPreferences = OBJECT_MAPPER.valueToTree(responseDTO.getPreference());
+                if (brandingPreferences != null && !brandingPreferences.at(NotificationConstants.EmailNotification.BRANDING_PREFERENCES_IS_ENABLED_PATH)
+                        .asBoolean()) {
+                    brandingPreferences = null;
+                }
+            } catch (BrandingPreferenceMgtException e) {
+                if (!BrandingPreferenceMgtConstants.ErrorMessages.ERROR_CODE_BRANDING_PREFERENCE_NOT_EXISTS.getCode()
+                        .equals(e.getErrorCode())) {
+                    throw e;
+                }
+                // A missing preference is cached as well, as most tenants do not configure branding.
+            }
+            BrandingPreferenceCache.getInstance().addToCache(cacheKey, new BrandingPreferenceCacheEntry(
+                    brandingPreferences, getNotificationConfigs().getBrandingPreferenceCacheTimeToLive()), tenantId);
+            return brandingPreferences;
+        } catch (Exception e) {
+            if (log.isDebugEnabled()) {
+                String message = "Error occurred while retrieving branding preferences for organization " + tenantDomain;
+                log.debug(message, e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Resolve the organization custom text preferences of the common screen. The parsed preferences, or the absence of
+     * them, are cached per tenant and locale until they change or expire.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param locale       Locale of the custom text.
+     * @return Custom text preferences, or null if custom text is not configured.
+     */
+    private static JsonNode getCustomTextPreferences(String tenantDomain, String locale) {
+
+        BrandingPreferenceCacheKey cacheKey = new BrandingPreferenceCacheKey(
+                BrandingPreferenceCacheKey.CUSTOM_TEXT_PREFERENCE, null, locale);
+        try {
+            int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+            BrandingPreferenceCacheEntry cacheEntry = BrandingPreferenceCache.getInstance()
+                    .getValueFromCache(cacheKey, tenantId);
+            if (cacheEntry != null && !cacheEntry.isExpired()) {
+                return cacheEntry.getPreference();
+            }
+
+            JsonNode customTextPreference = null;
+            try {
+                BrandingPreferenceManager brandingPreferenceManager = new BrandingPreferenceManagerImpl();
+                CustomText responseDTO = brandingPreferenceManager.resolveCustomText(
+                        BrandingPreferenceMgtConstants.ORGANIZATION_TYPE, tenantDomain, CUSTOM_TEXT_COMMON_SCREEN,
+                        locale);
+                customTextPreference = OBJECT_MAPPER.valueToTree(responseDTO.getPreference());
+            } catch (BrandingPreferenceMgtException e) {
+                if (!BrandingPreferenceMgtConstants.ErrorMessages.ERROR_CODE_CUSTOM_TEXT_PREFERENCE_NOT_EXISTS.getCode()
+                        .equals(e.getErrorCode())) {
+                    throw e;
+                }
                 if (log.isDebugEnabled()) {
                     String message = "Custom text preferences are not configured for the organization: "
                             + tenantDomain + " with locale: " + locale;
                     log.debug(message, e);
                 }
-                customTextPreference = null;
-            } else {
-                if (log.isDebugEnabled()) {
-                    String message = "Error occurred while retrieving custom text preferences for organization "
-                            + tenantDomain;
-                    log.debug(message, e);
-                }
             }
+            BrandingPreferenceCache.getInstance().addToCache(cacheKey, new BrandingPreferenceCacheEntry(
+                    customTextPreference, getNotificationConfigs().getBrandingPreferenceCacheTimeToLive()), tenantId);
+            return customTextPreference;
         } catch (Exception e) {
             if (log.isDebugEnabled()) {
                 String message = "Error occurred while retrieving custom text preferences for organization "
@@ -445,21 +830,106 @@ public class NotificationUtil {
                 log.debug(message, e);
             }
         }
+        return null;
+    }
 
-        if (customTextPreference != null) {
-            String copyrightValue = customTextPreference.at(CUSTOM_TEXT_COPYRIGHT_PATH).asText();
-            if (StringUtils.isNotBlank(copyrightValue)) {
-                // Replace {{currentYear}} with current year to change the copyright year in the email templates.
-                String currentYear = String.valueOf(Calendar.getInstance().get(Calendar.YEAR));
-                copyrightValue = copyrightValue.replace(CUSTOM_TEXT_COPYRIGHT_YEAR_KEY, (currentYear));
-                // Replace "\n" with Html new line character "<br>".
-                return copyrightValue.replace(NEW_LINE_CHARACTER_STRING, NEW_LINE_CHARACTER_HTML);
+    /**
+     * Clear the branding and custom text preferences cached for the tenant.
+     *
+     * @param tenantId Tenant ID.
+     */
+    public static void clearBrandingPreferenceCache(int tenantId) {
+
+        BrandingPreferenceCache.getInstance().clear(tenantId);
+    }
+
+    /**
+     * Retrieve the email template placeholder values configured in identity.xml.
+     *
+     * @return Unmodifiable map of config file placeholder values.
+     */
+    public static Map<String, String> getConfigFilePlaceholders() {
+
+        return getNotificationConfigs().getConfigFilePlaceholders();
+    }
+
+    /**
+     * Check whether the raw template subject, body and footer are left out of the published notification event.
+     * The rendered subject, body and footer are always published, so the template copies are only needed by output
+     * adapters that render the notification themselves.
+     *
+     * @return True if the template content is not added to the published notification event.
+     */
+    public static boolean isTemplateContentOmittedInEvent() {
+
+        return getNotificationConfigs().isTemplateContentOmitted();
+    }
+
+    /**
+     * Read identity.xml again and replace the notification configuration snapshot used while building
+     * notifications.
+     */
+    public static void reloadNotificationConfigs() {
+
+        NotificationHandlerDataHolder.getInstance().setNotificationConfigSnapshot(loadNotificationConfigs());
+        if (log.isDebugEnabled()) {
+            log.debug("Loaded the notification configurations from identity.xml.");
+        }
+    }
+
+    /**
+     * Get the notification configuration snapshot. The configurations are read from identity.xml if the snapshot is
+     * not loaded yet.
+     *
+     * @return Notification configuration snapshot.
+     */
+    private static NotificationConfigSnapshot getNotificationConfigs() {
+
+        NotificationHandlerDataHolder dataHolder = NotificationHandlerDataHolder.getInstance();
+        NotificationConfigSnapshot notificationConfigs =
+                dataHolder != null ? dataHolder.getNotificationConfigSnapshot() : null;
+        if (notificationConfigs == null) {
+            notificationConfigs = loadNotificationConfigs();
+        }
+        return notificationConfigs;
+    }
+
+    private static NotificationConfigSnapshot loadNotificationConfigs() {
+
+        return new NotificationConfigSnapshot.Builder()
+                .configFilePlaceholders(readConfigFilePlaceholders())
+                .brandingFallbacks(readBrandingFallbacksFromConfigFile())
+                .organizationLevelEmailBrandingEnabled(Boolean.parseBoolean(IdentityUtil.getProperty(
+                        NotificationConstants.EmailNotification.ENABLE_ORGANIZATION_LEVEL_EMAIL_BRANDING)))
+                .claimProjectionEnabled(Boolean.parseBoolean(IdentityUtil.getProperty(
+                        NotificationConstants.EmailNotification.ENABLE_CLAIM_PROJECTION)))
+                .templateContentOmitted(Boolean.parseBoolean(IdentityUtil.getProperty(
+                        NotificationConstants.EmailNotification.OMIT_TEMPLATE_CONTENT_IN_EVENT)))
+                .lazyRenderingEnabled(Boolean.parseBoolean(IdentityUtil.getProperty(
+                        NotificationConstants.EmailNotification.ENABLE_LAZY_RENDERING)))
+                .brandingPreferenceCacheTimeToLive(readBrandingPreferenceCacheTimeToLive())
+                .build();
+    }
+
+    private static long readBrandingPreferenceCacheTimeToLive() {
+
+        String timeToLive = IdentityUtil.getProperty(BrandingPreferenceCacheConfig.TIME_TO_LIVE);
+        if (StringUtils.isNotBlank(timeToLive)) {
+            try {
+                long seconds = Long.parseLong(timeToLive.trim());
+                if (seconds >= 0) {
+                    return TimeUnit.SECONDS.toMillis(seconds);
+                }
+            } catch (NumberFormatException e) {
+                // Fall back to the default value below.
             }
+            log.warn("Invalid value: " + timeToLive + " for " + BrandingPreferenceCacheConfig.TIME_TO_LIVE +
+                    ". Using the default value: " + BrandingPreferenceCacheConfig.DEFAULT_TIME_TO_LIVE);
         }
-        return null;
+        return TimeUnit.SECONDS.toMillis(BrandingPreferenceCacheConfig.DEFAULT_TIME_TO_LIVE);
     }
 
-    public static Map<String, String> getConfigFilePlaceholders() {
+    private static Map<String, String> readConfigFilePlaceholders() {
 
         IdentityConfigParser configParser = IdentityConfigParser.getInstance();
         OMElement placeHolderElem = configParser.getConfigElement(
@@ -489,9 +959,7 @@ public class NotificationUtil {
 
     public static List<String> extractPlaceHolders(String value) {
 
-        String exp = "\\{\\{(.*?)\\}\\}";
-        Pattern pattern = Pattern.compile(exp);
-        Matcher matcher = pattern.matcher(value);
+        Matcher matcher = PLACEHOLDER_PATTERN.matcher(value);
         List<String> placeHolders = new ArrayList<>();
         while (matcher.find()) {
             String group = matcher.group().replace("{{", "").replace("}}", "");
@@ -554,6 +1022,11 @@ public class NotificationUtil {
      */
     public static Map<String, String> getBrandingFallbacksFromConfigFile() {
 
+        return getNotificationConfigs().getBrandingFallbacks();
+    }
+
+    private static Map<String, String> readBrandingFallbacksFromConfigFile() {
+
         IdentityConfigParser configParser = IdentityConfigParser.getInstance();
         OMElement fallbackElem = configParser.getConfigElement(
                 NotificationConstants.EmailNotification.ORGANIZATION_LEVEL_EMAIL_BRANDING_FALLBACKS_ELEM);
@@ -692,6 +1165,24 @@ public class NotificationUtil {
 
     public static Notification buildNotification(Event event, Map<String, String> placeHolderData)
             throws IdentityEventException, NotificationRuntimeException {
+
+        return buildNotification(event, placeHolderData, null);
+    }
+
+    /**
+     * Build the email notification of the event.
+     *
+     * @param event                Notification event.
+     * @param placeHolderData      Placeholder data of the event.
+     * @param prefetchedUserClaims Claims of the user fetched for a batch of events by
+     *                             {@link #prefetchUserClaimValues(List)}, or null to fetch the claims of the user.
+     * @return Notification.
+     * @throws IdentityEventException       If the notification could not be built.
+     * @throws NotificationRuntimeException If the notification could not be built.
+     */
+    public static Notification buildNotification(Event event, Map<String, String> placeHolderData,
+                                                 Map<String, String> prefetchedUserClaims)
+            throws IdentityEventException, NotificationRuntimeException {
         //send-to parameter will be set by the event senders. Here it is first read from the request parameter and
         //if it is not there, then assume this sent-to parameter should read from user's email claim only.
         String sendTo = placeHolderData.get(NotificationConstants.EmailNotification.ARBITRARY_SEND_TO);
@@ -701,30 +1192,64 @@ public class NotificationUtil {
         String notificationEvent = (String) eventProperties
                 .get(NotificationConstants.EmailNotification.EMAIL_TEMPLATE_TYPE);
         String username = (String) eventProperties.get(IdentityEventConstants.EventProperty.USER_NAME);
-        org.wso2.carbon.user.core.UserStoreManager userStoreManager = (org.wso2.carbon.user.core.UserStoreManager)
-                eventProperties.get(IdentityEventConstants.EventProperty.USER_STORE_MANAGER);
-        String userStoreDomainName = (String) eventProperties
-                .get(IdentityEventConstants.EventProperty.USER_STORE_DOMAIN);
         String tenantDomain = (String) eventProperties.get(IdentityEventConstants.EventProperty.TENANT_DOMAIN);
         String sendFrom = (String) eventProperties.get(NotificationConstants.EmailNotification.ARBITRARY_SEND_FROM);
         String appDomain = (String) eventProperties.get(IdentityEventConstants.EventProperty.APPLICATION_DOMAIN);
         String flowType = (String) eventProperties.get(FLOW_TYPE);
+        String applicationDomain = StringUtils.isNotBlank(appDomain) ? appDomain : tenantDomain;
+        UserStoreManager claimUserStoreManager = null;
+        boolean claimProjectionEnabled = false;
+        Set<String> projectedClaimUris = null;
+
+        // When parallel lookups are enabled, the lookups that do not depend on the user claims run on the lookup
+        // pool while the claims are fetched in this thread. Their results are only merged in this thread, in the
+        // same order as the sequential build, so the built notification is the same in both modes.
+        CompletableFuture<String> applicationUuidLookup = null;
+        CompletableFuture<JsonNode> brandingPreferencesLookup = null;
+        CompletableFuture<String> organizationNameLookup = null;
+        ParallelLookupExecutor lookupExecutor = NotificationHandlerDataHolder.getInstance()
+                .getParallelLookupExecutor();
+        if (lookupExecutor != null) {
+            if (eventProperties.get(SERVICE_PROVIDER_UUID) == null
+                    && eventProperties.get(SERVICE_PROVIDER_NAME) != null) {
+                applicationUuidLookup = lookupExecutor.submit(
+                        () -> resolveApplicationUuid(eventProperties, applicationDomain));
+            } else {
+                applicationUuidLookup = CompletableFuture.completedFuture(
+                        resolveApplicationUuid(eventProperties, applicationDomain));
+            }
+            if (getNotificationConfigs().isOrganizationLevelEmailBrandingEnabled()) {
+                String brandingTenantDomain = placeHolderData.get(TENANT_DOMAIN);
+                brandingPreferencesLookup = applicationUuidLookup.thenCompose(resolvedApplicationUuid ->
+                        lookupExecutor.submit(() -> resolveBrandingPreferences(brandingTenantDomain,
+                                resolvedApplicationUuid)));
+            }
+        }
 
         // If the user is federated, use the federated user claims provided in the event properties.
-        if (eventProperties.containsKey(NotificationConstants.IS_FEDERATED_USER) &&
-                (Boolean) eventProperties.get(NotificationConstants.IS_FEDERATED_USER) &&
-                eventProperties.containsKey(NotificationConstants.FEDERATED_USER_CLAIMS)) {
+        if (isFederatedUserWithClaims(eventProperties)) {
             Map<String, String> fedUserClaims = new HashMap<>();
             ((Map<ClaimMapping, String>) eventProperties.get(NotificationConstants.FEDERATED_USER_CLAIMS))
                     .forEach((claimMapping, value) ->
                             fedUserClaims.put(claimMapping.getLocalClaim().getClaimUri(), value));
             userClaims.putAll(fedUserClaims);
         } else if (!REGISTRATION_FLOW.equals(flowType)) {
-            if (StringUtils.isNotBlank(username) && userStoreManager != null) {
-                userClaims = NotificationUtil.getUserClaimValues(username, userStoreManager);
-            } else if (StringUtils.isNotBlank(username) && StringUtils.isNotBlank(userStoreDomainName) &&
-                    StringUtils.isNotBlank(tenantDomain)) {
-                userClaims = NotificationUtil.getUserClaimValues(username, userStoreDomainName, tenantDomain);
+            claimUserStoreManager = getClaimUserStoreManager(eventProperties);
+            if (claimUserStoreManager != null) {
+                claimProjectionEnabled = getNotificationConfigs().isClaimProjectionEnabled();
+                if (claimProjectionEnabled) {
+                    projectedClaimUris = getProjectedClaimUris(tenantDomain, notificationEvent);
+                }
+                if (prefetchedUserClaims != null) {
+                    userClaims = new HashMap<>(prefetchedUserClaims);
+                    addThreadLocalIdentityClaims(userClaims);
+                } else {
+                    long claimFetchStartTime = NotificationMetrics.startTimer();
+                    userClaims = projectedClaimUris != null
+                            ? getUserClaimValues(username, claimUserStoreManager, projectedClaimUris)
+                            : getUserClaimValues(username, claimUserStoreManager);
+                    NotificationMetrics.recordStage(NotificationStage.CLAIM_FETCH, claimFetchStartTime);
+                }
             }
         }
         String locale = getNotificationLocale();
@@ -755,41 +1280,26 @@ public class NotificationUtil {
 
         EmailTemplate emailTemplate;
         String applicationUuid = null;
-        String applicationName = null;
-        boolean emailTemplateExists = false;
+        long templateLookupStartTime = NotificationMetrics.startTimer();
         try {
-            String applicationDomain = StringUtils.isNotBlank(appDomain) ? appDomain : tenantDomain;
-
-            if (event.getEventProperties().get(SERVICE_PROVIDER_UUID) != null) {
-                applicationUuid = event.getEventProperties().get(SERVICE_PROVIDER_UUID).toString();
-            } else if (event.getEventProperties().get(SERVICE_PROVIDER_NAME) != null) {
-                applicationName = event.getEventProperties().get(SERVICE_PROVIDER_NAME).toString();
-                try {
-                    applicationUuid = NotificationHandlerDataHolder.getInstance().getApplicationManagementService()
-                            .getApplicationBasicInfoByName(applicationName, applicationDomain)
-                            .getApplicationResourceId();
-                } catch (IdentityApplicationManagementException | NullPointerException e) {
-                    log.debug("Fallback to organization preference. Error fetching application id for application name: " + applicationName, e);
-                }
-            } else {
-                log.debug("Fallback to organization preference. Cannot get application id or application name from the event");
-            }
-
-            emailTemplateExists = NotificationHandlerDataHolder.getInstance().getEmailTemplateManager()
-                    .isEmailTemplateExists(notificationEvent, locale, applicationDomain, applicationUuid);
-            if (emailTemplateExists) {
-                emailTemplate = NotificationHandlerDataHolder.getInstance().getEmailTemplateManager()
-                        .getEmailTemplate(notificationEvent, locale, applicationDomain, applicationUuid);
-            } else {
-                // Fallback to organization level email template if application level template is not found.
-                emailTemplate = NotificationHandlerDataHolder.getInstance().getEmailTemplateManager()
-                        .getEmailTemplate(notificationEvent, locale, applicationDomain);
+            applicationUuid = applicationUuidLookup != null ? awaitLookup(applicationUuidLookup)
+                    : resolveApplicationUuid(eventProperties, applicationDomain);
+
+            // Resolves the application, organization hierarchy and system default templates in a single pass.
+            ResolvedEmailTemplate resolvedEmailTemplate = NotificationHandlerDataHolder.getInstance()
+                    .getEmailTemplateManager()
+                    .resolveEmailTemplate(notificationEvent, locale, applicationDomain, applicationUuid);
+            emailTemplate = resolvedEmailTemplate.getEmailTemplate();
+            if (log.isDebugEnabled()) {
+                log.debug("Resolved email template for scenario: " + notificationEvent + " in locale: " +
+                        emailTemplate.getLocale() + " for tenant: " + tenantDomain + " from source: " +
+                        resolvedEmailTemplate.getSource() + ". Inherited: " + resolvedEmailTemplate.isInherited());
             }
         } catch (I18nEmailMgtException e) {
             if (log.isDebugEnabled()) {
                 log.debug("Error when retrieving email template for locale: " + locale + " for scenario: " +
-                        notificationEvent + " for tenant: " + tenantDomain + ". Email template exists: " +
-                        emailTemplateExists + ", appDomain: " + appDomain + ", applicationUuid: " + applicationUuid);
+                        notificationEvent + " for tenant: " + tenantDomain + ", appDomain: " + appDomain +
+                        ", applicationUuid: " + applicationUuid);
             }
             // If the email template is not found and the property IGNORE_IF_TEMPLATE_NOT_FOUND is set to true,
             // ignore the event.
@@ -806,17 +1316,40 @@ public class NotificationUtil {
             String message = "Error when retrieving template from tenant registry.";
             throw NotificationRuntimeException.error(message, e);
         }
+        NotificationMetrics.recordStage(NotificationStage.TEMPLATE_LOOKUP, templateLookupStartTime);
+
+        if (claimProjectionEnabled && emailTemplate != null) {
+            addMissingTemplateClaims(username, claimUserStoreManager, tenantDomain, notificationEvent, emailTemplate,
+                    projectedClaimUris, userClaims);
+        }
+
+        // The organization name is only looked up in parallel if the template uses it, and overlaps with the
+        // placeholder resolution. Otherwise it is resolved below in this thread, as in the sequential build.
+        if (lookupExecutor != null && emailTemplate != null
+                && StringUtils.isBlank(placeHolderData.get(ORGANIZATION_NAME_PLACEHOLDER))
+                && TemplateCompiler.indexPlaceholders(emailTemplate.getBody(), emailTemplate.getSubject(),
+                emailTemplate.getFooter()).isPlaceholderPresent(ORGANIZATION_NAME_PLACEHOLDER)) {
+            organizationNameLookup = lookupExecutor.submit(() -> resolveOrganizationName(tenantDomain));
+        }
 
         // This is added to change the copyright year in the email templates dynamically.
         int currentYear = Calendar.getInstance().get(Calendar.YEAR);
         placeHolderData.put("current-year", String.valueOf(currentYear));
 
-        NotificationUtil.getPlaceholderValues(emailTemplate, placeHolderData, userClaims, applicationUuid);
+        long placeholderStartTime = NotificationMetrics.startTimer();
+        if (brandingPreferencesLookup != null) {
+            getPlaceholderValues(emailTemplate, placeHolderData, userClaims, applicationUuid,
+                    brandingPreferencesLookup);
+        } else {
+            NotificationUtil.getPlaceholderValues(emailTemplate, placeHolderData, userClaims, applicationUuid);
+        }
+        NotificationMetrics.recordStage(NotificationStage.PLACEHOLDER_RESOLUTION, placeholderStartTime);
 
         if (StringUtils.isBlank(placeHolderData.get(ORGANIZATION_NAME_PLACEHOLDER))) {
             // If the organization display name is not configured with branding,
             // set "organization-name" placeholder to organization name.
-            String organizationName = resolveHumanReadableOrganizationName(tenantDomain);
+            String organizationName = organizationNameLookup != null ? awaitLookup(organizationNameLookup)
+                    : resolveOrganizationName(tenantDomain);
             placeHolderData.put(ORGANIZATION_NAME_PLACEHOLDER, organizationName);
         }
 
@@ -825,10 +1358,150 @@ public class NotificationUtil {
         builder.setSendFrom(sendFrom);
         builder.setTemplate(emailTemplate);
         builder.setPlaceHolderData(placeHolderData);
+        NotificationConfigSnapshot notificationConfigs = getNotificationConfigs();
+        builder.setLazyRendering(notificationConfigs.isLazyRenderingEnabled());
+        long renderStartTime = NotificationMetrics.startTimer();
         Notification emailNotification = builder.build();
+        NotificationMetrics.recordStage(NotificationStage.RENDER, renderStartTime);
         return emailNotification;
     }
 
+    /**
+     * Resolve the UUID of the application the notification is sent for, from the application UUID or the
+     * application name in the event properties.
+     *
+     * @param eventProperties   Event properties.
+     * @param applicationDomain Tenant domain of the application.
+     * @return Application UUID, or null to fall back to the organization preferences.
+     */
+    private static String resolveApplicationUuid(Map<String, Object> eventProperties, String applicationDomain) {
+
+        if (eventProperties.get(SERVICE_PROVIDER_UUID) != null) {
+            return eventProperties.get(SERVICE_PROVIDER_UUID).toString();
+        }
+        if (eventProperties.get(SERVICE_PROVIDER_NAME) == null) {
+            log.debug("Fallback to organization preference. Cannot get application id or application name from the event");
+            return null;
+        }
+        String applicationName = eventProperties.get(SERVICE_PROVIDER_NAME).toString();
+        try {
+            return NotificationHandlerDataHolder.getInstance().getApplicationManagementService()
+                    .getApplicationBasicInfoByName(applicationName, applicationDomain)
+                    .getApplicationResourceId();
+        } catch (IdentityApplicationManagementException | NullPointerException e) {
+            log.debug("Fallback to organization preference. Error fetching application id for application name: " + applicationName, e);
+        }
+        return null;
+    }
+
+    private static String resolveOrganizationName(String tenantDomain) throws IdentityEventException {
+
+        long organizationStartTime = NotificationMetrics.startTimer();
+        String organizationName = resolveHumanReadableOrganizationName(tenantDomain);
+        NotificationMetrics.recordStage(NotificationStage.ORGANIZATION_RESOLUTION, organizationStartTime);
+        return organizationName;
+    }
+
+    /**
+     * Wait for a parallel lookup of a notification build and get its result. Errors of the lookup are rethrown as
+     * they would be thrown by the sequential build.
+     *
+     * @param lookup Lookup future.
+     * @param <T>    Type of the lookup result.
+     * @return Lookup result.
+     * @throws IdentityEventException Error thrown by the lookup.
+     */
+    private static <T> T awaitLookup(CompletableFuture<T> lookup) throws IdentityEventException {
+
+        try {
+            return ParallelLookupExecutor.await(lookup);
+        } catch (IdentityEventException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IdentityEventException("Error while resolving the notification placeholder values.", e);
+        }
+    }
+
+    private static boolean isFederatedUserWithClaims(Map<String, Object> eventProperties) {
+
+        return eventProperties.containsKey(NotificationConstants.IS_FEDERATED_USER) &&
+                (Boolean) eventProperties.get(NotificationConstants.IS_FEDERATED_USER) &&
+                eventProperties.containsKey(NotificationConstants.FEDERATED_USER_CLAIMS);
+    }
+
+    /**
+     * Get the user store manager to read the claims of the user of the event from.
+     *
+     * @param eventProperties Event properties.
+     * @return User store manager, or null if the event does not identify a user in a user store.
+     * @throws IdentityEventException If the user store manager could not be resolved.
+     */
+    private static UserStoreManager getClaimUserStoreManager(Map<String, Object> eventProperties)
+            throws IdentityEventException {
+
+        String username = (String) eventProperties.get(IdentityEventConstants.EventProperty.USER_NAME);
+        org.wso2.carbon.user.core.UserStoreManager userStoreManager = (org.wso2.carbon.user.core.UserStoreManager)
+                eventProperties.get(IdentityEventConstants.EventProperty.USER_STORE_MANAGER);
+        String userStoreDomainName = (String) eventProperties
+                .get(IdentityEventConstants.EventProperty.USER_STORE_DOMAIN);
+        String tenantDomain = (String) eventProperties.get(IdentityEventConstants.EventProperty.TENANT_DOMAIN);
+        if (StringUtils.isNotBlank(username) && userStoreManager != null) {
+            return userStoreManager;
+        } else if (StringUtils.isNotBlank(username) && StringUtils.isNotBlank(userStoreDomainName) &&
+                StringUtils.isNotBlank(tenantDomain)) {
+            return getUserStoreManager(userStoreDomainName, tenantDomain);
+        }
+        return null;
+    }
+
+    /**
+     * Get the claim URIs to be fetched for a notification when claim projection is enabled. These are the claims
+     * referred by the templates of the template type, and the claims used to resolve the locale and the recipient.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param templateType Email template type.
+     * @return Claim URIs, or null if the claims of the template type are not known yet.
+     */
+    private static Set<String> getProjectedClaimUris(String tenantDomain, String templateType) {
+
+        Set<String> templateClaimUris = TemplateClaimUriCache.getInstance().getValueFromCache(tenantDomain,
+                templateType);
+        if (templateClaimUris == null) {
+            return null;
+        }
+        Set<String> claimUris = new HashSet<>(templateClaimUris);
+        claimUris.add(NotificationConstants.EmailNotification.CLAIM_URI_LOCALE);
+        claimUris.add(NotificationConstants.EmailNotification.CLAIM_URI_EMAIL);
+        claimUris.add(NotificationConstants.EmailNotification.OIDC_CLAIM_URI_EMAIL);
+        claimUris.add(NotificationConstants.SMSNotification.CLAIM_URI_MOBILE);
+        return claimUris;
+    }
+
+    /**
+     * Record the claims referred by the resolved template, and fetch the ones that were not part of the projected
+     * claims, e.g. because the template was updated or a locale specific template refers an additional claim.
+     */
+    private static void addMissingTemplateClaims(String username, UserStoreManager userStoreManager,
+                                                 String tenantDomain, String templateType,
+                                                 EmailTemplate emailTemplate, Set<String> projectedClaimUris,
+                                                 Map<String, String> userClaims) {
+
+        Set<String> templateClaimUris = TemplateCompiler.indexPlaceholders(emailTemplate.getBody(),
+                emailTemplate.getSubject(), emailTemplate.getFooter()).getClaimUris();
+        TemplateClaimUriCache.getInstance().addToCache(tenantDomain, templateType, templateClaimUris);
+        if (projectedClaimUris == null || projectedClaimUris.containsAll(templateClaimUris)) {
+            return;
+        }
+        Set<String> missingClaimUris = new HashSet<>(templateClaimUris);
+        missingClaimUris.removeAll(projectedClaimUris);
+        Map<String, String> missingClaims = getUserClaimValues(username, userStoreManager, missingClaimUris);
+        for (String claimUri : missingClaimUris) {
+            if (missingClaims.get(claimUri) != null) {
+                userClaims.put(claimUri, missingClaims.get(claimUri));
+            }
+        }
+    }
+
     /**
      * If the tenant domain is a UUID, resolve the organization name from the associated organization resource.
      *
@@ -846,6 +1519,10 @@ public class NotificationUtil {
                 }
                 return organizationName;
             }
+            String cachedOrganizationName = OrganizationResolutionCache.getInstance().getOrganizationName(tenantDomain);
+            if (cachedOrganizationName != null) {
+                return cachedOrganizationName;
+            }
             RealmService realmService = NotificationHandlerDataHolder.getInstance().getRealmService();
             int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
             Tenant tenant = realmService.getTenantManager().getTenant(tenantId);
@@ -854,6 +1531,7 @@ public class NotificationUtil {
             }
             String associatedOrganizationUUID = tenant.getAssociatedOrganizationUUID();
             if (StringUtils.isBlank(associatedOrganizationUUID)) {
+                OrganizationResolutionCache.getInstance().addOrganizationName(tenantDomain, organizationName);
                 return organizationName;
             }
             OrganizationManager organizationManager =
@@ -866,6 +1544,7 @@ public class NotificationUtil {
         } catch (OrganizationManagementException | UserStoreException e) {
             throw new IdentityEventException(e.getMessage(), e);
         }
+        OrganizationResolutionCache.getInstance().addOrganizationName(tenantDomain, organizationName);
         return organizationName;
     }
 
@@ -878,8 +1557,14 @@ public class NotificationUtil {
      */
     public static boolean isOrganization(String tenantDomain) throws IdentityEventException {
 
+        Boolean isOrganization = OrganizationResolutionCache.getInstance().isOrganization(tenantDomain);
+        if (isOrganization != null) {
+            return isOrganization;
+        }
         try {
-            return OrganizationManagementUtil.isOrganization(tenantDomain);
+            isOrganization = OrganizationManagementUtil.isOrganization(tenantDomain);
+            OrganizationResolutionCache.getInstance().addIsOrganization(tenantDomain, isOrganization);
+            return isOrganization;
         } catch (OrganizationManagementException e) {
             throw new IdentityEventException(e.getMessage(), e);
         }
@@ -894,11 +1579,17 @@ public class NotificationUtil {
      */
     public static String getPrimaryTenantDomain(String organizationId) throws IdentityEventException {
 
+        String primaryTenantDomain = OrganizationResolutionCache.getInstance().getPrimaryTenantDomain(organizationId);
+        if (primaryTenantDomain != null) {
+            return primaryTenantDomain;
+        }
         try {
             OrganizationManager organizationManager = NotificationHandlerDataHolder.getInstance()
                     .getOrganizationManager();
             String primaryOrgId = organizationManager.getPrimaryOrganizationId(organizationId);
-            return organizationManager.resolveTenantDomain(primaryOrgId);
+            primaryTenantDomain = organizationManager.resolveTenantDomain(primaryOrgId);
+            OrganizationResolutionCache.getInstance().addPrimaryTenantDomain(organizationId, primaryTenantDomain);
+            return primaryTenantDomain;
         } catch (OrganizationManagementException e) {
             throw new IdentityEventException(e.getMessage(), e);
         }
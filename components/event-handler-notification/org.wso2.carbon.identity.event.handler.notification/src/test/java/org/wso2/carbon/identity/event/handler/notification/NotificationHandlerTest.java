@@ -27,6 +27,7 @@ import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.wso2.carbon.email.mgt.cache.OrganizationResolutionCache;
 import org.wso2.carbon.email.mgt.model.EmailTemplate;
 import org.wso2.carbon.email.mgt.util.I18nEmailUtil;
 import org.wso2.carbon.event.output.adapter.core.exception.OutputEventAdapterException;
@@ -37,25 +38,35 @@ import org.wso2.carbon.event.stream.core.exception.EventStreamException;
 import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
 import org.wso2.carbon.identity.core.circuitbreaker.CircuitBreakerManager;
 import org.wso2.carbon.identity.core.circuitbreaker.TenantService;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
 import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.notification.NotificationConstants.EmailNotification;
+import org.wso2.carbon.identity.event.handler.notification.batch.NotificationBatchResult;
 import org.wso2.carbon.identity.event.handler.notification.email.bean.Notification;
 import org.wso2.carbon.identity.event.handler.notification.internal.NotificationHandlerDataHolder;
+import org.wso2.carbon.identity.event.handler.notification.limiter.AdaptiveConcurrencyLimiter;
+import org.wso2.carbon.identity.event.handler.notification.limiter.ConcurrencyLimiterConfig;
 import org.wso2.carbon.identity.event.handler.notification.util.NotificationUtil;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -87,6 +98,7 @@ public class NotificationHandlerTest {
 
         MockitoAnnotations.openMocks(this);
         handler = new TestNotificationHandler();
+        OrganizationResolutionCache.getInstance().clear();
 
         mockedDataHolder = mockStatic(NotificationHandlerDataHolder.class);
         mockedLoggerUtils = mockStatic(LoggerUtils.class);
@@ -98,6 +110,8 @@ public class NotificationHandlerTest {
         when(dataHolder.getOrganizationManager()).thenReturn(organizationManager);
         mockedLoggerUtils.when(LoggerUtils::isDiagnosticLogsEnabled).thenReturn(false);
         mockedI18nEmailUtil.when(() -> I18nEmailUtil.getNormalizedName(anyString())).thenReturn("TestTemplate");
+        mockedNotificationUtil.when(() -> NotificationUtil.prefetchUserClaimValues(any()))
+                .thenReturn(Collections.emptyMap());
     }
 
     @AfterMethod
@@ -115,7 +129,7 @@ public class NotificationHandlerTest {
 
         Notification notification = buildMockNotification();
         Event event = new Event("TEST_EVENT", new HashMap<>());
-        mockedNotificationUtil.when(() -> NotificationUtil.buildNotification(any(Event.class), any()))
+        mockedNotificationUtil.when(() -> NotificationUtil.buildNotification(any(Event.class), any(), any()))
                 .thenReturn(notification);
 
         handler.handleEvent(event);
@@ -130,7 +144,7 @@ public class NotificationHandlerTest {
         Notification notification = buildMockNotification();
         Event event = new Event("TEST_EVENT", new HashMap<>());
         event.getEventProperties().put(EmailNotification.SYNC_EMAIL_NOTIFICATION, "false");
-        mockedNotificationUtil.when(() -> NotificationUtil.buildNotification(any(Event.class), any()))
+        mockedNotificationUtil.when(() -> NotificationUtil.buildNotification(any(Event.class), any(), any()))
                 .thenReturn(notification);
 
         handler.handleEvent(event);
@@ -146,7 +160,7 @@ public class NotificationHandlerTest {
         Event event = new Event("TEST_EVENT", new HashMap<>());
         event.getEventProperties().put(EmailNotification.SYNC_EMAIL_NOTIFICATION, "true");
         event.getEventProperties().put(NotificationConstants.TENANT_DOMAIN, TENANT_DOMAIN);
-        mockedNotificationUtil.when(() -> NotificationUtil.buildNotification(any(Event.class), any()))
+        mockedNotificationUtil.when(() -> NotificationUtil.buildNotification(any(Event.class), any(), any()))
                 .thenReturn(notification);
 
         handler.handleEvent(event);
@@ -162,7 +176,7 @@ public class NotificationHandlerTest {
         Event event = new Event("TEST_EVENT", new HashMap<>());
         event.getEventProperties().put(EmailNotification.SYNC_EMAIL_NOTIFICATION, "true");
         event.getEventProperties().put(NotificationConstants.TENANT_DOMAIN, TENANT_DOMAIN);
-        mockedNotificationUtil.when(() -> NotificationUtil.buildNotification(any(Event.class), any()))
+        mockedNotificationUtil.when(() -> NotificationUtil.buildNotification(any(Event.class), any(), any()))
                 .thenReturn(notification);
 
         handler.handleEvent(event);
@@ -181,7 +195,7 @@ public class NotificationHandlerTest {
     public void testHandleEvent_skipsPublishing_whenNotificationIsNull() throws Exception {
 
         Event event = new Event("TEST_EVENT", new HashMap<>());
-        mockedNotificationUtil.when(() -> NotificationUtil.buildNotification(any(Event.class), any()))
+        mockedNotificationUtil.when(() -> NotificationUtil.buildNotification(any(Event.class), any(), any()))
                 .thenReturn(null);
 
         handler.handleEvent(event);
@@ -190,6 +204,96 @@ public class NotificationHandlerTest {
         verify(eventStreamService, never()).publishAndNotifyErrors(any());
     }
 
+    @Test
+    public void testHandleEvents_reportsFailedEventsWithoutFailingBatch() throws Exception {
+
+        Notification notification = buildMockNotification();
+        Event firstEvent = buildBatchEvent("user1");
+        Event failedEvent = buildBatchEvent("user2");
+        Event lastEvent = buildBatchEvent("user3");
+        when(organizationManager.resolveOrganizationId(TENANT_DOMAIN)).thenReturn("test-org-id");
+        mockedNotificationUtil.when(() -> NotificationUtil.buildNotification(any(Event.class), any(), any()))
+                .thenReturn(notification);
+        mockedNotificationUtil.when(() -> NotificationUtil.buildNotification(eq(failedEvent), any(), any()))
+                .thenThrow(new IdentityEventException("Sending email address is not configured for the user."));
+
+        NotificationBatchResult batchResult = handler.handleEvents(Arrays.asList(firstEvent, failedEvent, lastEvent));
+
+        Assert.assertEquals(batchResult.getTotalCount(), 3);
+        Assert.assertEquals(batchResult.getSuccessCount(), 2);
+        Assert.assertEquals(batchResult.getFailures().size(), 1);
+        Assert.assertEquals(batchResult.getFailures().get(0).getIndex(), 1);
+        Assert.assertSame(batchResult.getFailures().get(0).getEvent(), failedEvent);
+        verify(eventStreamService, times(2)).publish(any());
+        verify(organizationManager, times(1)).resolveOrganizationId(TENANT_DOMAIN);
+    }
+
+    @Test
+    public void testHandleEvents_publishesBatchInSinglePublishCall() throws Exception {
+
+        Notification notification = buildMockNotification();
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            events.add(buildBatchEvent("user" + i));
+        }
+        when(organizationManager.resolveOrganizationId(TENANT_DOMAIN)).thenReturn("test-org-id");
+        mockedNotificationUtil.when(() -> NotificationUtil.buildNotification(any(Event.class), any(), any()))
+                .thenReturn(notification);
+
+        NotificationBatchResult batchResult = handler.handleEvents(events);
+
+        Assert.assertFalse(batchResult.hasFailures());
+        Assert.assertEquals(handler.publishBatchToStreamCalls, 1);
+        Assert.assertEquals(handler.publishToStreamCalls, 0);
+        verify(eventStreamService, times(events.size())).publish(any());
+    }
+
+    @Test
+    public void testHandleEvents_readsClaimsOfRemainingGroupUsersInBulk() throws Exception {
+
+        Notification notification = buildMockNotification();
+        Event firstEvent = buildBatchEvent("user1");
+        Event secondEvent = buildBatchEvent("user2");
+        Event lastEvent = buildBatchEvent("user3");
+        Map<String, String> secondUserClaims = Collections.singletonMap(EmailNotification.CLAIM_URI_EMAIL,
+                "user2@test.com");
+        Map<Event, Map<String, String>> prefetchedClaims = new IdentityHashMap<>();
+        prefetchedClaims.put(secondEvent, secondUserClaims);
+        when(organizationManager.resolveOrganizationId(TENANT_DOMAIN)).thenReturn("test-org-id");
+        mockedNotificationUtil.when(() -> NotificationUtil.prefetchUserClaimValues(any()))
+                .thenReturn(prefetchedClaims);
+        mockedNotificationUtil.when(() -> NotificationUtil.buildNotification(any(Event.class), any(), any()))
+                .thenReturn(notification);
+
+        NotificationBatchResult batchResult = handler.handleEvents(Arrays.asList(firstEvent, secondEvent, lastEvent));
+
+        Assert.assertFalse(batchResult.hasFailures());
+        // The first event of the group records the template claims, and the claims of the rest are read in bulk once.
+        mockedNotificationUtil.verify(() -> NotificationUtil.prefetchUserClaimValues(
+                Arrays.asList(secondEvent, lastEvent)), times(1));
+        mockedNotificationUtil.verify(() -> NotificationUtil.buildNotification(eq(firstEvent), any(), isNull()));
+        mockedNotificationUtil.verify(() -> NotificationUtil.buildNotification(eq(secondEvent), any(),
+                eq(secondUserClaims)));
+        mockedNotificationUtil.verify(() -> NotificationUtil.buildNotification(eq(lastEvent), any(), isNull()));
+    }
+
+    @Test
+    public void testHandleEvents_syncEventsAreHandledIndividually() throws Exception {
+
+        Notification notification = buildMockNotification();
+        Event asyncEvent = buildBatchEvent("user1");
+        Event syncEvent = buildBatchEvent("user2");
+        syncEvent.getEventProperties().put(EmailNotification.SYNC_EMAIL_NOTIFICATION, "true");
+        mockedNotificationUtil.when(() -> NotificationUtil.buildNotification(any(Event.class), any(), any()))
+                .thenReturn(notification);
+
+        NotificationBatchResult batchResult = handler.handleEvents(Arrays.asList(asyncEvent, syncEvent));
+
+        Assert.assertFalse(batchResult.hasFailures());
+        verify(eventStreamService).publish(any());
+        verify(eventStreamService).publishAndNotifyErrors(any());
+    }
+
     @Test
     public void testPublishToStreamAndNotifyErrors_noException_success() throws Exception {
 
@@ -198,6 +302,73 @@ public class NotificationHandlerTest {
         verify(eventStreamService).publishAndNotifyErrors(any());
     }
 
+    @Test
+    public void testPublishToStream_addsTemplateContentByDefault() throws Exception {
+
+        Map<String, String> placeholderMap = buildPlaceholderMap();
+        placeholderMap.put(EmailNotification.ARBITRARY_SEND_FROM, "placeholder@test.com");
+        placeholderMap.put(EmailNotification.ARBITRARY_BODY, "Placeholder Body");
+
+        handler.publishToStream(buildMockNotification(), placeholderMap);
+
+        ArgumentCaptor<org.wso2.carbon.databridge.commons.Event> captor =
+                ArgumentCaptor.forClass(org.wso2.carbon.databridge.commons.Event.class);
+        verify(eventStreamService).publish(captor.capture());
+        Map<String, String> arbitraryData = captor.getValue().getArbitraryDataMap();
+        Assert.assertEquals(captor.getValue().getStreamId(), "id_gov_notify_stream:1.0.0");
+        Assert.assertFalse(arbitraryData.containsKey("tmp-stream-id"));
+        Assert.assertEquals(arbitraryData.get(EmailNotification.ARBITRARY_SEND_FROM), "placeholder@test.com");
+        Assert.assertEquals(arbitraryData.get(EmailNotification.ARBITRARY_BODY), "Test Body");
+        Assert.assertEquals(arbitraryData.get(EmailNotification.ARBITRARY_BODY_TEMPLATE), "Test Body");
+        Assert.assertEquals(arbitraryData.get(EmailNotification.ARBITRARY_SUBJECT_TEMPLATE), "Test Subject");
+        Assert.assertEquals(arbitraryData.get(EmailNotification.ARBITRARY_FOOTER_TEMPLATE), "Test Footer");
+        Assert.assertTrue(arbitraryData.containsKey(IdentityEventConstants.EventProperty.USER_NAME));
+    }
+
+    @Test
+    public void testPublishToStream_omitsTemplateContent_whenConfigured() throws Exception {
+
+        mockedNotificationUtil.when(NotificationUtil::isTemplateContentOmittedInEvent).thenReturn(true);
+
+        handler.publishToStream(buildMockNotification(), buildPlaceholderMap());
+
+        ArgumentCaptor<org.wso2.carbon.databridge.commons.Event> captor =
+                ArgumentCaptor.forClass(org.wso2.carbon.databridge.commons.Event.class);
+        verify(eventStreamService).publish(captor.capture());
+        Map<String, String> arbitraryData = captor.getValue().getArbitraryDataMap();
+        Assert.assertFalse(arbitraryData.containsKey(EmailNotification.ARBITRARY_SUBJECT_TEMPLATE));
+        Assert.assertFalse(arbitraryData.containsKey(EmailNotification.ARBITRARY_BODY_TEMPLATE));
+        Assert.assertFalse(arbitraryData.containsKey(EmailNotification.ARBITRARY_FOOTER_TEMPLATE));
+        Assert.assertEquals(arbitraryData.get(EmailNotification.ARBITRARY_SUBJECT), "Test Subject");
+        Assert.assertEquals(arbitraryData.get(EmailNotification.ARBITRARY_BODY), "Test Body");
+        Assert.assertEquals(arbitraryData.get(EmailNotification.ARBITRARY_FOOTER), "Test Footer");
+        Assert.assertEquals(arbitraryData.get(NotificationConstants.TENANT_DOMAIN), TENANT_DOMAIN);
+    }
+
+    @Test
+    public void testPublishToStreamAndNotifyErrors_concurrencyLimitReached_throwsThrottledException()
+            throws Exception {
+
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                new ConcurrencyLimiterConfig(1, 1, 1, 1000, 0, 0));
+        when(dataHolder.getSyncNotificationLimiter()).thenReturn(limiter);
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire(TENANT_DOMAIN);
+
+        try {
+            handler.publishToStreamAndNotifyErrors(buildMockNotification(), buildPlaceholderMap());
+            Assert.fail("Expected IdentityEventException");
+        } catch (IdentityEventException e) {
+            Assert.assertEquals(e.getErrorCode(),
+                    EmailNotification.ErrorMessages.EMAIL_NOTIFICATION_THROTTLED.getCode());
+        }
+        verify(eventStreamService, never()).publishAndNotifyErrors(any());
+
+        permit.release();
+        handler.publishToStreamAndNotifyErrors(buildMockNotification(), buildPlaceholderMap());
+        verify(eventStreamService).publishAndNotifyErrors(any());
+        Assert.assertEquals(limiter.getInFlight(TENANT_DOMAIN), 0);
+    }
+
     @Test
     public void testPublishToStreamAndNotifyErrors_aggregatedFailure_validCauseChain_throwsMappedException()
             throws Exception {
@@ -454,6 +625,15 @@ public class NotificationHandlerTest {
         return map;
     }
 
+    private Event buildBatchEvent(String username) {
+
+        Event event = new Event("TEST_EVENT", new HashMap<>());
+        event.getEventProperties().put(NotificationConstants.TENANT_DOMAIN, TENANT_DOMAIN);
+        event.getEventProperties().put(EmailNotification.EMAIL_TEMPLATE_TYPE, "TestTemplate");
+        event.getEventProperties().put("user-name", username);
+        return event;
+    }
+
     private Notification buildMockNotification() {
 
         Notification notification = mock(Notification.class);
@@ -478,6 +658,24 @@ public class NotificationHandlerTest {
      */
     private static class TestNotificationHandler extends NotificationHandler {
 
+        private int publishToStreamCalls;
+        private int publishBatchToStreamCalls;
+
+        @Override
+        protected void publishToStream(Notification notification, Map<String, String> placeHolderDataMap) {
+
+            publishToStreamCalls++;
+            super.publishToStream(notification, placeHolderDataMap);
+        }
+
+        @Override
+        protected void publishBatchToStream(List<Event> events, Notification[] notifications,
+                                            List<Map<String, String>> dataMaps, NotificationBatchResult batchResult) {
+
+            publishBatchToStreamCalls++;
+            super.publishBatchToStream(events, notifications, dataMaps, batchResult);
+        }
+
         @Override
         protected String getNotificationTemplate(Event event) throws IdentityEventException {
 
@@ -32,6 +32,7 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.email.mgt.cache.OrganizationResolutionCache;
 import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.event.IdentityEventException;
@@ -53,6 +54,7 @@ import org.wso2.carbon.utils.multitenancy.MultitenantUtils;
 import static org.wso2.carbon.identity.notification.sender.tenant.config.NotificationSenderManagementConstants.ErrorMessage.ERROR_CODE_ERROR_GETTING_NOTIFICATION_SENDERS_BY_TYPE;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
@@ -103,10 +105,15 @@ public class PushNotificationHandlerTest {
     private NotificationSenderManagementService notificationSenderManagementService;
 
     @BeforeMethod
-    public void setUp() {
+    public void setUp() throws Exception {
 
         System.setProperty("carbon.home", ".");
         MockitoAnnotations.openMocks(this);
+        OrganizationResolutionCache.getInstance().clear();
+        // Resolve the push sender of a provider, and push sender support, from the push senders stubbed in each test.
+        when(notificationSenderManagementService.getPushSenderByProvider(anyString(), anyBoolean()))
+                .thenCallRealMethod();
+        when(notificationSenderManagementService.isPushSenderSupported()).thenCallRealMethod();
 
         mockedCarbonContext = mockStatic(CarbonContext.class);
         mockedUserCoreUtil = mockStatic(UserCoreUtil.class);
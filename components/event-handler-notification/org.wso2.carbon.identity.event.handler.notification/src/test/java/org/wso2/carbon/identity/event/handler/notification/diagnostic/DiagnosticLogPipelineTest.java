@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.diagnostic;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.event.handler.notification.NotificationConstants.LogConstants;
+import org.wso2.carbon.utils.DiagnosticLog;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for {@link DiagnosticLogPipeline} and {@link DiagnosticRingBuffer}.
+ */
+public class DiagnosticLogPipelineTest {
+
+    private static final String TENANT_DOMAIN = "example.com";
+
+    private DiagnosticLogPipeline diagnosticLogPipeline;
+
+    @BeforeMethod
+    public void setUp() {
+
+        System.setProperty("carbon.home", ".");
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        if (diagnosticLogPipeline != null) {
+            diagnosticLogPipeline.shutdown();
+        }
+    }
+
+    @Test
+    public void testRingBufferRejectsWhenFull() {
+
+        DiagnosticRingBuffer ringBuffer = new DiagnosticRingBuffer(3);
+        Assert.assertEquals(ringBuffer.capacity(), 4);
+        for (int i = 0; i < 4; i++) {
+            Assert.assertTrue(ringBuffer.offer(createRecord("message-" + i)));
+        }
+        Assert.assertFalse(ringBuffer.offer(createRecord("message-4")));
+
+        Assert.assertEquals(ringBuffer.poll().getResultMessage(), "message-0");
+        Assert.assertTrue(ringBuffer.offer(createRecord("message-4")));
+        for (int i = 1; i <= 4; i++) {
+            Assert.assertEquals(ringBuffer.poll().getResultMessage(), "message-" + i);
+        }
+        Assert.assertNull(ringBuffer.poll());
+    }
+
+    @Test
+    public void testRingBufferWithConcurrentProducers() throws Exception {
+
+        DiagnosticRingBuffer ringBuffer = new DiagnosticRingBuffer(1 << 14);
+        int producers = 4;
+        int recordsPerProducer = 2000;
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            threads[p] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < recordsPerProducer; i++) {
+                    ringBuffer.offer(createRecord(producer + "-" + i));
+                }
+            });
+            threads[p].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Set<String> messages = new HashSet<>();
+        DiagnosticRecord record;
+        while ((record = ringBuffer.poll()) != null) {
+            messages.add(record.getResultMessage());
+        }
+        Assert.assertEquals(messages.size(), producers * recordsPerProducer);
+    }
+
+    @Test
+    public void testRecordsAreEmittedOffTheCallingThread() throws Exception {
+
+        List<DiagnosticRecord> emitted = new CopyOnWriteArrayList<>();
+        List<Thread> emittingThreads = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(2);
+        diagnosticLogPipeline = new DiagnosticLogPipeline(
+                new DiagnosticLogPipelineConfig(16, Collections.emptyMap()), record -> {
+            emitted.add(record);
+            emittingThreads.add(Thread.currentThread());
+            done.countDown();
+        });
+
+        diagnosticLogPipeline.record(LogConstants.ActionIDs.HANDLE_EVENT, "TestTemplate", TENANT_DOMAIN,
+                "Notification will be handled.", null, DiagnosticLog.ResultStatus.SUCCESS);
+        diagnosticLogPipeline.record(LogConstants.ActionIDs.PUBLISH_SYNC_EMAIL_NOTIFICATION, null, TENANT_DOMAIN,
+                "Sync email notification failed: ", "Email send failed.", DiagnosticLog.ResultStatus.FAILED);
+
+        Assert.assertTrue(done.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(emitted.get(0).getEventName(), "TestTemplate");
+        Assert.assertEquals(emitted.get(1).getResultMessage(), "Sync email notification failed: Email send failed.");
+        Assert.assertNotSame(emittingThreads.get(0), Thread.currentThread());
+        Assert.assertEquals(diagnosticLogPipeline.getRecordedCount(), 2);
+    }
+
+    @Test
+    public void testEventTimestampIsCapturedWhenRecorded() throws Exception {
+
+        List<DiagnosticRecord> emitted = new CopyOnWriteArrayList<>();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        diagnosticLogPipeline = new DiagnosticLogPipeline(
+                new DiagnosticLogPipelineConfig(16, Collections.emptyMap()), record -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            emitted.add(record);
+            done.countDown();
+        });
+
+        long beforeRecord = System.currentTimeMillis();
+        diagnosticLogPipeline.record(LogConstants.ActionIDs.HANDLE_EVENT, null, TENANT_DOMAIN,
+                "Notification will be handled.", null, DiagnosticLog.ResultStatus.SUCCESS);
+        long afterRecord = System.currentTimeMillis();
+        Thread.sleep(20);
+        release.countDown();
+
+        Assert.assertTrue(done.await(5, TimeUnit.SECONDS));
+        long eventTimestamp = emitted.get(0).getEventTimestamp();
+        Assert.assertTrue(eventTimestamp >= beforeRecord && eventTimestamp <= afterRecord,
+                "The event timestamp should be taken when the record is created, not when it is emitted.");
+    }
+
+    @Test
+    public void testSuccessRecordsAreSampled() {
+
+        diagnosticLogPipeline = new DiagnosticLogPipeline(new DiagnosticLogPipelineConfig(1024,
+                Collections.singletonMap(LogConstants.ActionIDs.HANDLE_EVENT, 1000)), record -> { });
+
+        for (int i = 0; i < 100; i++) {
+            diagnosticLogPipeline.record(LogConstants.ActionIDs.HANDLE_EVENT, null, TENANT_DOMAIN,
+                    "Notification will be handled.", null, DiagnosticLog.ResultStatus.SUCCESS);
+            diagnosticLogPipeline.record(LogConstants.ActionIDs.HANDLE_EVENT, null, TENANT_DOMAIN,
+                    "Notification failed.", null, DiagnosticLog.ResultStatus.FAILED);
+        }
+
+        Assert.assertTrue(diagnosticLogPipeline.getRecordedCount() >= 100);
+        Assert.assertTrue(diagnosticLogPipeline.getRecordedCount() < 120);
+    }
+
+    @Test
+    public void testBufferedRecordsAreEmittedOnShutdown() {
+
+        List<DiagnosticRecord> emitted = new CopyOnWriteArrayList<>();
+        diagnosticLogPipeline = new DiagnosticLogPipeline(
+                new DiagnosticLogPipelineConfig(1024, Collections.emptyMap()), emitted::add);
+        for (int i = 0; i < 50; i++) {
+            diagnosticLogPipeline.record(LogConstants.ActionIDs.HANDLE_EVENT, null, TENANT_DOMAIN,
+                    "Notification will be handled.", null, DiagnosticLog.ResultStatus.SUCCESS);
+        }
+
+        diagnosticLogPipeline.shutdown();
+        Assert.assertEquals(emitted.size(), 50);
+        Assert.assertEquals(diagnosticLogPipeline.getEmittedCount(), 50);
+
+        diagnosticLogPipeline.record(LogConstants.ActionIDs.HANDLE_EVENT, null, TENANT_DOMAIN,
+                "Notification will be handled.", null, DiagnosticLog.ResultStatus.SUCCESS);
+        Assert.assertEquals(diagnosticLogPipeline.getDroppedCount(), 1);
+        diagnosticLogPipeline = null;
+    }
+
+    private static DiagnosticRecord createRecord(String resultMessage) {
+
+        return new DiagnosticRecord(LogConstants.ActionIDs.HANDLE_EVENT, null, TENANT_DOMAIN, resultMessage, null,
+                DiagnosticLog.ResultStatus.SUCCESS, -1234, "carbon.super", null, System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.dispatch;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.handler.notification.NotificationConstants.EmailNotification;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for {@link NotificationDispatcher}.
+ */
+public class NotificationDispatcherTest {
+
+    private static final String TENANT_DOMAIN = "example.com";
+    private static final String OTHER_TENANT_DOMAIN = "other.com";
+
+    private NotificationDispatcher notificationDispatcher;
+    private CountDownLatch workerBlocked;
+    private CountDownLatch releaseWorker;
+
+    @BeforeMethod
+    public void setUp() {
+
+        workerBlocked = new CountDownLatch(1);
+        releaseWorker = new CountDownLatch(1);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        releaseWorker.countDown();
+        if (notificationDispatcher != null) {
+            notificationDispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testDispatchRunsTasksInOrder() throws Exception {
+
+        notificationDispatcher = createDispatcher(BackpressurePolicy.REJECT, 10);
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(5);
+        for (int i = 0; i < 5; i++) {
+            int index = i;
+            notificationDispatcher.dispatch(TENANT_DOMAIN, () -> {
+                executed.add(index);
+                done.countDown();
+            });
+        }
+
+        Assert.assertTrue(done.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(executed.toString(), "[0, 1, 2, 3, 4]");
+    }
+
+    @Test
+    public void testRejectPolicyThrowsThrottledError() throws Exception {
+
+        notificationDispatcher = createDispatcher(BackpressurePolicy.REJECT, 2);
+        blockWorker(TENANT_DOMAIN);
+        notificationDispatcher.dispatch(TENANT_DOMAIN, () -> { });
+        notificationDispatcher.dispatch(TENANT_DOMAIN, () -> { });
+
+        try {
+            notificationDispatcher.dispatch(TENANT_DOMAIN, () -> { });
+            Assert.fail("Expected IdentityEventException");
+        } catch (IdentityEventException e) {
+            Assert.assertEquals(e.getErrorCode(),
+                    EmailNotification.ErrorMessages.EMAIL_NOTIFICATION_THROTTLED.getCode());
+        }
+        DispatchQueueStatistics statistics = notificationDispatcher.getQueueStatistics(TENANT_DOMAIN);
+        Assert.assertEquals(statistics.getQueueDepth(), 2);
+        Assert.assertEquals(statistics.getRejectedCount(), 1);
+    }
+
+    @Test
+    public void testTenantQueuesAreIsolated() throws Exception {
+
+        notificationDispatcher = createDispatcher(BackpressurePolicy.REJECT, 1);
+        blockWorker(TENANT_DOMAIN);
+        notificationDispatcher.dispatch(TENANT_DOMAIN, () -> { });
+        CountDownLatch otherTenantDone = new CountDownLatch(1);
+        notificationDispatcher.dispatch(OTHER_TENANT_DOMAIN, otherTenantDone::countDown);
+
+        Assert.assertEquals(notificationDispatcher.getQueueDepth(TENANT_DOMAIN), 1);
+        Assert.assertTrue(otherTenantDone.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testDropOldestPolicyDiscardsOldestTask() throws Exception {
+
+        notificationDispatcher = createDispatcher(BackpressurePolicy.DROP_OLDEST, 2);
+        blockWorker(TENANT_DOMAIN);
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            int index = i;
+            notificationDispatcher.dispatch(TENANT_DOMAIN, () -> executed.add(index));
+        }
+
+        DispatchQueueStatistics statistics = notificationDispatcher.getQueueStatistics(TENANT_DOMAIN);
+        Assert.assertEquals(statistics.getQueueDepth(), 2);
+        Assert.assertEquals(statistics.getDroppedCount(), 1);
+        releaseWorker.countDown();
+        notificationDispatcher.shutdown();
+        Assert.assertEquals(executed.toString(), "[1, 2]");
+    }
+
+    @Test
+    public void testBlockPolicyRejectsAfterTimeout() throws Exception {
+
+        notificationDispatcher = new NotificationDispatcher(
+                new NotificationDispatcherConfig(1, 1, BackpressurePolicy.BLOCK, 50, false));
+        blockWorker(TENANT_DOMAIN);
+        notificationDispatcher.dispatch(TENANT_DOMAIN, () -> { });
+
+        try {
+            notificationDispatcher.dispatch(TENANT_DOMAIN, () -> { });
+            Assert.fail("Expected IdentityEventException");
+        } catch (IdentityEventException e) {
+            Assert.assertEquals(e.getErrorCode(),
+                    EmailNotification.ErrorMessages.EMAIL_NOTIFICATION_THROTTLED.getCode());
+        }
+    }
+
+    @Test
+    public void testFailedTaskIsCounted() throws Exception {
+
+        notificationDispatcher = createDispatcher(BackpressurePolicy.REJECT, 10);
+        notificationDispatcher.dispatch(TENANT_DOMAIN, () -> {
+            throw new IdentityEventException("Error while sending the notification.");
+        });
+        notificationDispatcher.shutdown();
+
+        DispatchQueueStatistics statistics = notificationDispatcher.getQueueStatistics(TENANT_DOMAIN);
+        Assert.assertEquals(statistics.getEnqueuedCount(), 1);
+        Assert.assertEquals(statistics.getFailedCount(), 1);
+        Assert.assertEquals(statistics.getCompletedCount(), 0);
+    }
+
+    @Test
+    public void testIdleTenantQueueIsRemoved() throws Exception {
+
+        notificationDispatcher = createDispatcher(BackpressurePolicy.REJECT, 10);
+        CountDownLatch done = new CountDownLatch(1);
+        notificationDispatcher.dispatch(TENANT_DOMAIN, done::countDown);
+        Assert.assertTrue(done.await(5, TimeUnit.SECONDS));
+
+        // The queue is released by the worker right after the last task completes.
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (notificationDispatcher.getQueueStatistics(TENANT_DOMAIN) != null && System.nanoTime() < deadline) {
+            notificationDispatcher.removeTenantQueue(TENANT_DOMAIN);
+            Thread.sleep(10);
+        }
+        Assert.assertNull(notificationDispatcher.getQueueStatistics(TENANT_DOMAIN));
+        Assert.assertFalse(notificationDispatcher.getTenantQueues().containsKey(TENANT_DOMAIN));
+    }
+
+    @Test
+    public void testTenantQueueWithQueuedNotificationsIsKept() throws Exception {
+
+        notificationDispatcher = createDispatcher(BackpressurePolicy.REJECT, 10);
+        blockWorker(TENANT_DOMAIN);
+        CountDownLatch done = new CountDownLatch(1);
+        notificationDispatcher.dispatch(TENANT_DOMAIN, done::countDown);
+
+        notificationDispatcher.removeTenantQueue(TENANT_DOMAIN);
+
+        Assert.assertEquals(notificationDispatcher.getQueueDepth(TENANT_DOMAIN), 1);
+        releaseWorker.countDown();
+        Assert.assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testTenantQueuesAreExposedByTenantDomain() throws Exception {
+
+        notificationDispatcher = createDispatcher(BackpressurePolicy.REJECT, 10);
+        blockWorker(TENANT_DOMAIN);
+        notificationDispatcher.dispatch(TENANT_DOMAIN, () -> { });
+        notificationDispatcher.dispatch(OTHER_TENANT_DOMAIN, () -> { });
+
+        Map<String, DispatchQueueStatistics> tenantQueues = notificationDispatcher.getTenantQueues();
+
+        Assert.assertEquals(tenantQueues.keySet().toString(), "[" + TENANT_DOMAIN + ", " + OTHER_TENANT_DOMAIN + "]");
+        Assert.assertEquals(tenantQueues.get(TENANT_DOMAIN).getQueueDepth(), 1);
+        Assert.assertEquals(tenantQueues.get(TENANT_DOMAIN).getEnqueuedCount(), 2);
+    }
+
+    private NotificationDispatcher createDispatcher(BackpressurePolicy backpressurePolicy, int queueCapacity) {
+
+        return new NotificationDispatcher(
+                new NotificationDispatcherConfig(2, queueCapacity, backpressurePolicy, 1000, true));
+    }
+
+    /**
+     * Occupy the worker of the tenant queue, so that subsequently dispatched tasks of the tenant stay queued.
+     */
+    private void blockWorker(String tenantDomain) throws Exception {
+
+        notificationDispatcher.dispatch(tenantDomain, () -> {
+            workerBlocked.countDown();
+            try {
+                releaseWorker.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Assert.assertTrue(workerBlocked.await(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.dispatch;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for {@link NotificationThreadContext}.
+ */
+public class NotificationThreadContextTest {
+
+    private static final String TENANT_DOMAIN = "example.com";
+    private static final int TENANT_ID = 7;
+    private static final String ORGANIZATION_ID = "10084a8d-113f-4211-a0d5-efe36b082211";
+    private static final String USERNAME = "admin";
+    private static final String PROPERTY = "UserIdentityClaims";
+
+    private ExecutorService worker;
+
+    @BeforeMethod
+    public void setUp() {
+
+        System.setProperty("carbon.home", ".");
+        worker = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        worker.shutdownNow();
+        IdentityUtil.threadLocalProperties.remove();
+    }
+
+    @Test
+    public void testContextIsRestoredInWorkerAndClearedAfterwards() throws Exception {
+
+        NotificationThreadContext threadContext;
+        Object claims = new Object();
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            carbonContext.setTenantId(TENANT_ID);
+            carbonContext.setTenantDomain(TENANT_DOMAIN);
+            carbonContext.setOrganizationId(ORGANIZATION_ID);
+            carbonContext.setUsername(USERNAME);
+            IdentityUtil.threadLocalProperties.get().put(PROPERTY, claims);
+            threadContext = NotificationThreadContext.capture();
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+
+        String context = worker.submit(() -> {
+            String[] observed = new String[1];
+            threadContext.execute(() -> {
+                PrivilegedCarbonContext workerContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+                observed[0] = workerContext.getTenantId() + "/" + workerContext.getTenantDomain() + "/"
+                        + workerContext.getOrganizationId() + "/" + workerContext.getUsername() + "/"
+                        + (IdentityUtil.threadLocalProperties.get().get(PROPERTY) == claims);
+            });
+            return observed[0];
+        }).get(10, TimeUnit.SECONDS);
+        Assert.assertEquals(context, TENANT_ID + "/" + TENANT_DOMAIN + "/" + ORGANIZATION_ID + "/" + USERNAME
+                + "/true");
+
+        boolean leaked = worker.submit(() -> IdentityUtil.threadLocalProperties.get().containsKey(PROPERTY))
+                .get(10, TimeUnit.SECONDS);
+        Assert.assertFalse(leaked);
+    }
+
+    @Test
+    public void testCallerContextIsKeptWhenExecutedInCallingThread() throws Exception {
+
+        IdentityUtil.threadLocalProperties.get().put(PROPERTY, "caller");
+        NotificationThreadContext threadContext = NotificationThreadContext.capture();
+
+        threadContext.execute(() -> IdentityUtil.threadLocalProperties.get().put(PROPERTY, "task"));
+
+        Assert.assertEquals(IdentityUtil.threadLocalProperties.get().get(PROPERTY), "caller");
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.limiter;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Unit tests for {@link AdaptiveConcurrencyLimiter}.
+ */
+public class AdaptiveConcurrencyLimiterTest {
+
+    private static final String TENANT_DOMAIN = "example.com";
+    private static final String OTHER_TENANT_DOMAIN = "other.com";
+    private static final long FAST_PUBLISH = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW_PUBLISH = TimeUnit.MILLISECONDS.toNanos(5000);
+
+    @Test
+    public void testRejectsBeyondLimitWithoutQueue() {
+
+        AdaptiveConcurrencyLimiter limiter = createLimiter(2, 0, 0);
+        AdaptiveConcurrencyLimiter.Permit first = limiter.tryAcquire(TENANT_DOMAIN);
+        AdaptiveConcurrencyLimiter.Permit second = limiter.tryAcquire(TENANT_DOMAIN);
+
+        Assert.assertNotNull(first);
+        Assert.assertNotNull(second);
+        Assert.assertNull(limiter.tryAcquire(TENANT_DOMAIN));
+        Assert.assertNotNull(limiter.tryAcquire(OTHER_TENANT_DOMAIN), "Limits should be kept per tenant.");
+        Assert.assertEquals(limiter.getInFlight(TENANT_DOMAIN), 2);
+        Assert.assertEquals(limiter.getStatistics(TENANT_DOMAIN).getRejectedCount(), 1);
+
+        first.release();
+        first.release();
+        Assert.assertEquals(limiter.getInFlight(TENANT_DOMAIN), 1, "A permit should only be given back once.");
+        Assert.assertNotNull(limiter.tryAcquire(TENANT_DOMAIN));
+    }
+
+    @Test
+    public void testQueuedRequestTimesOut() {
+
+        AdaptiveConcurrencyLimiter limiter = createLimiter(1, 10, 50);
+        Assert.assertNotNull(limiter.tryAcquire(TENANT_DOMAIN));
+
+        long start = System.nanoTime();
+        Assert.assertNull(limiter.tryAcquire(TENANT_DOMAIN));
+        Assert.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        Assert.assertEquals(limiter.getStatistics(TENANT_DOMAIN).getTimedOutCount(), 1);
+        Assert.assertEquals(limiter.getStatistics(TENANT_DOMAIN).getWaiting(), 0);
+    }
+
+    @Test
+    public void testQueuedRequestAcquiresReleasedPermit() throws Exception {
+
+        AdaptiveConcurrencyLimiter limiter = createLimiter(1, 10, 5000);
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire(TENANT_DOMAIN);
+        AtomicReference<AdaptiveConcurrencyLimiter.Permit> queuedPermit = new AtomicReference<>();
+        CountDownLatch acquired = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            queuedPermit.set(limiter.tryAcquire(TENANT_DOMAIN));
+            acquired.countDown();
+        });
+        waiter.start();
+        while (limiter.getStatistics(TENANT_DOMAIN).getWaiting() == 0) {
+            Thread.sleep(1);
+        }
+
+        permit.complete(true, FAST_PUBLISH);
+
+        Assert.assertTrue(acquired.await(5, TimeUnit.SECONDS));
+        Assert.assertNotNull(queuedPermit.get());
+        Assert.assertEquals(limiter.getInFlight(TENANT_DOMAIN), 1);
+    }
+
+    @Test
+    public void testLimitAdaptsToPublishLatency() {
+
+        AdaptiveConcurrencyLimiter limiter = createLimiter(10, 0, 0);
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire(TENANT_DOMAIN).complete(false, SLOW_PUBLISH);
+        }
+        int decreasedLimit = limiter.getLimit(TENANT_DOMAIN);
+        Assert.assertTrue(decreasedLimit < 10, "Slow publishes should decrease the limit.");
+
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire(TENANT_DOMAIN).complete(true, FAST_PUBLISH);
+        }
+        Assert.assertEquals(limiter.getLimit(TENANT_DOMAIN), decreasedLimit,
+                "The limit should not grow while it is not in use.");
+
+        for (int round = 0; round < 3; round++) {
+            AdaptiveConcurrencyLimiter.Permit[] permits = new AdaptiveConcurrencyLimiter.Permit[decreasedLimit];
+            for (int i = 0; i < permits.length; i++) {
+                permits[i] = limiter.tryAcquire(TENANT_DOMAIN);
+            }
+            for (AdaptiveConcurrencyLimiter.Permit permit : permits) {
+                permit.complete(true, FAST_PUBLISH);
+            }
+        }
+        Assert.assertTrue(limiter.getLimit(TENANT_DOMAIN) > decreasedLimit,
+                "Fast publishes at the limit should increase the limit.");
+    }
+
+    @Test
+    public void testLimitStaysWithinBounds() {
+
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                new ConcurrencyLimiterConfig(2, 2, 3, 1000, 0, 0));
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire(TENANT_DOMAIN).complete(false, SLOW_PUBLISH);
+        }
+        Assert.assertEquals(limiter.getLimit(TENANT_DOMAIN), 2);
+
+        for (int i = 0; i < 50; i++) {
+            AdaptiveConcurrencyLimiter.Permit first = limiter.tryAcquire(TENANT_DOMAIN);
+            AdaptiveConcurrencyLimiter.Permit second = limiter.tryAcquire(TENANT_DOMAIN);
+            first.complete(true, FAST_PUBLISH);
+            second.complete(true, FAST_PUBLISH);
+        }
+        Assert.assertEquals(limiter.getLimit(TENANT_DOMAIN), 3);
+    }
+
+    @Test
+    public void testRemoveTenant() {
+
+        AdaptiveConcurrencyLimiter limiter = createLimiter(1, 0, 0);
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire(TENANT_DOMAIN);
+        Assert.assertNotNull(limiter.tryAcquire(OTHER_TENANT_DOMAIN));
+        Assert.assertEquals(limiter.getTenantLimits().keySet().toString(), "[example.com, other.com]");
+
+        limiter.removeTenant(TENANT_DOMAIN);
+        Assert.assertNull(limiter.getStatistics(TENANT_DOMAIN));
+        Assert.assertEquals(limiter.getTenantLimits().keySet().toString(), "[other.com]");
+
+        // A permit acquired before the removal is given back to the removed limit.
+        permit.complete(true, FAST_PUBLISH);
+        Assert.assertEquals(limiter.getInFlight(TENANT_DOMAIN), 0);
+        Assert.assertNotNull(limiter.tryAcquire(TENANT_DOMAIN));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidConfiguration() {
+
+        new ConcurrencyLimiterConfig(5, 1, 4, 1000, 0, 0);
+    }
+
+    private AdaptiveConcurrencyLimiter createLimiter(int initialLimit, int queueSize, long queueTimeoutMillis) {
+
+        return new AdaptiveConcurrencyLimiter(new ConcurrencyLimiterConfig(initialLimit, 1, 100, 1000, queueSize,
+                queueTimeoutMillis));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.listener;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.event.handler.notification.cache.UserStoreManagerCache;
+import org.wso2.carbon.user.api.UserStoreManager;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link NotificationUserStoreConfigListener}.
+ */
+public class NotificationUserStoreConfigListenerTest {
+
+    private static final int TENANT_ID = 7;
+    private static final int OTHER_TENANT_ID = 8;
+    private static final String USER_STORE_DOMAIN = "SECONDARY";
+
+    private final NotificationUserStoreConfigListener listener = new NotificationUserStoreConfigListener();
+
+    @AfterMethod
+    public void tearDown() {
+
+        UserStoreManagerCache.getInstance().clear(TENANT_ID);
+        UserStoreManagerCache.getInstance().clear(OTHER_TENANT_ID);
+    }
+
+    @Test
+    public void testUserStoreUpdateRemovesCachedUserStoreManagersOfTenant() throws Exception {
+
+        UserStoreManager otherTenantUserStoreManager = cacheUserStoreManagers();
+
+        listener.onUserStorePreUpdate(TENANT_ID, null, false);
+
+        assertOnlyOtherTenantIsCached(otherTenantUserStoreManager);
+    }
+
+    @Test
+    public void testUserStoreRenameRemovesCachedUserStoreManagersOfTenant() throws Exception {
+
+        UserStoreManager otherTenantUserStoreManager = cacheUserStoreManagers();
+
+        listener.onUserStoreNamePreUpdate(TENANT_ID, USER_STORE_DOMAIN, "RENAMED");
+
+        assertOnlyOtherTenantIsCached(otherTenantUserStoreManager);
+    }
+
+    @Test
+    public void testUserStoreDeleteRemovesCachedUserStoreManagersOfTenant() throws Exception {
+
+        UserStoreManager otherTenantUserStoreManager = cacheUserStoreManagers();
+
+        listener.onUserStorePreDelete(TENANT_ID, USER_STORE_DOMAIN);
+
+        assertOnlyOtherTenantIsCached(otherTenantUserStoreManager);
+    }
+
+    private UserStoreManager cacheUserStoreManagers() {
+
+        UserStoreManager otherTenantUserStoreManager = mock(UserStoreManager.class);
+        UserStoreManagerCache.getInstance().addToCache(TENANT_ID, USER_STORE_DOMAIN, mock(UserStoreManager.class));
+        UserStoreManagerCache.getInstance().addToCache(TENANT_ID, "PRIMARY", mock(UserStoreManager.class));
+        UserStoreManagerCache.getInstance().addToCache(OTHER_TENANT_ID, USER_STORE_DOMAIN,
+                otherTenantUserStoreManager);
+        return otherTenantUserStoreManager;
+    }
+
+    private void assertOnlyOtherTenantIsCached(UserStoreManager otherTenantUserStoreManager) {
+
+        Assert.assertNull(UserStoreManagerCache.getInstance().getValueFromCache(TENANT_ID, USER_STORE_DOMAIN));
+        Assert.assertNull(UserStoreManagerCache.getInstance().getValueFromCache(TENANT_ID, "PRIMARY"));
+        Assert.assertSame(UserStoreManagerCache.getInstance().getValueFromCache(OTHER_TENANT_ID, USER_STORE_DOMAIN),
+                otherTenantUserStoreManager);
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.lookup;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Unit tests for {@link ParallelLookupExecutor}.
+ */
+public class ParallelLookupExecutorTest {
+
+    private static final String TENANT_DOMAIN = "example.com";
+    private static final int TENANT_ID = 7;
+    private static final String ORGANIZATION_ID = "10084a8d-113f-4211-a0d5-efe36b082211";
+    private static final String USERNAME = "admin";
+    private static final String PROPERTY = "UserIdentityClaims";
+
+    private ParallelLookupExecutor lookupExecutor;
+
+    @BeforeMethod
+    public void setUp() {
+
+        System.setProperty("carbon.home", ".");
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        if (lookupExecutor != null) {
+            lookupExecutor.shutdown();
+        }
+        IdentityUtil.threadLocalProperties.remove();
+    }
+
+    @Test
+    public void testLookupRunsInThreadContextOfCallingThread() throws Exception {
+
+        lookupExecutor = new ParallelLookupExecutor(2, 10);
+        CompletableFuture<String> lookup;
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            carbonContext.setTenantId(TENANT_ID);
+            carbonContext.setTenantDomain(TENANT_DOMAIN);
+            carbonContext.setOrganizationId(ORGANIZATION_ID);
+            carbonContext.setUsername(USERNAME);
+            IdentityUtil.threadLocalProperties.get().put(PROPERTY, "claims");
+            lookup = lookupExecutor.submit(() -> {
+                PrivilegedCarbonContext workerContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+                return workerContext.getTenantId() + "/" + workerContext.getTenantDomain() + "/"
+                        + workerContext.getOrganizationId() + "/" + workerContext.getUsername() + "/"
+                        + IdentityUtil.threadLocalProperties.get().get(PROPERTY);
+            });
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+
+        Assert.assertEquals(ParallelLookupExecutor.await(lookup),
+                TENANT_ID + "/" + TENANT_DOMAIN + "/" + ORGANIZATION_ID + "/" + USERNAME + "/claims");
+    }
+
+    @Test
+    public void testLookupErrorIsRethrown() {
+
+        lookupExecutor = new ParallelLookupExecutor(1, 1);
+        IOException error = new IOException("Lookup failed.");
+        CompletableFuture<String> lookup = lookupExecutor.submit(() -> {
+            throw error;
+        });
+
+        try {
+            ParallelLookupExecutor.await(lookup);
+            Assert.fail("The lookup error is not rethrown.");
+        } catch (Exception e) {
+            Assert.assertSame(e, error);
+        }
+    }
+
+    @Test
+    public void testSaturatedPoolRunsLookupInCallingThread() throws Exception {
+
+        lookupExecutor = new ParallelLookupExecutor(1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> blocking = lookupExecutor.submit(() -> {
+            started.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return Thread.currentThread().getName();
+        });
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = lookupExecutor.submit(() -> Thread.currentThread().getName());
+        CompletableFuture<String> rejected = lookupExecutor.submit(() -> Thread.currentThread().getName());
+
+        Assert.assertTrue(rejected.isDone());
+        Assert.assertEquals(ParallelLookupExecutor.await(rejected), Thread.currentThread().getName());
+        release.countDown();
+        Assert.assertNotEquals(ParallelLookupExecutor.await(blocking), Thread.currentThread().getName());
+        Assert.assertNotEquals(ParallelLookupExecutor.await(queued), Thread.currentThread().getName());
+    }
+
+    @Test
+    public void testLookupAfterShutdownRunsInCallingThread() throws Exception {
+
+        lookupExecutor = new ParallelLookupExecutor(1, 1);
+        lookupExecutor.shutdown();
+        CompletableFuture<String> lookup = lookupExecutor.submit(() -> Thread.currentThread().getName());
+
+        Assert.assertEquals(ParallelLookupExecutor.await(lookup), Thread.currentThread().getName());
+    }
+
+    @Test
+    public void testShutdownRunsQueuedLookupsInCallingThread() throws Exception {
+
+        lookupExecutor = new ParallelLookupExecutor(1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> blocking = lookupExecutor.submit(() -> {
+            started.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return Thread.currentThread().getName();
+        });
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = lookupExecutor.submit(() -> Thread.currentThread().getName());
+
+        lookupExecutor.shutdown();
+
+        Assert.assertTrue(queued.isDone());
+        Assert.assertEquals(ParallelLookupExecutor.await(queued), Thread.currentThread().getName());
+        release.countDown();
+        Assert.assertNotEquals(ParallelLookupExecutor.await(blocking), Thread.currentThread().getName());
+    }
+
+    @Test(expectedExceptions = TimeoutException.class)
+    public void testAwaitTimesOut() throws Exception {
+
+        ParallelLookupExecutor.await(new CompletableFuture<String>(), 10, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.metrics;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for the notification handler metrics.
+ */
+public class NotificationMetricsTest {
+
+    private InMemoryNotificationMetricsRecorder recorder;
+
+    @AfterMethod
+    public void tearDown() {
+
+        if (recorder != null) {
+            NotificationMetrics.removeRecorder(recorder);
+            recorder = null;
+        }
+    }
+
+    @Test
+    public void testBucketBoundaries() {
+
+        for (long value : new long[]{0, 1, 31, 32, 33, 63, 64, 65, 1000, 123456789L, (1L << 40) - 1}) {
+            int bucketIndex = LatencyHistogram.bucketIndex(value);
+            Assert.assertTrue(LatencyHistogram.highestEquivalentValue(bucketIndex) >= value,
+                    "Bucket of value: " + value + " ends before the value.");
+            if (bucketIndex > 0) {
+                Assert.assertTrue(LatencyHistogram.highestEquivalentValue(bucketIndex - 1) < value,
+                        "Previous bucket of value: " + value + " covers the value.");
+            }
+        }
+    }
+
+    @Test
+    public void testPercentiles() {
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10000; value++) {
+            histogram.record(value * 1000);
+        }
+        LatencyStatistics statistics = histogram.getStatistics("test");
+
+        Assert.assertEquals(statistics.getCount(), 10000);
+        Assert.assertEquals(statistics.getMax(), 10000000);
+        Assert.assertEquals(statistics.getMean(), 5000500);
+        assertWithinRelativeError(statistics.getP50(), 5000000);
+        assertWithinRelativeError(statistics.getP90(), 9000000);
+        assertWithinRelativeError(statistics.getP99(), 9900000);
+        assertWithinRelativeError(statistics.getP999(), 9990000);
+
+        histogram.reset();
+        Assert.assertEquals(histogram.getStatistics("test").getCount(), 0);
+        Assert.assertEquals(histogram.getStatistics("test").getP99(), 0);
+    }
+
+    @Test
+    public void testConcurrentRecording() throws Exception {
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        int threads = 8;
+        int valuesPerThread = 10000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        try {
+            for (int i = 0; i < threads; i++) {
+                executor.execute(() -> {
+                    for (int value = 0; value < valuesPerThread; value++) {
+                        histogram.record(value);
+                    }
+                    done.countDown();
+                });
+            }
+            Assert.assertTrue(done.await(30, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(histogram.getCount(), (long) threads * valuesPerThread);
+        Assert.assertEquals(histogram.getStatistics("test").getMax(), valuesPerThread - 1);
+    }
+
+    @Test
+    public void testRecorderCounts() {
+
+        recorder = new InMemoryNotificationMetricsRecorder();
+        NotificationMetrics.addRecorder(recorder);
+        Assert.assertTrue(NotificationMetrics.isEnabled());
+
+        NotificationMetrics.recordNotification("carbon.super", "EMAIL", "passwordReset");
+        NotificationMetrics.recordNotification("carbon.super", "EMAIL", "passwordReset");
+        NotificationMetrics.recordNotification("wso2.com", "SMS", "accountLock");
+        NotificationMetrics.recordFailure("carbon.super", "EMAIL", "ERR-1001");
+        NotificationMetrics.recordThrottle("wso2.com", "EMAIL");
+        NotificationMetrics.recordStage(NotificationStage.RENDER, NotificationMetrics.startTimer());
+
+        Map<String, Long> notificationCounts = recorder.getNotificationCounts();
+        Assert.assertEquals(notificationCounts.get("carbon.super/EMAIL/passwordReset"), Long.valueOf(2));
+        Assert.assertEquals(notificationCounts.get("wso2.com/SMS/accountLock"), Long.valueOf(1));
+        Assert.assertEquals(recorder.getFailureCounts().get("carbon.super/EMAIL/ERR-1001"), Long.valueOf(1));
+        Assert.assertEquals(recorder.getThrottleCounts().get("wso2.com/EMAIL"), Long.valueOf(1));
+        Assert.assertEquals(recorder.getStageLatency(NotificationStage.RENDER).getCount(), 1);
+        Assert.assertEquals(recorder.getStageLatencies().size(), NotificationStage.values().length);
+
+        recorder.reset();
+        Assert.assertTrue(recorder.getNotificationCounts().isEmpty());
+        Assert.assertEquals(recorder.getStageLatency(NotificationStage.RENDER).getCount(), 0);
+    }
+
+    @Test
+    public void testNothingRecordedWithoutRecorder() {
+
+        Assert.assertFalse(NotificationMetrics.isEnabled());
+        Assert.assertEquals(NotificationMetrics.startTimer(), NotificationMetrics.NOT_STARTED);
+
+        recorder = new InMemoryNotificationMetricsRecorder();
+        long startTime = NotificationMetrics.startTimer();
+        NotificationMetrics.addRecorder(recorder);
+        // A stage started before the recorder was registered is not recorded.
+        NotificationMetrics.recordStage(NotificationStage.PUBLISH, startTime);
+        Assert.assertEquals(recorder.getStageLatency(NotificationStage.PUBLISH).getCount(), 0);
+    }
+
+    @Test
+    public void testRecorderErrorIsIgnored() {
+
+        NotificationMetricsRecorder failingRecorder = new NotificationMetricsRecorder() {
+
+            @Override
+            public void recordStageLatency(NotificationStage stage, long elapsedNanos) {
+
+                throw new IllegalStateException("Recorder failure.");
+            }
+
+            @Override
+            public void recordNotification(String tenantDomain, String channel, String templateType) {
+
+                throw new IllegalStateException("Recorder failure.");
+            }
+
+            @Override
+            public void recordFailure(String tenantDomain, String channel, String errorCode) {
+
+                throw new IllegalStateException("Recorder failure.");
+            }
+
+            @Override
+            public void recordThrottle(String tenantDomain, String channel) {
+
+                throw new IllegalStateException("Recorder failure.");
+            }
+        };
+        recorder = new InMemoryNotificationMetricsRecorder();
+        NotificationMetrics.addRecorder(failingRecorder);
+        NotificationMetrics.addRecorder(recorder);
+        try {
+            NotificationMetrics.recordNotification("carbon.super", "EMAIL", "passwordReset");
+            NotificationMetrics.recordStage(NotificationStage.PUBLISH, NotificationMetrics.startTimer());
+        } finally {
+            NotificationMetrics.removeRecorder(failingRecorder);
+        }
+        Assert.assertEquals(recorder.getNotificationCounts().get("carbon.super/EMAIL/passwordReset"),
+                Long.valueOf(1));
+        Assert.assertEquals(recorder.getStageLatency(NotificationStage.PUBLISH).getCount(), 1);
+    }
+
+    private static void assertWithinRelativeError(long actual, long expected) {
+
+        Assert.assertTrue(Math.abs(actual - expected) <= expected * 0.04,
+                "Value: " + actual + " is not within the precision of the histogram from: " + expected);
+    }
+}
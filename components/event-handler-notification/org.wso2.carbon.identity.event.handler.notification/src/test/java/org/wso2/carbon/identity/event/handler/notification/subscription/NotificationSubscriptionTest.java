@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.subscription;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Unit tests for {@link NotificationSubscription}.
+ */
+public class NotificationSubscriptionTest {
+
+    private static final String HANDLER_NAME = "default.notification.sender";
+    private static final String EVENT_NAME = "TRIGGER_NOTIFICATION";
+    private static final String KEY_PREFIX = HANDLER_NAME + ".subscription." + EVENT_NAME + ".";
+
+    @Test
+    public void testBuild() {
+
+        Properties subscriptionProperties = new Properties();
+        subscriptionProperties.setProperty(KEY_PREFIX + "stream", "id_gov_sms_notify_stream:1.0.0");
+        subscriptionProperties.setProperty(KEY_PREFIX + "notification_template", "AccountConfirmation");
+        subscriptionProperties.setProperty(KEY_PREFIX + "claim.first-name", "http://wso2.org/claims/givenname");
+        subscriptionProperties.setProperty(KEY_PREFIX + "claim.mobile", "http://wso2.org/claims/mobile");
+        subscriptionProperties.setProperty(KEY_PREFIX + "product-name", "WSO2 Identity Server");
+
+        NotificationSubscription notificationSubscription = NotificationSubscription.build(HANDLER_NAME, EVENT_NAME,
+                subscriptionProperties);
+
+        Assert.assertEquals(notificationSubscription.getStreamDefinitionId(), "id_gov_sms_notify_stream:1.0.0");
+        Assert.assertEquals(notificationSubscription.getNotificationTemplateType(), "AccountConfirmation");
+        Map<String, String> claimMappings = new HashMap<>();
+        claimMappings.put("first-name", "http://wso2.org/claims/givenname");
+        claimMappings.put("mobile", "http://wso2.org/claims/mobile");
+        Assert.assertEquals(notificationSubscription.getClaimMappings(), claimMappings);
+        Assert.assertEquals(notificationSubscription.getStaticData(),
+                Collections.singletonMap("product-name", "WSO2 Identity Server"));
+    }
+
+    @Test
+    public void testBuildWithoutProperties() {
+
+        NotificationSubscription notificationSubscription = NotificationSubscription.build(HANDLER_NAME, EVENT_NAME,
+                new Properties());
+
+        Assert.assertNull(notificationSubscription.getStreamDefinitionId());
+        Assert.assertNull(notificationSubscription.getNotificationTemplateType());
+        Assert.assertTrue(notificationSubscription.getClaimMappings().isEmpty());
+        Assert.assertTrue(notificationSubscription.getStaticData().isEmpty());
+    }
+}
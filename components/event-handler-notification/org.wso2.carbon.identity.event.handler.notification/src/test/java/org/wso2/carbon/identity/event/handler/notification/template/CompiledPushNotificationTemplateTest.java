@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.template;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.event.handler.notification.NotificationConstants.PushNotificationPlaceholder;
+import org.wso2.carbon.identity.event.handler.notification.NotificationConstants.PushNotificationTemplate;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Unit tests for {@link CompiledPushNotificationTemplate}.
+ */
+public class CompiledPushNotificationTemplateTest {
+
+    @Test
+    public void testRenderAuthenticationTemplate() {
+
+        CompiledPushNotificationTemplate template = CompiledPushNotificationTemplate.forScenario(
+                PushNotificationTemplate.AUTHENTICATION.getScenario());
+
+        Assert.assertNotNull(template);
+        Assert.assertNull(template.getInvalidPlaceholder());
+        Assert.assertEquals(template.getPlaceholders(), Arrays.asList(PushNotificationPlaceholder.USER_NAME,
+                PushNotificationPlaceholder.ORGANIZATION_NAME));
+
+        Map<String, String> placeholderValues = new HashMap<>();
+        placeholderValues.put("user-name", "john$1");
+        placeholderValues.put("organization-name", "WSO2");
+        Assert.assertEquals(template.renderTitle(placeholderValues),
+                PushNotificationTemplate.AUTHENTICATION.getTitle());
+        Assert.assertEquals(template.renderBody(placeholderValues), "john$1 from WSO2 is trying to login");
+    }
+
+    @Test
+    public void testDeviceRegistrationTemplatePlaceholders() {
+
+        CompiledPushNotificationTemplate template = CompiledPushNotificationTemplate.forScenario(
+                PushNotificationTemplate.DEVICE_REGISTRATION.getScenario());
+
+        Assert.assertNotNull(template);
+        Assert.assertEquals(template.getPlaceholders(), Arrays.asList(PushNotificationPlaceholder.PUSH_DEVICE_NAME,
+                PushNotificationPlaceholder.PUSH_DEVICE_MODEL, PushNotificationPlaceholder.REGISTRATION_TIME));
+    }
+
+    @Test
+    public void testUnknownScenario() {
+
+        Assert.assertNull(CompiledPushNotificationTemplate.forScenario("UNKNOWN"));
+        Assert.assertNull(CompiledPushNotificationTemplate.forScenario(null));
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.template;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Unit tests for {@link LazyRenderedContent} and the streaming template renderer.
+ */
+public class LazyRenderedContentTest {
+
+    private static final String BODY = "Hi {{user.claim.givenname}}, your code for {{url:tenant-domain}} is "
+            + "{{confirmation-code}}. {{unknown}}";
+
+    @AfterMethod
+    public void tearDown() {
+
+        TemplateCompiler.clearCache();
+    }
+
+    @Test
+    public void testStreamedContentMatchesRenderedContent() throws IOException {
+
+        Map<String, String> placeholderValues = buildPlaceholderValues();
+        StringBuilder sink = new StringBuilder();
+        TemplateCompiler.renderTo(BODY, placeholderValues, sink);
+
+        Assert.assertEquals(sink.toString(), TemplateCompiler.render(BODY, placeholderValues));
+        Assert.assertEquals(LazyRenderedContent.of(BODY, placeholderValues).render(), sink.toString());
+    }
+
+    @Test
+    public void testWriteToWriterSink() throws IOException {
+
+        Map<String, String> placeholderValues = buildPlaceholderValues();
+        LazyRenderedContent content = LazyRenderedContent.of(BODY, placeholderValues);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+            content.writeTo(writer);
+        }
+
+        Assert.assertEquals(new String(out.toByteArray(), StandardCharsets.UTF_8),
+                TemplateCompiler.render(BODY, placeholderValues));
+    }
+
+    @Test
+    public void testLaterChangesToPlaceholderValuesAreIgnored() {
+
+        Map<String, String> placeholderValues = buildPlaceholderValues();
+        String expected = TemplateCompiler.render(BODY, placeholderValues);
+        LazyRenderedContent content = LazyRenderedContent.of(BODY, placeholderValues);
+        placeholderValues.put("confirmation-code", "999999");
+        placeholderValues.put("unknown", "value");
+
+        Assert.assertEquals(content.render(), expected);
+        Assert.assertSame(content.render(), content.render());
+    }
+
+    @Test
+    public void testNullContent() throws IOException {
+
+        StringBuilder sink = new StringBuilder();
+        TemplateCompiler.renderTo(null, buildPlaceholderValues(), sink);
+
+        Assert.assertEquals(sink.length(), 0);
+        Assert.assertNull(LazyRenderedContent.of(null, buildPlaceholderValues()));
+    }
+
+    private Map<String, String> buildPlaceholderValues() {
+
+        Map<String, String> placeholderValues = new HashMap<>();
+        placeholderValues.put("user.claim.givenname", "Alice");
+        placeholderValues.put("tenant-domain", "wso2 com");
+        placeholderValues.put("confirmation-code", "123456");
+        return placeholderValues;
+    }
+}
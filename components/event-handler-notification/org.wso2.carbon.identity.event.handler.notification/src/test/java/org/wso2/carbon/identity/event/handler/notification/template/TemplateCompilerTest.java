@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler.notification.template;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+
+/**
+ * Unit tests for {@link TemplateCompiler}.
+ */
+public class TemplateCompilerTest {
+
+    @AfterMethod
+    public void tearDown() {
+
+        TemplateCompiler.clearCache();
+    }
+
+    @DataProvider(name = "templateContentDataProvider")
+    public Object[][] templateContentDataProvider() {
+
+        return new Object[][]{
+                {"Hi {{user-name}}, your code is {{otp}}."},
+                {"<a href=\"https://localhost/reset?user={{url:user-name}}&code={{url:code}}\">Reset</a>"},
+                {"{{user-name}}{{user-name}}{{otp}}"},
+                {"{{{user-name}}} and {{ {{otp}} and {{unknown}} and {{url:unknown}}"},
+                {"No placeholders at all."},
+                {"Dangling {{user-name and user-name}} and {{}} and {{url:}}"},
+                {"Price: {{price}} {{user-name}}}}"},
+                {""}
+        };
+    }
+
+    @Test(dataProvider = "templateContentDataProvider")
+    public void testRenderMatchesRegexReplacement(String content) throws Exception {
+
+        Map<String, String> placeholderValues = new HashMap<>();
+        placeholderValues.put("user-name", "john doe+1@wso2.com");
+        placeholderValues.put("otp", "12$34\\56");
+        placeholderValues.put("code", "a&b=c");
+        placeholderValues.put("price", "$100");
+        placeholderValues.put("not-in-template", "value");
+
+        Assert.assertEquals(TemplateCompiler.render(content, placeholderValues),
+                replaceWithRegex(content, placeholderValues));
+    }
+
+    @Test
+    public void testPlaceholderNames() {
+
+        CompiledTemplate compiledTemplate = TemplateCompiler.compile(
+                "{{user-name}} {{url:confirmation-code}} {{user-name}} {{{tenant-domain}}} {{\n}}");
+
+        Assert.assertEquals(compiledTemplate.getPlaceholderNames(), new LinkedHashSet<>(
+                Arrays.asList("user-name", "url:confirmation-code", "tenant-domain")));
+        Assert.assertEquals(compiledTemplate.getLiteralLength(), 11);
+    }
+
+    @Test
+    public void testCompiledTemplateIsCached() {
+
+        String content = "Hello {{user-name}}";
+        Assert.assertSame(TemplateCompiler.compile(content), TemplateCompiler.compile(new String(content)));
+        Assert.assertNull(TemplateCompiler.compile(null));
+    }
+
+    @Test
+    public void testIndexPlaceholders() {
+
+        PlaceholderIndex placeholderIndex = TemplateCompiler.indexPlaceholders(
+                "{{user.claim.givenname}} {{user.claim.identity.accountLocked}} {{organization.logo.img}}",
+                "{{server.placeholder.product.name}} {{user.claim.givenname}}",
+                null);
+
+        List<PlaceholderIndex.Placeholder> placeholders = placeholderIndex.getPlaceholders();
+        Assert.assertEquals(placeholders.size(), 4);
+        Assert.assertEquals(placeholders.get(0).getClaimUri(), "http://wso2.org/claims/givenname");
+        Assert.assertFalse(placeholders.get(0).isIdentityClaim());
+        Assert.assertEquals(placeholders.get(1).getClaimUri(), "http://wso2.org/claims/identity/accountLocked");
+        Assert.assertTrue(placeholders.get(1).isIdentityClaim());
+        Assert.assertTrue(placeholders.get(2).isBranding());
+        Assert.assertNull(placeholders.get(2).getClaimUri());
+        Assert.assertEquals(placeholders.get(3).getConfigFileKey(), "name");
+        Assert.assertTrue(placeholderIndex.isBrandingPlaceholderPresent());
+        Assert.assertEquals(placeholderIndex.getClaimUris().size(), 2);
+        Assert.assertSame(TemplateCompiler.indexPlaceholders(
+                "{{user.claim.givenname}} {{user.claim.identity.accountLocked}} {{organization.logo.img}}",
+                "{{server.placeholder.product.name}} {{user.claim.givenname}}",
+                null), placeholderIndex);
+    }
+
+    /**
+     * Placeholder replacement as it was done before templates were compiled.
+     */
+    private static String replaceWithRegex(String content, Map<String, String> tagsData)
+            throws UnsupportedEncodingException {
+
+        for (Map.Entry<String, String> entry : tagsData.entrySet()) {
+            content = content.replaceAll("\\{\\{url:" + entry.getKey() + "\\}\\}",
+                    URLEncoder.encode(entry.getValue(), "UTF-8"));
+            content = content.replaceAll("\\{\\{" + entry.getKey() + "\\}\\}",
+                    Matcher.quoteReplacement(entry.getValue()));
+        }
+        return content;
+    }
+}
@@ -37,6 +37,8 @@ import org.wso2.carbon.email.mgt.EmailTemplateManager;
 import org.wso2.carbon.email.mgt.constants.I18nMgtConstants;
 import org.wso2.carbon.email.mgt.exceptions.I18nEmailMgtException;
 import org.wso2.carbon.email.mgt.model.EmailTemplate;
+import org.wso2.carbon.email.mgt.model.NotificationTemplateSource;
+import org.wso2.carbon.email.mgt.model.ResolvedEmailTemplate;
 import org.wso2.carbon.identity.application.authentication.framework.config.ConfigurationFacade;
 import org.wso2.carbon.identity.core.ServiceURL;
 import org.wso2.carbon.identity.core.ServiceURLBuilder;
@@ -47,6 +49,7 @@ import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.event.IdentityEventConstants;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.notification.NotificationConstants;
+import org.wso2.carbon.identity.event.handler.notification.internal.NotificationConfigSnapshot;
 import org.wso2.carbon.identity.event.handler.notification.internal.NotificationHandlerDataHolder;
 import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
@@ -54,15 +57,22 @@ import org.wso2.carbon.identity.organization.management.service.exception.Organi
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
 import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementUtil;
 import org.wso2.carbon.identity.organization.management.service.util.Utils;
+import org.wso2.carbon.user.api.UserStoreManager;
+import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
+import org.wso2.carbon.user.core.model.UserClaimSearchEntry;
 import org.wso2.carbon.utils.CarbonUtils;
 import org.wso2.carbon.utils.ConfigurationContextService;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
 import static org.testng.Assert.assertEquals;
@@ -167,6 +177,7 @@ public class NotificationUtilTest {
     public void setUp() {
 
         initMocks(this);
+        NotificationUtil.clearOrganizationResolutionCache();
     }
 
     @DataProvider(name = "GetBrandingPreferenceDataProvider")
@@ -397,7 +408,7 @@ public class NotificationUtilTest {
 
             NotificationUtil.buildNotification(event, placeHolderData);
 
-            Mockito.verify(mockEmailTemplateManager).isEmailTemplateExists(any(), localeCaptor.capture(), any(), any());
+            Mockito.verify(mockEmailTemplateManager).resolveEmailTemplate(any(), localeCaptor.capture(), any(), any());
             String capturedLocale = localeCaptor.getValue();
 
             if (containsAssociatedLocale) {
@@ -451,6 +462,91 @@ public class NotificationUtilTest {
         }
     }
 
+    @Test
+    public void testGetProjectedUserClaimValues() throws Exception {
+
+        UserStoreManager userStoreManager = mock(UserStoreManager.class);
+        Map<String, String> claimValues = new HashMap<>();
+        claimValues.put(NotificationConstants.EmailNotification.CLAIM_URI_EMAIL, SAMPLE_EMAIL);
+        when(userStoreManager.getUserClaimValues(any(), any(String[].class), any())).thenReturn(claimValues);
+
+        Map<String, String> userClaims = NotificationUtil.getUserClaimValues("user", userStoreManager,
+                Collections.singleton(NotificationConstants.EmailNotification.CLAIM_URI_EMAIL));
+
+        assertEquals(userClaims, claimValues);
+        ArgumentCaptor<String[]> claimsCaptor = ArgumentCaptor.forClass(String[].class);
+        Mockito.verify(userStoreManager).getUserClaimValues(Mockito.eq("user"), claimsCaptor.capture(), any());
+        assertEquals(claimsCaptor.getValue(), new String[]{NotificationConstants.EmailNotification.CLAIM_URI_EMAIL});
+        Mockito.verify(userStoreManager, Mockito.never()).getUserClaimValues(any(), any(String.class));
+    }
+
+    @Test
+    public void testGetUserClaimValuesOfMultipleUsers() throws Exception {
+
+        AbstractUserStoreManager userStoreManager = mock(AbstractUserStoreManager.class);
+        UserClaimSearchEntry searchEntry = new UserClaimSearchEntry();
+        searchEntry.setUserName("user1");
+        searchEntry.setClaims(Collections.singletonMap(NotificationConstants.EmailNotification.CLAIM_URI_EMAIL,
+                SAMPLE_EMAIL));
+        when(userStoreManager.getUsersClaimValues(any(String[].class), any(String[].class), any()))
+                .thenReturn(new UserClaimSearchEntry[]{searchEntry});
+
+        Map<String, Map<String, String>> usersClaims = NotificationUtil.getUserClaimValues(
+                Arrays.asList("user1", "user2"), userStoreManager,
+                Collections.singleton(NotificationConstants.EmailNotification.CLAIM_URI_EMAIL));
+
+        assertEquals(usersClaims.get("user1").get(NotificationConstants.EmailNotification.CLAIM_URI_EMAIL),
+                SAMPLE_EMAIL);
+        // Users missing from the bulk result are looked up individually.
+        Assert.assertTrue(usersClaims.get("user2").isEmpty());
+        Mockito.verify(userStoreManager).getUserClaimValues(Mockito.eq("user2"), any(String[].class), any());
+    }
+
+    @Test(dataProvider = "GetPlaceholderValuesDataProvider")
+    public void testServiceURLsBuiltOncePerTenant(EmailTemplate emailTemplate, Map<String, String> placeHolderData,
+                                                  Map<String, String> userClaims, String applicationUuid)
+            throws URLBuilderException {
+
+        try (
+                MockedStatic<IdentityConfigParser> staticMockedIdentityConfigParser =
+                        Mockito.mockStatic(IdentityConfigParser.class);
+                MockedStatic<IdentityUtil> staticMockedIdentityUtil = Mockito.mockStatic(IdentityUtil.class);
+                MockedStatic<ConfigurationFacade> staticMockedConfigurationFacade =
+                        Mockito.mockStatic(ConfigurationFacade.class);
+                MockedStatic<ServiceURLBuilder> staticMockedServiceURLBuilder =
+                        Mockito.mockStatic(ServiceURLBuilder.class);
+        ) {
+            NotificationUtil.clearServiceURLCache();
+            staticMockedIdentityConfigParser.when(IdentityConfigParser::getInstance)
+                    .thenReturn(mock(IdentityConfigParser.class));
+            staticMockedIdentityUtil.when(() -> IdentityUtil.getProperty(
+                    NotificationConstants.EmailNotification.ENABLE_ORGANIZATION_LEVEL_EMAIL_BRANDING))
+                    .thenReturn("false");
+            mockConfigurationFacade(staticMockedConfigurationFacade);
+
+            ServiceURL serviceURL = mock(ServiceURL.class);
+            when(serviceURL.getAbsolutePublicURL()).thenReturn("https://wso2test.com");
+            ServiceURLBuilder mockedServiceURLBuilder = mock(ServiceURLBuilder.class);
+            when(mockedServiceURLBuilder.build()).thenReturn(serviceURL);
+            staticMockedServiceURLBuilder.when(ServiceURLBuilder::create).thenReturn(mockedServiceURLBuilder);
+
+            Map<String, String> firstPlaceHolderData = new HashMap<>(placeHolderData);
+            Map<String, String> secondPlaceHolderData = new HashMap<>(placeHolderData);
+            NotificationUtil.getPlaceholderValues(emailTemplate, firstPlaceHolderData, userClaims, applicationUuid);
+            NotificationUtil.getPlaceholderValues(emailTemplate, secondPlaceHolderData, userClaims, applicationUuid);
+
+            staticMockedServiceURLBuilder.verify(ServiceURLBuilder::create, Mockito.times(1));
+            assertEquals(secondPlaceHolderData.get(
+                    NotificationConstants.EmailNotification.CARBON_PRODUCT_URL_TEMPLATE_PLACEHOLDER),
+                    "https://wso2test.com");
+            assertEquals(secondPlaceHolderData.get(
+                    NotificationConstants.EmailNotification.AUTHENTICATION_ENDPOINT_PLACEHOLDER),
+                    AUTHENTICATION_ENDPOINT_URL);
+        } finally {
+            NotificationUtil.clearServiceURLCache();
+        }
+    }
+
     @DataProvider(name = "resolveSuperTenantOrganizationNameDataProvider")
     public Object[][] resolveSuperTenantOrganizationNameDataProvider() {
 
@@ -491,8 +587,8 @@ public class NotificationUtilTest {
 
     private void mockEmailTemplate() throws I18nEmailMgtException {
 
-        when(mockEmailTemplateManager.isEmailTemplateExists(any(), any(), any(), any())).thenReturn(true);
-        when(mockEmailTemplateManager.getEmailTemplate(any(), any(), any(), any())).thenReturn(mockEmailTemplate);
+        when(mockEmailTemplateManager.resolveEmailTemplate(any(), any(), any(), any())).thenReturn(
+                new ResolvedEmailTemplate(mockEmailTemplate, NotificationTemplateSource.APPLICATION, false));
         when(mockEmailTemplate.getBody()).thenReturn(SAMPLE_EMAIL_BODY);
     }
 
@@ -588,6 +684,33 @@ public class NotificationUtilTest {
         }
     }
 
+    /**
+     * Test that the primary tenant domain of an organization is resolved once until the cache is cleared.
+     */
+    @Test
+    public void testPrimaryTenantDomainIsCached() throws Exception {
+
+        try (MockedStatic<NotificationHandlerDataHolder> mockedDataHolder =
+                     mockStatic(NotificationHandlerDataHolder.class)) {
+
+            NotificationHandlerDataHolder mockDataHolder = mock(NotificationHandlerDataHolder.class);
+            OrganizationManager mockOrgManager = mock(OrganizationManager.class);
+
+            mockedDataHolder.when(NotificationHandlerDataHolder::getInstance).thenReturn(mockDataHolder);
+            when(mockDataHolder.getOrganizationManager()).thenReturn(mockOrgManager);
+            when(mockOrgManager.getPrimaryOrganizationId(SAMPLE_ORG_UUID)).thenReturn("primary-org-id");
+            when(mockOrgManager.resolveTenantDomain("primary-org-id")).thenReturn(SAMPLE_TENANT_DOMAIN);
+
+            assertEquals(NotificationUtil.getPrimaryTenantDomain(SAMPLE_ORG_UUID), SAMPLE_TENANT_DOMAIN);
+            assertEquals(NotificationUtil.getPrimaryTenantDomain(SAMPLE_ORG_UUID), SAMPLE_TENANT_DOMAIN);
+            verify(mockOrgManager, times(1)).getPrimaryOrganizationId(SAMPLE_ORG_UUID);
+
+            NotificationUtil.clearOrganizationResolutionCache();
+            assertEquals(NotificationUtil.getPrimaryTenantDomain(SAMPLE_ORG_UUID), SAMPLE_TENANT_DOMAIN);
+            verify(mockOrgManager, times(2)).getPrimaryOrganizationId(SAMPLE_ORG_UUID);
+        }
+    }
+
     /**
      * Test getPrimaryTenantDomain throws IdentityEventException when
      * resolveTenantDomain fails with OrganizationManagementException.
@@ -611,4 +734,30 @@ public class NotificationUtilTest {
             NotificationUtil.getPrimaryTenantDomain(SAMPLE_ORG_UUID);
         }
     }
+
+    /**
+     * Test that the config file values are served from the loaded snapshot once it is available.
+     */
+    @Test
+    public void testConfigFileValuesFromSnapshot() {
+
+        try (MockedStatic<NotificationHandlerDataHolder> mockedDataHolder =
+                     mockStatic(NotificationHandlerDataHolder.class)) {
+
+            NotificationHandlerDataHolder mockDataHolder = mock(NotificationHandlerDataHolder.class);
+            mockedDataHolder.when(NotificationHandlerDataHolder::getInstance).thenReturn(mockDataHolder);
+            Map<String, String> configFilePlaceholders = new HashMap<>();
+            configFilePlaceholders.put("product-name", "WSO2 Identity Server");
+            Map<String, String> brandingFallbacks = new HashMap<>();
+            brandingFallbacks.put("support_mail", ORGANIZATION_SUPPORT_EMAIL_FALLBACK);
+            when(mockDataHolder.getNotificationConfigSnapshot()).thenReturn(
+                    new NotificationConfigSnapshot.Builder()
+                            .configFilePlaceholders(configFilePlaceholders)
+                            .brandingFallbacks(brandingFallbacks)
+                            .build());
+
+            assertEquals(NotificationUtil.getConfigFilePlaceholders(), configFilePlaceholders);
+            assertEquals(NotificationUtil.getBrandingFallbacksFromConfigFile(), brandingFallbacks);
+        }
+    }
 }
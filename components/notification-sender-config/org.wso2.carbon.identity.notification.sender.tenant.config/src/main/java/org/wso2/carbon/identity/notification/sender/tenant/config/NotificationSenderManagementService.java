@@ -183,6 +183,42 @@ public interface NotificationSenderManagementService {
         return null;
     }
 
+    /**
+     * Retrieve the push sender of the given push provider for the current tenant, with an option to exclude inherited
+     * tenant settings. Only the secret properties of the matching push sender are resolved.
+     *
+     * @param provider              Push provider name.
+     * @param inheritTenantSettings Whether to retrieve inherit tenant settings.
+     * @return Push sender of the provider, or null if the tenant has no push sender for the provider.
+     * @throws NotificationSenderManagementException    Notification sender management exception.
+     */
+    default PushSenderDTO getPushSenderByProvider(String provider, boolean inheritTenantSettings)
+            throws NotificationSenderManagementException {
+
+        List<PushSenderDTO> pushSenders = getPushSenders(inheritTenantSettings);
+        if (pushSenders == null || provider == null) {
+            return null;
+        }
+        for (PushSenderDTO pushSender : pushSenders) {
+            if (provider.equalsIgnoreCase(pushSender.getProvider())) {
+                return pushSender;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Whether the service manages push senders, i.e. whether a null push sender from
+     * {@link #getPushSenderByProvider(String, boolean)} means that the tenant has no push sender for the provider.
+     *
+     * @return True if push senders are supported.
+     * @throws NotificationSenderManagementException    Notification sender management exception.
+     */
+    default boolean isPushSenderSupported() throws NotificationSenderManagementException {
+
+        return getPushSenders(true) != null;
+    }
+
     /**
      * Update email sender details.
      *
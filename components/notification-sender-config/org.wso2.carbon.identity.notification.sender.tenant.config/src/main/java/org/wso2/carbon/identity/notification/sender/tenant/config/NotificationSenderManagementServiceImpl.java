@@ -34,6 +34,7 @@ import org.wso2.carbon.identity.application.common.IdentityApplicationManagement
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementServerException;
 import org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants.Error;
+import org.wso2.carbon.identity.configuration.mgt.core.ConfigurationManager;
 import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationManagementClientException;
 import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationManagementException;
 import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationManagementServerException;
@@ -45,7 +46,10 @@ import org.wso2.carbon.identity.configuration.mgt.core.model.Resources;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.notification.push.provider.PushProvider;
 import org.wso2.carbon.identity.notification.sender.tenant.config.NotificationSenderManagementConstants.ErrorMessage;
+import org.wso2.carbon.identity.notification.sender.tenant.config.cache.PushSenderCache;
+import org.wso2.carbon.identity.notification.sender.tenant.config.cache.PushSenderIndex;
 import org.wso2.carbon.identity.notification.sender.tenant.config.clustering.EventPublisherClusterInvalidationMessage;
+import org.wso2.carbon.identity.notification.sender.tenant.config.clustering.PushSenderCacheInvalidationMessage;
 import org.wso2.carbon.identity.notification.sender.tenant.config.dto.Authentication;
 import org.wso2.carbon.identity.notification.sender.tenant.config.dto.EmailSenderDTO;
 import org.wso2.carbon.identity.notification.sender.tenant.config.dto.PushSenderDTO;
@@ -242,6 +246,7 @@ public class NotificationSenderManagementServiceImpl implements NotificationSend
                     .addResource(PUBLISHER_RESOURCE_TYPE, emailSenderResource);
 
             reDeployEventPublisherConfiguration(emailSenderResource);
+            invalidatePushSenderCache();
 
             return buildEmailSenderFromResource(emailSenderResource);
         } catch (ConfigurationManagementException e) {
@@ -367,7 +372,9 @@ public class NotificationSenderManagementServiceImpl implements NotificationSend
                 .getConfigurationHandlerMap().get(getChannelTypeFromSMSSenderDTO(smsSender));
 
         if (configurationHandler != null) {
-            return configurationHandler.addSMSSender(smsSender);
+            SMSSenderDTO addedSMSSender = configurationHandler.addSMSSender(smsSender);
+            invalidatePushSenderCache();
+            return addedSMSSender;
         } else {
             throw new NotificationSenderManagementClientException(ERROR_CODE_CONFIGURATION_HANDLER_NOT_FOUND);
         }
@@ -390,6 +397,7 @@ public class NotificationSenderManagementServiceImpl implements NotificationSend
                     .addResource(PUBLISHER_RESOURCE_TYPE, pushSenderResource);
             String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
             updatePushSenderCredentials(pushSender, pushProvider, tenantDomain);
+            invalidatePushSenderCache();
             return buildPushSenderFromResource(addedResource, true);
         } catch (ConfigurationManagementException e) {
             throw handleConfigurationMgtException(e, ERROR_CODE_ERROR_ADDING_NOTIFICATION_SENDER,
@@ -438,6 +446,7 @@ public class NotificationSenderManagementServiceImpl implements NotificationSend
 
             NotificationSenderTenantConfigDataHolder.getInstance().getConfigurationHandlerMap()
                     .get(channel).deleteNotificationSender(senderName);
+            invalidatePushSenderCache();
         } else {
             throw new NotificationSenderManagementClientException(ERROR_CODE_CONFIGURATION_HANDLER_NOT_FOUND);
         }
@@ -636,6 +645,118 @@ public class NotificationSenderManagementServiceImpl implements NotificationSend
         }
     }
 
+    @Override
+    public PushSenderDTO getPushSenderByProvider(String provider, boolean inheritTenantSettings)
+            throws NotificationSenderManagementException {
+
+        if (StringUtils.isEmpty(provider)) {
+            return null;
+        }
+        /* Flows of an accessing organization resolve the tenant to inherit from through the organization manager,
+         * hence they are served without the push sender index. */
+        if (StringUtils.isNotEmpty(PrivilegedCarbonContext.getThreadLocalCarbonContext()
+                .getAccessingOrganizationId())) {
+            return NotificationSenderManagementService.super.getPushSenderByProvider(provider,
+                    inheritTenantSettings);
+        }
+
+        try {
+            int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
+            String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+            PushSenderIndex pushSenderIndex = getPushSenderIndex(tenantId, false);
+            if (inheritTenantSettings && !pushSenderIndex.isPublishersConfigured() &&
+                    OrganizationManagementUtil.isOrganization(tenantDomain)) {
+                pushSenderIndex = getPushSenderIndex(NotificationSenderUtils.getPrimaryTenantId(tenantDomain), true);
+            }
+            return resolvePushSender(pushSenderIndex, provider);
+        } catch (ConfigurationManagementException e) {
+            throw handleConfigurationMgtException(e, ERROR_CODE_ERROR_GETTING_NOTIFICATION_SENDERS_BY_TYPE,
+                    PUSH_PUBLISHER_TYPE);
+        } catch (OrganizationManagementException e) {
+            throw new NotificationSenderManagementServerException(ERROR_CODE_SERVER_ERRORS_GETTING_EVENT_PUBLISHER,
+                    e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean isPushSenderSupported() {
+
+        // Push senders are looked up through the push sender index, where a missing provider means no push sender.
+        return true;
+    }
+
+    /**
+     * Get the push sender index of the tenant from the push sender cache, loading it if it is not cached.
+     *
+     * @param tenantId       Tenant ID.
+     * @param isParentTenant Whether the tenant is not the tenant of the current carbon context.
+     * @return Push sender index of the tenant.
+     * @throws ConfigurationManagementException If an error occurs while retrieving the publisher resources.
+     */
+    private PushSenderIndex getPushSenderIndex(int tenantId, boolean isParentTenant)
+            throws ConfigurationManagementException {
+
+        PushSenderCache pushSenderCache = PushSenderCache.getInstance();
+        PushSenderIndex pushSenderIndex = pushSenderCache.getPushSenderIndex(tenantId);
+        if (pushSenderIndex != null) {
+            return pushSenderIndex;
+        }
+
+        long generation = pushSenderCache.getGeneration();
+        ConfigurationManager configurationManager =
+                NotificationSenderTenantConfigDataHolder.getInstance().getConfigurationManager();
+        Resources publisherResources = isParentTenant ?
+                configurationManager.getResourcesByType(tenantId, PUBLISHER_RESOURCE_TYPE) :
+                configurationManager.getResourcesByType(PUBLISHER_RESOURCE_TYPE);
+        Map<String, Resource> pushSenderResources = new HashMap<>();
+        for (Resource resource : publisherResources.getResources()) {
+            String provider = null;
+            boolean isPushSender = false;
+            for (Attribute attribute : resource.getAttributes()) {
+                if (PUBLISHER_TYPE_PROPERTY.equals(attribute.getKey())) {
+                    isPushSender = PUSH_PUBLISHER_TYPE.equals(attribute.getValue());
+                } else if (PROVIDER.equals(attribute.getKey())) {
+                    provider = attribute.getValue();
+                }
+            }
+            if (isPushSender && provider != null) {
+                pushSenderResources.putIfAbsent(provider, resource);
+            }
+        }
+        pushSenderIndex = new PushSenderIndex(!publisherResources.getResources().isEmpty(), pushSenderResources);
+        pushSenderCache.addPushSenderIndex(tenantId, pushSenderIndex, generation);
+        if (log.isDebugEnabled()) {
+            log.debug("Loaded the push sender index of tenant: " + tenantId + " with " +
+                    pushSenderResources.size() + " push sender(s).");
+        }
+        return pushSenderIndex;
+    }
+
+    /**
+     * Resolve the push sender of the provider from the push sender index. The secret properties of the push sender
+     * are resolved on the first request and the resolved push sender is kept in the index.
+     *
+     * @param pushSenderIndex Push sender index of the tenant.
+     * @param provider        Push provider name.
+     * @return Resolved push sender, or null if the tenant has no push sender for the provider.
+     * @throws NotificationSenderManagementServerException If an error occurs while resolving the push sender.
+     */
+    private PushSenderDTO resolvePushSender(PushSenderIndex pushSenderIndex, String provider)
+            throws NotificationSenderManagementServerException {
+
+        PushSenderDTO pushSender = pushSenderIndex.getResolvedPushSender(provider);
+        if (pushSender != null) {
+            return pushSender;
+        }
+        Resource resource = pushSenderIndex.getPushSenderResource(provider);
+        if (resource == null) {
+            return null;
+        }
+        pushSender = buildPushSenderFromResource(resource, true);
+        pushSenderIndex.addResolvedPushSender(provider, pushSender);
+        return pushSender;
+    }
+
     @Override
     public EmailSenderDTO updateEmailSender(EmailSenderDTO emailSender) throws NotificationSenderManagementException {
 
@@ -773,6 +894,7 @@ public class NotificationSenderManagementServiceImpl implements NotificationSend
                     .replaceResource(PUBLISHER_RESOURCE_TYPE, pushSenderResource1);
             String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
             updatePushSenderCredentials(pushSender, pushProvider, tenantDomain);
+            invalidatePushSenderCache();
             return buildPushSenderFromResource(updatedResource, true);
         } catch (ConfigurationManagementException e) {
             throw handleConfigurationMgtException(e, ERROR_CODE_ERROR_UPDATING_NOTIFICATION_SENDER,
@@ -1066,6 +1188,21 @@ public class NotificationSenderManagementServiceImpl implements NotificationSend
         }
     }
 
+    private void invalidatePushSenderCache() {
+
+        int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
+        PushSenderCache.getInstance().clear(tenantId);
+        if (getClusteringAgent() == null) {
+            return;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Sending cluster invalidation message to other cluster nodes for push sender cache of tenant: "
+                    + tenantId);
+        }
+        sendClusterMessage(new PushSenderCacheInvalidationMessage(tenantId), PUSH_PUBLISHER_TYPE);
+    }
+
     private ClusteringAgent getClusteringAgent() {
 
         return NotificationSenderTenantConfigDataHolder.getInstance().getClusteringAgent();
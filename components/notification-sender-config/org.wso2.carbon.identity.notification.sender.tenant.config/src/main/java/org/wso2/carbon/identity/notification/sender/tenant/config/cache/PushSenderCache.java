@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.notification.sender.tenant.config.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local cache of the push sender index of each tenant. The index of a tenant is invalidated whenever a notification
+ * sender of the tenant is added, updated or deleted on any node of the cluster.
+ */
+public class PushSenderCache {
+
+    private static final PushSenderCache instance = new PushSenderCache();
+
+    private final Map<Integer, PushSenderIndex> pushSenderIndexes = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    private PushSenderCache() {
+
+    }
+
+    public static PushSenderCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Get the push sender index of the tenant.
+     *
+     * @param tenantId Tenant ID.
+     * @return Push sender index, or null if the index of the tenant is not cached.
+     */
+    public PushSenderIndex getPushSenderIndex(int tenantId) {
+
+        return pushSenderIndexes.get(tenantId);
+    }
+
+    /**
+     * Get the current generation of the cache. The generation changes whenever an index is invalidated, and is used
+     * to discard an index that was loaded while a notification sender of the tenant was being changed.
+     *
+     * @return Current generation of the cache.
+     */
+    public long getGeneration() {
+
+        return generation.get();
+    }
+
+    /**
+     * Add the push sender index of the tenant, unless the cache was invalidated after the index was loaded.
+     *
+     * @param tenantId           Tenant ID.
+     * @param pushSenderIndex    Push sender index.
+     * @param loadedInGeneration Generation of the cache at the time the index was loaded.
+     */
+    public void addPushSenderIndex(int tenantId, PushSenderIndex pushSenderIndex, long loadedInGeneration) {
+
+        pushSenderIndexes.put(tenantId, pushSenderIndex);
+        if (generation.get() != loadedInGeneration) {
+            pushSenderIndexes.remove(tenantId, pushSenderIndex);
+        }
+    }
+
+    /**
+     * Clear the push sender index of the tenant.
+     *
+     * @param tenantId Tenant ID.
+     */
+    public void clear(int tenantId) {
+
+        generation.incrementAndGet();
+        pushSenderIndexes.remove(tenantId);
+    }
+
+    /**
+     * Clear the push sender indexes of all the tenants.
+     */
+    public void clear() {
+
+        generation.incrementAndGet();
+        pushSenderIndexes.clear();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.notification.sender.tenant.config.cache;
+
+import org.wso2.carbon.identity.configuration.mgt.core.model.Resource;
+import org.wso2.carbon.identity.notification.sender.tenant.config.dto.PushSenderDTO;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the push sender resources of a tenant by the push provider name. The secret properties of a push sender
+ * are resolved only when the push sender is first requested, and the resolved push sender is kept in the index.
+ */
+public class PushSenderIndex {
+
+    private final boolean publishersConfigured;
+    private final Map<String, Resource> pushSenderResources;
+    private final Map<String, PushSenderDTO> resolvedPushSenders = new ConcurrentHashMap<>();
+
+    /**
+     * Create a push sender index.
+     *
+     * @param publishersConfigured Whether the tenant has any notification sender configured.
+     * @param pushSenderResources  Push sender resources of the tenant by the push provider name.
+     */
+    public PushSenderIndex(boolean publishersConfigured, Map<String, Resource> pushSenderResources) {
+
+        this.publishersConfigured = publishersConfigured;
+        this.pushSenderResources = new ConcurrentHashMap<>();
+        pushSenderResources.forEach((provider, resource) -> this.pushSenderResources.put(normalize(provider),
+                resource));
+    }
+
+    /**
+     * Whether the tenant has any notification sender configured, regardless of the sender type.
+     *
+     * @return True if the tenant has notification senders.
+     */
+    public boolean isPublishersConfigured() {
+
+        return publishersConfigured;
+    }
+
+    /**
+     * Get the push sender resource of the given push provider.
+     *
+     * @param provider Push provider name.
+     * @return Push sender resource, or null if the tenant has no push sender for the provider.
+     */
+    public Resource getPushSenderResource(String provider) {
+
+        return provider == null ? null : pushSenderResources.get(normalize(provider));
+    }
+
+    /**
+     * Get the resolved push sender of the given push provider.
+     *
+     * @param provider Push provider name.
+     * @return Resolved push sender, or null if the push sender is not resolved yet.
+     */
+    public PushSenderDTO getResolvedPushSender(String provider) {
+
+        return provider == null ? null : resolvedPushSenders.get(normalize(provider));
+    }
+
+    /**
+     * Keep the resolved push sender of the given push provider.
+     *
+     * @param provider   Push provider name.
+     * @param pushSender Resolved push sender.
+     */
+    public void addResolvedPushSender(String provider, PushSenderDTO pushSender) {
+
+        if (provider == null || pushSender == null) {
+            return;
+        }
+        resolvedPushSenders.put(normalize(provider), pushSender);
+    }
+
+    private static String normalize(String provider) {
+
+        return provider.toLowerCase(Locale.ENGLISH);
+    }
+}
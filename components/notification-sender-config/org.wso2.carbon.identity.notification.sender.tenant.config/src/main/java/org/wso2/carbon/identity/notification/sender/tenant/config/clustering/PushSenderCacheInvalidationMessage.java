@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.notification.sender.tenant.config.clustering;
+
+import org.apache.axis2.clustering.ClusteringCommand;
+import org.apache.axis2.clustering.ClusteringMessage;
+import org.apache.axis2.context.ConfigurationContext;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.base.api.IdempotentMessage;
+import org.wso2.carbon.identity.notification.sender.tenant.config.cache.PushSenderCache;
+
+/**
+ * Cluster Messaging for Push Sender Cache Invalidation.
+ */
+@IdempotentMessage
+public class PushSenderCacheInvalidationMessage extends ClusteringMessage {
+
+    private static final Log log = LogFactory.getLog(PushSenderCacheInvalidationMessage.class);
+    private static final long serialVersionUID = 5276198411340176258L;
+    private final int tenantId;
+
+    public PushSenderCacheInvalidationMessage(int tenantId) {
+
+        this.tenantId = tenantId;
+    }
+
+    @Override
+    public ClusteringCommand getResponse() {
+
+        return null;
+    }
+
+    @Override
+    public void execute(ConfigurationContext configurationContext) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Clearing the push sender cache of tenant: " + tenantId);
+        }
+        PushSenderCache.getInstance().clear(tenantId);
+    }
+}
@@ -39,6 +39,8 @@ import org.wso2.carbon.identity.configuration.mgt.core.model.Resources;
 import org.wso2.carbon.identity.notification.push.provider.exception.PushProviderException;
 import org.wso2.carbon.identity.notification.push.provider.impl.FCMPushProvider;
 import org.wso2.carbon.identity.notification.push.provider.model.PushSenderData;
+import org.wso2.carbon.identity.notification.sender.tenant.config.cache.PushSenderCache;
+import org.wso2.carbon.identity.notification.sender.tenant.config.clustering.PushSenderCacheInvalidationMessage;
 import org.wso2.carbon.identity.notification.sender.tenant.config.dto.Authentication;
 import org.wso2.carbon.identity.notification.sender.tenant.config.dto.EmailSenderDTO;
 import org.wso2.carbon.identity.notification.sender.tenant.config.dto.PushSenderDTO;
@@ -107,6 +109,7 @@ public class NotificationSenderManagementServiceImplTest {
         notificationSenderManagementService = new NotificationSenderManagementServiceImpl();
 
         initMocks(this);
+        PushSenderCache.getInstance().clear();
         when(defaultChannelConfigurationHandler.getName()).thenReturn(DEFAULT_HANDLER_NAME);
         when(websubhubChannelConfigurationHandler.getName()).thenReturn(WEB_SUB_HUB_HANDLER_NAME);
 
@@ -482,6 +485,54 @@ public class NotificationSenderManagementServiceImplTest {
         notificationSenderManagementService.getPushSenders(false);
     }
 
+    @Test
+    public void testGetPushSenderByProvider()
+            throws NotificationSenderManagementException, ConfigurationManagementException, PushProviderException {
+
+        Map<String, String> properties = new HashMap<>();
+        properties.put("key1", "value1");
+
+        Resource pushSenderResource = new Resource();
+        pushSenderResource.setResourceName(DEFAULT_PUSH_PUBLISHER);
+        pushSenderResource.setResourceId("sampleResourceId");
+        List<Attribute> pushSenderAttributes = new ArrayList<>();
+        pushSenderAttributes.add(new Attribute("key1", "value1"));
+        pushSenderAttributes.add(new Attribute("provider", "FCM"));
+        pushSenderAttributes.add(new Attribute("type", "push"));
+        pushSenderResource.setAttributes(pushSenderAttributes);
+        Resource otherPushSenderResource = new Resource();
+        otherPushSenderResource.setResourceName("APNSPushPublisher");
+        otherPushSenderResource.setResourceId("otherResourceId");
+        List<Attribute> otherPushSenderAttributes = new ArrayList<>();
+        otherPushSenderAttributes.add(new Attribute("provider", "APNS"));
+        otherPushSenderAttributes.add(new Attribute("type", "push"));
+        otherPushSenderResource.setAttributes(otherPushSenderAttributes);
+        List<Resource> resourceList = new ArrayList<>();
+        resourceList.add(pushSenderResource);
+        resourceList.add(otherPushSenderResource);
+
+        when(configurationManager.getResourcesByType(anyString())).thenReturn(new Resources(resourceList));
+        when(fcmPushProvider.retrievePushProviderSecretProperties(any(PushSenderData.class))).thenReturn(properties);
+        when(fcmPushProvider.postProcessProperties(any(PushSenderData.class))).thenReturn(properties);
+
+        PushSenderDTO result = notificationSenderManagementService.getPushSenderByProvider("fcm", true);
+        Assert.assertNotNull(result);
+        Assert.assertEquals(result.getName(), DEFAULT_PUSH_PUBLISHER);
+        Assert.assertEquals(result.getProvider(), "FCM");
+        Assert.assertSame(notificationSenderManagementService.getPushSenderByProvider("FCM", true), result);
+        Assert.assertNull(notificationSenderManagementService.getPushSenderByProvider("HMS", true));
+        Assert.assertTrue(notificationSenderManagementService.isPushSenderSupported());
+
+        // The publisher resources are retrieved once, and only the secrets of the requested sender are resolved.
+        verify(configurationManager, times(1)).getResourcesByType(anyString());
+        verify(fcmPushProvider, times(1)).retrievePushProviderSecretProperties(any(PushSenderData.class));
+
+        new PushSenderCacheInvalidationMessage(1).execute(null);
+        Assert.assertNotSame(notificationSenderManagementService.getPushSenderByProvider("FCM", true), result);
+        verify(configurationManager, times(2)).getResourcesByType(anyString());
+        verify(fcmPushProvider, times(2)).retrievePushProviderSecretProperties(any(PushSenderData.class));
+    }
+
     @Test
     public void testUpdatePushSender()
             throws NotificationSenderManagementException, ConfigurationManagementException, PushProviderException {